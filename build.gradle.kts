@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.7"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.battler"
@@ -31,18 +32,83 @@ tasks.withType<JavaCompile> {
 dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("org.springframework.boot:spring-boot-starter-web")
+	implementation("org.springframework.boot:spring-boot-starter-webflux")
+	implementation("org.springframework:spring-r2dbc")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
-	runtimeOnly("org.postgresql:postgresql")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-csv")
+	implementation("com.github.ben-manes.caffeine:caffeine")
+	implementation("com.github.ben-manes.caffeine:jcache")
+	implementation("org.hibernate.orm:hibernate-jcache")
+	implementation("org.hibernate.orm:hibernate-micrometer")
+	implementation("org.postgresql:postgresql")
+	runtimeOnly("org.postgresql:r2dbc-postgresql")
+	runtimeOnly("io.r2dbc:r2dbc-pool")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 	compileOnly("org.projectlombok:lombok")
 	annotationProcessor("org.projectlombok:lombok")
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testImplementation("org.springframework.boot:spring-boot-testcontainers")
 	testImplementation("org.testcontainers:junit-jupiter")
 	testImplementation("org.testcontainers:postgresql")
+	testImplementation("org.testcontainers:r2dbc")
+	testImplementation("io.projectreactor:reactor-test")
 	testImplementation("com.navercorp.fixturemonkey:fixture-monkey-starter:1.0.24")
+	testImplementation("org.hdrhistogram:HdrHistogram:2.2.2")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+tasks.test {
+	useJUnitPlatform {
+		excludeTags("benchmark", "loadtest")
+	}
+}
+
+tasks.register<Test>("benchmarkTest") {
+	description = "Runs the JUnit benchmarks tagged 'benchmark'."
+	group = "verification"
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	maxHeapSize = "2g"
+	useJUnitPlatform {
+		includeTags("benchmark")
+	}
+	testLogging {
+		showStandardStreams = true
+	}
+}
+
+tasks.register<Test>("loadTest") {
+	description = "Runs the HTTP load test tagged 'loadtest'; -Ploadtest.* properties configure it."
+	group = "verification"
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	maxHeapSize = "4g"
+	systemProperties(providers.gradlePropertiesPrefixedBy("loadtest.").get())
+	outputs.upToDateWhen { false }
+	useJUnitPlatform {
+		includeTags("loadtest")
+	}
+	testLogging {
+		showStandardStreams = true
+	}
+}
+
+// JMH benchmarks live in src/jmh. `./gradlew jmh` runs them all, `-PjmhIncludes=<regex>` picks some.
+// Results are written per commit to benchmarks/jmh/<commit>.json, so runs on different commits can be
+// compared side by side (for example with jmh.morethan.io) once the file is committed.
+val benchmarkRevision = providers.exec {
+	commandLine("git", "rev-parse", "--short", "HEAD")
+	isIgnoreExitValue = true
+}.standardOutput.asText.map { it.trim().ifEmpty { "working-tree" } }
+
+jmh {
+	jmhVersion = "1.37"
+	resultFormat = "JSON"
+	resultsFile = layout.projectDirectory.file(benchmarkRevision.map { "benchmarks/jmh/$it.json" })
+	providers.gradleProperty("jmhIncludes").orNull?.let { includes = listOf(it) }
+}
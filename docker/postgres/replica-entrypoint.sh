@@ -0,0 +1,13 @@
+#!/bin/bash
+# Clones the primary on first start, then runs as a streaming hot standby.
+set -e
+
+mkdir -p "$PGDATA"
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+	pg_basebackup --host=postgres --username=replicator --pgdata="$PGDATA" \
+		--slot=replica_1 --wal-method=stream --write-recovery-conf
+fi
+chown -R postgres:postgres "$PGDATA"
+chmod 0700 "$PGDATA"
+
+exec gosu postgres postgres
@@ -0,0 +1,127 @@
+package com.battler.Roaming.Fighter.fight;
+
+import com.battler.Roaming.Fighter.entity.Fight;
+import com.battler.Roaming.Fighter.entity.Monster;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The exchange rules of {@link FightService}, one step at a time and as a
+ * whole fight played to the end, across team sizes. Switching and the win
+ * check are measured at their worst, with every monster but the last knocked
+ * out, so both scan the whole team. Run with {@code ./gradlew jmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExchangeBenchmark {
+
+    @Param({"1", "6", "50"})
+    private int teamSize;
+
+    private FightMetrics fightMetrics;
+    private Monster attacker;
+    private Monster defender;
+    private Fight lastStanding;
+    private Monster knockedOutA;
+    private Monster knockedOutB;
+    private Fight fullFight;
+
+    @Setup
+    public void setUp() {
+        fightMetrics = FightBenchmarkFixtures.fightMetrics();
+        attacker = FightBenchmarkFixtures.monster("Attacker", 20, 5, 100);
+        defender = FightBenchmarkFixtures.monster("Defender", 15, 8, 100);
+
+        List<Monster> teamA = FightBenchmarkFixtures.team("A", teamSize, 20, 5);
+        List<Monster> teamB = FightBenchmarkFixtures.team("B", teamSize, 20, 5);
+        for (int i = 0; i < teamSize - 1; i++) {
+            teamA.get(i).setHealth(0);
+            teamB.get(i).setHealth(0);
+        }
+        lastStanding = FightBenchmarkFixtures.fight(teamA, teamB);
+        knockedOutA = teamA.getFirst();
+        knockedOutB = teamB.getFirst();
+        knockedOutA.setHealth(0);
+        knockedOutB.setHealth(0);
+
+        // Team A hits harder, so every fight ends the same way after the same number of exchanges.
+        fullFight = FightBenchmarkFixtures.fight(
+                FightBenchmarkFixtures.team("A", teamSize, 30, 5),
+                FightBenchmarkFixtures.team("B", teamSize, 20, 5));
+    }
+
+    @Benchmark
+    public int calculateDamage() {
+        return FightService.calculateDamage(attacker, defender);
+    }
+
+    @Benchmark
+    public int handleCombatDamage() {
+        attacker.setHealth(100);
+        defender.setHealth(100);
+        FightService.handleCombatDamage(attacker, defender);
+        return attacker.getHealth() + defender.getHealth();
+    }
+
+    @Benchmark
+    public UUID handleSwitching() {
+        FightService.handleSwitching(lastStanding, knockedOutA, knockedOutB, fightMetrics);
+        return lastStanding.getActiveMonsterA();
+    }
+
+    @Benchmark
+    public FightStatus checkForWin() {
+        FightService.checkForWin(lastStanding);
+        return lastStanding.getStatus();
+    }
+
+    // Exchanges until one team is out, as executeExchange does one request at a time, minus the store.
+    @Benchmark
+    public int fightToTheEnd() {
+        reset(fullFight);
+        int exchanges = 0;
+        while (fullFight.getStatus() == FightStatus.ONGOING) {
+            Monster monsterA = active(fullFight.getTeamA(), fullFight.getActiveMonsterA());
+            Monster monsterB = active(fullFight.getTeamB(), fullFight.getActiveMonsterB());
+            FightService.handleCombatDamage(monsterA, monsterB);
+            FightService.handleSwitching(fullFight, monsterA, monsterB, fightMetrics);
+            FightService.checkForWin(fullFight);
+            exchanges++;
+        }
+        return exchanges;
+    }
+
+    private static Monster active(List<Monster> team, UUID id) {
+        for (Monster monster : team) {
+            if (monster.getId().equals(id)) {
+                return monster;
+            }
+        }
+        throw new IllegalStateException("Active monster " + id + " is not in the team");
+    }
+
+    private static void reset(Fight fight) {
+        fight.getTeamA().forEach(monster -> monster.setHealth(monster.getMaxHealth()));
+        fight.getTeamB().forEach(monster -> monster.setHealth(monster.getMaxHealth()));
+        fight.setActiveMonsterA(fight.getTeamA().getFirst().getId());
+        fight.setActiveMonsterB(fight.getTeamB().getFirst().getId());
+        fight.setStatus(FightStatus.ONGOING);
+    }
+}
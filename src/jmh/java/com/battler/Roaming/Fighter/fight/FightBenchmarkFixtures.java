@@ -0,0 +1,57 @@
+package com.battler.Roaming.Fighter.fight;
+
+import com.battler.Roaming.Fighter.entity.Fight;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.entity.id.UuidV7;
+import com.battler.Roaming.Fighter.monster.PowerRating;
+import com.battler.Roaming.Fighter.storage.FightStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class FightBenchmarkFixtures {
+
+    private FightBenchmarkFixtures() {
+    }
+
+    // Only the paths the benchmarks drive are usable: no transactions, metrics into a throwaway registry.
+    static FightService fightService(FightStore fightStore) {
+        return new FightService(fightStore, fightMetrics(), null);
+    }
+
+    static FightMetrics fightMetrics() {
+        return new FightMetrics(new SimpleMeterRegistry());
+    }
+
+    static List<Monster> team(String name, int size, int attack, int defence) {
+        List<Monster> team = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            team.add(monster(name + " " + i, attack, defence, 100));
+        }
+        return team;
+    }
+
+    static Monster monster(String name, int attack, int defence, int maxHealth) {
+        Monster monster = new Monster();
+        monster.setId(UuidV7.next());
+        monster.setName(name);
+        monster.setAttack(attack);
+        monster.setDefence(defence);
+        monster.setMaxHealth(maxHealth);
+        monster.setHealth(maxHealth);
+        monster.setPowerRating(PowerRating.of(monster));
+        return monster;
+    }
+
+    static Fight fight(List<Monster> teamA, List<Monster> teamB) {
+        Fight fight = new Fight();
+        fight.setId(UuidV7.next());
+        fight.setTeamA(teamA);
+        fight.setTeamB(teamB);
+        fight.setActiveMonsterA(teamA.getFirst().getId());
+        fight.setActiveMonsterB(teamB.getFirst().getId());
+        fight.setStatus(FightStatus.ONGOING);
+        return fight;
+    }
+}
@@ -0,0 +1,65 @@
+package com.battler.Roaming.Fighter.fight;
+
+import com.battler.Roaming.Fighter.entity.Fight;
+import com.battler.Roaming.Fighter.fight.dto.FightStateDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the {@link FightStateDto} every fight endpoint returns and writing
+ * it as JSON, separately and together, across team sizes. Run with
+ * {@code ./gradlew jmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FightStateSerializationBenchmark {
+
+    @Param({"1", "6", "50"})
+    private int teamSize;
+
+    private ObjectMapper objectMapper;
+    private Fight fight;
+    private FightStateDto fightState;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        fight = FightBenchmarkFixtures.fight(
+                FightBenchmarkFixtures.team("A", teamSize, 20, 5),
+                FightBenchmarkFixtures.team("B", teamSize, 20, 5));
+        fightState = FightService.mapToFightStateDto(fight);
+    }
+
+    @Benchmark
+    public FightStateDto mapToFightStateDto() {
+        return FightService.mapToFightStateDto(fight);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(fightState);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(FightService.mapToFightStateDto(fight));
+    }
+}
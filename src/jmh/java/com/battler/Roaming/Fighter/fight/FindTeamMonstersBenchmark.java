@@ -0,0 +1,66 @@
+package com.battler.Roaming.Fighter.fight;
+
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.monster.species.MonsterSpeciesPool;
+import com.battler.Roaming.Fighter.storage.InMemoryFightStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looking up a team for createFight in an {@link InMemoryFightStore} holding
+ * ten thousand monsters, across team sizes. This is the lookup and copying
+ * cost alone; with Postgres behind the store it is one query per team. Run
+ * with {@code ./gradlew jmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FindTeamMonstersBenchmark {
+
+    private static final int STORED_MONSTERS = 10_000;
+
+    @Param({"1", "6", "50"})
+    private int teamSize;
+
+    private FightService fightService;
+    private List<UUID> teamIds;
+
+    @Setup
+    public void setUp() {
+        InMemoryFightStore fightStore = new InMemoryFightStore(event -> {
+        }, new MonsterSpeciesPool(STORED_MONSTERS));
+        List<UUID> storedIds = new ArrayList<>(STORED_MONSTERS);
+        for (int i = 0; i < STORED_MONSTERS; i++) {
+            storedIds.add(fightStore.saveMonster(FightBenchmarkFixtures.monster("Monster " + i, 20, 5, 100)).getId());
+        }
+        Random random = new Random(42);
+        teamIds = new ArrayList<>(teamSize);
+        for (int i = 0; i < teamSize; i++) {
+            teamIds.add(storedIds.get(random.nextInt(STORED_MONSTERS)));
+        }
+        fightService = FightBenchmarkFixtures.fightService(fightStore);
+    }
+
+    @Benchmark
+    public List<Monster> findTeamMonsters() {
+        return fightService.findTeamMonsters(teamIds);
+    }
+}
@@ -0,0 +1,28 @@
+package com.battler.Roaming.Fighter.cache;
+
+import com.battler.Roaming.Fighter.cache.dto.CacheRegionStats;
+import com.battler.Roaming.Fighter.storage.EmbeddedConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cache")
+@Profile("!" + EmbeddedConfiguration.PROFILE)
+public class CacheController {
+
+    private final EntityCacheService entityCacheService;
+
+    @Autowired
+    public CacheController(EntityCacheService entityCacheService) {
+        this.entityCacheService = entityCacheService;
+    }
+
+    @GetMapping("/regions")
+    public ResponseEntity<List<CacheRegionStats>> getRegionStatistics() {
+        return ResponseEntity.ok(entityCacheService.getRegionStatistics());
+    }
+}
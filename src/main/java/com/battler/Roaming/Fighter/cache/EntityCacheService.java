@@ -0,0 +1,92 @@
+package com.battler.Roaming.Fighter.cache;
+
+import com.battler.Roaming.Fighter.cache.dto.CacheRegionStats;
+import com.battler.Roaming.Fighter.entity.Player;
+import com.battler.Roaming.Fighter.storage.EmbeddedConfiguration;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Second-level cache evictions Hibernate cannot work out for itself, such as
+ * after native statements, and per-region statistics.
+ */
+@Service
+@Profile("!" + EmbeddedConfiguration.PROFILE)
+public class EntityCacheService {
+
+    // A query space no entity maps to. Naming a table instead would evict that entity's whole region.
+    public static final String UNCACHED_QUERY_SPACE = "uncached_statement";
+
+    static final String MONSTER_BOX_ROLE = Player.class.getName() + ".monsterBox";
+
+    private final SessionFactory sessionFactory;
+
+    @Autowired
+    public EntityCacheService(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    public void evictMonsterBox(UUID playerId) {
+        Cache cache = sessionFactory.getCache();
+        evictNowAndAfterCommit(() -> cache.evictCollectionData(MONSTER_BOX_ROLE, playerId));
+    }
+
+    public void evictEntities(Class<?> entityClass, Collection<?> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Cache cache = sessionFactory.getCache();
+        evictNowAndAfterCommit(() -> {
+            for (Object id : ids) {
+                cache.evictEntityData(entityClass, id);
+            }
+        });
+    }
+
+    public void evictAll() {
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    public List<CacheRegionStats> getRegionStatistics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        List<CacheRegionStats> regions = new ArrayList<>();
+        for (String region : sortedRegionNames(statistics)) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics != null) {
+                regions.add(CacheRegionStats.from(region, regionStatistics));
+            }
+        }
+        return regions;
+    }
+
+    // A concurrent load could cache the old state again before this transaction commits.
+    private void evictNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private List<String> sortedRegionNames(Statistics statistics) {
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames()).sorted().toList();
+    }
+}
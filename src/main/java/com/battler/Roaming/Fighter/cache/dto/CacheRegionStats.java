@@ -0,0 +1,26 @@
+package com.battler.Roaming.Fighter.cache.dto;
+
+import org.hibernate.stat.CacheRegionStatistics;
+
+public record CacheRegionStats(
+        String region,
+        long hits,
+        long misses,
+        long puts,
+        long elementsInMemory,
+        double hitRatio
+) {
+    public static CacheRegionStats from(String region, CacheRegionStatistics statistics) {
+        long hits = statistics.getHitCount();
+        long misses = statistics.getMissCount();
+        long lookups = hits + misses;
+        return new CacheRegionStats(
+                region,
+                hits,
+                misses,
+                statistics.getPutCount(),
+                statistics.getElementCountInMemory(),
+                lookups == 0 ? 0 : (double) hits / lookups
+        );
+    }
+}
@@ -0,0 +1,165 @@
+package com.battler.Roaming.Fighter.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out read-only connections round robin from replicas whose sampled lag
+ * is within tolerance, falling back to the primary when none qualifies.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    static final String PRIMARY_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+
+    // Zero once replayed past the primary's position sampled just before; NULL, counted as lagging, when unknown.
+    static final String LAG_SQL = """
+            SELECT pg_is_in_recovery() AS in_recovery,
+                   CASE WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL
+                        WHEN pg_last_wal_replay_lsn() >= ?::pg_lsn THEN 0
+                        ELSE (extract(epoch FROM now() - pg_last_xact_replay_timestamp()) * 1000)::bigint
+                   END AS lag_ms
+            """;
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final Map<String, Boolean> eligible = new ConcurrentHashMap<>();
+    private final List<String> replicaKeys;
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration maxLag) {
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.replicaKeys = List.copyOf(this.replicas.keySet());
+        this.maxLagMillis = maxLag.toMillis();
+
+        Map<Object, Object> targets = new HashMap<>(this.replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        int size = replicaKeys.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get((start + i) % size);
+            if (isEligible(key)) {
+                return key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+        try {
+            return replicas.get(key).getConnection();
+        } catch (SQLException e) {
+            markIneligible((String) key, e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection(username, password);
+        }
+        try {
+            return replicas.get(key).getConnection(username, password);
+        } catch (SQLException e) {
+            markIneligible((String) key, e.getMessage());
+            return primary.getConnection(username, password);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${roaming-fighter.datasource.replica.lag-check-interval-ms:1000}")
+    public void refreshLag() {
+        String primaryLsn;
+        try (Connection connection = primary.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(PRIMARY_LSN_SQL)) {
+            rs.next();
+            primaryLsn = rs.getString(1);
+        } catch (SQLException e) {
+            replicaKeys.forEach(key -> markIneligible(key, "primary position unknown: " + e.getMessage()));
+            return;
+        }
+        for (String key : replicaKeys) {
+            try (Connection connection = replicas.get(key).getConnection();
+                 PreparedStatement statement = connection.prepareStatement(LAG_SQL)) {
+                statement.setString(1, primaryLsn);
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                    boolean inRecovery = rs.getBoolean("in_recovery");
+                    long lagMillis = rs.getLong("lag_ms");
+                    if (!inRecovery) {
+                        markIneligible(key, "not in recovery");
+                    } else if (rs.wasNull()) {
+                        markIneligible(key, "lag unknown, WAL receiver not streaming");
+                    } else if (lagMillis > maxLagMillis) {
+                        markIneligible(key, "lagging " + lagMillis + " ms");
+                    } else {
+                        markEligible(key);
+                    }
+                }
+            } catch (SQLException e) {
+                markIneligible(key, e.getMessage());
+            }
+        }
+    }
+
+    public boolean isEligible(String key) {
+        return eligible.getOrDefault(key, false);
+    }
+
+    private void markEligible(String key) {
+        if (!Boolean.TRUE.equals(eligible.put(key, true))) {
+            log.info("Replica {} is serving reads", key);
+        }
+    }
+
+    private void markIneligible(String key, String reason) {
+        if (!Boolean.FALSE.equals(eligible.put(key, false))) {
+            log.warn("Replica {} is not serving reads: {}", key, reason);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
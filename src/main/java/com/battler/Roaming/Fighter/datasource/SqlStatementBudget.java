@@ -0,0 +1,21 @@
+package com.battler.Roaming.Fighter.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The most SQL statements a service method or controller endpoint should
+ * execute, commit included. Going over is logged as a warning rather than
+ * failing the call; tests hold code to the same number through the statement
+ * assertions in testutils. Statements run on other threads are not counted.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface SqlStatementBudget {
+
+    int value();
+}
@@ -0,0 +1,64 @@
+package com.battler.Roaming.Fighter.datasource;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the statements of every {@link SqlStatementBudget} method. It runs
+ * outside the transaction advice, so statements flushed on commit are charged
+ * to the method that caused them. Each method's summary is registered on its
+ * first call and reused after that.
+ */
+public class SqlStatementBudgetAdvice implements MethodInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementBudgetAdvice.class);
+
+    static final String METRIC_NAME = "sql.statements";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<Method, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public SqlStatementBudgetAdvice(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        long before = SqlStatementCounter.current();
+        try {
+            return invocation.proceed();
+        } finally {
+            long executed = SqlStatementCounter.current() - before;
+            Method method = invocation.getMethod();
+            meterRegistry.ifAvailable(registry -> summaries
+                    .computeIfAbsent(method, key -> summary(registry, key))
+                    .record(executed));
+            SqlStatementBudget budget = AnnotatedElementUtils.findMergedAnnotation(method, SqlStatementBudget.class);
+            if (budget != null && executed > budget.value()) {
+                log.warn("{} executed {} SQL statements, over its budget of {}", name(method), executed, budget.value());
+            }
+        }
+    }
+
+    private static DistributionSummary summary(MeterRegistry registry, Method method) {
+        return DistributionSummary.builder(METRIC_NAME)
+                .description("SQL statements executed per service method call")
+                .baseUnit("statements")
+                .tag("method", name(method))
+                .register(registry);
+    }
+
+    private static String name(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+}
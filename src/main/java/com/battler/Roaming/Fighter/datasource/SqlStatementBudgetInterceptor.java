@@ -0,0 +1,59 @@
+package com.battler.Roaming.Fighter.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Holds each request to the {@link SqlStatementBudget} of its endpoint, or to
+ * the default budget when the endpoint has none, logging requests that go over.
+ * An async request is checked once, on its last dispatch.
+ */
+public class SqlStatementBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementBudgetInterceptor.class);
+
+    private static final String START_ATTRIBUTE = SqlStatementBudgetInterceptor.class.getName() + ".start";
+    private static final String EARLIER_DISPATCHES_ATTRIBUTE = SqlStatementBudgetInterceptor.class.getName() + ".earlier";
+
+    private final int defaultBudget;
+
+    public SqlStatementBudgetInterceptor(int defaultBudget) {
+        this.defaultBudget = defaultBudget;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(START_ATTRIBUTE, SqlStatementCounter.current());
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+            request.setAttribute(EARLIER_DISPATCHES_ATTRIBUTE, earlierDispatches(request) + SqlStatementCounter.current() - start);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(START_ATTRIBUTE) instanceof Long start) || !(handler instanceof HandlerMethod method)) {
+            return;
+        }
+        long executed = earlierDispatches(request) + SqlStatementCounter.current() - start
+                + SqlStatementCounter.offloaded(request);
+        SqlStatementBudget annotated = method.getMethodAnnotation(SqlStatementBudget.class);
+        int budget = annotated == null ? defaultBudget : annotated.value();
+        if (executed > budget) {
+            log.warn("{} {} executed {} SQL statements, over its budget of {}",
+                    request.getMethod(), request.getRequestURI(), executed, budget);
+        }
+    }
+
+    private static long earlierDispatches(HttpServletRequest request) {
+        return request.getAttribute(EARLIER_DISPATCHES_ATTRIBUTE) instanceof Long executed ? executed : 0;
+    }
+}
@@ -0,0 +1,54 @@
+package com.battler.Roaming.Fighter.datasource;
+
+import jakarta.servlet.ServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread running total of SQL statements executed through
+ * {@link StatementCountingDataSource}. Callers measure a stretch of work by
+ * reading {@link #current()} before and after it, so measurements nest and
+ * need no cleanup.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<long[]> EXECUTED = ThreadLocal.withInitial(() -> new long[1]);
+
+    private static final String OFFLOADED_ATTRIBUTE = SqlStatementCounter.class.getName() + ".offloaded";
+
+    private SqlStatementCounter() {
+    }
+
+    public static long current() {
+        return EXECUTED.get()[0];
+    }
+
+    static void increment() {
+        EXECUTED.get()[0]++;
+    }
+
+    // Wraps work that will run on another thread so its statements are still charged to the calling request.
+    public static <T> Supplier<T> chargedToCurrentRequest(Supplier<T> work) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return work;
+        }
+        ServletRequest request = servletAttributes.getRequest();
+        return () -> {
+            long before = current();
+            try {
+                return work.get();
+            } finally {
+                request.setAttribute(OFFLOADED_ATTRIBUTE, offloaded(request) + current() - before);
+            }
+        };
+    }
+
+    // Statements that work passed through chargedToCurrentRequest ran on other threads for this request.
+    public static long offloaded(ServletRequest request) {
+        return request.getAttribute(OFFLOADED_ATTRIBUTE) instanceof Long offloaded ? offloaded : 0;
+    }
+}
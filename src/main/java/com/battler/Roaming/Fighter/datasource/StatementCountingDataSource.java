@@ -0,0 +1,88 @@
+package com.battler.Roaming.Fighter.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Counts every statement execution, JPA and JDBC alike, into
+ * {@link SqlStatementCounter}. A batch counts once, as it is one round trip.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    // Lets the container close the pool behind this wrapper on shutdown.
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Connection countingConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, result) -> switch (method.getName()) {
+            case "createStatement" -> proxy(Statement.class, result, StatementCountingDataSource::countExecutions);
+            case "prepareStatement" -> proxy(PreparedStatement.class, result, StatementCountingDataSource::countExecutions);
+            case "prepareCall" -> proxy(CallableStatement.class, result, StatementCountingDataSource::countExecutions);
+            default -> result;
+        });
+    }
+
+    private static Object countExecutions(Method method, Object result) {
+        if (method.getName().startsWith("execute")) {
+            SqlStatementCounter.increment();
+        }
+        return result;
+    }
+
+    private static <T> T proxy(Class<T> type, Object target, ResultHandler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    if (args[0] == type) {
+                        return target;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            try {
+                return handler.handle(method, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, invocationHandler));
+    }
+
+    @FunctionalInterface
+    private interface ResultHandler {
+        Object handle(Method method, Object result);
+    }
+}
@@ -1,5 +1,6 @@
 package com.battler.Roaming.Fighter.entity;
 
+import com.battler.Roaming.Fighter.entity.id.UuidV7Id;
 import com.battler.Roaming.Fighter.fight.FightStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -17,24 +18,31 @@ import java.util.UUID;
 @AllArgsConstructor
 public class Fight {
 
+    // Team position; it makes both teams indexed lists rather than bags, so they can be fetch-joined together.
+    public static final String TEAM_ORDER_COLUMN = "team_order";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
 
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "fight_team_a",
         joinColumns = @JoinColumn(name = "fight_id"),
-        inverseJoinColumns = @JoinColumn(name = "monster_id")
+        inverseJoinColumns = @JoinColumn(name = "monster_id"),
+        indexes = @Index(name = "idx_fight_team_a_monster", columnList = "monster_id")
     )
+    @OrderColumn(name = Fight.TEAM_ORDER_COLUMN)
     private List<Monster> teamA = new ArrayList<>();
 
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "fight_team_b",
         joinColumns = @JoinColumn(name = "fight_id"),
-        inverseJoinColumns = @JoinColumn(name = "monster_id")
+        inverseJoinColumns = @JoinColumn(name = "monster_id"),
+        indexes = @Index(name = "idx_fight_team_b_monster", columnList = "monster_id")
     )
+    @OrderColumn(name = Fight.TEAM_ORDER_COLUMN)
     private List<Monster> teamB = new ArrayList<>();
 
     @Column(nullable = false)
@@ -0,0 +1,21 @@
+package com.battler.Roaming.Fighter.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// How far the database has applied a local write-ahead journal, updated in the same transaction as the entries.
+@Entity
+@Table(name = "journal_checkpoints")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JournalCheckpoint {
+
+    @Id
+    private String journal;
+
+    @Column(nullable = false)
+    private Long appliedSequence;
+}
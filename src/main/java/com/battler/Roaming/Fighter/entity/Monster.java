@@ -1,23 +1,37 @@
 package com.battler.Roaming.Fighter.entity;
 
+import com.battler.Roaming.Fighter.entity.id.UuidV7Id;
+import com.battler.Roaming.Fighter.monster.PowerRating;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.UUID;
 
 @Entity
-@Table(name = "monsters")
+@Table(name = "monsters", indexes = {
+        @Index(name = "idx_monsters_power_rating", columnList = "power_rating"),
+        @Index(name = "idx_monsters_player_name", columnList = "player_id, name, id"),
+        @Index(name = "idx_monsters_player_power_rating", columnList = "player_id, power_rating, id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Monster.CACHE_REGION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Monster {
 
+    public static final String CACHE_REGION = "monsters";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
 
     @Column(nullable = false)
@@ -39,4 +53,22 @@ public class Monster {
     @Column(nullable = false)
     @Min(0)
     private Integer health;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Min(0)
+    private Integer powerRating;
+
+    // Owning side of box membership; only changed through PlayerService box operations.
+    @JsonIgnore
+    @Column(name = "player_id")
+    private UUID playerId;
+
+    @PrePersist
+    @PreUpdate
+    void refreshPowerRating() {
+        if (attack != null && defence != null && maxHealth != null) {
+            powerRating = PowerRating.of(attack, defence, maxHealth);
+        }
+    }
 }
@@ -0,0 +1,41 @@
+package com.battler.Roaming.Fighter.entity;
+
+import com.battler.Roaming.Fighter.entity.id.UuidV7Id;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// An event waiting for the outbox relay; written in the transaction that caused it and deleted once delivered.
+@Entity
+@Table(name = "outbox_events")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    // Time-ordered, so the relay delivers in the order events were written.
+    @Id
+    @UuidV7Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer attempts = 0;
+
+    @Column(columnDefinition = "text")
+    private String lastError;
+}
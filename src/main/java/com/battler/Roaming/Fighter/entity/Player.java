@@ -1,31 +1,58 @@
 package com.battler.Roaming.Fighter.entity;
 
+import com.battler.Roaming.Fighter.entity.id.UuidV7Id;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "players")
+@Table(name = "players",
+        uniqueConstraints = @UniqueConstraint(name = Player.NAME_CONSTRAINT, columnNames = "name"),
+        indexes = @Index(name = "idx_players_team_rating", columnList = "team_rating"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Player.CACHE_REGION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Player {
-    
+
+    public static final String NAME_CONSTRAINT = "uk_players_name";
+    public static final String CACHE_REGION = "players";
+    public static final String MONSTER_BOX_CACHE_REGION = "player-monster-boxes";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     @Pattern(regexp = "^[A-Za-z0-9 ]*$")
     private String name;
 
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
-    @JoinColumn(name = "player_id")
+    // Read-only view of the box; Monster.playerId owns the foreign key, so box writes evict this cache entry.
+    @OneToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Player.MONSTER_BOX_CACHE_REGION)
+    @JoinColumn(name = "player_id", insertable = false, updatable = false)
     private List<Monster> monsterBox = new ArrayList<>();
+
+    // Maintained by PlayerRepository's rating statements only; never written from the entity or a request body.
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private Integer teamRating = 0;
+
+    // Bumped by every statement that changes what the player's profile shows; keys the profile cache.
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long profileVersion = 0L;
 }
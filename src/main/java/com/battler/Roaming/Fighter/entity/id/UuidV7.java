@@ -0,0 +1,49 @@
+package com.battler.Roaming.Fighter.entity.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RFC 9562 version 7 UUIDs, monotonic within this process, so primary-key
+ * inserts append to the right-hand edge of the B-tree.
+ */
+public final class UuidV7 {
+
+    private static final long VERSION_7 = 0x7000L;
+    private static final int COUNTER_BITS = 12;
+    private static final long RAND_A_MASK = 0x0FFFL;
+    // A new millisecond starts the counter somewhere in its lower half, leaving the rest to count up into.
+    private static final long COUNTER_START_BOUND = 0x0800L;
+    private static final long VARIANT_RFC_9562 = 0x8000000000000000L;
+    private static final long RAND_B_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    // The timestamp and counter of the last id, as timestamp << 12 | counter.
+    private static final AtomicLong LAST_TICK = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID next() {
+        return next(System.currentTimeMillis(), LAST_TICK);
+    }
+
+    // RFC 9562 section 6.2, method 1. A counter that runs out borrows the next millisecond, and a clock that
+    // steps back keeps counting from the last id, so the only shared state is one compare-and-set.
+    static UUID next(long unixMillis, AtomicLong lastTick) {
+        long tick = lastTick.updateAndGet(last -> {
+            long fresh = unixMillis << COUNTER_BITS;
+            return fresh > last ? fresh | ThreadLocalRandom.current().nextLong(COUNTER_START_BOUND) : last + 1;
+        });
+        long mostSignificant = (tick >>> COUNTER_BITS) << 16 | VERSION_7 | (tick & RAND_A_MASK);
+        long leastSignificant = VARIANT_RFC_9562 | (ThreadLocalRandom.current().nextLong() & RAND_B_MASK);
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    public static long timestamp(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -1,6 +1,6 @@
 package com.battler.Roaming.Fighter.fight;
 
-import com.battler.Roaming.Fighter.entity.Fight;
+import com.battler.Roaming.Fighter.datasource.SqlStatementBudget;
 import com.battler.Roaming.Fighter.fight.dto.CreateFightRequest;
 import com.battler.Roaming.Fighter.fight.dto.FightStateDto;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,22 +9,28 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/fight")
 public class FightController {
 
     private final FightService fightService;
+    private final FightShardExecutor fightShardExecutor;
 
     @Autowired
-    public FightController(FightService fightService) {
+    public FightController(FightService fightService, FightShardExecutor fightShardExecutor) {
         this.fightService = fightService;
+        this.fightShardExecutor = fightShardExecutor;
     }
 
     @PostMapping
-    public ResponseEntity<Fight> createFight(@RequestBody CreateFightRequest request) {
+    @SqlStatementBudget(6)
+    public ResponseEntity<FightStateDto> createFight(@RequestBody CreateFightRequest request) {
         try {
-            Fight createdFight = fightService.createFight(request);
+            FightStateDto createdFight = fightService.createFight(request);
             return ResponseEntity.status(HttpStatus.CREATED).body(createdFight);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
@@ -32,16 +38,24 @@ public class FightController {
     }
 
     @PostMapping("/{fightId}")
-    public ResponseEntity<FightStateDto> executeExchange(@PathVariable UUID fightId) {
-        try {
-            FightStateDto fightState = fightService.executeExchange(fightId);
-            return ResponseEntity.ok(fightState);
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.notFound().build();
-        }
+    @SqlStatementBudget(6)
+    public CompletableFuture<ResponseEntity<FightStateDto>> executeExchange(@PathVariable UUID fightId) {
+        return fightShardExecutor.submit(fightId, () -> fightService.executeExchange(fightId))
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                    if (cause instanceof IllegalArgumentException) {
+                        return ResponseEntity.notFound().build();
+                    }
+                    if (cause instanceof RejectedExecutionException) {
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+                    }
+                    throw e instanceof CompletionException completion ? completion : new CompletionException(cause);
+                });
     }
 
     @GetMapping("/{fightId}")
+    @SqlStatementBudget(1)
     public ResponseEntity<FightStateDto> getFightState(@PathVariable UUID fightId) {
         try {
             FightStateDto fightState = fightService.getFightState(fightId);
@@ -0,0 +1,15 @@
+package com.battler.Roaming.Fighter.fight;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+// Published through the outbox once an exchange ends a fight.
+public record FightFinishedEvent(
+        UUID fightId,
+        FightStatus status,
+        List<UUID> winningTeam,
+        List<UUID> losingTeam,
+        Instant finishedAt
+) {
+}
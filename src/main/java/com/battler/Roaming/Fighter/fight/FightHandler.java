@@ -0,0 +1,52 @@
+package com.battler.Roaming.Fighter.fight;
+
+import com.battler.Roaming.Fighter.fight.dto.CreateFightRequest;
+import com.battler.Roaming.Fighter.reactive.ReactiveConfiguration;
+import com.battler.Roaming.Fighter.reactive.RequestParams;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link FightController}'s contract on the reactive stack. Exchanges are not
+ * routed through the fight shards: the reactive stack serves the same fight
+ * concurrently just as the servlet stack does with the shards switched off.
+ */
+@Component
+@Profile(ReactiveConfiguration.PROFILE)
+public class FightHandler {
+
+    private final ReactiveFightService fightService;
+
+    @Autowired
+    public FightHandler(ReactiveFightService fightService) {
+        this.fightService = fightService;
+    }
+
+    public Mono<ServerResponse> createFight(ServerRequest request) {
+        return request.bodyToMono(CreateFightRequest.class)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Request body is missing")))
+                .flatMap(fightService::createFight)
+                .flatMap(createdFight -> ServerResponse.status(HttpStatus.CREATED).bodyValue(createdFight))
+                .onErrorResume(IllegalArgumentException.class, e -> ServerResponse.badRequest().build());
+    }
+
+    public Mono<ServerResponse> executeExchange(ServerRequest request) {
+        return Mono.fromSupplier(() -> RequestParams.uuidVariable(request, "fightId"))
+                .flatMap(fightService::executeExchange)
+                .flatMap(fightState -> ServerResponse.ok().bodyValue(fightState))
+                .onErrorResume(IllegalArgumentException.class, e -> ServerResponse.notFound().build());
+    }
+
+    public Mono<ServerResponse> getFightState(ServerRequest request) {
+        return Mono.fromSupplier(() -> RequestParams.uuidVariable(request, "fightId"))
+                .flatMap(fightService::getFightState)
+                .flatMap(fightState -> ServerResponse.ok().bodyValue(fightState))
+                .onErrorResume(IllegalArgumentException.class, e -> ServerResponse.notFound().build());
+    }
+}
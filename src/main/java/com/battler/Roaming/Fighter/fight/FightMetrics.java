@@ -0,0 +1,67 @@
+package com.battler.Roaming.Fighter.fight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Meters for the fight hot path. Every meter is registered up front, so
+ * recording is a field read and an atomic add rather than a registry lookup.
+ */
+@Component
+public class FightMetrics {
+
+    private final Timer createFight;
+    private final Timer executeExchange;
+    private final Timer getFightState;
+    private final Counter exchanges;
+    private final Counter knockouts;
+    private final Counter switches;
+
+    public FightMetrics(MeterRegistry registry) {
+        this.createFight = serviceTimer(registry, "createFight");
+        this.executeExchange = serviceTimer(registry, "executeExchange");
+        this.getFightState = serviceTimer(registry, "getFightState");
+        this.exchanges = Counter.builder("fight.exchanges")
+                .description("Exchanges played in ongoing fights")
+                .register(registry);
+        this.knockouts = Counter.builder("fight.knockouts")
+                .description("Monsters knocked out in an exchange")
+                .register(registry);
+        this.switches = Counter.builder("fight.switches")
+                .description("Knocked out monsters replaced by a healthy team mate")
+                .register(registry);
+    }
+
+    public Timer createFightTimer() {
+        return createFight;
+    }
+
+    public Timer executeExchangeTimer() {
+        return executeExchange;
+    }
+
+    public Timer getFightStateTimer() {
+        return getFightState;
+    }
+
+    public void exchange() {
+        exchanges.increment();
+    }
+
+    public void knockout() {
+        knockouts.increment();
+    }
+
+    public void switched() {
+        switches.increment();
+    }
+
+    private static Timer serviceTimer(MeterRegistry registry, String method) {
+        return Timer.builder("fight.service")
+                .description("Time spent in FightService methods, before the commit")
+                .tag("method", method)
+                .register(registry);
+    }
+}
@@ -1,11 +1,17 @@
 package com.battler.Roaming.Fighter.fight;
 
 import com.battler.Roaming.Fighter.entity.Fight;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface FightRepository extends JpaRepository<Fight, UUID> {
+
+    // Both teams and their monsters arrive in the fight's own select.
+    @EntityGraph(attributePaths = {"teamA", "teamB"})
+    Optional<Fight> findWithTeamsById(UUID id);
 }
@@ -0,0 +1,37 @@
+package com.battler.Roaming.Fighter.fight;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Running totals of finished fights by outcome, fed by the outbox relay and exported as fight.outcomes.
+@Component
+public class FightResultStats {
+
+    private final Map<FightStatus, LongAdder> finished = new EnumMap<>(FightStatus.class);
+
+    public FightResultStats(MeterRegistry registry) {
+        for (FightStatus status : FightStatus.values()) {
+            LongAdder count = new LongAdder();
+            finished.put(status, count);
+            FunctionCounter.builder("fight.outcomes", count, LongAdder::doubleValue)
+                    .description("Finished fights by outcome")
+                    .tag("status", status.name())
+                    .register(registry);
+        }
+    }
+
+    @EventListener
+    public void onFightFinished(FightFinishedEvent event) {
+        finished.get(event.status()).increment();
+    }
+
+    public long getFinishedFights(FightStatus status) {
+        return finished.get(status).sum();
+    }
+}
@@ -1,93 +1,189 @@
 package com.battler.Roaming.Fighter.fight;
 
+import com.battler.Roaming.Fighter.datasource.SqlStatementBudget;
 import com.battler.Roaming.Fighter.entity.Fight;
 import com.battler.Roaming.Fighter.entity.Monster;
 import com.battler.Roaming.Fighter.fight.dto.CreateFightRequest;
 import com.battler.Roaming.Fighter.fight.dto.FightStateDto;
-import com.battler.Roaming.Fighter.monster.MonsterRepository;
+import com.battler.Roaming.Fighter.jfr.DamageEvent;
+import com.battler.Roaming.Fighter.jfr.FightLoadEvent;
+import com.battler.Roaming.Fighter.jfr.FightMappingEvent;
+import com.battler.Roaming.Fighter.jfr.FightPersistEvent;
+import com.battler.Roaming.Fighter.jfr.SwitchingEvent;
+import com.battler.Roaming.Fighter.jfr.WinCheckEvent;
+import com.battler.Roaming.Fighter.monster.dto.MonsterDto;
+import com.battler.Roaming.Fighter.storage.FightStore;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class FightService {
 
-    private final FightRepository fightRepository;
-    private final MonsterRepository monsterRepository;
+    private final FightStore fightStore;
+    private final FightMetrics fightMetrics;
+    private final TransactionTemplate transactionTemplate;
 
-    private final String TEAM_A_NAME = "Team A";
-    private final String TEAM_B_NAME = "Team B";
+    private static final String TEAM_A_NAME = "Team A";
+    private static final String TEAM_B_NAME = "Team B";
 
 
     @Autowired
-    public FightService(FightRepository fightRepository, MonsterRepository monsterRepository) {
-        this.fightRepository = fightRepository;
-        this.monsterRepository = monsterRepository;
+    public FightService(FightStore fightStore,
+                        FightMetrics fightMetrics,
+                        TransactionTemplate transactionTemplate) {
+        this.fightStore = fightStore;
+        this.fightMetrics = fightMetrics;
+        this.transactionTemplate = transactionTemplate;
     }
 
-    public Fight createFight(CreateFightRequest request) {
+    // Both teams, the fight, a batch per team table and the owners.
+    @SqlStatementBudget(6)
+    public FightStateDto createFight(CreateFightRequest request) {
+        return fightMetrics.createFightTimer().record(() -> doCreateFight(request));
+    }
 
-        validateTeam(request.getTeamA(), TEAM_A_NAME);
-        validateTeam(request.getTeamB(), TEAM_B_NAME);
+    // The fight with its teams, a batch of health updates and the fight; a finished fight adds the owners and its outbox row.
+    // The write transaction is only opened when the store saves exchanges through it.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @SqlStatementBudget(6)
+    public FightStateDto executeExchange(UUID fightId) {
+        return fightStore.savesExchangesInTransaction()
+                ? transactionTemplate.execute(status -> timedExchange(fightId))
+                : timedExchange(fightId);
+    }
 
-        List<Monster> teamAMonsters = findTeamMonsters(request.getTeamA());
-        List<Monster> teamBMonsters = findTeamMonsters(request.getTeamB());
+    @Transactional(readOnly = true)
+    @SqlStatementBudget(1)
+    public FightStateDto getFightState(UUID fightId) {
+        return fightMetrics.getFightStateTimer().record(() -> doGetFightState(fightId));
+    }
 
-        UUID activeMonsterA = findFirstHealthyMonster(teamAMonsters);
-        UUID activeMonsterB = findFirstHealthyMonster(teamBMonsters);
-        validateHealthyFight(activeMonsterA, activeMonsterB);
+    private FightStateDto timedExchange(UUID fightId) {
+        return fightMetrics.executeExchangeTimer().record(() -> doExecuteExchange(fightId));
+    }
 
-        Fight fight = new Fight();
-        fight.setTeamA(teamAMonsters);
-        fight.setTeamB(teamBMonsters);
-        fight.setActiveMonsterA(activeMonsterA);
-        fight.setActiveMonsterB(activeMonsterB);
-        fight.setStatus(FightStatus.ONGOING);
+    private FightStateDto doCreateFight(CreateFightRequest request) {
 
-        return fightRepository.save(fight);
+        validateTeams(request);
+
+        Fight fight = newFight(findTeamMonsters(request.getTeamA()), findTeamMonsters(request.getTeamB()));
+
+        FightPersistEvent persistEvent = new FightPersistEvent();
+        persistEvent.begin();
+        Fight savedFight = fightStore.saveFight(fight);
+        fightStore.touchOwners(participantIds(savedFight));
+        persistEvent.commitAfterTransactionFor(savedFight);
+        return toFightStateDto(savedFight);
     }
 
-    public FightStateDto executeExchange(UUID fightId) {
-        Fight fight = fightRepository.findById(fightId)
-                .orElseThrow(() -> new IllegalArgumentException("Fight not found with id: " + fightId));
+    private FightStateDto doExecuteExchange(UUID fightId) {
+        Fight fight = loadFight(fightId);
 
         if (fight.getStatus() != FightStatus.ONGOING) {
-            return mapToFightStateDto(fight);
+            return toFightStateDto(fight);
         }
 
-        Fight finalFight = fight;
+        Exchange exchange = playExchange(fight, fightMetrics);
 
+        FightPersistEvent persistEvent = new FightPersistEvent();
+        persistEvent.begin();
+        fight = fightStore.saveExchange(fight, exchange.fighters(), exchange.touchedMonsterIds(fight));
+        if (fight.getStatus() != FightStatus.ONGOING) {
+            FightFinishedEvent finished = fightFinished(fight);
+            transactionTemplate.executeWithoutResult(status -> fightStore.recordFinished(finished));
+        }
+        persistEvent.commitAfterTransactionFor(fight);
+        return toFightStateDto(fight);
+    }
+
+    private FightStateDto doGetFightState(UUID fightId) {
+        return toFightStateDto(loadFight(fightId));
+    }
+
+    private Fight loadFight(UUID fightId) {
+        FightLoadEvent loadEvent = new FightLoadEvent();
+        loadEvent.begin();
+        Fight fight = fightStore.findFightWithTeams(fightId)
+                .orElseThrow(() -> new IllegalArgumentException("Fight not found with id: " + fightId));
+        loadEvent.commitFor(fight);
+        return fight;
+    }
+
+    static FightStateDto toFightStateDto(Fight fight) {
+        FightMappingEvent mappingEvent = new FightMappingEvent();
+        mappingEvent.begin();
+        FightStateDto fightState = mapToFightStateDto(fight);
+        mappingEvent.commitFor(fight);
+        return fightState;
+    }
+
+    // The exchange rules, team lookup and DTO mapping are package-private so the JMH benchmarks in src/jmh
+    // and ReactiveFightService can drive them.
+
+    static void validateTeams(CreateFightRequest request) {
+        validateTeam(request.getTeamA(), TEAM_A_NAME);
+        validateTeam(request.getTeamB(), TEAM_B_NAME);
+    }
+
+    // The ongoing fight between two teams, each led by its first healthy monster.
+    static Fight newFight(List<Monster> teamA, List<Monster> teamB) {
+        UUID activeMonsterA = findFirstHealthyMonster(teamA);
+        UUID activeMonsterB = findFirstHealthyMonster(teamB);
+        validateHealthyFight(activeMonsterA, activeMonsterB);
 
+        Fight fight = new Fight();
+        fight.setTeamA(teamA);
+        fight.setTeamB(teamB);
+        fight.setActiveMonsterA(activeMonsterA);
+        fight.setActiveMonsterB(activeMonsterB);
+        fight.setStatus(FightStatus.ONGOING);
+        return fight;
+    }
+
+    // Plays one exchange of an ongoing fight in memory: damage, switching in for knocked out monsters, then the win check.
+    static Exchange playExchange(Fight fight, FightMetrics fightMetrics) {
         Monster monsterA = findMonsterById(fight.getActiveMonsterA(), fight.getTeamA())
-                .orElseThrow(() -> new IllegalArgumentException(TEAM_A_NAME + "Active monster not found: " + finalFight.getActiveMonsterA()));
+                .orElseThrow(() -> new IllegalArgumentException(TEAM_A_NAME + "Active monster not found: " + fight.getActiveMonsterA()));
         Monster monsterB = findMonsterById(fight.getActiveMonsterB(), fight.getTeamB())
-                .orElseThrow(() -> new IllegalArgumentException(TEAM_B_NAME + "Active monster not found: " + finalFight.getActiveMonsterB()));
+                .orElseThrow(() -> new IllegalArgumentException(TEAM_B_NAME + "Active monster not found: " + fight.getActiveMonsterB()));
 
+        fightMetrics.exchange();
+        DamageEvent damageEvent = new DamageEvent();
+        damageEvent.begin();
         handleCombatDamage(monsterA, monsterB);
-        handleSwitching(fight, monsterA, monsterB);
-        checkForWin(fight);
+        damageEvent.commitFor(fight);
 
-        fight = fightRepository.save(fight);
-        return mapToFightStateDto(fight);
-    }
+        SwitchingEvent switchingEvent = new SwitchingEvent();
+        switchingEvent.begin();
+        handleSwitching(fight, monsterA, monsterB, fightMetrics);
+        switchingEvent.commitFor(fight);
 
-    public FightStateDto getFightState(UUID fightId) {
-        Fight fight = fightRepository.findById(fightId)
-                .orElseThrow(() -> new IllegalArgumentException("Fight not found with id: " + fightId));
-        return mapToFightStateDto(fight);
+        WinCheckEvent winCheckEvent = new WinCheckEvent();
+        winCheckEvent.begin();
+        checkForWin(fight);
+        winCheckEvent.commitFor(fight);
+        return new Exchange(monsterA, monsterB);
     }
 
-    private int calculateDamage(Monster attacker, Monster defender) {
+    static int calculateDamage(Monster attacker, Monster defender) {
         return Math.max(1, attacker.getAttack() - defender.getDefence());
     }
 
-    private UUID findFirstHealthyMonster(List<Monster> monsters) {
+    private static UUID findFirstHealthyMonster(List<Monster> monsters) {
         return monsters.stream()
                 .filter(m -> m.getHealth() > 0)
                 .map(Monster::getId)
@@ -95,39 +191,41 @@ public class FightService {
                 .orElse(null);
     }
 
-    private boolean hasHealthyMonsters(List<Monster> monsters) {
+    private static boolean hasHealthyMonsters(List<Monster> monsters) {
         return monsters.stream().anyMatch(m -> m.getHealth() > 0);
     }
 
-    private void handleCombatDamage(Monster monsterA, Monster monsterB){
+    static void handleCombatDamage(Monster monsterA, Monster monsterB){
         int damageAtoB = calculateDamage(monsterA, monsterB);
         int newHealthB = Math.max(0, monsterB.getHealth() - damageAtoB);
         monsterB.setHealth(newHealthB);
-        monsterRepository.save(monsterB);
 
         int damageBtoA = calculateDamage(monsterB, monsterA);
         int newHealthA = Math.max(0, monsterA.getHealth() - damageBtoA);
         monsterA.setHealth(newHealthA);
-        monsterRepository.save(monsterA);
     }
 
-    private void handleSwitching(Fight fight, Monster monsterA, Monster monsterB) {
+    static void handleSwitching(Fight fight, Monster monsterA, Monster monsterB, FightMetrics fightMetrics) {
         if (monsterA.getHealth() == 0) {
+            fightMetrics.knockout();
             UUID nextActiveA = findFirstHealthyMonster(fight.getTeamA());
             if (nextActiveA != null) {
                 fight.setActiveMonsterA(nextActiveA);
+                fightMetrics.switched();
             }
         }
 
         if (monsterB.getHealth() == 0) {
+            fightMetrics.knockout();
             UUID nextActiveB = findFirstHealthyMonster(fight.getTeamB());
             if (nextActiveB != null) {
                 fight.setActiveMonsterB(nextActiveB);
+                fightMetrics.switched();
             }
         }
     }
 
-    private void checkForWin(Fight fight) {
+    static void checkForWin(Fight fight) {
         boolean teamAHasHealthyMonsters = hasHealthyMonsters(fight.getTeamA());
         boolean teamBHasHealthyMonsters = hasHealthyMonsters(fight.getTeamB());
 
@@ -138,26 +236,33 @@ public class FightService {
         }
     }
 
-    private Optional<Monster> findMonsterById(UUID id, List<Monster> monsters) {
+    private static Optional<Monster> findMonsterById(UUID id, List<Monster> monsters) {
         return monsters.stream()
                 .filter(m -> m.getId().equals(id))
                 .findFirst();
     }
 
-    private void validateTeam(List<UUID> monsters, String teamName){
+    private static void validateTeam(List<UUID> monsters, String teamName){
         if (monsters == null || monsters.isEmpty()) {
             throw new IllegalArgumentException(teamName + "cannot be null or empty");
         }
     }
 
-    private List<Monster> findTeamMonsters(List<UUID> monsterIds ) {
+    List<Monster> findTeamMonsters(List<UUID> monsterIds ) {
+        return orderTeam(monsterIds, fightStore.findMonsters(monsterIds));
+    }
+
+    // The found monsters in the order the team lists them, failing on any id that was not found.
+    static List<Monster> orderTeam(List<UUID> monsterIds, Collection<Monster> monsters) {
+        Map<UUID, Monster> found = monsters.stream()
+                .collect(Collectors.toMap(Monster::getId, Function.identity()));
         return monsterIds.stream()
-                .map(id -> monsterRepository.findById(id)
+                .map(id -> Optional.ofNullable(found.get(id))
                         .orElseThrow(() -> new IllegalArgumentException("Monster not found with id: " + id)))
                 .collect(Collectors.toList());
     }
 
-    private void validateHealthyFight(UUID activeMonsterA, UUID activeMonsterB){
+    private static void validateHealthyFight(UUID activeMonsterA, UUID activeMonsterB){
         if (activeMonsterA == null) {
             throw new IllegalArgumentException(TEAM_A_NAME + " has no healthy monsters");
         }
@@ -166,15 +271,56 @@ public class FightService {
         }
     }
 
-    private FightStateDto mapToFightStateDto(Fight fight) {
+    static List<UUID> participantIds(Fight fight) {
+        return Stream.concat(fight.getTeamA().stream(), fight.getTeamB().stream())
+                .map(Monster::getId)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    static FightFinishedEvent fightFinished(Fight fight) {
+        boolean teamAWon = fight.getStatus() == FightStatus.TEAM_A_WON;
+        return new FightFinishedEvent(
+                fight.getId(),
+                fight.getStatus(),
+                teamIds(teamAWon ? fight.getTeamA() : fight.getTeamB()),
+                teamIds(teamAWon ? fight.getTeamB() : fight.getTeamA()),
+                Instant.now()
+        );
+    }
+
+    private static List<UUID> teamIds(List<Monster> team) {
+        return team.stream().map(Monster::getId).toList();
+    }
+
+    static FightStateDto mapToFightStateDto(Fight fight) {
         return new FightStateDto(
                 fight.getId(),
                 fight.getActiveMonsterA(),
                 fight.getActiveMonsterB(),
-                fight.getTeamA(),
-                fight.getTeamB(),
+                mapTeam(fight.getTeamA()),
+                mapTeam(fight.getTeamB()),
                 fight.getStatus()
         );
     }
-}
 
+    private static List<MonsterDto> mapTeam(List<Monster> team) {
+        return team.stream()
+                .map(MonsterDto::from)
+                .collect(Collectors.toList());
+    }
+
+    // The two monsters that fought an exchange.
+    record Exchange(Monster monsterA, Monster monsterB) {
+
+        // In the order FightStore.saveExchange takes them.
+        List<Monster> fighters() {
+            return List.of(monsterB, monsterA);
+        }
+
+        // Profiles change when a fight starts or finishes; an exchange within a fight touches no owner.
+        List<UUID> touchedMonsterIds(Fight fight) {
+            return fight.getStatus() == FightStatus.ONGOING ? List.of() : participantIds(fight);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.battler.Roaming.Fighter.fight;
+
+import com.battler.Roaming.Fighter.datasource.SqlStatementCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs each fight's commands in order on one of a fixed set of single-writer
+ * virtual-thread shards, or on the calling thread when sharding is disabled.
+ */
+@Component
+public class FightShardExecutor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(FightShardExecutor.class);
+
+    private final ThreadPoolExecutor[] shards;
+
+    @Autowired
+    public FightShardExecutor(@Value("${roaming-fighter.fight.shards.enabled:false}") boolean enabled,
+                              @Value("${roaming-fighter.fight.shards.count:8}") int count,
+                              @Value("${roaming-fighter.fight.shards.queue-capacity:1000}") int queueCapacity,
+                              MeterRegistry meterRegistry) {
+        if (!enabled) {
+            this.shards = null;
+            return;
+        }
+        if (count < 1) {
+            throw new IllegalArgumentException("Fight shard count must be at least 1");
+        }
+        this.shards = new ThreadPoolExecutor[count];
+        for (int i = 0; i < count; i++) {
+            ThreadPoolExecutor shard = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    Thread.ofVirtual().name("fight-shard-" + i).factory());
+            shards[i] = shard;
+            Gauge.builder("fight.shard.queue", shard, executor -> executor.getQueue().size())
+                    .description("Fight commands waiting for their shard")
+                    .tag("shard", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+        log.info("Running fight commands on {} shards of up to {} queued commands", count, queueCapacity);
+    }
+
+    public <T> CompletableFuture<T> submit(UUID fightId, Supplier<T> command) {
+        if (shards == null) {
+            try {
+                return CompletableFuture.completedFuture(command.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        try {
+            return CompletableFuture.supplyAsync(SqlStatementCounter.chargedToCurrentRequest(command), shardFor(fightId));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // Lets queued commands finish, so an acknowledged request is not dropped on shutdown.
+    @Override
+    public void close() throws InterruptedException {
+        if (shards == null) {
+            return;
+        }
+        for (ThreadPoolExecutor shard : shards) {
+            shard.shutdown();
+        }
+        for (ThreadPoolExecutor shard : shards) {
+            if (!shard.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Dropping {} fight commands still queued at shutdown", shard.shutdownNow().size());
+            }
+        }
+    }
+
+    private ThreadPoolExecutor shardFor(UUID fightId) {
+        return shards[Math.floorMod(fightId.hashCode(), shards.length)];
+    }
+}
@@ -0,0 +1,64 @@
+package com.battler.Roaming.Fighter.fight;
+
+import com.battler.Roaming.Fighter.entity.Fight;
+import com.battler.Roaming.Fighter.monster.PowerRatingBackfill;
+import com.battler.Roaming.Fighter.storage.EmbeddedConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Numbers team rows written before teams carried a position, in physical
+ * order, which for these append-only tables is the creation order.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@ConditionalOnProperty(name = PowerRatingBackfill.ENABLED_PROPERTY, matchIfMissing = true)
+@Profile("!" + EmbeddedConfiguration.PROFILE)
+public class FightTeamOrderBackfill implements InitializingBean {
+
+    private static final String BACKFILL_SQL = """
+            UPDATE %1$s t SET %2$s = numbered.position
+            FROM (
+                SELECT ctid, row_number() OVER (PARTITION BY fight_id ORDER BY ctid) - 1 AS position
+                FROM %1$s
+                WHERE fight_id IN (SELECT fight_id FROM %1$s WHERE %2$s IS NULL)) numbered
+            WHERE t.ctid = numbered.ctid AND t.%2$s IS NULL
+            """;
+
+    private static final Logger log = LoggerFactory.getLogger(FightTeamOrderBackfill.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public FightTeamOrderBackfill(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        backfill();
+    }
+
+    public void backfill() {
+        int numbered = backfill("fight_team_a") + backfill("fight_team_b");
+        if (numbered > 0) {
+            log.info("Numbered {} fight team rows written without a position", numbered);
+        }
+    }
+
+    private int backfill(String table) {
+        Integer updated = transactionTemplate.execute(status ->
+                jdbcTemplate.update(BACKFILL_SQL.formatted(table, Fight.TEAM_ORDER_COLUMN)));
+        return updated != null ? updated : 0;
+    }
+}
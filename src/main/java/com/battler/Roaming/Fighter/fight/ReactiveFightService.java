@@ -0,0 +1,115 @@
+package com.battler.Roaming.Fighter.fight;
+
+import com.battler.Roaming.Fighter.cache.EntityCacheService;
+import com.battler.Roaming.Fighter.entity.Fight;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.entity.Player;
+import com.battler.Roaming.Fighter.fight.dto.CreateFightRequest;
+import com.battler.Roaming.Fighter.fight.dto.FightStateDto;
+import com.battler.Roaming.Fighter.outbox.ReactiveOutboxService;
+import com.battler.Roaming.Fighter.reactive.ReactiveConfiguration;
+import com.battler.Roaming.Fighter.storage.ReactiveFightStore;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * {@link FightService} for the reactive stack. The rules are FightService's
+ * own; only the storage differs, going through {@link ReactiveFightStore} in
+ * one reactive transaction per command. Hibernate does not see those writes,
+ * so the cached monsters and players they change are evicted after commit.
+ */
+@Service
+@Profile(ReactiveConfiguration.PROFILE)
+public class ReactiveFightService {
+
+    private final ReactiveFightStore fightStore;
+    private final ReactiveOutboxService outboxService;
+    private final TransactionalOperator transactionalOperator;
+    private final EntityCacheService entityCacheService;
+    private final FightMetrics fightMetrics;
+
+    @Autowired
+    public ReactiveFightService(ReactiveFightStore fightStore,
+                                ReactiveOutboxService outboxService,
+                                TransactionalOperator transactionalOperator,
+                                EntityCacheService entityCacheService,
+                                FightMetrics fightMetrics) {
+        this.fightStore = fightStore;
+        this.outboxService = outboxService;
+        this.transactionalOperator = transactionalOperator;
+        this.entityCacheService = entityCacheService;
+        this.fightMetrics = fightMetrics;
+    }
+
+    public Mono<FightStateDto> createFight(CreateFightRequest request) {
+        Mono<Saved> create = Mono.defer(() -> {
+            FightService.validateTeams(request);
+            List<UUID> monsterIds = Stream.concat(request.getTeamA().stream(), request.getTeamB().stream())
+                    .distinct()
+                    .toList();
+            return fightStore.findMonsters(monsterIds).collectList();
+        }).flatMap(found -> {
+            Fight fight = FightService.newFight(
+                    FightService.orderTeam(request.getTeamA(), found),
+                    FightService.orderTeam(request.getTeamB(), found));
+            return fightStore.saveFight(fight)
+                    .then(fightStore.touchOwners(FightService.participantIds(fight)))
+                    .map(owners -> new Saved(fight, List.of(), owners));
+        });
+        return transactionalOperator.transactional(timed(fightMetrics.createFightTimer(), create))
+                .map(this::afterCommit);
+    }
+
+    public Mono<FightStateDto> executeExchange(UUID fightId) {
+        Mono<Saved> exchange = loadFight(fightId).flatMap(fight -> {
+            if (fight.getStatus() != FightStatus.ONGOING) {
+                return Mono.just(new Saved(fight, List.of(), List.of()));
+            }
+            FightService.Exchange played = FightService.playExchange(fight, fightMetrics);
+            // Result handling runs later from the outbox; this request only pays for the insert.
+            Mono<Void> finished = fight.getStatus() == FightStatus.ONGOING
+                    ? Mono.empty()
+                    : outboxService.record(FightService.fightFinished(fight));
+            return fightStore.saveExchange(fight, played.fighters(), played.touchedMonsterIds(fight))
+                    .flatMap(owners -> finished.thenReturn(new Saved(fight, played.fighters(), owners)));
+        });
+        return transactionalOperator.transactional(timed(fightMetrics.executeExchangeTimer(), exchange))
+                .map(this::afterCommit);
+    }
+
+    // A single statement, so it needs no transaction of its own.
+    public Mono<FightStateDto> getFightState(UUID fightId) {
+        return timed(fightMetrics.getFightStateTimer(), loadFight(fightId).map(FightService::toFightStateDto));
+    }
+
+    private Mono<Fight> loadFight(UUID fightId) {
+        return fightStore.findFightWithTeams(fightId)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Fight not found with id: " + fightId)));
+    }
+
+    private FightStateDto afterCommit(Saved saved) {
+        entityCacheService.evictEntities(Monster.class, saved.fighters().stream().map(Monster::getId).toList());
+        entityCacheService.evictEntities(Player.class, saved.owners());
+        return FightService.toFightStateDto(saved.fight());
+    }
+
+    // Times from subscription to completion; the writes are timed inside their transaction, as FightService's are.
+    private static <T> Mono<T> timed(Timer timer, Mono<T> mono) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start();
+            return mono.doFinally(signal -> sample.stop(timer));
+        });
+    }
+
+    // What a command wrote: the fight, the monsters whose health changed and the owners it touched.
+    private record Saved(Fight fight, List<Monster> fighters, List<UUID> owners) {
+    }
+}
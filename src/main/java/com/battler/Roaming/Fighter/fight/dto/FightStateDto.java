@@ -1,7 +1,7 @@
 package com.battler.Roaming.Fighter.fight.dto;
 
-import com.battler.Roaming.Fighter.entity.Monster;
 import com.battler.Roaming.Fighter.fight.FightStatus;
+import com.battler.Roaming.Fighter.monster.dto.MonsterDto;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -16,8 +16,8 @@ public class FightStateDto {
     private UUID fightId;
     private UUID activeMonsterA;
     private UUID activeMonsterB;
-    private List<Monster> teamA;
-    private List<Monster> teamB;
+    private List<MonsterDto> teamA;
+    private List<MonsterDto> teamB;
     private FightStatus status;
 }
 
@@ -0,0 +1,304 @@
+package com.battler.Roaming.Fighter.ingest;
+
+import com.battler.Roaming.Fighter.cache.EntityCacheService;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.entity.Player;
+import com.battler.Roaming.Fighter.entity.id.UuidV7;
+import com.battler.Roaming.Fighter.ingest.dto.IngestResult;
+import com.battler.Roaming.Fighter.ingest.dto.MonsterIngestRow;
+import com.battler.Roaming.Fighter.ingest.dto.PlayerIngestRow;
+import com.battler.Roaming.Fighter.monster.MonsterService;
+import com.battler.Roaming.Fighter.monster.PowerRating;
+import com.battler.Roaming.Fighter.player.PlayerNameFilter;
+import com.battler.Roaming.Fighter.storage.EmbeddedConfiguration;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+
+/**
+ * Bulk ingestion for season resets: NDJSON rows are COPYed into a staging
+ * table and merged into the live table, all in one transaction.
+ */
+@Service
+@Profile("!" + EmbeddedConfiguration.PROFILE)
+public class CopyIngestService {
+
+    private static final String MONSTER_STAGING_SQL = """
+            CREATE TEMP TABLE monster_ingest (
+                ordinal bigint, id uuid, name varchar(255), attack int, defence int,
+                max_health int, health int, power_rating int, player_id uuid) ON COMMIT DROP
+            """;
+    private static final String MONSTER_COPY_SQL = """
+            COPY monster_ingest (ordinal, id, name, attack, defence, max_health, health, power_rating, player_id)
+            FROM STDIN (FORMAT binary)
+            """;
+    private static final int MONSTER_FIELDS = 9;
+
+    // Owners before and after the merge; their team ratings are recomputed once it has run.
+    private static final String MONSTER_OWNERS_SQL = """
+            CREATE TEMP TABLE monster_ingest_owners ON COMMIT DROP AS
+            SELECT player_id FROM monster_ingest WHERE player_id IS NOT NULL
+            UNION
+            SELECT m.player_id FROM monsters m JOIN monster_ingest s ON s.id = m.id WHERE m.player_id IS NOT NULL
+            """;
+
+    // The last row staged for an id wins; rows naming an owner that does not exist are skipped.
+    private static final String MONSTER_MERGE_SQL = """
+            WITH staged AS (
+                SELECT DISTINCT ON (id) * FROM monster_ingest ORDER BY id, ordinal DESC),
+            merged AS (
+                INSERT INTO monsters (id, name, attack, defence, max_health, health, power_rating, player_id)
+                SELECT s.id, s.name, s.attack, s.defence, s.max_health, s.health, s.power_rating, s.player_id
+                FROM staged s
+                WHERE s.player_id IS NULL OR EXISTS (SELECT 1 FROM players p WHERE p.id = s.player_id)
+                ON CONFLICT (id) DO UPDATE SET
+                    name = EXCLUDED.name, attack = EXCLUDED.attack, defence = EXCLUDED.defence,
+                    max_health = EXCLUDED.max_health, health = EXCLUDED.health,
+                    power_rating = EXCLUDED.power_rating, player_id = EXCLUDED.player_id
+                RETURNING (xmax = 0) AS inserted)
+            SELECT count(*) FILTER (WHERE inserted) AS inserted, count(*) FILTER (WHERE NOT inserted) AS updated
+            FROM merged
+            """;
+
+    private static final String MONSTER_OWNER_RATINGS_SQL = """
+            UPDATE players p
+            SET team_rating = (SELECT coalesce(sum(m.power_rating), 0) FROM monsters m WHERE m.player_id = p.id),
+                profile_version = p.profile_version + 1
+            WHERE p.id IN (SELECT player_id FROM monster_ingest_owners)
+            """;
+
+    private static final String PLAYER_STAGING_SQL =
+            "CREATE TEMP TABLE player_ingest (ordinal bigint, id uuid, name varchar(255)) ON COMMIT DROP";
+    private static final String PLAYER_COPY_SQL =
+            "COPY player_ingest (ordinal, id, name) FROM STDIN (FORMAT binary)";
+    private static final int PLAYER_FIELDS = 3;
+
+    // The last row staged for an id or a name wins; names held by another existing player are skipped.
+    private static final String PLAYER_MERGE_SQL = """
+            WITH latest AS (
+                SELECT DISTINCT ON (id) * FROM player_ingest ORDER BY id, ordinal DESC),
+            staged AS (
+                SELECT DISTINCT ON (name) * FROM latest ORDER BY name, ordinal DESC),
+            merged AS (
+                INSERT INTO players (id, name)
+                SELECT s.id, s.name FROM staged s
+                WHERE NOT EXISTS (SELECT 1 FROM players p WHERE p.name = s.name AND p.id <> s.id)
+                ON CONFLICT (id) DO UPDATE SET
+                    name = EXCLUDED.name, profile_version = players.profile_version + 1
+                WHERE players.name IS DISTINCT FROM EXCLUDED.name
+                RETURNING (xmax = 0) AS inserted)
+            SELECT count(*) FILTER (WHERE inserted) AS inserted, count(*) FILTER (WHERE NOT inserted) AS updated
+            FROM merged
+            """;
+
+    private static final Logger log = LoggerFactory.getLogger(CopyIngestService.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final MonsterService monsterService;
+    private final PlayerNameFilter playerNameFilter;
+    private final EntityCacheService entityCacheService;
+    private final int bufferSize;
+    private final long progressInterval;
+
+    @Autowired
+    public CopyIngestService(JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             MonsterService monsterService,
+                             PlayerNameFilter playerNameFilter,
+                             EntityCacheService entityCacheService,
+                             @Value("${roaming-fighter.ingest.copy-buffer-size:65536}") int bufferSize,
+                             @Value("${roaming-fighter.ingest.progress-interval:100000}") long progressInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.monsterService = monsterService;
+        this.playerNameFilter = playerNameFilter;
+        this.entityCacheService = entityCacheService;
+        this.bufferSize = bufferSize;
+        this.progressInterval = progressInterval;
+    }
+
+    public IngestResult ingestMonsters(InputStream ndjson) throws IOException {
+        return ingest("monster", ndjson, MONSTER_STAGING_SQL, MONSTER_COPY_SQL, MONSTER_FIELDS,
+                (line, ordinal, writer) -> {
+                    Monster monster = parseMonster(line);
+                    writer.startRow();
+                    writer.writeLong(ordinal);
+                    writer.writeUuid(monster.getId());
+                    writer.writeText(monster.getName());
+                    writer.writeInt(monster.getAttack());
+                    writer.writeInt(monster.getDefence());
+                    writer.writeInt(monster.getMaxHealth());
+                    writer.writeInt(monster.getHealth());
+                    writer.writeInt(monster.getPowerRating());
+                    writer.writeUuid(monster.getPlayerId());
+                },
+                () -> {
+                    jdbcTemplate.execute(MONSTER_OWNERS_SQL);
+                    long[] counts = merge(MONSTER_MERGE_SQL);
+                    jdbcTemplate.update(MONSTER_OWNER_RATINGS_SQL);
+                    return counts;
+                });
+    }
+
+    public IngestResult ingestPlayers(InputStream ndjson) throws IOException {
+        return ingest("player", ndjson, PLAYER_STAGING_SQL, PLAYER_COPY_SQL, PLAYER_FIELDS,
+                (line, ordinal, writer) -> {
+                    Player player = parsePlayer(line);
+                    writer.startRow();
+                    writer.writeLong(ordinal);
+                    writer.writeUuid(player.getId());
+                    writer.writeText(player.getName());
+                    // Over-adding only costs a database check on signup; missing a name would skip it.
+                    playerNameFilter.add(player.getName());
+                },
+                () -> merge(PLAYER_MERGE_SQL));
+    }
+
+    private IngestResult ingest(String kind, InputStream ndjson, String stagingSql, String copySql, int fieldCount,
+                                RowStager stager, Merge merge) throws IOException {
+        long start = System.nanoTime();
+        IngestResult result;
+        try {
+            result = transactionTemplate.execute(status -> {
+                jdbcTemplate.execute(stagingSql);
+                long[] staged = jdbcTemplate.execute((ConnectionCallback<long[]>) connection ->
+                        copy(kind, connection, copySql, fieldCount, ndjson, stager, start));
+                long[] merged = merge.run();
+                return IngestResult.of(staged[0], merged[0], merged[1], staged[1], System.nanoTime() - start);
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        // The merge bypasses Hibernate, so nothing cached before it can be trusted.
+        entityCacheService.evictAll();
+        log.info("Ingested {} rows: {}", kind, result);
+        return result;
+    }
+
+    private long[] copy(String kind, Connection connection, String copySql, int fieldCount, InputStream ndjson,
+                        RowStager stager, long start) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        long staged = 0;
+        long rejected = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+             PGCopyOutputStream copy = new PGCopyOutputStream(pgConnection, copySql, bufferSize)) {
+            PgBinaryCopyWriter writer = new PgBinaryCopyWriter(copy, fieldCount);
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    stager.stage(line, lineNumber, writer);
+                } catch (IllegalArgumentException e) {
+                    rejected++;
+                    log.debug("Rejected {} row on line {}: {}", kind, lineNumber, e.getMessage());
+                    continue;
+                }
+                if (++staged % progressInterval == 0) {
+                    long elapsedNanos = System.nanoTime() - start;
+                    log.info("Staged {} {} rows ({} rows/s)", staged, kind, staged * 1_000_000_000L / elapsedNanos);
+                }
+            }
+            writer.finish();
+            copy.endCopy();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new long[]{staged, rejected};
+    }
+
+    private long[] merge(String mergeSql) {
+        return jdbcTemplate.queryForObject(mergeSql,
+                (rs, rowNum) -> new long[]{rs.getLong("inserted"), rs.getLong("updated")});
+    }
+
+    private Monster parseMonster(String line) {
+        Monster monster = read(line, MonsterIngestRow.class).toMonster();
+        monsterService.validateMonster(monster);
+        if (monster.getMaxHealth() == null) {
+            monster.setMaxHealth(monster.getHealth());
+        }
+        monster.setPowerRating(PowerRating.of(monster));
+        if (monster.getId() == null) {
+            monster.setId(UuidV7.next());
+        }
+        rejectViolations(monster);
+        return monster;
+    }
+
+    private Player parsePlayer(String line) {
+        Player player = read(line, PlayerIngestRow.class).toPlayer();
+        if (player.getName() == null || player.getName().trim().isEmpty()) {
+            throw new IllegalArgumentException("Player name cannot be null or empty");
+        }
+        if (player.getId() == null) {
+            player.setId(UuidV7.next());
+        }
+        rejectViolations(player);
+        return player;
+    }
+
+    // A line holding just "null" parses without error, but to no row.
+    private <T> T read(String line, Class<T> type) {
+        T row;
+        try {
+            row = objectMapper.readValue(line, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON row: " + e.getOriginalMessage());
+        }
+        if (row == null) {
+            throw new IllegalArgumentException("JSON row is null");
+        }
+        return row;
+    }
+
+    private void rejectViolations(Object row) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<Object> violation = violations.iterator().next();
+            throw new IllegalArgumentException(violation.getPropertyPath() + " " + violation.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowStager {
+        void stage(String line, long ordinal, PgBinaryCopyWriter writer) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Merge {
+        long[] run();
+    }
+}
@@ -0,0 +1,35 @@
+package com.battler.Roaming.Fighter.ingest;
+
+import com.battler.Roaming.Fighter.ingest.dto.IngestResult;
+import com.battler.Roaming.Fighter.storage.EmbeddedConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/ingest")
+@Profile("!" + EmbeddedConfiguration.PROFILE)
+public class IngestController {
+
+    private final CopyIngestService copyIngestService;
+
+    @Autowired
+    public IngestController(CopyIngestService copyIngestService) {
+        this.copyIngestService = copyIngestService;
+    }
+
+    @PostMapping(value = "/monsters", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<IngestResult> ingestMonsters(InputStream body) throws IOException {
+        return ResponseEntity.ok(copyIngestService.ingestMonsters(body));
+    }
+
+    @PostMapping(value = "/players", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<IngestResult> ingestPlayers(InputStream body) throws IOException {
+        return ResponseEntity.ok(copyIngestService.ingestPlayers(body));
+    }
+}
@@ -0,0 +1,40 @@
+package com.battler.Roaming.Fighter.ingest;
+
+import com.battler.Roaming.Fighter.reactive.BlockingBridge;
+import com.battler.Roaming.Fighter.reactive.ReactiveConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link IngestController}'s contract on the reactive stack. COPY has no
+ * R2DBC counterpart here, so {@link CopyIngestService} still runs over JDBC,
+ * reading the request body through the {@link BlockingBridge}.
+ */
+@Component
+@Profile(ReactiveConfiguration.PROFILE)
+public class IngestHandler {
+
+    private final CopyIngestService copyIngestService;
+    private final BlockingBridge blockingBridge;
+
+    @Autowired
+    public IngestHandler(CopyIngestService copyIngestService, BlockingBridge blockingBridge) {
+        this.copyIngestService = copyIngestService;
+        this.blockingBridge = blockingBridge;
+    }
+
+    public Mono<ServerResponse> ingestMonsters(ServerRequest request) {
+        return blockingBridge.read(request.bodyToFlux(DataBuffer.class), copyIngestService::ingestMonsters)
+                .flatMap(result -> ServerResponse.ok().bodyValue(result));
+    }
+
+    public Mono<ServerResponse> ingestPlayers(ServerRequest request) {
+        return blockingBridge.read(request.bodyToFlux(DataBuffer.class), copyIngestService::ingestPlayers)
+                .flatMap(result -> ServerResponse.ok().bodyValue(result));
+    }
+}
@@ -0,0 +1,71 @@
+package com.battler.Roaming.Fighter.ingest;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Encodes rows in Postgres' binary COPY format, so the server does no text
+ * parsing.
+ */
+class PgBinaryCopyWriter {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    private static final int NULL_LENGTH = -1;
+
+    private final DataOutputStream out;
+    private final short fieldCount;
+
+    PgBinaryCopyWriter(OutputStream out, int fieldCount) throws IOException {
+        this.out = new DataOutputStream(out);
+        this.fieldCount = (short) fieldCount;
+        this.out.write(SIGNATURE);
+        this.out.writeInt(0);
+        this.out.writeInt(0);
+    }
+
+    void startRow() throws IOException {
+        out.writeShort(fieldCount);
+    }
+
+    void writeLong(long value) throws IOException {
+        out.writeInt(Long.BYTES);
+        out.writeLong(value);
+    }
+
+    void writeInt(Integer value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(Integer.BYTES);
+        out.writeInt(value);
+    }
+
+    void writeUuid(UUID value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(2 * Long.BYTES);
+        out.writeLong(value.getMostSignificantBits());
+        out.writeLong(value.getLeastSignificantBits());
+    }
+
+    void writeText(String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    void finish() throws IOException {
+        out.writeShort(-1);
+        out.flush();
+    }
+}
@@ -0,0 +1,24 @@
+package com.battler.Roaming.Fighter.ingest.dto;
+
+public record IngestResult(
+        long staged,
+        long inserted,
+        long updated,
+        long skipped,
+        long rejected,
+        long elapsedMillis,
+        long rowsPerSecond
+) {
+    public static IngestResult of(long staged, long inserted, long updated, long rejected, long elapsedNanos) {
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        return new IngestResult(
+                staged,
+                inserted,
+                updated,
+                staged - inserted - updated,
+                rejected,
+                elapsedMillis,
+                elapsedNanos == 0 ? 0 : staged * 1_000_000_000L / elapsedNanos
+        );
+    }
+}
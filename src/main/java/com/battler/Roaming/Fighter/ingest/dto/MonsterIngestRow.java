@@ -0,0 +1,20 @@
+package com.battler.Roaming.Fighter.ingest.dto;
+
+import com.battler.Roaming.Fighter.entity.Monster;
+
+import java.util.UUID;
+
+// Unlike the entity, an ingest row carries its owner.
+public record MonsterIngestRow(
+        UUID id,
+        String name,
+        Integer attack,
+        Integer defence,
+        Integer maxHealth,
+        Integer health,
+        UUID playerId
+) {
+    public Monster toMonster() {
+        return new Monster(id, name, attack, defence, maxHealth, health, null, playerId);
+    }
+}
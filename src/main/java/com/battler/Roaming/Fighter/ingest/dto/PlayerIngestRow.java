@@ -0,0 +1,17 @@
+package com.battler.Roaming.Fighter.ingest.dto;
+
+import com.battler.Roaming.Fighter.entity.Player;
+
+import java.util.UUID;
+
+public record PlayerIngestRow(
+        UUID id,
+        String name
+) {
+    public Player toPlayer() {
+        Player player = new Player();
+        player.setId(id);
+        player.setName(name);
+        return player;
+    }
+}
@@ -0,0 +1,11 @@
+package com.battler.Roaming.Fighter.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("roamingfighter.Damage")
+@Label("Damage Computation")
+@Description("Both active monsters hitting each other")
+public class DamageEvent extends FightStageEvent {
+}
@@ -0,0 +1,11 @@
+package com.battler.Roaming.Fighter.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("roamingfighter.FightLoad")
+@Label("Fight Load")
+@Description("Loading a fight and both teams from the fight store")
+public class FightLoadEvent extends FightStageEvent {
+}
@@ -0,0 +1,11 @@
+package com.battler.Roaming.Fighter.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("roamingfighter.FightMapping")
+@Label("Fight DTO Mapping")
+@Description("Mapping a fight to the FightStateDto returned to the client")
+public class FightMappingEvent extends FightStageEvent {
+}
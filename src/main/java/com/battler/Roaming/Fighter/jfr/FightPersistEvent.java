@@ -0,0 +1,28 @@
+package com.battler.Roaming.Fighter.jfr;
+
+import com.battler.Roaming.Fighter.entity.Fight;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Name("roamingfighter.FightPersist")
+@Label("Fight Persist")
+@Description("Writing a fight to the fight store, including the flush and commit of the transaction it was written in")
+public class FightPersistEvent extends FightStageEvent {
+
+    // JPA only flushes at commit, so in a transaction the event ends once it has committed.
+    public void commitAfterTransactionFor(Fight fight) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commitFor(fight);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                commitFor(fight);
+            }
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package com.battler.Roaming.Fighter.jfr;
+
+import com.battler.Roaming.Fighter.entity.Fight;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * One timed stage of handling a fight; free when no recording enables it, so
+ * it stays in production code.
+ */
+@Category({"Roaming Fighter", "Fight"})
+@StackTrace(false)
+public abstract class FightStageEvent extends Event {
+
+    @Label("Fight Id")
+    protected String fightId;
+
+    @Label("Team A Size")
+    protected int teamASize;
+
+    @Label("Team B Size")
+    protected int teamBSize;
+
+    public void commitFor(Fight fight) {
+        if (shouldCommit()) {
+            fightId = String.valueOf(fight.getId());
+            teamASize = fight.getTeamA().size();
+            teamBSize = fight.getTeamB().size();
+            commit();
+        }
+    }
+}
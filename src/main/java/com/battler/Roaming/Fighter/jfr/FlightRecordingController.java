@@ -0,0 +1,93 @@
+package com.battler.Roaming.Fighter.jfr;
+
+import com.battler.Roaming.Fighter.jfr.dto.FlightRecordingStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Starts, dumps and stops the on-demand flight recording; only exists when roaming-fighter.jfr.enabled is set.
+@RestController
+@RequestMapping("/api/admin/jfr")
+@ConditionalOnProperty(name = FlightRecordingService.ENABLED_PROPERTY, havingValue = "true")
+public class FlightRecordingController {
+
+    private final FlightRecordingService flightRecordingService;
+
+    @Autowired
+    public FlightRecordingController(FlightRecordingService flightRecordingService) {
+        this.flightRecordingService = flightRecordingService;
+    }
+
+    @GetMapping
+    public ResponseEntity<FlightRecordingStatus> getStatus() {
+        return ResponseEntity.ok(flightRecordingService.status());
+    }
+
+    @PostMapping("/start")
+    public ResponseEntity<FlightRecordingStatus> startRecording() {
+        try {
+            return ResponseEntity.ok(flightRecordingService.start());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @PostMapping("/dump")
+    public ResponseEntity<Resource> dumpRecording() {
+        try {
+            return download(flightRecordingService.dump());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @PostMapping("/stop")
+    public ResponseEntity<Resource> stopRecording() {
+        try {
+            return download(flightRecordingService.stop());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    // Streams the dump once and deletes it when the stream is closed, so recordings do not pile up on disk.
+    private ResponseEntity<Resource> download(Path file) {
+        long size;
+        InputStream body;
+        try {
+            size = Files.size(file);
+            body = new FilterInputStream(Files.newInputStream(file)) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read flight recording " + file, e);
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(size)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+                .body(new InputStreamResource(body));
+    }
+}
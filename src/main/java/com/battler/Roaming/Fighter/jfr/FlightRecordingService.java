@@ -0,0 +1,129 @@
+package com.battler.Roaming.Fighter.jfr;
+
+import com.battler.Roaming.Fighter.jfr.dto.FlightRecordingStatus;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Runs at most one on-demand flight recording of the JDK's settings plus the
+ * fight stage events. Off unless {@value #ENABLED_PROPERTY} is set.
+ */
+@Service
+@ConditionalOnProperty(name = FlightRecordingService.ENABLED_PROPERTY, havingValue = "true")
+public class FlightRecordingService {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecordingService.class);
+
+    static final String ENABLED_PROPERTY = "roaming-fighter.jfr.enabled";
+
+    static final String RECORDING_NAME = "roaming-fighter";
+
+    static final List<String> SECRET_EVENTS = List.of("jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty");
+
+    static final List<Class<? extends FightStageEvent>> FIGHT_EVENTS = List.of(
+            FightLoadEvent.class,
+            DamageEvent.class,
+            SwitchingEvent.class,
+            WinCheckEvent.class,
+            FightPersistEvent.class,
+            FightMappingEvent.class
+    );
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final Path directory;
+    private final String settings;
+    private final Duration maxAge;
+    private Recording recording;
+
+    @Autowired
+    public FlightRecordingService(@Value("${roaming-fighter.jfr.directory:data/jfr}") Path directory,
+                                  @Value("${roaming-fighter.jfr.settings:profile}") String settings,
+                                  @Value("${roaming-fighter.jfr.max-age:PT30M}") Duration maxAge) {
+        this.directory = directory;
+        this.settings = settings;
+        this.maxAge = maxAge;
+    }
+
+    public synchronized FlightRecordingStatus start() {
+        if (recording != null) {
+            throw new IllegalStateException("A flight recording is already running");
+        }
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Could not load JFR settings '" + settings + "'", e);
+        }
+        Recording started = new Recording(configuration);
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setMaxAge(maxAge);
+        // Every stage, however short: the point is to see which fight and stage a slow request spent its time in.
+        FIGHT_EVENTS.forEach(event -> started.enable(event).withoutThreshold());
+        SECRET_EVENTS.forEach(started::disable);
+        started.start();
+        recording = started;
+        log.info("Started flight recording with '{}' settings", settings);
+        return status();
+    }
+
+    // Writes what has been recorded so far to a file and keeps recording.
+    public synchronized Path dump() {
+        return dumpTo(requireRecording());
+    }
+
+    // Stops the recording and writes all of it to a file.
+    public synchronized Path stop() {
+        Recording stopping = requireRecording();
+        try {
+            stopping.stop();
+            return dumpTo(stopping);
+        } finally {
+            stopping.close();
+            recording = null;
+        }
+    }
+
+    public synchronized FlightRecordingStatus status() {
+        if (recording == null) {
+            return FlightRecordingStatus.stopped();
+        }
+        return new FlightRecordingStatus(true, recording.getName(), settings, recording.getStartTime(), recording.getMaxAge());
+    }
+
+    private Recording requireRecording() {
+        if (recording == null) {
+            throw new IllegalStateException("No flight recording is running");
+        }
+        return recording;
+    }
+
+    private Path dumpTo(Recording source) {
+        Path file = directory.resolve(RECORDING_NAME + "-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr");
+        try {
+            Files.createDirectories(directory);
+            source.dump(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write flight recording to " + file, e);
+        }
+        log.info("Wrote flight recording to {}", file);
+        return file;
+    }
+}
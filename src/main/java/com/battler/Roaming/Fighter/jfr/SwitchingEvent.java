@@ -0,0 +1,11 @@
+package com.battler.Roaming.Fighter.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("roamingfighter.Switching")
+@Label("Switching")
+@Description("Replacing knocked out monsters with the next healthy team mate")
+public class SwitchingEvent extends FightStageEvent {
+}
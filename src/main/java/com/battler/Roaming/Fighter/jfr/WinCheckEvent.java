@@ -0,0 +1,11 @@
+package com.battler.Roaming.Fighter.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("roamingfighter.WinCheck")
+@Label("Win Check")
+@Description("Checking whether either team is out of healthy monsters")
+public class WinCheckEvent extends FightStageEvent {
+}
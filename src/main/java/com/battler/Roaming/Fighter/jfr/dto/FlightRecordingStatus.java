@@ -0,0 +1,17 @@
+package com.battler.Roaming.Fighter.jfr.dto;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public record FlightRecordingStatus(
+        boolean running,
+        String name,
+        String settings,
+        Instant startedAt,
+        Duration maxAge
+) {
+
+    public static FlightRecordingStatus stopped() {
+        return new FlightRecordingStatus(false, null, null, null, null);
+    }
+}
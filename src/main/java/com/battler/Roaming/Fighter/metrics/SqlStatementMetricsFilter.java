@@ -0,0 +1,79 @@
+package com.battler.Roaming.Fighter.metrics;
+
+import com.battler.Roaming.Fighter.datasource.SqlStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how many SQL statements each request executed, tagged like
+ * {@code http.server.requests} so the two line up per endpoint. An async
+ * request is recorded once, on its last dispatch, including the fight shard
+ * work charged to it; background work such as the journal drainer is not.
+ */
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "http.server.requests.sql";
+
+    private static final String EARLIER_DISPATCHES_ATTRIBUTE = SqlStatementMetricsFilter.class.getName() + ".earlier";
+
+    private final MeterRegistry registry;
+    private final Map<Endpoint, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public SqlStatementMetricsFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long before = SqlStatementCounter.current();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long executed = earlierDispatches(request) + SqlStatementCounter.current() - before;
+            if (isAsyncStarted(request)) {
+                request.setAttribute(EARLIER_DISPATCHES_ATTRIBUTE, executed);
+            } else {
+                summaries.computeIfAbsent(new Endpoint(request.getMethod(), uri(request)), this::summary)
+                        .record(executed + SqlStatementCounter.offloaded(request));
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    private DistributionSummary summary(Endpoint endpoint) {
+        return DistributionSummary.builder(METRIC_NAME)
+                .description("SQL statements executed per request")
+                .baseUnit("statements")
+                .tag("method", endpoint.method())
+                .tag("uri", endpoint.uri())
+                .register(registry);
+    }
+
+    // The route template rather than the raw path, so ids do not create a meter each.
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+
+    private static long earlierDispatches(HttpServletRequest request) {
+        return request.getAttribute(EARLIER_DISPATCHES_ATTRIBUTE) instanceof Long executed ? executed : 0;
+    }
+
+    private record Endpoint(String method, String uri) {
+    }
+}
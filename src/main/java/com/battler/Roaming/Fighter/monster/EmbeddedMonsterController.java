@@ -0,0 +1,54 @@
+package com.battler.Roaming.Fighter.monster;
+
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.monster.dto.MonsterDto;
+import com.battler.Roaming.Fighter.storage.EmbeddedConfiguration;
+import com.battler.Roaming.Fighter.storage.FightStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * The part of {@link MonsterController}'s contract the fight engine needs,
+ * served from the {@link FightStore} under the embedded profile: creating a
+ * monster and reading it back.
+ */
+@RestController
+@RequestMapping("/api/monster")
+@Profile(EmbeddedConfiguration.PROFILE)
+public class EmbeddedMonsterController {
+
+    private final FightStore fightStore;
+
+    @Autowired
+    public EmbeddedMonsterController(FightStore fightStore) {
+        this.fightStore = fightStore;
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<MonsterDto> getMonsterById(@PathVariable UUID id) {
+        return fightStore.findMonster(id)
+                .map(MonsterDto::from)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping
+    public ResponseEntity<MonsterDto> createMonster(@RequestBody Monster monster) {
+        try {
+            MonsterService.requireValid(monster);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        // Always a new monster, at full health unless told otherwise.
+        monster.setId(null);
+        if (monster.getMaxHealth() == null) {
+            monster.setMaxHealth(monster.getHealth());
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(MonsterDto.from(fightStore.saveMonster(monster)));
+    }
+}
@@ -1,59 +1,117 @@
 package com.battler.Roaming.Fighter.monster;
 
 import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.monster.dto.MonsterDto;
+import com.battler.Roaming.Fighter.monster.dto.MonsterHealResult;
+import com.battler.Roaming.Fighter.monster.dto.MonsterImportResult;
+import com.battler.Roaming.Fighter.storage.EmbeddedConfiguration;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/monster")
+@Profile("!" + EmbeddedConfiguration.PROFILE)
 public class MonsterController {
 
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
     private final MonsterService monsterService;
+    private final MonsterImportService monsterImportService;
+    private final MonsterHealService monsterHealService;
 
     @Autowired
-    public MonsterController(MonsterService monsterService) {
+    public MonsterController(MonsterService monsterService,
+                             MonsterImportService monsterImportService,
+                             MonsterHealService monsterHealService) {
         this.monsterService = monsterService;
+        this.monsterImportService = monsterImportService;
+        this.monsterHealService = monsterHealService;
     }
 
     @GetMapping
-    public ResponseEntity<List<Monster>> getAllMonsters() {
-        List<Monster> monsters = monsterService.getAllMonsters();
+    public ResponseEntity<List<MonsterDto>> getAllMonsters() {
+        List<MonsterDto> monsters = monsterService.getAllMonsters();
         return ResponseEntity.ok(monsters);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Monster> getMonsterById(@PathVariable UUID id) {
+    public ResponseEntity<MonsterDto> getMonsterById(@PathVariable UUID id) {
         return monsterService.getMonsterById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/name/{name}")
-    public ResponseEntity<List<Monster>> getMonstersByName(@PathVariable String name) {
-        List<Monster> monsters = monsterService.getMonstersByName(name);
+    public ResponseEntity<List<MonsterDto>> getMonstersByName(@PathVariable String name) {
+        List<MonsterDto> monsters = monsterService.getMonstersByName(name);
         return ResponseEntity.ok(monsters);
     }
 
+    @GetMapping("/nearest")
+    public ResponseEntity<List<MonsterDto>> getNearestMonsters(@RequestParam int rating,
+                                                               @RequestParam(defaultValue = "10") int k) {
+        try {
+            return ResponseEntity.ok(monsterService.getNearestMonsters(rating, k));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PostMapping
-    public ResponseEntity<Monster> createMonster(@RequestBody Monster monster) {
+    public ResponseEntity<MonsterDto> createMonster(@RequestBody Monster monster) {
         try {
             Monster createdMonster = monsterService.createMonster(monster);
-            return ResponseEntity.status(HttpStatus.CREATED).body(createdMonster);
+            return ResponseEntity.status(HttpStatus.CREATED).body(MonsterDto.from(createdMonster));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<MonsterImportResult> importMonsters(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) throws IOException {
+        try {
+            MonsterImportResult result = TEXT_CSV.includes(contentType)
+                    ? monsterImportService.importCsv(body)
+                    : monsterImportService.importNdjson(body);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/heal")
+    public ResponseEntity<MonsterHealResult> healMonsters(@RequestBody List<UUID> monsterIds) {
+        try {
+            long healed = monsterHealService.healMonsters(monsterIds);
+            return ResponseEntity.ok(new MonsterHealResult(healed));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/heal/idle")
+    public ResponseEntity<MonsterHealResult> healIdleMonsters() {
+        long healed = monsterHealService.healIdleMonsters();
+        return ResponseEntity.ok(new MonsterHealResult(healed));
+    }
+
     @PutMapping("/{id}")
-    public ResponseEntity<Monster> updateMonster(@PathVariable UUID id, @RequestBody Monster monsterDetails) {
+    public ResponseEntity<MonsterDto> updateMonster(@PathVariable UUID id, @RequestBody Monster monsterDetails) {
         try {
             Monster updatedMonster = monsterService.updateMonster(id, monsterDetails);
-            return ResponseEntity.ok(updatedMonster);
+            return ResponseEntity.ok(MonsterDto.from(updatedMonster));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
         }
@@ -0,0 +1,61 @@
+package com.battler.Roaming.Fighter.monster;
+
+import com.battler.Roaming.Fighter.reactive.BlockingBridge;
+import com.battler.Roaming.Fighter.reactive.ReactiveConfiguration;
+import com.battler.Roaming.Fighter.reactive.RequestParams;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * The reads of {@link MonsterController}'s contract on the reactive stack,
+ * plus the bulk import, which still runs {@link MonsterImportService} over
+ * JDBC through the {@link BlockingBridge}.
+ */
+@Component
+@Profile(ReactiveConfiguration.PROFILE)
+public class MonsterHandler {
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final ReactiveMonsterService monsterService;
+    private final MonsterImportService monsterImportService;
+    private final BlockingBridge blockingBridge;
+
+    @Autowired
+    public MonsterHandler(ReactiveMonsterService monsterService,
+                          MonsterImportService monsterImportService,
+                          BlockingBridge blockingBridge) {
+        this.monsterService = monsterService;
+        this.monsterImportService = monsterImportService;
+        this.blockingBridge = blockingBridge;
+    }
+
+    public Mono<ServerResponse> getMonsterById(ServerRequest request) {
+        return Mono.fromSupplier(() -> RequestParams.uuidVariable(request, "id"))
+                .flatMap(monsterService::getMonsterById)
+                .flatMap(monster -> ServerResponse.ok().bodyValue(monster))
+                .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    public Mono<ServerResponse> getNearestMonsters(ServerRequest request) {
+        return Mono.fromSupplier(() -> RequestParams.intParam(request, "rating"))
+                .flatMap(rating -> monsterService.getNearestMonsters(rating, RequestParams.intParam(request, "k", 10)))
+                .flatMap(monsters -> ServerResponse.ok().bodyValue(monsters))
+                .onErrorResume(IllegalArgumentException.class, e -> ServerResponse.badRequest().build());
+    }
+
+    public Mono<ServerResponse> importMonsters(ServerRequest request) {
+        boolean csv = request.headers().contentType().map(TEXT_CSV::includes).orElse(false);
+        return blockingBridge.read(request.bodyToFlux(DataBuffer.class), body -> csv
+                        ? monsterImportService.importCsv(body)
+                        : monsterImportService.importNdjson(body))
+                .flatMap(result -> ServerResponse.ok().bodyValue(result))
+                .onErrorResume(IllegalArgumentException.class, e -> ServerResponse.badRequest().build());
+    }
+}
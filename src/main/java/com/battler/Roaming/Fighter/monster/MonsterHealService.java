@@ -0,0 +1,126 @@
+package com.battler.Roaming.Fighter.monster;
+
+import com.battler.Roaming.Fighter.cache.EntityCacheService;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.entity.Player;
+import com.battler.Roaming.Fighter.player.PlayerRepository;
+import com.battler.Roaming.Fighter.storage.EmbeddedConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+/**
+ * Restores monsters to full health with set-based updates. Each chunk of at
+ * most {@code chunkSize} rows commits in its own transaction, so a full-table
+ * heal never holds long row locks or loads a single entity.
+ */
+@Service
+@Profile("!" + EmbeddedConfiguration.PROFILE)
+public class MonsterHealService {
+
+    // Sorts before every uuid, so the first chunk starts at the beginning of the table.
+    static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final MonsterRepository monsterRepository;
+    private final PlayerRepository playerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityCacheService entityCacheService;
+    private final int chunkSize;
+
+    @Autowired
+    public MonsterHealService(MonsterRepository monsterRepository,
+                              PlayerRepository playerRepository,
+                              TransactionTemplate transactionTemplate,
+                              EntityCacheService entityCacheService,
+                              @Value("${roaming-fighter.monster.heal.chunk-size:5000}") int chunkSize) {
+        this.monsterRepository = monsterRepository;
+        this.playerRepository = playerRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.entityCacheService = entityCacheService;
+        this.chunkSize = chunkSize;
+    }
+
+    public long healMonsters(List<UUID> monsterIds) {
+        if (monsterIds == null || monsterIds.isEmpty()) {
+            throw new IllegalArgumentException("Monster ids cannot be null or empty");
+        }
+        List<UUID> distinctIds = monsterIds.stream().distinct().toList();
+        long healed = 0;
+        for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+            List<UUID> chunk = distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size()));
+            healed += inTransaction(() -> {
+                int updated = monsterRepository.healByIds(chunk);
+                if (updated > 0) {
+                    evictHealed(chunk, playerRepository.bumpProfileVersionOfOwners(chunk));
+                }
+                return updated;
+            });
+        }
+        return healed;
+    }
+
+    public long healPlayerMonsters(UUID playerId) {
+        if (!playerRepository.existsById(playerId)) {
+            throw new IllegalArgumentException("Player not found with id: " + playerId);
+        }
+        long healed = healInChunks(afterId -> {
+            List<UUID> chunk = monsterRepository.healPlayerMonstersChunk(playerId, afterId, chunkSize);
+            entityCacheService.evictEntities(Monster.class, chunk);
+            return chunk;
+        });
+        if (healed > 0) {
+            inTransaction(() -> {
+                int bumped = playerRepository.bumpProfileVersion(playerId);
+                entityCacheService.evictEntities(Player.class, List.of(playerId));
+                return bumped;
+            });
+        }
+        return healed;
+    }
+
+    public long healIdleMonsters() {
+        return healInChunks(afterId -> {
+            List<UUID> chunk = monsterRepository.healIdleMonstersChunk(afterId, chunkSize);
+            if (!chunk.isEmpty()) {
+                evictHealed(chunk, playerRepository.bumpProfileVersionOfOwners(chunk));
+            }
+            return chunk;
+        });
+    }
+
+    // Each chunk resumes after the last id the previous one healed, walking the primary key once instead of
+    // rescanning healed rows from the start; a short chunk means the walk reached the end.
+    private long healInChunks(Function<UUID, List<UUID>> chunk) {
+        long healed = 0;
+        UUID afterId = FIRST_ID;
+        List<UUID> ids;
+        do {
+            UUID from = afterId;
+            ids = Objects.requireNonNullElse(transactionTemplate.execute(status -> chunk.apply(from)), List.of());
+            healed += ids.size();
+            if (!ids.isEmpty()) {
+                afterId = ids.getLast();
+            }
+        } while (ids.size() >= chunkSize);
+        return healed;
+    }
+
+    // Only the rows a chunk changed leave the cache, again once the chunk commits.
+    private void evictHealed(List<UUID> monsterIds, List<UUID> ownerIds) {
+        entityCacheService.evictEntities(Monster.class, monsterIds);
+        entityCacheService.evictEntities(Player.class, ownerIds);
+    }
+
+    private int inTransaction(IntSupplier update) {
+        Integer updated = transactionTemplate.execute(status -> update.getAsInt());
+        return updated != null ? updated : 0;
+    }
+}
@@ -0,0 +1,250 @@
+package com.battler.Roaming.Fighter.monster;
+
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.entity.id.UuidV7;
+import com.battler.Roaming.Fighter.monster.dto.MonsterImportError;
+import com.battler.Roaming.Fighter.monster.dto.MonsterImportResult;
+import com.battler.Roaming.Fighter.storage.EmbeddedConfiguration;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams NDJSON or CSV monster rows into the database in JDBC batches, each
+ * committed on its own so a bad row never aborts the rest.
+ */
+@Service
+@Profile("!" + EmbeddedConfiguration.PROFILE)
+public class MonsterImportService {
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO monsters (id, name, attack, defence, max_health, health, power_rating) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final List<String> REQUIRED_CSV_COLUMNS = List.of("name", "attack", "defence", "health");
+    // Quoted values may hold commas, doubled quotes and line breaks; blank lines are skipped.
+    private static final ObjectReader CSV_READER = new CsvMapper()
+            .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .readerFor(new TypeReference<Map<String, String>>() {
+            })
+            .with(CsvSchema.emptySchema().withHeader());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MonsterService monsterService;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    @Autowired
+    public MonsterImportService(JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                MonsterService monsterService,
+                                ObjectMapper objectMapper,
+                                @Value("${roaming-fighter.monster.import.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.monsterService = monsterService;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    public MonsterImportResult importNdjson(InputStream input) throws IOException {
+        try (BufferedReader reader = openReader(input)) {
+            Batch batch = new Batch();
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    batch.add(lineNumber, parseNdjsonRow(line));
+                } catch (IllegalArgumentException e) {
+                    batch.reject(lineNumber, e.getMessage());
+                }
+            }
+            return batch.finish();
+        }
+    }
+
+    // Rows are numbered by the line they start on, so a quoted value spanning lines does not shift the rest.
+    public MonsterImportResult importCsv(InputStream input) throws IOException {
+        try (MappingIterator<Map<String, String>> rows = CSV_READER.readValues(openReader(input))) {
+            CsvSchema header = (CsvSchema) rows.getParserSchema();
+            if (header.size() == 0) {
+                return new Batch().finish();
+            }
+            validateCsvHeader(header);
+
+            Batch batch = new Batch();
+            try {
+                while (rows.hasNextValue()) {
+                    Map<String, String> row = rows.nextValue();
+                    long lineNumber = rows.getParser().currentTokenLocation().getLineNr();
+                    try {
+                        batch.add(lineNumber, parseCsvRow(row));
+                    } catch (IllegalArgumentException e) {
+                        batch.reject(lineNumber, e.getMessage());
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                // An unbalanced quote leaves nothing after it readable, so the import stops at that row.
+                batch.reject(e.getLocation().getLineNr(), "Malformed CSV row: " + e.getOriginalMessage());
+            }
+            return batch.finish();
+        }
+    }
+
+    private BufferedReader openReader(InputStream input) {
+        return new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    }
+
+    private Monster parseNdjsonRow(String line) {
+        Monster monster;
+        try {
+            monster = objectMapper.readValue(line, Monster.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON row: " + e.getOriginalMessage());
+        }
+        if (monster == null) {
+            throw new IllegalArgumentException("JSON row is null");
+        }
+        return prepareRow(monster);
+    }
+
+    private void validateCsvHeader(CsvSchema header) {
+        for (String column : REQUIRED_CSV_COLUMNS) {
+            if (header.column(column) == null) {
+                throw new IllegalArgumentException("CSV header is missing column: " + column);
+            }
+        }
+    }
+
+    private Monster parseCsvRow(Map<String, String> row) {
+        Monster monster = new Monster();
+        monster.setName(csvValue(row, "name"));
+        monster.setAttack(csvInteger(row, "attack"));
+        monster.setDefence(csvInteger(row, "defence"));
+        monster.setMaxHealth(csvInteger(row, "maxHealth"));
+        monster.setHealth(csvInteger(row, "health"));
+        return prepareRow(monster);
+    }
+
+    private String csvValue(Map<String, String> row, String column) {
+        String value = row.get(column);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+
+    private Integer csvInteger(Map<String, String> row, String column) {
+        String value = csvValue(row, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Monster " + column + " is not a number: " + value);
+        }
+    }
+
+    private Monster prepareRow(Monster monster) {
+        monsterService.validateMonster(monster);
+        if (monster.getMaxHealth() == null) {
+            monster.setMaxHealth(monster.getHealth());
+        }
+        monster.setPowerRating(PowerRating.of(monster));
+        monster.setId(UuidV7.next());
+        return monster;
+    }
+
+    private void bindRow(PreparedStatement ps, Monster monster) throws SQLException {
+        ps.setObject(1, monster.getId());
+        ps.setString(2, monster.getName());
+        ps.setInt(3, monster.getAttack());
+        ps.setInt(4, monster.getDefence());
+        ps.setInt(5, monster.getMaxHealth());
+        ps.setInt(6, monster.getHealth());
+        ps.setInt(7, monster.getPowerRating());
+    }
+
+    private record PendingRow(long line, Monster monster) {
+    }
+
+    // A batch rejected by the database is retried row by row to find the offending lines.
+    private class Batch {
+        private final List<PendingRow> rows = new ArrayList<>(batchSize);
+        private final MonsterImportResult result = new MonsterImportResult();
+
+        void add(long line, Monster monster) {
+            rows.add(new PendingRow(line, monster));
+            if (rows.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(long line, String message) {
+            result.setFailed(result.getFailed() + 1);
+            if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+                result.getErrors().add(new MonsterImportError(line, message));
+            }
+        }
+
+        MonsterImportResult finish() {
+            flush();
+            return result;
+        }
+
+        private void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(),
+                                (ps, row) -> bindRow(ps, row.monster())));
+                result.setImported(result.getImported() + rows.size());
+            } catch (DataAccessException e) {
+                rows.forEach(this::insertSingle);
+            }
+            rows.clear();
+        }
+
+        private void insertSingle(PendingRow row) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        jdbcTemplate.update(INSERT_SQL, ps -> bindRow(ps, row.monster())));
+                result.setImported(result.getImported() + 1);
+            } catch (DataAccessException e) {
+                reject(row.line(), e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.battler.Roaming.Fighter.monster;
+
+import com.battler.Roaming.Fighter.monster.dto.MonsterDto;
+import com.battler.Roaming.Fighter.reactive.ReactiveConfiguration;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+// The MonsterRepository queries the reactive endpoints need, over R2DBC.
+@Repository
+@Profile(ReactiveConfiguration.PROFILE)
+public class MonsterR2dbcRepository {
+
+    static final String FIND_BY_ID_SQL = """
+            SELECT id, name, attack, defence, max_health, health, power_rating FROM monsters WHERE id = :id
+            """;
+
+    static final String RATED_AT_OR_ABOVE_SQL = """
+            SELECT id, name, attack, defence, max_health, health, power_rating FROM monsters
+            WHERE power_rating >= :rating ORDER BY power_rating ASC LIMIT :limit
+            """;
+
+    static final String RATED_BELOW_SQL = """
+            SELECT id, name, attack, defence, max_health, health, power_rating FROM monsters
+            WHERE power_rating < :rating ORDER BY power_rating DESC LIMIT :limit
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    @Autowired
+    public MonsterR2dbcRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<MonsterDto> findDtoById(UUID id) {
+        return databaseClient.sql(FIND_BY_ID_SQL)
+                .bind("id", id)
+                .map(MonsterR2dbcRepository::toDto)
+                .one();
+    }
+
+    public Flux<MonsterDto> findRatedAtOrAbove(int rating, int limit) {
+        return findRated(RATED_AT_OR_ABOVE_SQL, rating, limit);
+    }
+
+    public Flux<MonsterDto> findRatedBelow(int rating, int limit) {
+        return findRated(RATED_BELOW_SQL, rating, limit);
+    }
+
+    private Flux<MonsterDto> findRated(String sql, int rating, int limit) {
+        return databaseClient.sql(sql)
+                .bind("rating", rating)
+                .bind("limit", limit)
+                .map(MonsterR2dbcRepository::toDto)
+                .all();
+    }
+
+    static MonsterDto toDto(Readable row) {
+        return new MonsterDto(
+                row.get("id", UUID.class),
+                row.get("name", String.class),
+                row.get("attack", Integer.class),
+                row.get("defence", Integer.class),
+                row.get("max_health", Integer.class),
+                row.get("health", Integer.class),
+                row.get("power_rating", Integer.class));
+    }
+}
@@ -1,14 +1,101 @@
 package com.battler.Roaming.Fighter.monster;
 
+import com.battler.Roaming.Fighter.cache.EntityCacheService;
 import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.monster.dto.MonsterDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface MonsterRepository extends JpaRepository<Monster, UUID> {
     List<Monster> findByName(String name);
-}
 
+    @Query("select new com.battler.Roaming.Fighter.monster.dto.MonsterDto(" +
+            "m.id, m.name, m.attack, m.defence, m.maxHealth, m.health, m.powerRating) from Monster m")
+    List<MonsterDto> findAllDtos();
+
+    @Query("select new com.battler.Roaming.Fighter.monster.dto.MonsterDto(" +
+            "m.id, m.name, m.attack, m.defence, m.maxHealth, m.health, m.powerRating) from Monster m where m.id = :id")
+    Optional<MonsterDto> findDtoById(UUID id);
+
+    @Query("select new com.battler.Roaming.Fighter.monster.dto.MonsterDto(" +
+            "m.id, m.name, m.attack, m.defence, m.maxHealth, m.health, m.powerRating) from Monster m where m.name = :name")
+    List<MonsterDto> findDtosByName(String name);
+
+    @Query("select new com.battler.Roaming.Fighter.monster.dto.MonsterDto(" +
+            "m.id, m.name, m.attack, m.defence, m.maxHealth, m.health, m.powerRating) from Monster m " +
+            "where m.powerRating >= :rating order by m.powerRating asc")
+    List<MonsterDto> findRatedAtOrAbove(int rating, Pageable pageable);
+
+    @Query("select new com.battler.Roaming.Fighter.monster.dto.MonsterDto(" +
+            "m.id, m.name, m.attack, m.defence, m.maxHealth, m.health, m.powerRating) from Monster m " +
+            "where m.powerRating < :rating order by m.powerRating desc")
+    List<MonsterDto> findRatedBelow(int rating, Pageable pageable);
+
+    // Returned as a Slice so no count query runs; one extra row is read to fill hasNext.
+    @Query("select new com.battler.Roaming.Fighter.monster.dto.MonsterDto(" +
+            "m.id, m.name, m.attack, m.defence, m.maxHealth, m.health, m.powerRating) from Monster m " +
+            "where m.playerId = :playerId and m.name like :namePattern escape '!' and m.powerRating >= :minPowerRating")
+    Slice<MonsterDto> findBoxDtos(UUID playerId, String namePattern, int minPowerRating, Pageable pageable);
+
+    long countByPlayerId(UUID playerId);
+
+    @Modifying
+    @Query("delete from Monster m where m.playerId = :playerId")
+    int deleteMonsterBox(UUID playerId);
+
+    // Native with no entity query space, so only the healed rows are evicted, by the caller.
+    @Modifying(clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = EntityCacheService.UNCACHED_QUERY_SPACE))
+    @Query(value = "UPDATE monsters SET health = max_health WHERE id IN (:ids) AND health < max_health",
+            nativeQuery = true)
+    int healByIds(Collection<UUID> ids);
+
+    // The heal chunks run as queries so they can return the ids they healed, in id order, so the last one is
+    // where the next chunk resumes. Hibernate cannot see writes made by a query, so callers evict those ids and
+    // bump the owners' profile versions.
+    @Query(value = """
+            WITH healed AS (
+                UPDATE monsters SET health = max_health
+                WHERE id IN (
+                    SELECT id FROM monsters
+                    WHERE player_id = :playerId AND id > :afterId AND health < max_health
+                    ORDER BY id
+                    LIMIT :limit)
+                RETURNING id)
+            SELECT id FROM healed ORDER BY id
+            """, nativeQuery = true)
+    List<UUID> healPlayerMonstersChunk(UUID playerId, UUID afterId, int limit);
+
+    @Query(value = """
+            WITH healed AS (
+                UPDATE monsters SET health = max_health
+                WHERE id IN (
+                    SELECT m.id FROM monsters m
+                    WHERE m.id > :afterId
+                      AND m.health < m.max_health
+                      AND NOT EXISTS (
+                          SELECT 1 FROM fight_team_a t JOIN fights f ON f.id = t.fight_id
+                          WHERE t.monster_id = m.id AND f.status = 'ONGOING')
+                      AND NOT EXISTS (
+                          SELECT 1 FROM fight_team_b t JOIN fights f ON f.id = t.fight_id
+                          WHERE t.monster_id = m.id AND f.status = 'ONGOING')
+                    ORDER BY m.id
+                    LIMIT :limit)
+                RETURNING id)
+            SELECT id FROM healed ORDER BY id
+            """, nativeQuery = true)
+    List<UUID> healIdleMonstersChunk(UUID afterId, int limit);
+}
@@ -1,7 +1,14 @@
 package com.battler.Roaming.Fighter.monster;
 
+import com.battler.Roaming.Fighter.cache.EntityCacheService;
 import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.entity.Player;
+import com.battler.Roaming.Fighter.monster.dto.MonsterDto;
+import com.battler.Roaming.Fighter.player.PlayerRepository;
+import com.battler.Roaming.Fighter.storage.EmbeddedConfiguration;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,25 +18,45 @@ import java.util.UUID;
 
 @Service
 @Transactional
+@Profile("!" + EmbeddedConfiguration.PROFILE)
 public class MonsterService {
 
     private final MonsterRepository monsterRepository;
+    private final PlayerRepository playerRepository;
+    private final EntityCacheService entityCacheService;
 
     @Autowired
-    public MonsterService(MonsterRepository monsterRepository) {
+    public MonsterService(MonsterRepository monsterRepository,
+                          PlayerRepository playerRepository,
+                          EntityCacheService entityCacheService) {
         this.monsterRepository = monsterRepository;
+        this.playerRepository = playerRepository;
+        this.entityCacheService = entityCacheService;
     }
 
-    public List<Monster> getAllMonsters() {
-        return monsterRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<MonsterDto> getAllMonsters() {
+        return monsterRepository.findAllDtos();
     }
 
-    public Optional<Monster> getMonsterById(UUID id) {
-        return monsterRepository.findById(id);
+    @Transactional(readOnly = true)
+    public Optional<MonsterDto> getMonsterById(UUID id) {
+        return monsterRepository.findDtoById(id);
     }
 
-    public List<Monster> getMonstersByName(String name) {
-        return monsterRepository.findByName(name);
+    @Transactional(readOnly = true)
+    public List<MonsterDto> getMonstersByName(String name) {
+        return monsterRepository.findDtosByName(name);
+    }
+
+    @Transactional(readOnly = true)
+    public List<MonsterDto> getNearestMonsters(int rating, int k) {
+        PowerRating.validateNearestQuery(rating, k);
+        PageRequest closest = PageRequest.of(0, k);
+        return PowerRating.nearest(
+                monsterRepository.findRatedAtOrAbove(rating, closest),
+                monsterRepository.findRatedBelow(rating, closest),
+                MonsterDto::powerRating, rating, k);
     }
 
     public Monster createMonster(Monster monster) {
@@ -47,18 +74,36 @@ public class MonsterService {
         monster.setAttack(monsterDetails.getAttack());
         monster.setDefence(monsterDetails.getDefence());
         monster.setHealth(monsterDetails.getHealth());
+
+        int previousRating = monster.getPowerRating();
+        monster.setPowerRating(PowerRating.of(monster));
+        if (monster.getPowerRating() != previousRating) {
+            playerRepository.adjustTeamRatingOfOwner(id, monster.getPowerRating() - previousRating);
+        } else {
+            playerRepository.bumpProfileVersionOfOwners(List.of(id));
+        }
+        evictOwner(monster);
         
         return monsterRepository.save(monster);
     }
 
     public void deleteMonster(UUID id) {
-        if (!monsterRepository.existsById(id)) {
-            throw new IllegalArgumentException("Monster not found with id: " + id);
+        Monster monster = monsterRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Monster not found with id: " + id));
+        playerRepository.removeFromTeamRatingOfOwner(id);
+        monsterRepository.delete(monster);
+        evictOwner(monster);
+        if (monster.getPlayerId() != null) {
+            entityCacheService.evictMonsterBox(monster.getPlayerId());
         }
-        monsterRepository.deleteById(id);
     }
 
-    private void validateMonster(Monster monster) {
+    public void validateMonster(Monster monster) {
+        requireValid(monster);
+    }
+
+    // Also checks monsters where no MonsterService runs, under the embedded profile.
+    public static void requireValid(Monster monster) {
         if (monster.getName() == null || monster.getName().trim().isEmpty()) {
             throw new IllegalArgumentException("Monster name cannot be null or empty");
         }
@@ -72,5 +117,11 @@ public class MonsterService {
             throw new IllegalArgumentException("Monster health must be positive");
         }
     }
-}
 
+    // The owner's rating and profile version change through native statements, which leave the cache alone.
+    private void evictOwner(Monster monster) {
+        if (monster.getPlayerId() != null) {
+            entityCacheService.evictEntities(Player.class, List.of(monster.getPlayerId()));
+        }
+    }
+}
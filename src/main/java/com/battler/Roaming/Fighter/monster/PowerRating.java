@@ -0,0 +1,56 @@
+package com.battler.Roaming.Fighter.monster;
+
+import com.battler.Roaming.Fighter.entity.Monster;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Single strength number used by matchmaking and leaderboards. Attack weighs
+ * most because damage per exchange is attack minus the defender's defence.
+ */
+public final class PowerRating {
+
+    public static final int MAX_NEAREST = 100;
+
+    // Same formula as of(), for statements that rate rows in place.
+    public static final String SQL_EXPRESSION = "attack * 3 + defence * 2 + max_health";
+
+    private PowerRating() {
+    }
+
+    public static int of(int attack, int defence, int maxHealth) {
+        return attack * 3 + defence * 2 + maxHealth;
+    }
+
+    public static int of(Monster monster) {
+        return of(monster.getAttack(), monster.getDefence(), monster.getMaxHealth());
+    }
+
+    public static void validateNearestQuery(int rating, int k) {
+        if (rating < 0) {
+            throw new IllegalArgumentException("Rating must be non-negative");
+        }
+        if (k <= 0 || k > MAX_NEAREST) {
+            throw new IllegalArgumentException("k must be between 1 and " + MAX_NEAREST);
+        }
+    }
+
+    /**
+     * Merges the k closest entries at or above and the k closest below a target
+     * rating, both already ordered by distance from it, into the k nearest overall.
+     */
+    public static <T> List<T> nearest(List<T> atOrAbove, List<T> below, ToIntFunction<T> rating, int target, int k) {
+        List<T> nearest = new ArrayList<>(k);
+        int up = 0;
+        int down = 0;
+        while (nearest.size() < k && (up < atOrAbove.size() || down < below.size())) {
+            boolean takeUp = down >= below.size()
+                    || (up < atOrAbove.size()
+                    && rating.applyAsInt(atOrAbove.get(up)) - target <= target - rating.applyAsInt(below.get(down)));
+            nearest.add(takeUp ? atOrAbove.get(up++) : below.get(down++));
+        }
+        return nearest;
+    }
+}
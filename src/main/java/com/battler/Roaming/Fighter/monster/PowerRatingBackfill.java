@@ -0,0 +1,64 @@
+package com.battler.Roaming.Fighter.monster;
+
+import com.battler.Roaming.Fighter.storage.EmbeddedConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Rates monsters written before power_rating existed and adds them to their
+ * owners' teams. Turn it off with {@value #ENABLED_PROPERTY} once every database is upgraded.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@ConditionalOnProperty(name = PowerRatingBackfill.ENABLED_PROPERTY, matchIfMissing = true)
+@Profile("!" + EmbeddedConfiguration.PROFILE)
+public class PowerRatingBackfill implements InitializingBean {
+
+    public static final String ENABLED_PROPERTY = "roaming-fighter.backfill.enabled";
+
+    // Team ratings are kept as running sums, to which an unrated monster added 0, so adding the new rating is enough.
+    private static final String BACKFILL_SQL = """
+            WITH rated AS (
+                UPDATE monsters SET power_rating = %1$s
+                WHERE power_rating = 0 AND %1$s > 0
+                RETURNING player_id, power_rating),
+            teams AS (
+                UPDATE players p SET team_rating = p.team_rating + gained.rating, profile_version = p.profile_version + 1
+                FROM (SELECT player_id, sum(power_rating) AS rating FROM rated
+                      WHERE player_id IS NOT NULL GROUP BY player_id) gained
+                WHERE p.id = gained.player_id
+                RETURNING p.id)
+            SELECT (SELECT count(*) FROM rated) AS monsters, (SELECT count(*) FROM teams) AS players
+            """.formatted(PowerRating.SQL_EXPRESSION);
+
+    private static final Logger log = LoggerFactory.getLogger(PowerRatingBackfill.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public PowerRatingBackfill(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        backfill();
+    }
+
+    public void backfill() {
+        Map<String, Object> rated = jdbcTemplate.queryForMap(BACKFILL_SQL);
+        long monsters = ((Number) rated.get("monsters")).longValue();
+        if (monsters > 0) {
+            log.info("Rated {} monsters written without a rating and {} player teams", monsters, rated.get("players"));
+        }
+    }
+}
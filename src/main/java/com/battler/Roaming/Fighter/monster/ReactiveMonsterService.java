@@ -0,0 +1,37 @@
+package com.battler.Roaming.Fighter.monster;
+
+import com.battler.Roaming.Fighter.monster.dto.MonsterDto;
+import com.battler.Roaming.Fighter.reactive.ReactiveConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+// MonsterService's reads for the reactive endpoints.
+@Service
+@Profile(ReactiveConfiguration.PROFILE)
+public class ReactiveMonsterService {
+
+    private final MonsterR2dbcRepository monsterRepository;
+
+    @Autowired
+    public ReactiveMonsterService(MonsterR2dbcRepository monsterRepository) {
+        this.monsterRepository = monsterRepository;
+    }
+
+    public Mono<MonsterDto> getMonsterById(UUID id) {
+        return monsterRepository.findDtoById(id);
+    }
+
+    // The two sides are read one after the other, so a request never holds more than one connection.
+    public Mono<List<MonsterDto>> getNearestMonsters(int rating, int k) {
+        return Mono.defer(() -> {
+            PowerRating.validateNearestQuery(rating, k);
+            return monsterRepository.findRatedAtOrAbove(rating, k).collectList();
+        }).flatMap(atOrAbove -> monsterRepository.findRatedBelow(rating, k).collectList()
+                .map(below -> PowerRating.nearest(atOrAbove, below, MonsterDto::powerRating, rating, k)));
+    }
+}
@@ -0,0 +1,41 @@
+package com.battler.Roaming.Fighter.monster.dto;
+
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.monster.species.MonsterSpecies;
+
+import java.util.UUID;
+
+public record MonsterDto(
+        UUID id,
+        String name,
+        Integer attack,
+        Integer defence,
+        Integer maxHealth,
+        Integer health,
+        Integer powerRating
+) {
+    public static MonsterDto from(Monster monster) {
+        return new MonsterDto(
+                monster.getId(),
+                monster.getName(),
+                monster.getAttack(),
+                monster.getDefence(),
+                monster.getMaxHealth(),
+                monster.getHealth(),
+                monster.getPowerRating()
+        );
+    }
+
+    // Shares the species' name and boxed stats instead of copying them into every DTO.
+    public static MonsterDto of(UUID id, MonsterSpecies species, Integer health) {
+        return new MonsterDto(
+                id,
+                species.name(),
+                species.attack(),
+                species.defence(),
+                species.maxHealth(),
+                health,
+                species.powerRating()
+        );
+    }
+}
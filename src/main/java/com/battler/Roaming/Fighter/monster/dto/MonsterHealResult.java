@@ -0,0 +1,6 @@
+package com.battler.Roaming.Fighter.monster.dto;
+
+public record MonsterHealResult(
+        long healed
+) {
+}
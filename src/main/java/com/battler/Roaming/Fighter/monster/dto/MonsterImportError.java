@@ -0,0 +1,13 @@
+package com.battler.Roaming.Fighter.monster.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonsterImportError {
+    private long line;
+    private String message;
+}
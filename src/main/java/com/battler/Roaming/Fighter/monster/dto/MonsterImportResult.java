@@ -0,0 +1,17 @@
+package com.battler.Roaming.Fighter.monster.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonsterImportResult {
+    private long imported;
+    private long failed;
+    private List<MonsterImportError> errors = new ArrayList<>();
+}
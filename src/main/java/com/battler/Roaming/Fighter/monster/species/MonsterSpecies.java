@@ -0,0 +1,15 @@
+package com.battler.Roaming.Fighter.monster.species;
+
+/**
+ * Immutable base stats shared by every monster of the same kind. Instances
+ * come from {@link MonsterSpeciesPool}, so monsters and DTOs of one species
+ * point at the same name and boxed stats.
+ */
+public record MonsterSpecies(
+        String name,
+        Integer attack,
+        Integer defence,
+        Integer maxHealth,
+        Integer powerRating
+) {
+}
@@ -0,0 +1,42 @@
+package com.battler.Roaming.Fighter.monster.species;
+
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.monster.PowerRating;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Interns {@link MonsterSpecies} so that millions of in-memory monsters share
+ * a few hundred stat blocks. The pool is bounded; a species evicted from it
+ * stays valid for its holders and is only no longer shared with new ones.
+ */
+@Component
+public class MonsterSpeciesPool {
+
+    private final Cache<MonsterSpecies, MonsterSpecies> species;
+
+    public MonsterSpeciesPool(@Value("${roaming-fighter.monster.species.pool-size:10000}") long maximumSize) {
+        this.species = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public MonsterSpecies intern(String name, Integer attack, Integer defence, Integer maxHealth) {
+        Integer powerRating = attack != null && defence != null && maxHealth != null
+                ? PowerRating.of(attack, defence, maxHealth)
+                : null;
+        MonsterSpecies candidate = new MonsterSpecies(name, attack, defence, maxHealth, powerRating);
+        return species.get(candidate, key -> key);
+    }
+
+    public MonsterSpecies intern(Monster monster) {
+        return intern(monster.getName(), monster.getAttack(), monster.getDefence(), monster.getMaxHealth());
+    }
+
+    public long size() {
+        species.cleanUp();
+        return species.estimatedSize();
+    }
+}
@@ -0,0 +1,33 @@
+package com.battler.Roaming.Fighter.monster.species;
+
+import com.battler.Roaming.Fighter.entity.Monster;
+
+import java.util.UUID;
+
+/**
+ * Compact in-memory monster: a shared {@link MonsterSpecies} plus the only
+ * per-instance state, its id, current health and owner.
+ */
+public record PooledMonster(
+        UUID id,
+        MonsterSpecies species,
+        int health,
+        UUID playerId
+) {
+    public static PooledMonster of(Monster monster, MonsterSpeciesPool pool) {
+        return new PooledMonster(monster.getId(), pool.intern(monster), monster.getHealth(), monster.getPlayerId());
+    }
+
+    public Monster toMonster() {
+        return new Monster(
+                id,
+                species.name(),
+                species.attack(),
+                species.defence(),
+                species.maxHealth(),
+                health,
+                species.powerRating(),
+                playerId
+        );
+    }
+}
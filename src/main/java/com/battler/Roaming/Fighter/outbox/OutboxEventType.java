@@ -0,0 +1,27 @@
+package com.battler.Roaming.Fighter.outbox;
+
+import com.battler.Roaming.Fighter.fight.FightFinishedEvent;
+
+import java.util.Arrays;
+
+// Every event the outbox carries, with the class its payload is read back into.
+public enum OutboxEventType {
+    FIGHT_FINISHED(FightFinishedEvent.class);
+
+    private final Class<?> payloadType;
+
+    OutboxEventType(Class<?> payloadType) {
+        this.payloadType = payloadType;
+    }
+
+    public Class<?> payloadType() {
+        return payloadType;
+    }
+
+    public static OutboxEventType of(Object event) {
+        return Arrays.stream(values())
+                .filter(type -> type.payloadType.isInstance(event))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No outbox event type for " + event.getClass().getName()));
+    }
+}
@@ -0,0 +1,124 @@
+package com.battler.Roaming.Fighter.outbox;
+
+import com.battler.Roaming.Fighter.storage.EmbeddedConfiguration;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Delivers outbox events to in-process {@code @EventListener}s, at least once,
+ * each in its own transaction that locks, delivers and deletes the row.
+ */
+@Component
+@Profile("!" + EmbeddedConfiguration.PROFILE)
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    static final String PENDING_SQL = """
+            SELECT id FROM outbox_events
+            WHERE attempts < ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    static final String CLAIM_SQL = """
+            SELECT id, event_type, payload FROM outbox_events
+            WHERE id = ? AND attempts < ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    static final String DELETE_SQL = "DELETE FROM outbox_events WHERE id = ?";
+
+    static final String FAILED_SQL = "UPDATE outbox_events SET attempts = attempts + 1, last_error = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate eventTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    @Autowired
+    public OutboxRelay(JdbcTemplate jdbcTemplate,
+                       TransactionTemplate transactionTemplate,
+                       ApplicationEventPublisher eventPublisher,
+                       ObjectMapper objectMapper,
+                       @Value("${roaming-fighter.outbox.batch-size:500}") int batchSize,
+                       @Value("${roaming-fighter.outbox.max-attempts:10}") int maxAttempts) {
+        this.jdbcTemplate = jdbcTemplate;
+        // A transaction of its own even if a caller is in one, so one event's failure never spreads.
+        this.eventTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.eventTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Scheduled(fixedDelayString = "${roaming-fighter.outbox.relay-interval-ms:200}")
+    public void relay() {
+        // Keep going while batches come back full and clean, so a backlog drains without waiting for the next run.
+        int delivered;
+        do {
+            delivered = relayBatch();
+        } while (delivered == batchSize);
+    }
+
+    private int relayBatch() {
+        List<UUID> pending = jdbcTemplate.queryForList(PENDING_SQL, UUID.class, maxAttempts, batchSize);
+        int delivered = 0;
+        for (UUID id : pending) {
+            if (deliver(id)) {
+                delivered++;
+            }
+        }
+        return delivered;
+    }
+
+    // False when the event failed, or when another instance holds it or has already delivered it.
+    private boolean deliver(UUID id) {
+        try {
+            return Boolean.TRUE.equals(eventTransaction.execute(status -> {
+                List<ClaimedEvent> claimed = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new ClaimedEvent(
+                        rs.getObject("id", UUID.class),
+                        OutboxEventType.valueOf(rs.getString("event_type")),
+                        rs.getString("payload")), id, maxAttempts);
+                if (claimed.isEmpty()) {
+                    return false;
+                }
+                eventPublisher.publishEvent(read(claimed.getFirst()));
+                jdbcTemplate.update(DELETE_SQL, id);
+                return true;
+            }));
+        } catch (RuntimeException e) {
+            log.warn("Could not deliver outbox event {}", id, e);
+            jdbcTemplate.update(FAILED_SQL, String.valueOf(e), id);
+            return false;
+        }
+    }
+
+    private Object read(ClaimedEvent event) {
+        try {
+            return objectMapper.readValue(event.payload(), event.type().payloadType());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read outbox event " + event.id(), e);
+        }
+    }
+
+    private record ClaimedEvent(UUID id, OutboxEventType type, String payload) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.battler.Roaming.Fighter.outbox;
+
+import com.battler.Roaming.Fighter.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface OutboxRepository extends JpaRepository<OutboxEvent, UUID> {
+}
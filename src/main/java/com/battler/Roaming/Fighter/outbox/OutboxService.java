@@ -0,0 +1,49 @@
+package com.battler.Roaming.Fighter.outbox;
+
+import com.battler.Roaming.Fighter.entity.OutboxEvent;
+import com.battler.Roaming.Fighter.storage.EmbeddedConfiguration;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Writes events to the outbox inside the caller's transaction, so an event
+ * exists exactly when the change that caused it commits.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+@Profile("!" + EmbeddedConfiguration.PROFILE)
+public class OutboxService {
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public OutboxService(OutboxRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public void record(Object event) {
+        OutboxEventType type = OutboxEventType.of(event);
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setEventType(type.name());
+        outboxEvent.setPayload(write(event));
+        outboxEvent.setCreatedAt(Instant.now());
+        outboxRepository.save(outboxEvent);
+    }
+
+    private String write(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialise " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.battler.Roaming.Fighter.outbox;
+
+import com.battler.Roaming.Fighter.entity.id.UuidV7;
+import com.battler.Roaming.Fighter.reactive.ReactiveConfiguration;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * {@link OutboxService} for the reactive stack: the same row, written over
+ * R2DBC in the caller's reactive transaction.
+ */
+@Service
+@Profile(ReactiveConfiguration.PROFILE)
+public class ReactiveOutboxService {
+
+    static final String INSERT_SQL = """
+            INSERT INTO outbox_events (id, event_type, payload, created_at, attempts)
+            VALUES (:id, :eventType, :payload, :createdAt, 0)
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public ReactiveOutboxService(DatabaseClient databaseClient, ObjectMapper objectMapper) {
+        this.databaseClient = databaseClient;
+        this.objectMapper = objectMapper;
+    }
+
+    public Mono<Void> record(Object event) {
+        return Mono.defer(() -> databaseClient.sql(INSERT_SQL)
+                .bind("id", UuidV7.next())
+                .bind("eventType", OutboxEventType.of(event).name())
+                .bind("payload", write(event))
+                .bind("createdAt", Instant.now())
+                .then());
+    }
+
+    private String write(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialise " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
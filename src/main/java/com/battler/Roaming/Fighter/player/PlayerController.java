@@ -2,60 +2,107 @@ package com.battler.Roaming.Fighter.player;
 
 import com.battler.Roaming.Fighter.entity.Monster;
 import com.battler.Roaming.Fighter.entity.Player;
+import com.battler.Roaming.Fighter.monster.MonsterHealService;
+import com.battler.Roaming.Fighter.monster.dto.MonsterHealResult;
+import com.battler.Roaming.Fighter.player.dto.MonsterBoxCount;
+import com.battler.Roaming.Fighter.player.dto.MonsterBoxPage;
+import com.battler.Roaming.Fighter.player.dto.PlayerDto;
+import com.battler.Roaming.Fighter.player.dto.PlayerProfileDto;
+import com.battler.Roaming.Fighter.storage.EmbeddedConfiguration;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/player")
+@Profile("!" + EmbeddedConfiguration.PROFILE)
 public class PlayerController {
 
     private final PlayerService playerService;
+    private final PlayerExportService playerExportService;
+    private final PlayerProfileService playerProfileService;
+    private final MonsterHealService monsterHealService;
 
     @Autowired
-    public PlayerController(PlayerService playerService) {
+    public PlayerController(PlayerService playerService,
+                            PlayerExportService playerExportService,
+                            PlayerProfileService playerProfileService,
+                            MonsterHealService monsterHealService) {
         this.playerService = playerService;
+        this.playerExportService = playerExportService;
+        this.playerProfileService = playerProfileService;
+        this.monsterHealService = monsterHealService;
     }
 
     @GetMapping
-    public ResponseEntity<List<Player>> getAllPlayers() {
-        List<Player> players = playerService.getAllPlayers();
+    public ResponseEntity<List<PlayerDto>> getAllPlayers() {
+        List<PlayerDto> players = playerService.getAllPlayers();
         return ResponseEntity.ok(players);
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPlayers(@RequestParam(required = false) UUID after) {
+        StreamingResponseBody body = output -> playerExportService.exportPlayers(after, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Player> getPlayerById(@PathVariable UUID id) {
+    public ResponseEntity<PlayerDto> getPlayerById(@PathVariable UUID id) {
         return playerService.getPlayerById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{id}/profile")
+    public ResponseEntity<PlayerProfileDto> getPlayerProfile(@PathVariable UUID id) {
+        return playerProfileService.getPlayerProfile(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @GetMapping("/name/{name}")
-    public ResponseEntity<Player> getPlayerByName(@PathVariable String name) {
+    public ResponseEntity<PlayerDto> getPlayerByName(@PathVariable String name) {
         return playerService.getPlayerByName(name)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/nearest")
+    public ResponseEntity<List<PlayerDto>> getNearestPlayers(@RequestParam int teamRating,
+                                                             @RequestParam(defaultValue = "10") int k) {
+        try {
+            return ResponseEntity.ok(playerService.getNearestPlayers(teamRating, k));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PostMapping
-    public ResponseEntity<Player> createPlayer(@RequestBody Player player) {
+    public ResponseEntity<PlayerDto> createPlayer(@RequestBody Player player) {
         try {
             Player createdPlayer = playerService.createPlayer(player);
-            return ResponseEntity.status(HttpStatus.CREATED).body(createdPlayer);
+            return ResponseEntity.status(HttpStatus.CREATED).body(PlayerDto.from(createdPlayer));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Player> updatePlayer(@PathVariable UUID id, @RequestBody Player playerDetails) {
+    public ResponseEntity<PlayerDto> updatePlayer(@PathVariable UUID id, @RequestBody Player playerDetails) {
         try {
             Player updatedPlayer = playerService.updatePlayer(id, playerDetails);
-            return ResponseEntity.ok(updatedPlayer);
+            return ResponseEntity.ok(PlayerDto.from(updatedPlayer));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
         }
@@ -72,32 +119,67 @@ public class PlayerController {
     }
 
     @GetMapping("/{id}/monsters")
-    public ResponseEntity<List<Monster>> getPlayerMonsters(@PathVariable UUID id) {
+    public ResponseEntity<MonsterBoxPage> getPlayerMonsters(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String name,
+            @RequestParam(defaultValue = "0") int minPowerRating,
+            @PageableDefault(size = 50, sort = "name") Pageable pageable) {
         try {
-            List<Monster> monsters = playerService.getPlayerMonsters(id);
-            return ResponseEntity.ok(monsters);
+            return playerService.getPlayerMonsters(id, name, minPowerRating, pageable)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{id}/monsters/count")
+    public ResponseEntity<MonsterBoxCount> countPlayerMonsters(@PathVariable UUID id) {
+        try {
+            return ResponseEntity.ok(new MonsterBoxCount(playerService.countPlayerMonsters(id)));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
     @PostMapping("/{id}/monsters")
-    public ResponseEntity<Player> addMonsterToPlayer(@PathVariable UUID id, @RequestBody Monster monster) {
+    public ResponseEntity<PlayerDto> addMonsterToPlayer(@PathVariable UUID id, @RequestBody Monster monster) {
+        try {
+            return ResponseEntity.ok(playerService.addMonsterToPlayer(id, monster));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @PostMapping("/{id}/monsters/heal")
+    public ResponseEntity<MonsterHealResult> healPlayerMonsters(@PathVariable UUID id) {
         try {
-            Player updatedPlayer = playerService.addMonsterToPlayer(id, monster);
-            return ResponseEntity.ok(updatedPlayer);
+            long healed = monsterHealService.healPlayerMonsters(id);
+            return ResponseEntity.ok(new MonsterHealResult(healed));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
     @DeleteMapping("/{id}/monsters/{monsterId}")
-    public ResponseEntity<Player> removeMonsterFromPlayer(
+    public ResponseEntity<PlayerDto> removeMonsterFromPlayer(
             @PathVariable UUID id,
             @PathVariable UUID monsterId) {
         try {
-            Player updatedPlayer = playerService.removeMonsterFromPlayer(id, monsterId);
-            return ResponseEntity.ok(updatedPlayer);
+            return ResponseEntity.ok(playerService.removeMonsterFromPlayer(id, monsterId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @PostMapping("/{id}/monsters/{monsterId}/transfer")
+    public ResponseEntity<Void> transferMonster(
+            @PathVariable UUID id,
+            @PathVariable UUID monsterId,
+            @RequestParam UUID to) {
+        try {
+            playerService.transferMonster(id, monsterId, to);
+            return ResponseEntity.noContent().build();
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
         }
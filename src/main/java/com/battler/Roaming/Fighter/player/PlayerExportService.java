@@ -0,0 +1,145 @@
+package com.battler.Roaming.Fighter.player;
+
+import com.battler.Roaming.Fighter.storage.EmbeddedConfiguration;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * Writes every player with its monster box as one NDJSON line per player.
+ * Rows come from a single ordered cursor query, so memory use does not grow
+ * with the number of players. Each line carries the player id as its cursor;
+ * passing the last cursor received as {@code after} resumes the export.
+ */
+@Service
+@Profile("!" + EmbeddedConfiguration.PROFILE)
+public class PlayerExportService {
+
+    private static final String EXPORT_COLUMNS = """
+            SELECT p.id AS player_id, p.name AS player_name,
+                   m.id AS monster_id, m.name AS monster_name,
+                   m.attack, m.defence, m.max_health, m.health
+            FROM players p
+            LEFT JOIN monsters m ON m.player_id = p.id
+            """;
+    private static final String EXPORT_ORDER = " ORDER BY p.id, m.id";
+    private static final String EXPORT_ALL_SQL = EXPORT_COLUMNS + EXPORT_ORDER;
+    private static final String EXPORT_AFTER_SQL = EXPORT_COLUMNS + " WHERE p.id > ?" + EXPORT_ORDER;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    @Autowired
+    public PlayerExportService(JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               ObjectMapper objectMapper,
+                               @Value("${roaming-fighter.player.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    public void exportPlayers(UUID after, OutputStream output) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output);
+        generator.setRootValueSeparator(null);
+        PlayerLineWriter writer = new PlayerLineWriter(generator);
+        try {
+            // The Postgres driver only streams with a fetch size inside a transaction.
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        after == null ? EXPORT_ALL_SQL : EXPORT_AFTER_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY,
+                        ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                if (after != null) {
+                    statement.setObject(1, after);
+                }
+                return statement;
+            }, writer));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.finish();
+    }
+
+    private static class PlayerLineWriter implements RowCallbackHandler {
+        private final JsonGenerator generator;
+        private UUID currentPlayer;
+
+        PlayerLineWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            try {
+                UUID playerId = rs.getObject("player_id", UUID.class);
+                if (!playerId.equals(currentPlayer)) {
+                    endPlayer();
+                    startPlayer(playerId, rs.getString("player_name"));
+                }
+                UUID monsterId = rs.getObject("monster_id", UUID.class);
+                if (monsterId != null) {
+                    writeMonster(monsterId, rs);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() throws IOException {
+            endPlayer();
+            generator.flush();
+        }
+
+        private void startPlayer(UUID playerId, String name) throws IOException {
+            currentPlayer = playerId;
+            generator.writeStartObject();
+            generator.writeStringField("cursor", playerId.toString());
+            generator.writeStringField("id", playerId.toString());
+            generator.writeStringField("name", name);
+            generator.writeArrayFieldStart("monsterBox");
+        }
+
+        private void writeMonster(UUID monsterId, ResultSet rs) throws IOException, SQLException {
+            generator.writeStartObject();
+            generator.writeStringField("id", monsterId.toString());
+            generator.writeStringField("name", rs.getString("monster_name"));
+            generator.writeNumberField("attack", rs.getInt("attack"));
+            generator.writeNumberField("defence", rs.getInt("defence"));
+            generator.writeNumberField("maxHealth", rs.getInt("max_health"));
+            generator.writeNumberField("health", rs.getInt("health"));
+            generator.writeEndObject();
+        }
+
+        private void endPlayer() throws IOException {
+            if (currentPlayer == null) {
+                return;
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            currentPlayer = null;
+        }
+    }
+}
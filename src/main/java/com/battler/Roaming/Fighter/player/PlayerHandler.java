@@ -0,0 +1,66 @@
+package com.battler.Roaming.Fighter.player;
+
+import com.battler.Roaming.Fighter.reactive.BlockingBridge;
+import com.battler.Roaming.Fighter.reactive.ReactiveConfiguration;
+import com.battler.Roaming.Fighter.reactive.RequestParams;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * The reads of {@link PlayerController}'s contract on the reactive stack,
+ * plus the export, which still streams {@link PlayerExportService}'s JDBC
+ * cursor through the {@link BlockingBridge}.
+ */
+@Component
+@Profile(ReactiveConfiguration.PROFILE)
+public class PlayerHandler {
+
+    private final ReactivePlayerService playerService;
+    private final PlayerExportService playerExportService;
+    private final BlockingBridge blockingBridge;
+
+    @Autowired
+    public PlayerHandler(ReactivePlayerService playerService,
+                         PlayerExportService playerExportService,
+                         BlockingBridge blockingBridge) {
+        this.playerService = playerService;
+        this.playerExportService = playerExportService;
+        this.blockingBridge = blockingBridge;
+    }
+
+    public Mono<ServerResponse> getPlayerById(ServerRequest request) {
+        return Mono.fromSupplier(() -> RequestParams.uuidVariable(request, "id"))
+                .flatMap(playerService::getPlayerById)
+                .flatMap(player -> ServerResponse.ok().bodyValue(player))
+                .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    public Mono<ServerResponse> getNearestPlayers(ServerRequest request) {
+        return Mono.fromSupplier(() -> RequestParams.intParam(request, "teamRating"))
+                .flatMap(teamRating -> playerService.getNearestPlayers(teamRating, RequestParams.intParam(request, "k", 10)))
+                .flatMap(players -> ServerResponse.ok().bodyValue(players))
+                .onErrorResume(IllegalArgumentException.class, e -> ServerResponse.badRequest().build());
+    }
+
+    public Mono<ServerResponse> exportPlayers(ServerRequest request) {
+        return Mono.fromSupplier(() -> RequestParams.optionalUuidParam(request, "after"))
+                .flatMap(after -> {
+                    UUID from = after.orElse(null);
+                    Flux<DataBuffer> body = blockingBridge.write(request.exchange().getResponse().bufferFactory(),
+                            output -> playerExportService.exportPlayers(from, output));
+                    return ServerResponse.ok()
+                            .contentType(MediaType.APPLICATION_NDJSON)
+                            .body(BodyInserters.fromDataBuffers(body));
+                });
+    }
+}
@@ -0,0 +1,122 @@
+package com.battler.Roaming.Fighter.player;
+
+import com.battler.Roaming.Fighter.storage.EmbeddedConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over every player name ever taken, so signups can
+ * skip the existence query for names that are certainly free.
+ */
+@Component
+@Profile("!" + EmbeddedConfiguration.PROFILE)
+public class PlayerNameFilter {
+
+    private static final String LOAD_SQL = "SELECT name FROM players";
+    private static final int LOAD_FETCH_SIZE = 10_000;
+    private static final long SECOND_HASH_SEED = 0x9E3779B97F4A7C15L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private volatile boolean loaded;
+
+    @Autowired
+    public PlayerNameFilter(JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${roaming-fighter.player.name-filter.expected-names:1000000}") long expectedNames,
+                            @Value("${roaming-fighter.player.name-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        if (expectedNames <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Name filter needs positive expected names and a rate between 0 and 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-expectedNames * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.bits = new AtomicLongArray(Math.toIntExact((optimalBits + 63) / 64));
+        this.bitCount = (long) bits.length() * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedNames * ln2));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        // The Postgres driver only streams with a fetch size inside a transaction.
+        RowCallbackHandler addName = rs -> add(rs.getString("name"));
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    LOAD_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(LOAD_FETCH_SIZE);
+            return statement;
+        }, addName));
+        loaded = true;
+    }
+
+    public boolean mightContain(String name) {
+        if (!loaded || name == null) {
+            return true;
+        }
+        long hash = hash(name);
+        long first = mix(hash);
+        long second = mix(hash ^ SECOND_HASH_SEED) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(first + i * second, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void add(String name) {
+        if (name == null) {
+            return;
+        }
+        long hash = hash(name);
+        long first = mix(hash);
+        long second = mix(hash ^ SECOND_HASH_SEED) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(first + i * second, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    // 64-bit FNV-1a over the UTF-16 code units.
+    private static long hash(String name) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < name.length(); i++) {
+            hash ^= name.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    // MurmurHash3 finaliser, so nearby FNV values spread over the whole bit range.
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,158 @@
+package com.battler.Roaming.Fighter.player;
+
+import com.battler.Roaming.Fighter.monster.dto.MonsterDto;
+import com.battler.Roaming.Fighter.monster.species.MonsterSpecies;
+import com.battler.Roaming.Fighter.monster.species.MonsterSpeciesPool;
+import com.battler.Roaming.Fighter.player.dto.MonsterBoxSummary;
+import com.battler.Roaming.Fighter.player.dto.PlayerDto;
+import com.battler.Roaming.Fighter.player.dto.PlayerProfileDto;
+import com.battler.Roaming.Fighter.storage.EmbeddedConfiguration;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Builds the profile screen from two queries and caches it under the player's
+ * profile version, which fights bump only when they start and finish.
+ */
+@Service
+@Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+@Profile("!" + EmbeddedConfiguration.PROFILE)
+public class PlayerProfileService {
+
+    private static final String PLAYER_SQL = """
+            SELECT p.id AS player_id, p.name AS player_name, p.team_rating, p.profile_version,
+                   box.monster_count, box.total_health, box.total_max_health,
+                   top.id AS monster_id, top.name AS monster_name, top.attack, top.defence,
+                   top.max_health, top.health
+            FROM players p
+            CROSS JOIN LATERAL (
+                SELECT count(*) AS monster_count,
+                       coalesce(sum(health), 0) AS total_health,
+                       coalesce(sum(max_health), 0) AS total_max_health
+                FROM monsters WHERE player_id = p.id) box
+            LEFT JOIN LATERAL (
+                SELECT * FROM monsters WHERE player_id = p.id
+                ORDER BY power_rating DESC, id DESC
+                LIMIT ?) top ON true
+            WHERE p.id = ?
+            ORDER BY top.power_rating DESC, top.id DESC
+            """;
+
+    private static final String FIGHTS_SQL = """
+            SELECT count(*) FILTER (WHERE f.status = CASE s.side WHEN 'A' THEN 'TEAM_A_WON' ELSE 'TEAM_B_WON' END) AS wins,
+                   count(*) FILTER (WHERE f.status = CASE s.side WHEN 'A' THEN 'TEAM_B_WON' ELSE 'TEAM_A_WON' END) AS losses,
+                   array_agg(DISTINCT f.id) FILTER (WHERE f.status = 'ONGOING') AS ongoing
+            FROM (
+                SELECT t.fight_id, 'A' AS side
+                FROM fight_team_a t JOIN monsters m ON m.id = t.monster_id
+                WHERE m.player_id = ?
+                UNION
+                SELECT t.fight_id, 'B' AS side
+                FROM fight_team_b t JOIN monsters m ON m.id = t.monster_id
+                WHERE m.player_id = ?) s
+            JOIN fights f ON f.id = s.fight_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlayerRepository playerRepository;
+    private final int strongestMonsters;
+    private final Cache<ProfileKey, PlayerProfileDto> profiles;
+    private final MonsterSpeciesPool speciesPool;
+
+    @Autowired
+    public PlayerProfileService(JdbcTemplate jdbcTemplate,
+                                PlayerRepository playerRepository,
+                                @Value("${roaming-fighter.player.profile.strongest-monsters:5}") int strongestMonsters,
+                                @Value("${roaming-fighter.player.profile.cache-size:10000}") long cacheSize,
+                                MeterRegistry meterRegistry,
+                                MonsterSpeciesPool speciesPool) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.playerRepository = playerRepository;
+        this.strongestMonsters = strongestMonsters;
+        this.profiles = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, profiles, "player-profiles");
+        this.speciesPool = speciesPool;
+    }
+
+    public Optional<PlayerProfileDto> getPlayerProfile(UUID playerId) {
+        return playerRepository.findProfileVersion(playerId)
+                .map(version -> profiles.get(new ProfileKey(playerId, version), key -> loadProfile(playerId)));
+    }
+
+    private PlayerProfileDto loadProfile(UUID playerId) {
+        ResultSetExtractor<PlayerProfileDto> playerExtractor = this::mapPlayer;
+        PlayerProfileDto withoutFights = jdbcTemplate.query(PLAYER_SQL, playerExtractor, strongestMonsters, playerId);
+        if (withoutFights == null) {
+            return null;
+        }
+        return jdbcTemplate.queryForObject(FIGHTS_SQL, (rs, rowNum) -> new PlayerProfileDto(
+                withoutFights.player(),
+                withoutFights.version(),
+                withoutFights.box(),
+                ongoingFights(rs.getArray("ongoing")),
+                rs.getLong("wins"),
+                rs.getLong("losses")
+        ), playerId, playerId);
+    }
+
+    private PlayerProfileDto mapPlayer(ResultSet rs) throws SQLException {
+        if (!rs.next()) {
+            return null;
+        }
+        PlayerDto player = new PlayerDto(
+                rs.getObject("player_id", UUID.class),
+                rs.getString("player_name"),
+                rs.getInt("team_rating"));
+        long version = rs.getLong("profile_version");
+        long count = rs.getLong("monster_count");
+        long totalHealth = rs.getLong("total_health");
+        long totalMaxHealth = rs.getLong("total_max_health");
+
+        List<MonsterDto> strongest = new ArrayList<>(strongestMonsters);
+        do {
+            UUID monsterId = rs.getObject("monster_id", UUID.class);
+            if (monsterId != null) {
+                MonsterSpecies species = speciesPool.intern(
+                        rs.getString("monster_name"),
+                        rs.getInt("attack"),
+                        rs.getInt("defence"),
+                        rs.getInt("max_health"));
+                strongest.add(MonsterDto.of(monsterId, species, rs.getInt("health")));
+            }
+        } while (rs.next());
+
+        return new PlayerProfileDto(player, version,
+                new MonsterBoxSummary(count, totalHealth, totalMaxHealth, strongest), List.of(), 0, 0);
+    }
+
+    private List<UUID> ongoingFights(Array ongoing) throws SQLException {
+        if (ongoing == null) {
+            return List.of();
+        }
+        return List.of((UUID[]) ongoing.getArray());
+    }
+
+    private record ProfileKey(UUID playerId, long version) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.battler.Roaming.Fighter.player;
+
+import com.battler.Roaming.Fighter.player.dto.PlayerDto;
+import com.battler.Roaming.Fighter.reactive.ReactiveConfiguration;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+// The PlayerRepository queries the reactive endpoints need, over R2DBC.
+@Repository
+@Profile(ReactiveConfiguration.PROFILE)
+public class PlayerR2dbcRepository {
+
+    static final String FIND_BY_ID_SQL = "SELECT id, name, team_rating FROM players WHERE id = :id";
+
+    static final String RATED_AT_OR_ABOVE_SQL = """
+            SELECT id, name, team_rating FROM players
+            WHERE team_rating >= :rating ORDER BY team_rating ASC LIMIT :limit
+            """;
+
+    static final String RATED_BELOW_SQL = """
+            SELECT id, name, team_rating FROM players
+            WHERE team_rating < :rating ORDER BY team_rating DESC LIMIT :limit
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    @Autowired
+    public PlayerR2dbcRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<PlayerDto> findDtoById(UUID id) {
+        return databaseClient.sql(FIND_BY_ID_SQL)
+                .bind("id", id)
+                .map(PlayerR2dbcRepository::toDto)
+                .one();
+    }
+
+    public Flux<PlayerDto> findRatedAtOrAbove(int rating, int limit) {
+        return findRated(RATED_AT_OR_ABOVE_SQL, rating, limit);
+    }
+
+    public Flux<PlayerDto> findRatedBelow(int rating, int limit) {
+        return findRated(RATED_BELOW_SQL, rating, limit);
+    }
+
+    private Flux<PlayerDto> findRated(String sql, int rating, int limit) {
+        return databaseClient.sql(sql)
+                .bind("rating", rating)
+                .bind("limit", limit)
+                .map(PlayerR2dbcRepository::toDto)
+                .all();
+    }
+
+    static PlayerDto toDto(Readable row) {
+        return new PlayerDto(
+                row.get("id", UUID.class),
+                row.get("name", String.class),
+                row.get("team_rating", Integer.class));
+    }
+}
@@ -1,9 +1,19 @@
 package com.battler.Roaming.Fighter.player;
 
+import com.battler.Roaming.Fighter.cache.EntityCacheService;
 import com.battler.Roaming.Fighter.entity.Player;
+import com.battler.Roaming.Fighter.player.dto.PlayerDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,5 +21,93 @@ import java.util.UUID;
 public interface PlayerRepository extends JpaRepository<Player, UUID> {
     Optional<Player> findByName(String name);
     boolean existsByName(String name);
-}
 
+    @Query("select new com.battler.Roaming.Fighter.player.dto.PlayerDto(p.id, p.name, p.teamRating) from Player p")
+    List<PlayerDto> findAllDtos();
+
+    @Query("select new com.battler.Roaming.Fighter.player.dto.PlayerDto(p.id, p.name, p.teamRating) from Player p where p.id = :id")
+    Optional<PlayerDto> findDtoById(UUID id);
+
+    @Query("select new com.battler.Roaming.Fighter.player.dto.PlayerDto(p.id, p.name, p.teamRating) from Player p where p.name = :name")
+    Optional<PlayerDto> findDtoByName(String name);
+
+    @Query("select new com.battler.Roaming.Fighter.player.dto.PlayerDto(p.id, p.name, p.teamRating) from Player p " +
+            "where p.teamRating >= :rating order by p.teamRating asc")
+    List<PlayerDto> findRatedAtOrAbove(int rating, Pageable pageable);
+
+    @Query("select new com.battler.Roaming.Fighter.player.dto.PlayerDto(p.id, p.name, p.teamRating) from Player p " +
+            "where p.teamRating < :rating order by p.teamRating desc")
+    List<PlayerDto> findRatedBelow(int rating, Pageable pageable);
+
+    // Native writes leave the cache alone; callers evict the players and monsters they touched.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = EntityCacheService.UNCACHED_QUERY_SPACE))
+    @Query(value = """
+            UPDATE players SET team_rating = team_rating + :delta, profile_version = profile_version + 1
+            WHERE id = :playerId
+            """, nativeQuery = true)
+    int adjustTeamRating(UUID playerId, int delta);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = EntityCacheService.UNCACHED_QUERY_SPACE))
+    @Query(value = """
+            UPDATE players SET team_rating = team_rating + :delta, profile_version = profile_version + 1
+            WHERE id = (SELECT player_id FROM monsters WHERE id = :monsterId)
+            """, nativeQuery = true)
+    int adjustTeamRatingOfOwner(UUID monsterId, int delta);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = EntityCacheService.UNCACHED_QUERY_SPACE))
+    @Query(value = """
+            UPDATE players p SET team_rating = p.team_rating - m.power_rating, profile_version = p.profile_version + 1
+            FROM monsters m
+            WHERE m.id = :monsterId AND p.id = m.player_id
+            """, nativeQuery = true)
+    int removeFromTeamRatingOfOwner(UUID monsterId);
+
+    // Deletes the monster only if it is in the player's box and debits its rating in the same statement.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = EntityCacheService.UNCACHED_QUERY_SPACE))
+    @Query(value = """
+            WITH removed AS (
+                DELETE FROM monsters WHERE id = :monsterId AND player_id = :playerId
+                RETURNING power_rating)
+            UPDATE players p SET team_rating = p.team_rating - removed.power_rating,
+                                 profile_version = p.profile_version + 1
+            FROM removed
+            WHERE p.id = :playerId
+            """, nativeQuery = true)
+    int deleteFromMonsterBox(UUID playerId, UUID monsterId);
+
+    // Moves the monster only if it is in the source box, and moves its rating with it.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = EntityCacheService.UNCACHED_QUERY_SPACE))
+    @Query(value = """
+            WITH moved AS (
+                UPDATE monsters SET player_id = :toPlayerId WHERE id = :monsterId AND player_id = :fromPlayerId
+                RETURNING power_rating)
+            UPDATE players p
+            SET team_rating = p.team_rating
+                    + CASE WHEN p.id = :toPlayerId THEN moved.power_rating ELSE -moved.power_rating END,
+                profile_version = p.profile_version + 1
+            FROM moved
+            WHERE p.id IN (:fromPlayerId, :toPlayerId)
+            """, nativeQuery = true)
+    int transferMonster(UUID fromPlayerId, UUID monsterId, UUID toPlayerId);
+
+    @Query("select p.profileVersion from Player p where p.id = :id")
+    Optional<Long> findProfileVersion(UUID id);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = EntityCacheService.UNCACHED_QUERY_SPACE))
+    @Query(value = "UPDATE players SET profile_version = profile_version + 1 WHERE id = :playerId", nativeQuery = true)
+    int bumpProfileVersion(UUID playerId);
+
+    // Returns the owners it bumped so callers can evict them; a write run as a query, so Hibernate evicts nothing.
+    @Query(value = """
+            UPDATE players SET profile_version = profile_version + 1
+            WHERE id IN (SELECT player_id FROM monsters WHERE id IN (:monsterIds))
+            RETURNING id
+            """, nativeQuery = true)
+    List<UUID> bumpProfileVersionOfOwners(Collection<UUID> monsterIds);
+}
@@ -1,88 +1,256 @@
 package com.battler.Roaming.Fighter.player;
 
+import com.battler.Roaming.Fighter.cache.EntityCacheService;
 import com.battler.Roaming.Fighter.entity.Monster;
 import com.battler.Roaming.Fighter.entity.Player;
+import com.battler.Roaming.Fighter.monster.MonsterRepository;
+import com.battler.Roaming.Fighter.monster.PowerRating;
+import com.battler.Roaming.Fighter.player.dto.MonsterBoxPage;
+import com.battler.Roaming.Fighter.player.dto.PlayerDto;
+import com.battler.Roaming.Fighter.storage.EmbeddedConfiguration;
+import org.hibernate.exception.ConstraintViolationException;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @Transactional
+@Profile("!" + EmbeddedConfiguration.PROFILE)
 public class PlayerService {
 
+    // Only orderings backed by a (player_id, ..., id) index, so a page never sorts the whole box.
+    private static final Set<String> BOX_SORT_PROPERTIES = Set.of("name", "powerRating");
+
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    // Databases created before the constraint had a name also keep the one Hibernate generated for the
+    // original @Column(unique = true), which the schema update never drops.
+    private static final Set<String> NAME_CONSTRAINTS = Set.of(Player.NAME_CONSTRAINT, "ukpblmuavgrnr991e41662asko");
+
     private final PlayerRepository playerRepository;
+    private final MonsterRepository monsterRepository;
+    private final PlayerNameFilter playerNameFilter;
+    private final EntityCacheService entityCacheService;
 
     @Autowired
-    public PlayerService(PlayerRepository playerRepository) {
+    public PlayerService(PlayerRepository playerRepository,
+                         MonsterRepository monsterRepository,
+                         PlayerNameFilter playerNameFilter,
+                         EntityCacheService entityCacheService) {
         this.playerRepository = playerRepository;
+        this.monsterRepository = monsterRepository;
+        this.playerNameFilter = playerNameFilter;
+        this.entityCacheService = entityCacheService;
     }
 
-    public List<Player> getAllPlayers() {
-        return playerRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<PlayerDto> getAllPlayers() {
+        return playerRepository.findAllDtos();
     }
 
-    public Optional<Player> getPlayerById(UUID id) {
-        return playerRepository.findById(id);
+    @Transactional(readOnly = true)
+    public Optional<PlayerDto> getPlayerById(UUID id) {
+        return playerRepository.findDtoById(id);
     }
 
-    public Optional<Player> getPlayerByName(String name) {
-        return playerRepository.findByName(name);
+    @Transactional(readOnly = true)
+    public Optional<PlayerDto> getPlayerByName(String name) {
+        return playerRepository.findDtoByName(name);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PlayerDto> getNearestPlayers(int teamRating, int k) {
+        PowerRating.validateNearestQuery(teamRating, k);
+        PageRequest closest = PageRequest.of(0, k);
+        return PowerRating.nearest(
+                playerRepository.findRatedAtOrAbove(teamRating, closest),
+                playerRepository.findRatedBelow(teamRating, closest),
+                PlayerDto::teamRating, teamRating, k);
     }
 
     public Player createPlayer(Player player) {
-        if (playerRepository.existsByName(player.getName())) {
-            throw new IllegalArgumentException("Player with name '" + player.getName() + "' already exists");
-        }
-        return playerRepository.save(player);
+        rejectTakenName(player.getName());
+        return saveWithName(player);
     }
 
     public Player updatePlayer(UUID id, Player playerDetails) {
         Player player = playerRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Player not found with id: " + id));
         
-        if (!player.getName().equals(playerDetails.getName()) && 
-            playerRepository.existsByName(playerDetails.getName())) {
-            throw new IllegalArgumentException("Player with name '" + playerDetails.getName() + "' already exists");
+        boolean renamed = !player.getName().equals(playerDetails.getName());
+        if (renamed) {
+            rejectTakenName(playerDetails.getName());
         }
         
         player.setName(playerDetails.getName());
-        return playerRepository.save(player);
+        Player saved = saveWithName(player);
+        if (renamed) {
+            // The profile shows the name, so a cached profile under the old version would keep the old one.
+            playerRepository.bumpProfileVersion(id);
+            entityCacheService.evictEntities(Player.class, List.of(id));
+        }
+        return saved;
     }
 
     public void deletePlayer(UUID id) {
         if (!playerRepository.existsById(id)) {
             throw new IllegalArgumentException("Player not found with id: " + id);
         }
+        monsterRepository.deleteMonsterBox(id);
         playerRepository.deleteById(id);
     }
 
-    public List<Monster> getPlayerMonsters(UUID playerId) {
-        Player player = playerRepository.findById(playerId)
-                .orElseThrow(() -> new IllegalArgumentException("Player not found with id: " + playerId));
-        return player.getMonsterBox();
+    @Transactional(readOnly = true)
+    public Optional<MonsterBoxPage> getPlayerMonsters(UUID playerId, String namePrefix, int minPowerRating,
+                                                      Pageable pageable) {
+        if (minPowerRating < 0) {
+            throw new IllegalArgumentException("Rating must be non-negative");
+        }
+        Pageable boxPage = boxPageable(pageable);
+        if (!playerRepository.existsById(playerId)) {
+            return Optional.empty();
+        }
+        return Optional.of(MonsterBoxPage.from(
+                monsterRepository.findBoxDtos(playerId, namePattern(namePrefix), minPowerRating, boxPage)));
     }
 
-    public Player addMonsterToPlayer(UUID playerId, Monster monster) {
-        Player player = playerRepository.findById(playerId)
-                .orElseThrow(() -> new IllegalArgumentException("Player not found with id: " + playerId));
-        player.getMonsterBox().add(monster);
-        return playerRepository.save(player);
+    @Transactional(readOnly = true)
+    public long countPlayerMonsters(UUID playerId) {
+        if (!playerRepository.existsById(playerId)) {
+            throw new IllegalArgumentException("Player not found with id: " + playerId);
+        }
+        return monsterRepository.countByPlayerId(playerId);
+    }
+
+    // Box operations are targeted statements on monsters.player_id; the box itself is never loaded.
+    public PlayerDto addMonsterToPlayer(UUID playerId, Monster monster) {
+        monster.setPowerRating(PowerRating.of(monster));
+        // Also takes the player's row lock, so concurrent box changes apply their deltas in turn.
+        if (playerRepository.adjustTeamRating(playerId, monster.getPowerRating()) == 0) {
+            throw new IllegalArgumentException("Player not found with id: " + playerId);
+        }
+        monster.setId(null);
+        monster.setPlayerId(playerId);
+        monsterRepository.save(monster);
+        entityCacheService.evictEntities(Player.class, List.of(playerId));
+        entityCacheService.evictMonsterBox(playerId);
+        return findUpdatedPlayer(playerId);
+    }
+
+    public PlayerDto removeMonsterFromPlayer(UUID playerId, UUID monsterId) {
+        if (playerRepository.deleteFromMonsterBox(playerId, monsterId) == 0) {
+            throw boxMonsterNotFound(playerId);
+        }
+        entityCacheService.evictEntities(Monster.class, List.of(monsterId));
+        entityCacheService.evictEntities(Player.class, List.of(playerId));
+        entityCacheService.evictMonsterBox(playerId);
+        return findUpdatedPlayer(playerId);
+    }
+
+    public void transferMonster(UUID fromPlayerId, UUID monsterId, UUID toPlayerId) {
+        if (fromPlayerId.equals(toPlayerId)) {
+            throw new IllegalArgumentException("Monster is already in that player's monster box");
+        }
+        if (!playerRepository.existsById(toPlayerId)) {
+            throw new IllegalArgumentException("Player not found with id: " + toPlayerId);
+        }
+        if (playerRepository.transferMonster(fromPlayerId, monsterId, toPlayerId) == 0) {
+            throw boxMonsterNotFound(fromPlayerId);
+        }
+        entityCacheService.evictEntities(Monster.class, List.of(monsterId));
+        entityCacheService.evictEntities(Player.class, List.of(fromPlayerId, toPlayerId));
+        entityCacheService.evictMonsterBox(fromPlayerId);
+        entityCacheService.evictMonsterBox(toPlayerId);
+    }
+
+    // The filter answers most "is it free" checks without a query; only possible hits go to the database.
+    private void rejectTakenName(String name) {
+        if (playerNameFilter.mightContain(name) && playerRepository.existsByName(name)) {
+            throw nameTaken(name);
+        }
+    }
+
+    // The unique constraint is what actually enforces the name; the check above only fails fast.
+    private Player saveWithName(Player player) {
+        try {
+            Player saved = playerRepository.saveAndFlush(player);
+            playerNameFilter.add(saved.getName());
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            if (e.getCause() instanceof ConstraintViolationException violation && isNameTaken(violation)) {
+                throw nameTaken(player.getName());
+            }
+            throw e;
+        }
+    }
+
+    // The server reports the violated constraint as a field of its own, whatever language its messages are in.
+    private static boolean isNameTaken(ConstraintViolationException violation) {
+        if (isNameConstraint(violation.getConstraintName())) {
+            return true;
+        }
+        for (SQLException e = violation.getSQLException(); e != null; e = e.getNextException()) {
+            if (UNIQUE_VIOLATION.equals(e.getSQLState()) && e instanceof PSQLException psql) {
+                ServerErrorMessage error = psql.getServerErrorMessage();
+                if (error != null && isNameConstraint(error.getConstraint())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isNameConstraint(String constraint) {
+        return constraint != null && NAME_CONSTRAINTS.contains(constraint.toLowerCase(Locale.ROOT));
+    }
+
+    private IllegalArgumentException nameTaken(String name) {
+        return new IllegalArgumentException("Player with name '" + name + "' already exists");
+    }
+
+    private IllegalArgumentException boxMonsterNotFound(UUID playerId) {
+        if (!playerRepository.existsById(playerId)) {
+            return new IllegalArgumentException("Player not found with id: " + playerId);
+        }
+        return new IllegalArgumentException("Monster not found in player's monster box");
     }
 
-    public Player removeMonsterFromPlayer(UUID playerId, UUID monsterId) {
-        Player player = playerRepository.findById(playerId)
+    private PlayerDto findUpdatedPlayer(UUID playerId) {
+        return playerRepository.findDtoById(playerId)
                 .orElseThrow(() -> new IllegalArgumentException("Player not found with id: " + playerId));
-        
-        boolean removed = player.getMonsterBox().removeIf(monster -> monster.getId().equals(monsterId));
-        if (!removed) {
-            throw new IllegalArgumentException("Monster not found in player's monster box");
+    }
+
+    private Pageable boxPageable(Pageable pageable) {
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : Sort.by("name");
+        for (Sort.Order order : sort) {
+            if (!BOX_SORT_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Cannot sort monster box by: " + order.getProperty());
+            }
         }
-        
-        return playerRepository.save(player);
+        // Names and ratings repeat, so id always comes last: equal rows then keep one order and an offset never
+        // repeats or skips them. It follows the leading direction so the index can be walked either way.
+        Sort.Direction direction = sort.iterator().next().getDirection();
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort.and(Sort.by(direction, "id")));
     }
-}
 
+    private String namePattern(String namePrefix) {
+        if (namePrefix == null || namePrefix.isEmpty()) {
+            return "%";
+        }
+        return namePrefix.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
+}
@@ -0,0 +1,38 @@
+package com.battler.Roaming.Fighter.player;
+
+import com.battler.Roaming.Fighter.monster.PowerRating;
+import com.battler.Roaming.Fighter.player.dto.PlayerDto;
+import com.battler.Roaming.Fighter.reactive.ReactiveConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+// PlayerService's reads for the reactive endpoints.
+@Service
+@Profile(ReactiveConfiguration.PROFILE)
+public class ReactivePlayerService {
+
+    private final PlayerR2dbcRepository playerRepository;
+
+    @Autowired
+    public ReactivePlayerService(PlayerR2dbcRepository playerRepository) {
+        this.playerRepository = playerRepository;
+    }
+
+    public Mono<PlayerDto> getPlayerById(UUID id) {
+        return playerRepository.findDtoById(id);
+    }
+
+    // The two sides are read one after the other, so a request never holds more than one connection.
+    public Mono<List<PlayerDto>> getNearestPlayers(int teamRating, int k) {
+        return Mono.defer(() -> {
+            PowerRating.validateNearestQuery(teamRating, k);
+            return playerRepository.findRatedAtOrAbove(teamRating, k).collectList();
+        }).flatMap(atOrAbove -> playerRepository.findRatedBelow(teamRating, k).collectList()
+                .map(below -> PowerRating.nearest(atOrAbove, below, PlayerDto::teamRating, teamRating, k)));
+    }
+}
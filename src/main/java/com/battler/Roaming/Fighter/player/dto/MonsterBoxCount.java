@@ -0,0 +1,6 @@
+package com.battler.Roaming.Fighter.player.dto;
+
+public record MonsterBoxCount(
+        long count
+) {
+}
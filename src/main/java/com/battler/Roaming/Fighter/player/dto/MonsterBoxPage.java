@@ -0,0 +1,17 @@
+package com.battler.Roaming.Fighter.player.dto;
+
+import com.battler.Roaming.Fighter.monster.dto.MonsterDto;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+public record MonsterBoxPage(
+        List<MonsterDto> monsters,
+        int page,
+        int size,
+        boolean hasNext
+) {
+    public static MonsterBoxPage from(Slice<MonsterDto> slice) {
+        return new MonsterBoxPage(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
+    }
+}
@@ -0,0 +1,13 @@
+package com.battler.Roaming.Fighter.player.dto;
+
+import com.battler.Roaming.Fighter.monster.dto.MonsterDto;
+
+import java.util.List;
+
+public record MonsterBoxSummary(
+        long count,
+        long totalHealth,
+        long totalMaxHealth,
+        List<MonsterDto> strongest
+) {
+}
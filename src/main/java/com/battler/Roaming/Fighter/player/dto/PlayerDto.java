@@ -0,0 +1,15 @@
+package com.battler.Roaming.Fighter.player.dto;
+
+import com.battler.Roaming.Fighter.entity.Player;
+
+import java.util.UUID;
+
+public record PlayerDto(
+        UUID id,
+        String name,
+        Integer teamRating
+) {
+    public static PlayerDto from(Player player) {
+        return new PlayerDto(player.getId(), player.getName(), player.getTeamRating());
+    }
+}
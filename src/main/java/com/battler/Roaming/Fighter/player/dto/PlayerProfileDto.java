@@ -0,0 +1,14 @@
+package com.battler.Roaming.Fighter.player.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record PlayerProfileDto(
+        PlayerDto player,
+        long version,
+        MonsterBoxSummary box,
+        List<UUID> ongoingFights,
+        long wins,
+        long losses
+) {
+}
@@ -0,0 +1,83 @@
+package com.battler.Roaming.Fighter.reactive;
+
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the blocking JDBC controllers and services shared with the servlet
+ * stack on virtual threads, off the event loops.
+ */
+@Component
+@Profile(ReactiveConfiguration.PROFILE)
+public class BlockingBridge implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(BlockingBridge.class);
+
+    // Buffers requested ahead of a blocking reader; each is at most one network read.
+    private static final int READ_AHEAD = 16;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Scheduler scheduler = Schedulers.fromExecutorService(executor, "blocking-bridge");
+
+    public interface InputCall<T> {
+        T apply(InputStream input) throws IOException;
+    }
+
+    public interface OutputCall {
+        void accept(OutputStream output) throws IOException;
+    }
+
+    // Hands the body to the call as an InputStream, on a virtual thread.
+    public <T> Mono<T> read(Publisher<DataBuffer> body, InputCall<T> call) {
+        return Mono.fromCallable(() -> {
+            try (InputStream input = DataBufferUtils.subscriberInputStream(body, READ_AHEAD)) {
+                return call.apply(input);
+            }
+        }).subscribeOn(scheduler);
+    }
+
+    // Streams what the call writes, on a virtual thread, as the response body.
+    public Flux<DataBuffer> write(DataBufferFactory bufferFactory, OutputCall call) {
+        return Flux.from(DataBufferUtils.outputStreamPublisher(output -> {
+            try {
+                call.accept(output);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, bufferFactory, executor));
+    }
+
+    AsyncTaskExecutor taskExecutor() {
+        return new TaskExecutorAdapter(executor);
+    }
+
+    // Lets running calls finish, so an import or export in flight is not cut off on shutdown.
+    @Override
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Interrupting {} blocking calls still running at shutdown", executor.shutdownNow().size());
+        }
+        scheduler.dispose();
+    }
+}
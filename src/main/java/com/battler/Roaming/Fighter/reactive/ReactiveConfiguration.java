@@ -0,0 +1,72 @@
+package com.battler.Roaming.Fighter.reactive;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.reactive.config.BlockingExecutionConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+/**
+ * The reactive stack, switched on by the {@value #PROFILE} profile: the
+ * {@link ReactiveRoutes} run on R2DBC, other controllers via {@link BlockingBridge}.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile(ReactiveConfiguration.PROFILE)
+public class ReactiveConfiguration {
+
+    public static final String PROFILE = "reactive";
+
+    public ReactiveConfiguration(@Value("${roaming-fighter.storage.backend:jpa}") String storageBackend) {
+        // The reactive fight engine reads and writes Postgres directly, so any other store would split fight state.
+        if (!"jpa".equals(storageBackend)) {
+            throw new IllegalStateException("The " + PROFILE + " profile needs roaming-fighter.storage.backend=jpa, not "
+                    + storageBackend);
+        }
+    }
+
+    // With Tomcat also on the classpath for the servlet stack, Boot would otherwise pick Tomcat.
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    // Not a bean, so @Transactional JPA services still find a single TransactionManager.
+    @Bean
+    public TransactionalOperator reactiveTransactionalOperator(ConnectionFactory connectionFactory) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+
+    @Bean
+    public WebFluxConfigurer blockingControllerConfigurer(
+            BlockingBridge blockingBridge,
+            @Value("${spring.data.web.pageable.max-page-size:2000}") int maxPageSize) {
+        return new WebFluxConfigurer() {
+            // Controller methods that return plain values block on JDBC, so they never run on an event loop.
+            @Override
+            public void configureBlockingExecution(BlockingExecutionConfigurer configurer) {
+                configurer.setExecutor(blockingBridge.taskExecutor());
+            }
+
+            // Spring Data only registers its Pageable resolver for Spring MVC.
+            @Override
+            public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+                ReactivePageableHandlerMethodArgumentResolver pageable = new ReactivePageableHandlerMethodArgumentResolver();
+                pageable.setMaxPageSize(maxPageSize);
+                configurer.addCustomResolver(pageable);
+            }
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.battler.Roaming.Fighter.reactive;
+
+import com.battler.Roaming.Fighter.fight.FightHandler;
+import com.battler.Roaming.Fighter.ingest.IngestHandler;
+import com.battler.Roaming.Fighter.monster.MonsterHandler;
+import com.battler.Roaming.Fighter.player.PlayerHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * The endpoints served reactively, on the same URLs as their Spring MVC
+ * controllers, which router functions take precedence over.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile(ReactiveConfiguration.PROFILE)
+public class ReactiveRoutes {
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveEndpoints(FightHandler fightHandler,
+                                                            MonsterHandler monsterHandler,
+                                                            PlayerHandler playerHandler,
+                                                            IngestHandler ingestHandler) {
+        return RouterFunctions.route()
+                .POST("/api/fight", fightHandler::createFight)
+                .POST("/api/fight/{fightId}", fightHandler::executeExchange)
+                .GET("/api/fight/{fightId}", fightHandler::getFightState)
+                .GET("/api/monster/nearest", monsterHandler::getNearestMonsters)
+                .GET("/api/monster/{id}", monsterHandler::getMonsterById)
+                .POST("/api/monster/import",
+                        RequestPredicates.contentType(MediaType.APPLICATION_NDJSON, MonsterHandler.TEXT_CSV),
+                        monsterHandler::importMonsters)
+                .GET("/api/player/nearest", playerHandler::getNearestPlayers)
+                .GET("/api/player/export", playerHandler::exportPlayers)
+                .GET("/api/player/{id}", playerHandler::getPlayerById)
+                .POST("/api/ingest/monsters", RequestPredicates.contentType(MediaType.APPLICATION_NDJSON),
+                        ingestHandler::ingestMonsters)
+                .POST("/api/ingest/players", RequestPredicates.contentType(MediaType.APPLICATION_NDJSON),
+                        ingestHandler::ingestPlayers)
+                .build();
+    }
+}
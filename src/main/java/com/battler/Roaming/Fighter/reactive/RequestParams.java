@@ -0,0 +1,50 @@
+package com.battler.Roaming.Fighter.reactive;
+
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Path variable and query parameter conversion for the functional endpoints;
+ * a bad value is a {@link ServerWebInputException}, answered with a 400.
+ */
+public final class RequestParams {
+
+    private RequestParams() {
+    }
+
+    public static UUID uuidVariable(ServerRequest request, String name) {
+        return toUuid(name, request.pathVariable(name));
+    }
+
+    public static Optional<UUID> optionalUuidParam(ServerRequest request, String name) {
+        return request.queryParam(name).map(value -> toUuid(name, value));
+    }
+
+    public static int intParam(ServerRequest request, String name) {
+        return toInt(name, request.queryParam(name)
+                .orElseThrow(() -> new ServerWebInputException("Required parameter '" + name + "' is not present")));
+    }
+
+    public static int intParam(ServerRequest request, String name, int defaultValue) {
+        return request.queryParam(name).map(value -> toInt(name, value)).orElse(defaultValue);
+    }
+
+    private static UUID toUuid(String name, String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new ServerWebInputException("'" + name + "' is not a UUID: " + value, null, e);
+        }
+    }
+
+    private static int toInt(String name, String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ServerWebInputException("'" + name + "' is not an integer: " + value, null, e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.battler.Roaming.Fighter.storage;
+
+import com.battler.Roaming.Fighter.monster.species.MonsterSpeciesPool;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * A single node without Postgres, switched on by the {@value #PROFILE}
+ * profile, keeping fights and monsters in the memory or mapped store.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile(EmbeddedConfiguration.PROFILE)
+public class EmbeddedConfiguration {
+
+    public static final String PROFILE = "embedded";
+
+    public EmbeddedConfiguration(@Value("${" + StorageConfiguration.BACKEND_PROPERTY + ":memory}") String storageBackend) {
+        if (!"memory".equals(storageBackend) && !"mapped".equals(storageBackend)) {
+            throw new IllegalStateException("The " + PROFILE + " profile needs " + StorageConfiguration.BACKEND_PROPERTY
+                    + "=memory or mapped, not " + storageBackend);
+        }
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = StorageConfiguration.BACKEND_PROPERTY, havingValue = "memory", matchIfMissing = true)
+    public FightStore inMemoryFightStore(ApplicationEventPublisher eventPublisher, MonsterSpeciesPool speciesPool) {
+        return new InMemoryFightStore(eventPublisher, speciesPool);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = StorageConfiguration.BACKEND_PROPERTY, havingValue = "mapped")
+    public FightStore mappedFightStore(
+            ApplicationEventPublisher eventPublisher,
+            MonsterSpeciesPool speciesPool,
+            @Value("${roaming-fighter.storage.mapped.directory:data/fight-store}") Path directory,
+            @Value("${roaming-fighter.storage.mapped.segment-size:67108864}") int segmentSize,
+            @Value("${roaming-fighter.storage.mapped.force-writes:false}") boolean forceWrites) throws IOException {
+        return new MappedFightStore(eventPublisher, speciesPool, directory, segmentSize, forceWrites);
+    }
+
+    // Keeps @Transactional and TransactionTemplate working; each store save is complete on its own.
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new ResourcelessTransactionManager();
+    }
+
+    // Transactions with nothing behind them: they only nest, suspend and run their synchronizations.
+    private static class ResourcelessTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return TransactionSynchronizationManager.isActualTransactionActive();
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return (Boolean) transaction;
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected Object doSuspend(Object transaction) {
+            return transaction;
+        }
+
+        @Override
+        protected void doResume(Object transaction, Object suspendedResources) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.battler.Roaming.Fighter.storage;
+
+import com.battler.Roaming.Fighter.entity.Fight;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.fight.FightStatus;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+// One exchange's outcome as the journal keeps it, numbered in journal order.
+record ExchangeEntry(
+        long sequence,
+        UUID fightId,
+        UUID activeMonsterA,
+        UUID activeMonsterB,
+        FightStatus status,
+        List<FighterHealth> fighters,
+        List<UUID> touchedMonsterIds
+) {
+    private static final FightStatus[] STATUSES = FightStatus.values();
+
+    record FighterHealth(UUID monsterId, int health) {
+    }
+
+    static ExchangeEntry of(Fight fight, List<Monster> fighters, Collection<UUID> touchedMonsterIds) {
+        return new ExchangeEntry(
+                0,
+                fight.getId(),
+                fight.getActiveMonsterA(),
+                fight.getActiveMonsterB(),
+                fight.getStatus(),
+                fighters.stream().map(m -> new FighterHealth(m.getId(), m.getHealth())).toList(),
+                List.copyOf(touchedMonsterIds)
+        );
+    }
+
+    ExchangeEntry withSequence(long sequence) {
+        return new ExchangeEntry(sequence, fightId, activeMonsterA, activeMonsterB, status, fighters, touchedMonsterIds);
+    }
+
+    ByteBuffer encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + LogCodec.UUID_BYTES * 3 + 1
+                + Integer.BYTES + fighters.size() * (LogCodec.UUID_BYTES + Integer.BYTES)
+                + LogCodec.uuidListBytes(touchedMonsterIds));
+        buffer.putLong(sequence);
+        LogCodec.putUuid(buffer, fightId);
+        LogCodec.putUuid(buffer, activeMonsterA);
+        LogCodec.putUuid(buffer, activeMonsterB);
+        buffer.put((byte) status.ordinal());
+        buffer.putInt(fighters.size());
+        for (FighterHealth fighter : fighters) {
+            LogCodec.putUuid(buffer, fighter.monsterId());
+            buffer.putInt(fighter.health());
+        }
+        LogCodec.putUuids(buffer, touchedMonsterIds);
+        return buffer.flip();
+    }
+
+    static ExchangeEntry decode(ByteBuffer buffer) {
+        long sequence = buffer.getLong();
+        UUID fightId = LogCodec.getUuid(buffer);
+        UUID activeMonsterA = LogCodec.getUuid(buffer);
+        UUID activeMonsterB = LogCodec.getUuid(buffer);
+        FightStatus status = STATUSES[buffer.get()];
+        int fighterCount = buffer.getInt();
+        List<FighterHealth> fighters = new ArrayList<>(fighterCount);
+        for (int i = 0; i < fighterCount; i++) {
+            fighters.add(new FighterHealth(LogCodec.getUuid(buffer), buffer.getInt()));
+        }
+        return new ExchangeEntry(sequence, fightId, activeMonsterA, activeMonsterB, status,
+                fighters, LogCodec.getUuids(buffer));
+    }
+}
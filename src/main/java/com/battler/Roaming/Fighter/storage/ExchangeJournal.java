@@ -0,0 +1,164 @@
+package com.battler.Roaming.Fighter.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-ahead journal of exchange outcomes in a {@link MappedLog}, forced to
+ * disk by one group fsync every {@code fsync-interval}.
+ */
+public class ExchangeJournal implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ExchangeJournal.class);
+
+    public enum Fsync {
+        GROUP,
+        NONE
+    }
+
+    private final MappedLog mappedLog;
+    private final Fsync fsync;
+    private final Queue<ExchangeEntry> unapplied = new ConcurrentLinkedQueue<>();
+    private final Map<Integer, Long> lastSequenceBySegment = new TreeMap<>();
+    private final Object durableMonitor = new Object();
+    private final ScheduledExecutorService flusher;
+    private long lastSequence;
+    private volatile long written;
+    private volatile long durable;
+
+    public ExchangeJournal(Path directory, int segmentSize, long appliedSequence,
+                           Fsync fsync, Duration fsyncInterval) throws IOException {
+        this.fsync = fsync;
+        this.lastSequence = appliedSequence;
+        this.mappedLog = new MappedLog(directory, segmentSize, (payload, segment) -> {
+            ExchangeEntry entry = ExchangeEntry.decode(payload);
+            lastSequence = Math.max(lastSequence, entry.sequence());
+            lastSequenceBySegment.merge(segment, entry.sequence(), Math::max);
+            if (entry.sequence() > appliedSequence) {
+                unapplied.add(entry);
+            }
+        });
+        this.written = lastSequence;
+        this.durable = lastSequence;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "exchange-journal-fsync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalNanos = fsyncInterval.toNanos();
+        flusher.scheduleWithFixedDelay(this::flush, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // Numbers and appends the entry, returning it with its number once it is as durable as configured.
+    public ExchangeEntry append(ExchangeEntry entry) {
+        ExchangeEntry numbered;
+        synchronized (this) {
+            numbered = entry.withSequence(lastSequence + 1);
+            int segment = mappedLog.append(numbered.encode());
+            lastSequence = numbered.sequence();
+            lastSequenceBySegment.put(segment, lastSequence);
+            // Queued in journal order, so applying a prefix of the queue never skips an entry.
+            unapplied.add(numbered);
+            written = lastSequence;
+        }
+        if (fsync == Fsync.GROUP) {
+            awaitDurable(numbered.sequence());
+        }
+        return numbered;
+    }
+
+    // The oldest unapplied entries, at most {@code limit}, in journal order.
+    public List<ExchangeEntry> unapplied(int limit) {
+        List<ExchangeEntry> entries = new ArrayList<>(Math.min(limit, 1024));
+        Iterator<ExchangeEntry> iterator = unapplied.iterator();
+        while (entries.size() < limit && iterator.hasNext()) {
+            entries.add(iterator.next());
+        }
+        return entries;
+    }
+
+    public int unappliedCount() {
+        return unapplied.size();
+    }
+
+    // Records that the database holds every entry up to and including this number.
+    public synchronized void markApplied(long sequence) {
+        while (!unapplied.isEmpty() && unapplied.peek().sequence() <= sequence) {
+            unapplied.poll();
+        }
+        int keepFrom = mappedLog.currentSegment();
+        Iterator<Map.Entry<Integer, Long>> segments = lastSequenceBySegment.entrySet().iterator();
+        while (segments.hasNext()) {
+            Map.Entry<Integer, Long> segment = segments.next();
+            if (segment.getKey() >= keepFrom || segment.getValue() > sequence) {
+                keepFrom = Math.min(keepFrom, segment.getKey());
+                break;
+            }
+            segments.remove();
+        }
+        try {
+            mappedLog.deleteSegmentsBefore(keepFrom);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not delete applied journal segments", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Release anyone still waiting on the last interval.
+        flush();
+        mappedLog.close();
+    }
+
+    private void flush() {
+        long target = written;
+        if (target == durable) {
+            return;
+        }
+        try {
+            mappedLog.force();
+        } catch (RuntimeException e) {
+            // Waiters stay blocked and the next run tries again; throwing would cancel the schedule.
+            log.error("Could not force the exchange journal to disk", e);
+            return;
+        }
+        durable = target;
+        synchronized (durableMonitor) {
+            durableMonitor.notifyAll();
+        }
+    }
+
+    private void awaitDurable(long sequence) {
+        synchronized (durableMonitor) {
+            while (durable < sequence) {
+                try {
+                    durableMonitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted waiting for journal entry " + sequence + " to reach disk", e);
+                }
+            }
+        }
+    }
+}
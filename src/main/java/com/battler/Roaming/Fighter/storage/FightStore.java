@@ -0,0 +1,53 @@
+package com.battler.Roaming.Fighter.storage;
+
+import com.battler.Roaming.Fighter.entity.Fight;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.fight.FightFinishedEvent;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Everything the fight engine reads and writes, backed by the store named in
+ * {@code roaming-fighter.storage.backend}.
+ */
+public interface FightStore {
+
+    Optional<Monster> findMonster(UUID id);
+
+    // Whichever of these monsters exist, in no particular order.
+    default List<Monster> findMonsters(Collection<UUID> ids) {
+        return ids.stream().distinct().map(this::findMonster).flatMap(Optional::stream).toList();
+    }
+
+    Monster saveMonster(Monster monster);
+
+    // The fight with both teams loaded, in team order.
+    Optional<Fight> findFightWithTeams(UUID id);
+
+    Fight saveFight(Fight fight);
+
+    // Tells the owners of these monsters that their profiles changed.
+    void touchOwners(Collection<UUID> monsterIds);
+
+    // One exchange's outcome: the fighters' new health, the fight's new state and the owners to tell, if any.
+    default Fight saveExchange(Fight fight, List<Monster> fighters, Collection<UUID> touchedMonsterIds) {
+        fighters.forEach(this::saveMonster);
+        Fight saved = saveFight(fight);
+        if (!touchedMonsterIds.isEmpty()) {
+            touchOwners(touchedMonsterIds);
+        }
+        return saved;
+    }
+
+    // Hands a finished fight to whatever reacts to it, inside the caller's write transaction.
+    void recordFinished(FightFinishedEvent event);
+
+    // Whether saveExchange writes through the caller's transaction. When it does not, exchanges are played
+    // without a write transaction and only a finished fight's outbox row gets one.
+    default boolean savesExchangesInTransaction() {
+        return true;
+    }
+}
@@ -0,0 +1,124 @@
+package com.battler.Roaming.Fighter.storage;
+
+import com.battler.Roaming.Fighter.entity.Fight;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.entity.id.UuidV7;
+import com.battler.Roaming.Fighter.fight.FightFinishedEvent;
+import com.battler.Roaming.Fighter.monster.PowerRating;
+import com.battler.Roaming.Fighter.monster.species.MonsterSpeciesPool;
+import com.battler.Roaming.Fighter.monster.species.PooledMonster;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps monsters, as {@link PooledMonster}s, and fights in concurrent maps,
+ * lost on restart. Callers always get and hand over copies.
+ */
+public class InMemoryFightStore implements FightStore {
+
+    private final Map<UUID, PooledMonster> monsters = new ConcurrentHashMap<>();
+    private final Map<UUID, StoredFight> fights = new ConcurrentHashMap<>();
+    private final ApplicationEventPublisher eventPublisher;
+    private final MonsterSpeciesPool speciesPool;
+
+    public InMemoryFightStore(ApplicationEventPublisher eventPublisher, MonsterSpeciesPool speciesPool) {
+        this.eventPublisher = eventPublisher;
+        this.speciesPool = speciesPool;
+    }
+
+    @Override
+    public Optional<Monster> findMonster(UUID id) {
+        return Optional.ofNullable(monsters.get(id)).map(PooledMonster::toMonster);
+    }
+
+    @Override
+    public Monster saveMonster(Monster monster) {
+        if (monster.getId() == null) {
+            monster.setId(UuidV7.next());
+        }
+        if (monster.getAttack() != null && monster.getDefence() != null && monster.getMaxHealth() != null) {
+            monster.setPowerRating(PowerRating.of(monster));
+        }
+        append(monster);
+        restore(monster);
+        return monster;
+    }
+
+    @Override
+    public Optional<Fight> findFightWithTeams(UUID id) {
+        return Optional.ofNullable(fights.get(id)).map(this::toFight);
+    }
+
+    @Override
+    public Fight saveFight(Fight fight) {
+        if (fight.getId() == null) {
+            fight.setId(UuidV7.next());
+        }
+        StoredFight stored = StoredFight.from(fight);
+        append(stored);
+        restore(stored);
+        return fight;
+    }
+
+    @Override
+    public void touchOwners(Collection<UUID> monsterIds) {
+    }
+
+    @Override
+    public void recordFinished(FightFinishedEvent event) {
+        eventPublisher.publishEvent(event);
+    }
+
+    // Called before a saved monster becomes visible; lets a durable backend record it first.
+    protected void append(Monster monster) {
+    }
+
+    // Called before a saved fight becomes visible; lets a durable backend record it first.
+    protected void append(StoredFight fight) {
+    }
+
+    void restore(Monster monster) {
+        monsters.put(monster.getId(), PooledMonster.of(monster, speciesPool));
+    }
+
+    void restore(StoredFight fight) {
+        fights.put(fight.id(), fight);
+    }
+
+    Monster storedMonster(UUID id) {
+        return monsters.get(id).toMonster();
+    }
+
+    StoredFight storedFight(UUID id) {
+        return fights.get(id);
+    }
+
+    private Fight toFight(StoredFight stored) {
+        return new Fight(
+                stored.id(),
+                team(stored.teamA()),
+                team(stored.teamB()),
+                stored.activeMonsterA(),
+                stored.activeMonsterB(),
+                stored.status()
+        );
+    }
+
+    private List<Monster> team(List<UUID> monsterIds) {
+        List<Monster> team = new ArrayList<>(monsterIds.size());
+        for (UUID monsterId : monsterIds) {
+            PooledMonster monster = monsters.get(monsterId);
+            if (monster != null) {
+                team.add(monster.toMonster());
+            }
+        }
+        return team;
+    }
+}
@@ -0,0 +1,252 @@
+package com.battler.Roaming.Fighter.storage;
+
+import com.battler.Roaming.Fighter.cache.EntityCacheService;
+import com.battler.Roaming.Fighter.entity.Fight;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.entity.Player;
+import com.battler.Roaming.Fighter.fight.FightFinishedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Postgres storage that acknowledges exchanges once they are in the local
+ * {@link ExchangeJournal}; a scheduled drainer applies them to the database.
+ */
+public class JournaledFightStore implements FightStore, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(JournaledFightStore.class);
+
+    static final String INIT_CHECKPOINT_SQL = """
+            INSERT INTO journal_checkpoints (journal, applied_sequence) VALUES (?, 0)
+            ON CONFLICT (journal) DO NOTHING
+            """;
+
+    static final String SELECT_CHECKPOINT_SQL = "SELECT applied_sequence FROM journal_checkpoints WHERE journal = ?";
+
+    static final String UPDATE_CHECKPOINT_SQL = "UPDATE journal_checkpoints SET applied_sequence = ? WHERE journal = ?";
+
+    static final String UPDATE_HEALTH_SQL = "UPDATE monsters SET health = ? WHERE id = ?";
+
+    static final String UPDATE_FIGHT_SQL = """
+            UPDATE fights SET active_monster_a = ?, active_monster_b = ?, status = ? WHERE id = ?
+            """;
+
+    static final String BUMP_OWNERS_SQL = """
+            UPDATE players SET profile_version = profile_version + 1
+            WHERE id IN (SELECT player_id FROM monsters WHERE id = ANY (?))
+            RETURNING id
+            """;
+
+    private final FightStore delegate;
+    private final ExchangeJournal journal;
+    private final String journalName;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityCacheService entityCacheService;
+    private final int drainBatchSize;
+    private final Map<UUID, Pending<ExchangeEntry>> pendingFights = new ConcurrentHashMap<>();
+    private final Map<UUID, Pending<Integer>> pendingHealth = new ConcurrentHashMap<>();
+    private volatile long appliedSequence;
+
+    public JournaledFightStore(FightStore delegate,
+                               ExchangeJournal journal,
+                               String journalName,
+                               JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               EntityCacheService entityCacheService,
+                               int drainBatchSize) {
+        this.delegate = delegate;
+        this.journal = journal;
+        this.journalName = journalName;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.entityCacheService = entityCacheService;
+        this.drainBatchSize = drainBatchSize;
+        // Entries replayed from before a restart are visible straight away; the first drain applies them.
+        for (ExchangeEntry entry : journal.unapplied(Integer.MAX_VALUE)) {
+            remember(entry);
+        }
+    }
+
+    // The applied sequence to open the journal from, creating its checkpoint row on first use.
+    public static long loadAppliedSequence(JdbcTemplate jdbcTemplate, String journalName) {
+        jdbcTemplate.update(INIT_CHECKPOINT_SQL, journalName);
+        Long applied = jdbcTemplate.queryForObject(SELECT_CHECKPOINT_SQL, Long.class, journalName);
+        return applied == null ? 0 : applied;
+    }
+
+    @Override
+    public Optional<Monster> findMonster(UUID id) {
+        return delegate.findMonster(id).map(this::detachedWithPendingHealth);
+    }
+
+    @Override
+    public List<Monster> findMonsters(Collection<UUID> ids) {
+        return delegate.findMonsters(ids).stream().map(this::detachedWithPendingHealth).toList();
+    }
+
+    @Override
+    public Monster saveMonster(Monster monster) {
+        return delegate.saveMonster(monster);
+    }
+
+    @Override
+    public Optional<Fight> findFightWithTeams(UUID id) {
+        // A read-write transaction keeps the load on the primary; a replica may not have the drained entries yet.
+        Optional<Fight> fromDatabase = transactionTemplate.execute(status -> delegate.findFightWithTeams(id));
+        return fromDatabase.map(loaded -> {
+            Fight fight = new Fight(loaded.getId(), detachedTeam(loaded.getTeamA()), detachedTeam(loaded.getTeamB()),
+                    loaded.getActiveMonsterA(), loaded.getActiveMonsterB(), loaded.getStatus());
+            Pending<ExchangeEntry> pending = pendingFights.get(id);
+            if (pending != null) {
+                fight.setActiveMonsterA(pending.value().activeMonsterA());
+                fight.setActiveMonsterB(pending.value().activeMonsterB());
+                fight.setStatus(pending.value().status());
+            }
+            return fight;
+        });
+    }
+
+    @Override
+    public Fight saveFight(Fight fight) {
+        return delegate.saveFight(fight);
+    }
+
+    @Override
+    public void touchOwners(Collection<UUID> monsterIds) {
+        delegate.touchOwners(monsterIds);
+    }
+
+    @Override
+    public void recordFinished(FightFinishedEvent event) {
+        delegate.recordFinished(event);
+    }
+
+    @Override
+    public Fight saveExchange(Fight fight, List<Monster> fighters, Collection<UUID> touchedMonsterIds) {
+        remember(journal.append(ExchangeEntry.of(fight, fighters, touchedMonsterIds)));
+        return fight;
+    }
+
+    // Waiting on the journal's fsync must not hold a pooled connection.
+    @Override
+    public boolean savesExchangesInTransaction() {
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${roaming-fighter.journal.drain-interval-ms:5}")
+    public synchronized void drain() {
+        List<ExchangeEntry> batch = journal.unapplied(drainBatchSize);
+        if (batch.isEmpty()) {
+            return;
+        }
+        long applied = batch.get(batch.size() - 1).sequence();
+        Map<UUID, Integer> health = new LinkedHashMap<>();
+        Map<UUID, ExchangeEntry> fights = new LinkedHashMap<>();
+        Set<UUID> touched = new LinkedHashSet<>();
+        for (ExchangeEntry entry : batch) {
+            entry.fighters().forEach(fighter -> health.put(fighter.monsterId(), fighter.health()));
+            fights.put(entry.fightId(), entry);
+            touched.addAll(entry.touchedMonsterIds());
+        }
+
+        List<UUID> owners;
+        try {
+            owners = transactionTemplate.execute(status -> apply(health, fights.values(), touched, applied));
+        } catch (DataAccessException e) {
+            // Nothing was applied; the same entries are retried on the next run.
+            log.warn("Could not apply {} journal entries, {} waiting", batch.size(), journal.unappliedCount(), e);
+            return;
+        }
+        journal.markApplied(applied);
+        appliedSequence = applied;
+        pendingFights.values().removeIf(pending -> pending.sequence() <= applied);
+        pendingHealth.values().removeIf(pending -> pending.sequence() <= applied);
+        entityCacheService.evictEntities(Monster.class, health.keySet());
+        if (owners != null && !owners.isEmpty()) {
+            entityCacheService.evictEntities(Player.class, owners);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            drain();
+        } finally {
+            journal.close();
+        }
+    }
+
+    private List<UUID> apply(Map<UUID, Integer> health, Collection<ExchangeEntry> fights, Set<UUID> touched, long applied) {
+        List<Object[]> healthArgs = new ArrayList<>(health.size());
+        health.forEach((monsterId, value) -> healthArgs.add(new Object[]{value, monsterId}));
+        jdbcTemplate.batchUpdate(UPDATE_HEALTH_SQL, healthArgs);
+
+        List<Object[]> fightArgs = new ArrayList<>(fights.size());
+        for (ExchangeEntry entry : fights) {
+            fightArgs.add(new Object[]{entry.activeMonsterA(), entry.activeMonsterB(), entry.status().name(), entry.fightId()});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_FIGHT_SQL, fightArgs);
+
+        List<UUID> owners = touched.isEmpty() ? List.of() : jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(BUMP_OWNERS_SQL);
+            statement.setArray(1, connection.createArrayOf("uuid", touched.toArray()));
+            return statement;
+        }, (rs, rowNum) -> rs.getObject("id", UUID.class));
+
+        jdbcTemplate.update(UPDATE_CHECKPOINT_SQL, applied, journalName);
+        return owners;
+    }
+
+    private void remember(ExchangeEntry entry) {
+        remember(pendingFights, entry.fightId(), new Pending<>(entry.sequence(), entry));
+        for (ExchangeEntry.FighterHealth fighter : entry.fighters()) {
+            remember(pendingHealth, fighter.monsterId(), new Pending<>(entry.sequence(), fighter.health()));
+        }
+    }
+
+    private <T> void remember(Map<UUID, Pending<T>> pending, UUID id, Pending<T> value) {
+        pending.merge(id, value, Pending::newer);
+        // A drain may have applied the entry and cleared its overlay while this one was on its way in.
+        if (value.sequence() <= appliedSequence) {
+            pending.remove(id, value);
+        }
+    }
+
+    private List<Monster> detachedTeam(List<Monster> team) {
+        return new ArrayList<>(team.stream().map(this::detachedWithPendingHealth).toList());
+    }
+
+    private Monster detachedWithPendingHealth(Monster monster) {
+        Monster copy = new Monster(monster.getId(), monster.getName(), monster.getAttack(), monster.getDefence(),
+                monster.getMaxHealth(), monster.getHealth(), monster.getPowerRating(), monster.getPlayerId());
+        Pending<Integer> health = pendingHealth.get(monster.getId());
+        if (health != null) {
+            copy.setHealth(health.value());
+        }
+        return copy;
+    }
+
+    private record Pending<T>(long sequence, T value) {
+
+        static <T> Pending<T> newer(Pending<T> current, Pending<T> candidate) {
+            return candidate.sequence() > current.sequence() ? candidate : current;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.battler.Roaming.Fighter.storage;
+
+import com.battler.Roaming.Fighter.cache.EntityCacheService;
+import com.battler.Roaming.Fighter.entity.Fight;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.entity.Player;
+import com.battler.Roaming.Fighter.fight.FightFinishedEvent;
+import com.battler.Roaming.Fighter.fight.FightRepository;
+import com.battler.Roaming.Fighter.monster.MonsterRepository;
+import com.battler.Roaming.Fighter.outbox.OutboxService;
+import com.battler.Roaming.Fighter.player.PlayerRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public class JpaFightStore implements FightStore {
+
+    private final FightRepository fightRepository;
+    private final MonsterRepository monsterRepository;
+    private final PlayerRepository playerRepository;
+    private final EntityCacheService entityCacheService;
+    private final OutboxService outboxService;
+
+    public JpaFightStore(FightRepository fightRepository,
+                         MonsterRepository monsterRepository,
+                         PlayerRepository playerRepository,
+                         EntityCacheService entityCacheService,
+                         OutboxService outboxService) {
+        this.fightRepository = fightRepository;
+        this.monsterRepository = monsterRepository;
+        this.playerRepository = playerRepository;
+        this.entityCacheService = entityCacheService;
+        this.outboxService = outboxService;
+    }
+
+    @Override
+    public Optional<Monster> findMonster(UUID id) {
+        return monsterRepository.findById(id);
+    }
+
+    // One statement for the lot, where a findById per monster would be one each on a cold cache.
+    @Override
+    public List<Monster> findMonsters(Collection<UUID> ids) {
+        return monsterRepository.findAllById(ids);
+    }
+
+    @Override
+    public Monster saveMonster(Monster monster) {
+        return monsterRepository.save(monster);
+    }
+
+    @Override
+    public Optional<Fight> findFightWithTeams(UUID id) {
+        return fightRepository.findWithTeamsById(id);
+    }
+
+    @Override
+    public Fight saveFight(Fight fight) {
+        return fightRepository.save(fight);
+    }
+
+    @Override
+    public void touchOwners(Collection<UUID> monsterIds) {
+        entityCacheService.evictEntities(Player.class, playerRepository.bumpProfileVersionOfOwners(monsterIds));
+    }
+
+    // Result handling runs later from the outbox; the caller only pays for the insert.
+    @Override
+    public void recordFinished(FightFinishedEvent event) {
+        outboxService.record(event);
+    }
+}
@@ -0,0 +1,76 @@
+package com.battler.Roaming.Fighter.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Field encodings shared by the records of the memory-mapped logs.
+final class LogCodec {
+
+    // A presence byte, then both halves.
+    static final int UUID_BYTES = 1 + Long.BYTES * 2;
+
+    private LogCodec() {
+    }
+
+    static void putUuid(ByteBuffer buffer, UUID uuid) {
+        if (uuid == null) {
+            buffer.put((byte) 0).putLong(0).putLong(0);
+        } else {
+            buffer.put((byte) 1).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+        }
+    }
+
+    static UUID getUuid(ByteBuffer buffer) {
+        boolean present = buffer.get() != 0;
+        long most = buffer.getLong();
+        long least = buffer.getLong();
+        return present ? new UUID(most, least) : null;
+    }
+
+    static int stringBytes(String value) {
+        return Integer.BYTES + (value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    // UTF-8 length, or -1 for null, then the bytes.
+    static void putString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static int uuidListBytes(List<UUID> values) {
+        return Integer.BYTES + values.size() * UUID_BYTES;
+    }
+
+    static void putUuids(ByteBuffer buffer, List<UUID> values) {
+        buffer.putInt(values.size());
+        for (UUID value : values) {
+            putUuid(buffer, value);
+        }
+    }
+
+    static List<UUID> getUuids(ByteBuffer buffer) {
+        int size = buffer.getInt();
+        List<UUID> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(getUuid(buffer));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,156 @@
+package com.battler.Roaming.Fighter.storage;
+
+import com.battler.Roaming.Fighter.entity.Fight;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.fight.FightStatus;
+import com.battler.Roaming.Fighter.monster.species.MonsterSpeciesPool;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The in-memory store backed by a {@link MappedLog} of every save, replayed on
+ * startup and compacted whenever the log rolls.
+ */
+public class MappedFightStore extends InMemoryFightStore implements AutoCloseable {
+
+    private static final byte MONSTER_RECORD = 1;
+    private static final byte FIGHT_RECORD = 2;
+    private static final FightStatus[] STATUSES = FightStatus.values();
+
+    // The segment holding the latest record of each monster and fight.
+    private final Map<UUID, Integer> monsterSegments = new HashMap<>();
+    private final Map<UUID, Integer> fightSegments = new HashMap<>();
+    private final boolean forceWrites;
+    private final MappedLog mappedLog;
+    private boolean compacting;
+
+    public MappedFightStore(ApplicationEventPublisher eventPublisher, MonsterSpeciesPool speciesPool, Path directory,
+                            int segmentSize, boolean forceWrites) throws IOException {
+        super(eventPublisher, speciesPool);
+        this.forceWrites = forceWrites;
+        this.mappedLog = new MappedLog(directory, segmentSize, this::replay);
+    }
+
+    @Override
+    public synchronized Monster saveMonster(Monster monster) {
+        return super.saveMonster(monster);
+    }
+
+    @Override
+    public synchronized Fight saveFight(Fight fight) {
+        return super.saveFight(fight);
+    }
+
+    @Override
+    protected void append(Monster monster) {
+        ByteBuffer payload = ByteBuffer.allocate(
+                1 + LogCodec.UUID_BYTES * 2 + LogCodec.stringBytes(monster.getName()) + Integer.BYTES * 5);
+        payload.put(MONSTER_RECORD);
+        LogCodec.putUuid(payload, monster.getId());
+        LogCodec.putString(payload, monster.getName());
+        payload.putInt(monster.getAttack());
+        payload.putInt(monster.getDefence());
+        payload.putInt(monster.getMaxHealth());
+        payload.putInt(monster.getHealth());
+        payload.putInt(monster.getPowerRating() == null ? 0 : monster.getPowerRating());
+        LogCodec.putUuid(payload, monster.getPlayerId());
+        int head = mappedLog.currentSegment();
+        monsterSegments.put(monster.getId(), write(payload.flip()));
+        compactIfRolled(head);
+    }
+
+    @Override
+    protected void append(StoredFight fight) {
+        ByteBuffer payload = ByteBuffer.allocate(
+                1 + LogCodec.UUID_BYTES * 3 + 1 + LogCodec.uuidListBytes(fight.teamA()) + LogCodec.uuidListBytes(fight.teamB()));
+        payload.put(FIGHT_RECORD);
+        LogCodec.putUuid(payload, fight.id());
+        LogCodec.putUuid(payload, fight.activeMonsterA());
+        LogCodec.putUuid(payload, fight.activeMonsterB());
+        payload.put((byte) fight.status().ordinal());
+        LogCodec.putUuids(payload, fight.teamA());
+        LogCodec.putUuids(payload, fight.teamB());
+        int head = mappedLog.currentSegment();
+        fightSegments.put(fight.id(), write(payload.flip()));
+        compactIfRolled(head);
+    }
+
+    @Override
+    public void close() {
+        mappedLog.close();
+    }
+
+    private int write(ByteBuffer payload) {
+        int segment = mappedLog.append(payload);
+        if (forceWrites) {
+            mappedLog.force();
+        }
+        return segment;
+    }
+
+    // Runs once the record's own segment is tracked, so the copies never overtake it.
+    private void compactIfRolled(int head) {
+        int current = mappedLog.currentSegment();
+        if (current != head && !compacting) {
+            compactBefore(current - 1);
+        }
+    }
+
+    // Copies the latest records out of every segment before the given one, then deletes those segments.
+    private void compactBefore(int keepFrom) {
+        List<UUID> monsters = olderThan(monsterSegments, keepFrom);
+        List<UUID> fights = olderThan(fightSegments, keepFrom);
+        compacting = true;
+        try {
+            monsters.forEach(id -> append(storedMonster(id)));
+            fights.forEach(id -> append(storedFight(id)));
+            mappedLog.force();
+            mappedLog.deleteSegmentsBefore(keepFrom);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not delete compacted fight store segments", e);
+        } finally {
+            compacting = false;
+        }
+    }
+
+    private static List<UUID> olderThan(Map<UUID, Integer> segments, int segment) {
+        return segments.entrySet().stream()
+                .filter(entry -> entry.getValue() < segment)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private void replay(ByteBuffer payload, int segment) {
+        byte type = payload.get();
+        if (type == MONSTER_RECORD) {
+            Monster monster = new Monster(
+                    LogCodec.getUuid(payload),
+                    LogCodec.getString(payload),
+                    payload.getInt(),
+                    payload.getInt(),
+                    payload.getInt(),
+                    payload.getInt(),
+                    payload.getInt(),
+                    LogCodec.getUuid(payload));
+            restore(monster);
+            monsterSegments.put(monster.getId(), segment);
+        } else if (type == FIGHT_RECORD) {
+            UUID id = LogCodec.getUuid(payload);
+            UUID activeMonsterA = LogCodec.getUuid(payload);
+            UUID activeMonsterB = LogCodec.getUuid(payload);
+            FightStatus status = STATUSES[payload.get()];
+            restore(new StoredFight(id, LogCodec.getUuids(payload), LogCodec.getUuids(payload), activeMonsterA, activeMonsterB, status));
+            fightSegments.put(id, segment);
+        } else {
+            throw new IllegalStateException("Unknown fight store record type " + type);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.battler.Roaming.Fighter.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log in memory-mapped segment files of length, CRC32 and payload
+ * records. Replay stops at the first torn record and zeroes the rest.
+ */
+public class MappedLog implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedLog.class);
+
+    static final String SEGMENT_PREFIX = "segment-";
+    static final String SEGMENT_SUFFIX = ".log";
+    static final int HEADER_BYTES = Integer.BYTES * 2;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final CRC32 crc = new CRC32();
+    private final List<Integer> segments = new ArrayList<>();
+    private int segmentNumber;
+    private volatile MappedByteBuffer segment;
+
+    // Hands every intact record's payload and segment number to replay, in order, before returning.
+    public MappedLog(Path directory, int segmentSize, ObjIntConsumer<ByteBuffer> replay) throws IOException {
+        if (segmentSize <= HEADER_BYTES) {
+            throw new IllegalArgumentException("Segment size must be larger than " + HEADER_BYTES + " bytes");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+        replay(replay);
+    }
+
+    // Appends a record and returns the number of the segment it went to.
+    public synchronized int append(ByteBuffer payload) {
+        int length = payload.remaining();
+        if (HEADER_BYTES + length > segmentSize) {
+            throw new IllegalArgumentException("Record of " + length + " bytes does not fit in a segment");
+        }
+        if (segment.remaining() < HEADER_BYTES + length) {
+            roll();
+        }
+        crc.reset();
+        crc.update(payload.duplicate());
+        int start = segment.position();
+        // Write the length last, so a record only becomes visible to replay once it is complete.
+        segment.position(start + Integer.BYTES);
+        segment.putInt((int) crc.getValue());
+        segment.put(payload);
+        segment.putInt(start, length);
+        return segmentNumber;
+    }
+
+    // Waits for everything appended so far to reach the disk. Appends can carry on meanwhile.
+    public void force() {
+        segment.force();
+    }
+
+    public synchronized int currentSegment() {
+        return segmentNumber;
+    }
+
+    // Deletes the files of every segment older than the given one; the current segment is always kept.
+    public synchronized void deleteSegmentsBefore(int segmentNumber) throws IOException {
+        while (segments.size() > 1 && segments.get(0) < Math.min(segmentNumber, this.segmentNumber)) {
+            Files.deleteIfExists(segmentPath(segments.remove(0)));
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        segment.force();
+    }
+
+    private void replay(ObjIntConsumer<ByteBuffer> replay) throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(MappedLog::isSegment).sorted().toList();
+        }
+        long records = 0;
+        for (int i = 0; i < files.size(); i++) {
+            segmentNumber = segmentNumber(files.get(i));
+            segments.add(segmentNumber);
+            segment = map(files.get(i));
+            records += replaySegment(segment, replay);
+            if (segment.remaining() >= Integer.BYTES && segment.getInt(segment.position()) != 0) {
+                // A torn record: nothing after it was ever acknowledged, so drop the rest of the log.
+                log.warn("Discarding torn record at offset {} of segment {} in {}", segment.position(), segmentNumber, directory);
+                clearFrom(segment);
+                for (Path later : files.subList(i + 1, files.size())) {
+                    Files.delete(later);
+                }
+                break;
+            }
+        }
+        if (segment == null) {
+            roll();
+        }
+        log.info("Replayed {} records from {} segments in {}", records, segments.size(), directory);
+    }
+
+    // Reads records until the end of the log or the first bad one, leaving the position after the last good one.
+    private long replaySegment(MappedByteBuffer buffer, ObjIntConsumer<ByteBuffer> replay) {
+        long records = 0;
+        while (buffer.remaining() >= HEADER_BYTES) {
+            int start = buffer.position();
+            int length = buffer.getInt(start);
+            if (length <= 0 || length > buffer.remaining() - HEADER_BYTES) {
+                break;
+            }
+            ByteBuffer payload = buffer.slice(start + HEADER_BYTES, length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != buffer.getInt(start + Integer.BYTES)) {
+                break;
+            }
+            replay.accept(payload, segmentNumber);
+            buffer.position(start + HEADER_BYTES + length);
+            records++;
+        }
+        return records;
+    }
+
+    private void roll() {
+        if (segment != null) {
+            segment.force();
+        }
+        segmentNumber++;
+        try {
+            segment = map(segmentPath(segmentNumber));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not create segment " + segmentNumber + " in " + directory, e);
+        }
+        segments.add(segmentNumber);
+    }
+
+    private Path segmentPath(int number) {
+        return directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    // The mapping outlives the channel, and mapping past the end grows the file to the full segment size.
+    private MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+
+    // Zeroes everything from the position on.
+    private static void clearFrom(MappedByteBuffer buffer) {
+        for (int i = buffer.position(); i < buffer.limit(); i++) {
+            buffer.put(i, (byte) 0);
+        }
+        buffer.force();
+    }
+
+    private static boolean isSegment(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static int segmentNumber(Path file) {
+        String name = file.getFileName().toString();
+        return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,195 @@
+package com.battler.Roaming.Fighter.storage;
+
+import com.battler.Roaming.Fighter.entity.Fight;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.entity.id.UuidV7;
+import com.battler.Roaming.Fighter.fight.FightStatus;
+import com.battler.Roaming.Fighter.reactive.ReactiveConfiguration;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The {@link JpaFightStore} tables over R2DBC, for the reactive stack. Callers
+ * evict the second-level cache entries of what they changed after commit.
+ */
+@Repository
+@Profile(ReactiveConfiguration.PROFILE)
+public class ReactiveFightStore {
+
+    static final String FIGHT_WITH_TEAMS_SQL = """
+            SELECT f.id AS fight_id, f.active_monster_a, f.active_monster_b, f.status, t.team,
+                   m.id, m.name, m.attack, m.defence, m.max_health, m.health, m.power_rating, m.player_id
+            FROM fights f
+            JOIN (SELECT fight_id, monster_id, team_order, 'A' AS team FROM fight_team_a WHERE fight_id = :id
+                  UNION ALL
+                  SELECT fight_id, monster_id, team_order, 'B' AS team FROM fight_team_b WHERE fight_id = :id) t
+                ON t.fight_id = f.id
+            JOIN monsters m ON m.id = t.monster_id
+            WHERE f.id = :id
+            ORDER BY t.team, t.team_order
+            """;
+
+    static final String MONSTERS_SQL = """
+            SELECT id, name, attack, defence, max_health, health, power_rating, player_id
+            FROM monsters WHERE id = ANY(:ids)
+            """;
+
+    static final String INSERT_FIGHT_SQL = """
+            INSERT INTO fights (id, active_monster_a, active_monster_b, status)
+            VALUES (:id, :activeMonsterA, :activeMonsterB, :status)
+            """;
+
+    // Team positions are zero-based, as Hibernate's order column writes them.
+    static final String INSERT_TEAM_A_SQL = """
+            INSERT INTO fight_team_a (fight_id, monster_id, team_order)
+            SELECT :fightId, t.monster_id, t.ordinal - 1 FROM unnest(:monsterIds) WITH ORDINALITY AS t(monster_id, ordinal)
+            """;
+
+    static final String INSERT_TEAM_B_SQL = """
+            INSERT INTO fight_team_b (fight_id, monster_id, team_order)
+            SELECT :fightId, t.monster_id, t.ordinal - 1 FROM unnest(:monsterIds) WITH ORDINALITY AS t(monster_id, ordinal)
+            """;
+
+    static final String UPDATE_HEALTH_SQL = """
+            UPDATE monsters m SET health = v.health
+            FROM unnest(:ids, :health) AS v(id, health)
+            WHERE m.id = v.id
+            """;
+
+    static final String UPDATE_FIGHT_SQL = """
+            UPDATE fights SET active_monster_a = :activeMonsterA, active_monster_b = :activeMonsterB, status = :status
+            WHERE id = :id
+            """;
+
+    static final String BUMP_OWNERS_SQL = """
+            UPDATE players SET profile_version = profile_version + 1
+            WHERE id IN (SELECT player_id FROM monsters WHERE id = ANY(:ids))
+            RETURNING id
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    @Autowired
+    public ReactiveFightStore(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<Fight> findFightWithTeams(UUID id) {
+        return databaseClient.sql(FIGHT_WITH_TEAMS_SQL)
+                .bind("id", id)
+                .map(TeamRow::from)
+                .all()
+                .collectList()
+                .filter(rows -> !rows.isEmpty())
+                .map(ReactiveFightStore::toFight);
+    }
+
+    public Flux<Monster> findMonsters(Collection<UUID> ids) {
+        return databaseClient.sql(MONSTERS_SQL)
+                .bind("ids", ids.toArray(UUID[]::new))
+                .map(ReactiveFightStore::toMonster)
+                .all();
+    }
+
+    // Inserts the fight and both teams, giving the fight its id.
+    public Mono<Fight> saveFight(Fight fight) {
+        return Mono.defer(() -> {
+            fight.setId(UuidV7.next());
+            return databaseClient.sql(INSERT_FIGHT_SQL)
+                    .bind("id", fight.getId())
+                    .bind("activeMonsterA", fight.getActiveMonsterA())
+                    .bind("activeMonsterB", fight.getActiveMonsterB())
+                    .bind("status", fight.getStatus().name())
+                    .then()
+                    .then(insertTeam(INSERT_TEAM_A_SQL, fight.getId(), fight.getTeamA()))
+                    .then(insertTeam(INSERT_TEAM_B_SQL, fight.getId(), fight.getTeamB()))
+                    .thenReturn(fight);
+        });
+    }
+
+    // Bumps the profile version of the monsters' owners and returns the owners' ids.
+    public Mono<List<UUID>> touchOwners(Collection<UUID> monsterIds) {
+        return databaseClient.sql(BUMP_OWNERS_SQL)
+                .bind("ids", monsterIds.toArray(UUID[]::new))
+                .map(row -> row.get("id", UUID.class))
+                .all()
+                .collectList();
+    }
+
+    // Writes the fighters' health and the fight's state, then touches the owners, if any, and returns their ids.
+    public Mono<List<UUID>> saveExchange(Fight fight, List<Monster> fighters, Collection<UUID> touchedMonsterIds) {
+        return databaseClient.sql(UPDATE_HEALTH_SQL)
+                .bind("ids", fighters.stream().map(Monster::getId).toArray(UUID[]::new))
+                .bind("health", fighters.stream().map(Monster::getHealth).toArray(Integer[]::new))
+                .then()
+                .then(databaseClient.sql(UPDATE_FIGHT_SQL)
+                        .bind("activeMonsterA", fight.getActiveMonsterA())
+                        .bind("activeMonsterB", fight.getActiveMonsterB())
+                        .bind("status", fight.getStatus().name())
+                        .bind("id", fight.getId())
+                        .then())
+                .then(touchedMonsterIds.isEmpty() ? Mono.just(List.<UUID>of()) : touchOwners(touchedMonsterIds));
+    }
+
+    private Mono<Void> insertTeam(String sql, UUID fightId, List<Monster> team) {
+        return databaseClient.sql(sql)
+                .bind("fightId", fightId)
+                .bind("monsterIds", team.stream().map(Monster::getId).toArray(UUID[]::new))
+                .then();
+    }
+
+    private static Fight toFight(List<TeamRow> rows) {
+        TeamRow first = rows.getFirst();
+        Fight fight = new Fight();
+        fight.setId(first.fightId());
+        fight.setActiveMonsterA(first.activeMonsterA());
+        fight.setActiveMonsterB(first.activeMonsterB());
+        fight.setStatus(first.status());
+        List<Monster> teamA = new ArrayList<>();
+        List<Monster> teamB = new ArrayList<>();
+        for (TeamRow row : rows) {
+            (row.teamA() ? teamA : teamB).add(row.monster());
+        }
+        fight.setTeamA(teamA);
+        fight.setTeamB(teamB);
+        return fight;
+    }
+
+    static Monster toMonster(Readable row) {
+        Monster monster = new Monster();
+        monster.setId(row.get("id", UUID.class));
+        monster.setName(row.get("name", String.class));
+        monster.setAttack(row.get("attack", Integer.class));
+        monster.setDefence(row.get("defence", Integer.class));
+        monster.setMaxHealth(row.get("max_health", Integer.class));
+        monster.setHealth(row.get("health", Integer.class));
+        monster.setPowerRating(row.get("power_rating", Integer.class));
+        monster.setPlayerId(row.get("player_id", UUID.class));
+        return monster;
+    }
+
+    // One team member of a fight, with the fight's own columns repeated on every row.
+    private record TeamRow(UUID fightId, UUID activeMonsterA, UUID activeMonsterB, FightStatus status,
+                           boolean teamA, Monster monster) {
+
+        static TeamRow from(Readable row) {
+            return new TeamRow(
+                    row.get("fight_id", UUID.class),
+                    row.get("active_monster_a", UUID.class),
+                    row.get("active_monster_b", UUID.class),
+                    FightStatus.valueOf(row.get("status", String.class)),
+                    "A".equals(row.get("team", String.class)),
+                    toMonster(row));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.battler.Roaming.Fighter.storage;
+
+import com.battler.Roaming.Fighter.cache.EntityCacheService;
+import com.battler.Roaming.Fighter.fight.FightRepository;
+import com.battler.Roaming.Fighter.monster.MonsterRepository;
+import com.battler.Roaming.Fighter.outbox.OutboxService;
+import com.battler.Roaming.Fighter.player.PlayerRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Picks the Postgres-backed {@link FightStore} named by
+ * {@code roaming-fighter.storage.backend}. The stores without Postgres are
+ * set up by {@link EmbeddedConfiguration} instead.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("!" + EmbeddedConfiguration.PROFILE)
+public class StorageConfiguration {
+
+    static final String BACKEND_PROPERTY = "roaming-fighter.storage.backend";
+
+    public StorageConfiguration(@Value("${" + BACKEND_PROPERTY + ":jpa}") String storageBackend) {
+        // Players, monsters, the cache and the outbox would still be in Postgres, splitting state from the fights.
+        if (!"jpa".equals(storageBackend) && !"journaled".equals(storageBackend)) {
+            throw new IllegalStateException(BACKEND_PROPERTY + " must be jpa or journaled, or memory or mapped under the "
+                    + EmbeddedConfiguration.PROFILE + " profile, not " + storageBackend);
+        }
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = BACKEND_PROPERTY, havingValue = "jpa", matchIfMissing = true)
+    public FightStore jpaFightStore(FightRepository fightRepository,
+                                    MonsterRepository monsterRepository,
+                                    PlayerRepository playerRepository,
+                                    EntityCacheService entityCacheService,
+                                    OutboxService outboxService) {
+        return new JpaFightStore(fightRepository, monsterRepository, playerRepository, entityCacheService, outboxService);
+    }
+
+    // Runs after the EntityManagerFactory behind EntityCacheService has created the checkpoint table.
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = BACKEND_PROPERTY, havingValue = "journaled")
+    public FightStore journaledFightStore(
+            FightRepository fightRepository,
+            MonsterRepository monsterRepository,
+            PlayerRepository playerRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            EntityCacheService entityCacheService,
+            OutboxService outboxService,
+            @Value("${roaming-fighter.journal.name:exchanges}") String journalName,
+            @Value("${roaming-fighter.journal.directory:data/exchange-journal}") Path directory,
+            @Value("${roaming-fighter.journal.segment-size:67108864}") int segmentSize,
+            @Value("${roaming-fighter.journal.fsync:group}") ExchangeJournal.Fsync fsync,
+            @Value("${roaming-fighter.journal.fsync-interval:PT0.001S}") Duration fsyncInterval,
+            @Value("${roaming-fighter.journal.drain-batch-size:1000}") int drainBatchSize) throws IOException {
+        long appliedSequence = JournaledFightStore.loadAppliedSequence(jdbcTemplate, journalName);
+        ExchangeJournal journal = new ExchangeJournal(directory, segmentSize, appliedSequence, fsync, fsyncInterval);
+        return new JournaledFightStore(
+                new JpaFightStore(fightRepository, monsterRepository, playerRepository, entityCacheService, outboxService),
+                journal, journalName, jdbcTemplate, transactionTemplate, entityCacheService, drainBatchSize);
+    }
+}
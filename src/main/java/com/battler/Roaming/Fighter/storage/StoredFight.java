@@ -0,0 +1,29 @@
+package com.battler.Roaming.Fighter.storage;
+
+import com.battler.Roaming.Fighter.entity.Fight;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.fight.FightStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+// A fight as the non-JPA backends keep it: teams are monster ids, so monster state lives in one place.
+record StoredFight(
+        UUID id,
+        List<UUID> teamA,
+        List<UUID> teamB,
+        UUID activeMonsterA,
+        UUID activeMonsterB,
+        FightStatus status
+) {
+    static StoredFight from(Fight fight) {
+        return new StoredFight(
+                fight.getId(),
+                fight.getTeamA().stream().map(Monster::getId).toList(),
+                fight.getTeamB().stream().map(Monster::getId).toList(),
+                fight.getActiveMonsterA(),
+                fight.getActiveMonsterB(),
+                fight.getStatus()
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package com.battler.Roaming.Fighter.cache;
+
+import com.battler.Roaming.Fighter.cache.dto.CacheRegionStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheControllerTest {
+
+    @Mock
+    private EntityCacheService entityCacheService;
+
+    @InjectMocks
+    private CacheController cacheController;
+
+    @Test
+    void getRegionStatistics_ShouldReturnStatisticsForEveryRegion() {
+        // Given
+        List<CacheRegionStats> regions = List.of(new CacheRegionStats("monsters", 90, 10, 10, 500, 0.9));
+        when(entityCacheService.getRegionStatistics()).thenReturn(regions);
+
+        // When
+        ResponseEntity<List<CacheRegionStats>> response = cacheController.getRegionStatistics();
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(regions, response.getBody());
+    }
+}
@@ -0,0 +1,139 @@
+package com.battler.Roaming.Fighter.cache;
+
+import com.battler.Roaming.Fighter.cache.dto.CacheRegionStats;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.entity.Player;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EntityCacheServiceTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Cache cache;
+
+    private EntityCacheService entityCacheService;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        entityCacheService = new EntityCacheService(entityManagerFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evictMonsterBox_InTransaction_ShouldEvictNowAndAgainAfterCommit() {
+        // Given
+        UUID playerId = UUID.randomUUID();
+        when(sessionFactory.getCache()).thenReturn(cache);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        entityCacheService.evictMonsterBox(playerId);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertEquals(1, synchronizations.size());
+        verify(cache, times(2)).evictCollectionData(EntityCacheService.MONSTER_BOX_ROLE, playerId);
+    }
+
+    @Test
+    void evictMonsterBox_OutsideTransaction_ShouldEvictOnce() {
+        // Given
+        UUID playerId = UUID.randomUUID();
+        when(sessionFactory.getCache()).thenReturn(cache);
+
+        // When
+        entityCacheService.evictMonsterBox(playerId);
+
+        // Then
+        verify(cache).evictCollectionData(EntityCacheService.MONSTER_BOX_ROLE, playerId);
+    }
+
+    @Test
+    void evictEntities_InTransaction_ShouldEvictOnlyTheGivenIdsNowAndAgainAfterCommit() {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(sessionFactory.getCache()).thenReturn(cache);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        entityCacheService.evictEntities(Monster.class, List.of(first, second));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        verify(cache, times(2)).evictEntityData(Monster.class, first);
+        verify(cache, times(2)).evictEntityData(Monster.class, second);
+        verify(cache, never()).evictEntityData(Monster.class);
+    }
+
+    @Test
+    void evictEntities_WithNoIds_ShouldDoNothing() {
+        // When
+        entityCacheService.evictEntities(Player.class, List.of());
+
+        // Then
+        verifyNoInteractions(sessionFactory);
+    }
+
+    @Test
+    void getRegionStatistics_ShouldReportHitRatioPerRegion() {
+        // Given
+        Statistics statistics = mock(Statistics.class);
+        CacheRegionStatistics monsters = regionStatistics(90, 10, 10, 500);
+        CacheRegionStatistics players = regionStatistics(0, 0, 0, 0);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[]{"players", "monsters"});
+        when(statistics.getCacheRegionStatistics("monsters")).thenReturn(monsters);
+        when(statistics.getCacheRegionStatistics("players")).thenReturn(players);
+
+        // When
+        List<CacheRegionStats> result = entityCacheService.getRegionStatistics();
+
+        // Then
+        assertEquals(List.of("monsters", "players"), result.stream().map(CacheRegionStats::region).toList());
+        assertEquals(0.9, result.get(0).hitRatio(), 1e-9);
+        assertEquals(500, result.get(0).elementsInMemory());
+        assertEquals(0.0, result.get(1).hitRatio());
+    }
+
+    private CacheRegionStatistics regionStatistics(long hits, long misses, long puts, long elements) {
+        CacheRegionStatistics regionStatistics = mock(CacheRegionStatistics.class);
+        when(regionStatistics.getHitCount()).thenReturn(hits);
+        when(regionStatistics.getMissCount()).thenReturn(misses);
+        when(regionStatistics.getPutCount()).thenReturn(puts);
+        when(regionStatistics.getElementCountInMemory()).thenReturn(elements);
+        return regionStatistics;
+    }
+}
@@ -0,0 +1,208 @@
+package com.battler.Roaming.Fighter.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica0;
+
+    @Mock
+    private DataSource replica1;
+
+    @Mock
+    private Connection primaryConnection;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replica0);
+        replicas.put("replica-1", replica1);
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void getConnection_BeforeFirstLagCheck_ShouldUsePrimary() throws Exception {
+        // Given
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertSame(primaryConnection, connection);
+        verifyNoInteractions(replica0, replica1);
+    }
+
+    @Test
+    void getConnection_WithCaughtUpReplicas_ShouldRoundRobinBetweenThem() throws Exception {
+        // Given
+        primaryAt("0/3000000");
+        Connection first = replicaWithLag(replica0, 0L);
+        Connection second = replicaWithLag(replica1, 1_000L);
+        routingDataSource.refreshLag();
+        clearInvocations(primary);
+
+        // When
+        Connection a = routingDataSource.getConnection();
+        Connection b = routingDataSource.getConnection();
+
+        // Then
+        assertNotSame(a, b);
+        assertTrue((a == first && b == second) || (a == second && b == first));
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void getConnection_WithLaggingReplica_ShouldSkipIt() throws Exception {
+        // Given
+        primaryAt("0/3000000");
+        replicaWithLag(replica0, 60_000L);
+        Connection caughtUp = replicaWithLag(replica1, 0L);
+        routingDataSource.refreshLag();
+
+        // When & Then
+        assertFalse(routingDataSource.isEligible("replica-0"));
+        assertSame(caughtUp, routingDataSource.getConnection());
+        assertSame(caughtUp, routingDataSource.getConnection());
+    }
+
+    @Test
+    void getConnection_WhenReplicaIsNotInRecovery_ShouldUsePrimary() throws Exception {
+        // Given
+        primaryAt("0/3000000");
+        notInRecovery(replica0);
+        notInRecovery(replica1);
+        routingDataSource.refreshLag();
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertSame(primaryConnection, connection);
+    }
+
+    @Test
+    void getConnection_WhenReplicaRefusesConnection_ShouldFallBackToPrimaryAndStopUsingIt() throws Exception {
+        // Given
+        primaryAt("0/3000000");
+        replicaWithLag(replica0, 0L);
+        replicaWithLag(replica1, 0L);
+        routingDataSource.refreshLag();
+        when(replica0.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(replica1.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        // When
+        Connection first = routingDataSource.getConnection();
+        Connection second = routingDataSource.getConnection();
+
+        // Then
+        assertSame(primaryConnection, first);
+        assertSame(primaryConnection, second);
+        assertFalse(routingDataSource.isEligible("replica-0"));
+        assertFalse(routingDataSource.isEligible("replica-1"));
+    }
+
+    @Test
+    void refreshLag_WhenLagIsUnknown_ShouldTreatReplicaAsLagging() throws Exception {
+        // Given: a dead WAL receiver leaves receive and replay positions equal, so the lag comes back NULL
+        primaryAt("0/3000000");
+        replicaWithLag(replica0, null);
+        Connection caughtUp = replicaWithLag(replica1, 0L);
+
+        // When
+        routingDataSource.refreshLag();
+
+        // Then
+        assertFalse(routingDataSource.isEligible("replica-0"));
+        assertTrue(routingDataSource.isEligible("replica-1"));
+        assertSame(caughtUp, routingDataSource.getConnection());
+    }
+
+    @Test
+    void refreshLag_ShouldCompareReplayAgainstThePrimaryPosition() throws Exception {
+        // Given
+        primaryAt("0/3000000");
+        PreparedStatement statement = replicaWithLag(replica0, 0L).prepareStatement(ReplicaRoutingDataSource.LAG_SQL);
+        replicaWithLag(replica1, 0L);
+
+        // When
+        routingDataSource.refreshLag();
+
+        // Then
+        verify(statement).setString(1, "0/3000000");
+    }
+
+    @Test
+    void refreshLag_WhenPrimaryPositionIsUnknown_ShouldStopUsingReplicas() throws Exception {
+        // Given
+        primaryAt("0/3000000");
+        replicaWithLag(replica0, 0L);
+        replicaWithLag(replica1, 0L);
+        routingDataSource.refreshLag();
+        when(primary.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        // When
+        routingDataSource.refreshLag();
+
+        // Then
+        assertFalse(routingDataSource.isEligible("replica-0"));
+        assertFalse(routingDataSource.isEligible("replica-1"));
+    }
+
+    private void primaryAt(String lsn) throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(primaryConnection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(ReplicaRoutingDataSource.PRIMARY_LSN_SQL)).thenReturn(rs);
+        when(rs.next()).thenReturn(true);
+        when(rs.getString(1)).thenReturn(lsn);
+    }
+
+    private Connection replicaWithLag(DataSource replica, Long lagMillis) throws SQLException {
+        return replica(replica, true, lagMillis);
+    }
+
+    private void notInRecovery(DataSource replica) throws SQLException {
+        replica(replica, false, null);
+    }
+
+    private Connection replica(DataSource replica, boolean inRecovery, Long lagMillis) throws SQLException {
+        Connection connection = mock(Connection.class, withSettings().strictness(Strictness.LENIENT));
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet rs = mock(ResultSet.class, withSettings().strictness(Strictness.LENIENT));
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(ReplicaRoutingDataSource.LAG_SQL)).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenReturn(true);
+        when(rs.getBoolean("in_recovery")).thenReturn(inRecovery);
+        when(rs.getLong("lag_ms")).thenReturn(lagMillis == null ? 0L : lagMillis);
+        when(rs.wasNull()).thenReturn(lagMillis == null);
+        return connection;
+    }
+}
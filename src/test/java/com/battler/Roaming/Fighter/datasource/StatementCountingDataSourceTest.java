@@ -0,0 +1,98 @@
+package com.battler.Roaming.Fighter.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatementCountingDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private StatementCountingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(target.getConnection()).thenReturn(connection);
+        dataSource = new StatementCountingDataSource(target);
+    }
+
+    @Test
+    void execute_ShouldCountEveryStatementExecution() throws Exception {
+        // Given
+        PreparedStatement prepared = mock(PreparedStatement.class);
+        Statement statement = mock(Statement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(prepared);
+        when(connection.createStatement()).thenReturn(statement);
+        long before = SqlStatementCounter.current();
+
+        // When
+        Connection counting = dataSource.getConnection();
+        PreparedStatement select = counting.prepareStatement("SELECT 1");
+        select.setInt(1, 1);
+        select.executeQuery();
+        select.executeBatch();
+        counting.createStatement().execute("SELECT 2");
+
+        // Then
+        assertEquals(3, SqlStatementCounter.current() - before);
+        verify(prepared).setInt(1, 1);
+        verify(prepared).executeQuery();
+        verify(statement).execute("SELECT 2");
+    }
+
+    @Test
+    void execute_OnAnotherThread_ShouldNotCountOnThisOne() throws Exception {
+        // Given
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        Connection counting = dataSource.getConnection();
+        long before = SqlStatementCounter.current();
+
+        // When
+        Thread other = new Thread(() -> {
+            try {
+                counting.createStatement().execute("SELECT 1");
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        other.start();
+        other.join();
+
+        // Then
+        assertEquals(before, SqlStatementCounter.current());
+        verify(statement).execute("SELECT 1");
+    }
+
+    @Test
+    void unwrap_ShouldReachTheDriverConnection() throws Exception {
+        // Given
+        PGConnection pgConnection = mock(PGConnection.class);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+
+        // When
+        Connection counting = dataSource.getConnection();
+
+        // Then
+        assertSame(pgConnection, counting.unwrap(PGConnection.class));
+        assertSame(connection, counting.unwrap(Connection.class));
+        assertEquals(counting, counting);
+    }
+}
@@ -0,0 +1,87 @@
+package com.battler.Roaming.Fighter.entity.id;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Inserts the same number of monster-shaped rows keyed by random v4 ids and
+ * by {@link UuidV7} ids into Postgres, then compares throughput and the size
+ * of each primary-key index. Run with {@code ./gradlew benchmarkTest}.
+ */
+@Tag("benchmark")
+@Testcontainers
+class UuidInsertBenchmark {
+
+    private static final int ROWS = 2_000_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:latest")
+            .withCommand("postgres", "-c", "shared_buffers=64MB");
+
+    @Test
+    void uuidV7Keys_ShouldInsertFasterIntoASmallerIndexThanRandomKeys() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())) {
+            connection.setAutoCommit(false);
+            Result random = insert(connection, "monsters_v4", UUID::randomUUID);
+            Result timeOrdered = insert(connection, "monsters_v7", UuidV7::next);
+
+            System.out.printf("Primary-key inserts of %,d rows:%n", ROWS);
+            System.out.printf("  v4: %,d rows/s, index %,d bytes%n", random.rowsPerSecond(), random.indexBytes());
+            System.out.printf("  v7: %,d rows/s, index %,d bytes%n", timeOrdered.rowsPerSecond(), timeOrdered.indexBytes());
+
+            assertTrue(timeOrdered.indexBytes() < random.indexBytes());
+            assertTrue(timeOrdered.rowsPerSecond() > random.rowsPerSecond());
+        }
+    }
+
+    private Result insert(Connection connection, String table, Supplier<UUID> ids) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE " + table
+                    + " (id uuid PRIMARY KEY, name varchar(255) NOT NULL, attack int, defence int, health int)");
+        }
+        connection.commit();
+
+        long start = System.nanoTime();
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, name, attack, defence, health) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= ROWS; i++) {
+                ps.setObject(1, ids.get());
+                ps.setString(2, "Monster " + i);
+                ps.setInt(3, i % 100);
+                ps.setInt(4, i % 50);
+                ps.setInt(5, i % 1000);
+                ps.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT pg_relation_size('" + table + "_pkey')")) {
+            rs.next();
+            return new Result(ROWS * 1_000_000_000L / elapsedNanos, rs.getLong(1));
+        }
+    }
+
+    private record Result(long rowsPerSecond, long indexBytes) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.battler.Roaming.Fighter.entity.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7Test {
+
+    @Test
+    void next_ShouldSetVersionAndVariant() {
+        // When
+        UUID uuid = UuidV7.next();
+
+        // Then
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void next_ShouldEmbedCurrentTimestamp() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID uuid = UuidV7.next();
+
+        // Then
+        long after = System.currentTimeMillis();
+        long timestamp = UuidV7.timestamp(uuid);
+        assertTrue(timestamp >= before && timestamp <= after);
+    }
+
+    @Test
+    void next_WithLaterTimestamp_ShouldSortAfterEarlierIdsByteWise() {
+        // Given
+        AtomicLong lastTick = new AtomicLong();
+        List<UUID> ids = new ArrayList<>();
+        for (long millis = 1_700_000_000_000L; millis < 1_700_000_001_000L; millis++) {
+            ids.add(UuidV7.next(millis, lastTick));
+        }
+
+        // When & Then
+        assertAscending(ids);
+        assertEquals(1_700_000_000_999L, UuidV7.timestamp(ids.getLast()));
+    }
+
+    @Test
+    void next_WithinOneMillisecond_ShouldCountUpInRandA() {
+        // Given
+        AtomicLong lastTick = new AtomicLong();
+        List<UUID> ids = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            ids.add(UuidV7.next(1_700_000_000_000L, lastTick));
+        }
+
+        // Then
+        assertAscending(ids);
+        assertEquals(1_700_000_000_000L, UuidV7.timestamp(ids.getLast()));
+    }
+
+    @Test
+    void next_WhenCounterRunsOut_ShouldBorrowTheNextMillisecond() {
+        // Given
+        AtomicLong lastTick = new AtomicLong();
+        List<UUID> ids = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 5000; i++) {
+            ids.add(UuidV7.next(1_700_000_000_000L, lastTick));
+        }
+
+        // Then
+        assertAscending(ids);
+        assertEquals(1_700_000_000_001L, UuidV7.timestamp(ids.getLast()));
+    }
+
+    @Test
+    void next_WhenClockStepsBack_ShouldKeepCountingFromTheLastId() {
+        // Given
+        AtomicLong lastTick = new AtomicLong();
+        UUID before = UuidV7.next(1_700_000_000_000L, lastTick);
+
+        // When
+        UUID after = UuidV7.next(1_699_999_999_000L, lastTick);
+
+        // Then
+        assertAscending(List.of(before, after));
+    }
+
+    @Test
+    void next_ShouldNotRepeatWithinTheSameMillisecond() {
+        // When
+        HashSet<UUID> ids = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(UuidV7.next());
+        }
+
+        // Then
+        assertEquals(100_000, ids.size());
+    }
+
+    @Test
+    void timestamp_WithRandomUuid_ShouldThrowException() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> UuidV7.timestamp(UUID.randomUUID()));
+        assertTrue(exception.getMessage().startsWith("Not a version 7 UUID"));
+    }
+
+    private static void assertAscending(List<UUID> ids) {
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(Long.compareUnsigned(
+                    ids.get(i - 1).getMostSignificantBits(), ids.get(i).getMostSignificantBits()) < 0);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.battler.Roaming.Fighter.fight;
+
+import com.battler.Roaming.Fighter.datasource.SqlStatementBudgetInterceptor;
+import com.battler.Roaming.Fighter.datasource.StatementCountingDataSource;
+import com.battler.Roaming.Fighter.fight.dto.FightStateDto;
+import com.battler.Roaming.Fighter.metrics.SqlStatementMetricsFilter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Statement counts of the exchange endpoint with roaming-fighter.fight.shards.enabled=true, where the exchange runs on a shard.
+@ExtendWith({MockitoExtension.class, OutputCaptureExtension.class})
+class FightControllerSqlStatementTest {
+
+    @Mock
+    private FightService fightService;
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private FightShardExecutor fightShardExecutor;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        fightShardExecutor = new FightShardExecutor(true, 2, 10, meterRegistry);
+        mockMvc = MockMvcBuilders.standaloneSetup(new FightController(fightService, fightShardExecutor))
+                .addFilters(new SqlStatementMetricsFilter(meterRegistry))
+                .addInterceptors(new SqlStatementBudgetInterceptor(20))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        fightShardExecutor.close();
+    }
+
+    @Test
+    void executeExchange_OnAShard_ShouldChargeItsStatementsToTheRequest(CapturedOutput output) throws Exception {
+        // Given
+        UUID fightId = UUID.randomUUID();
+        int budget = 6;
+        Thread requestThread = Thread.currentThread();
+        StatementCountingDataSource dataSource = new StatementCountingDataSource(target);
+        when(fightService.executeExchange(fightId)).thenAnswer(invocation -> {
+            assertNotSame(requestThread, Thread.currentThread());
+            try (Connection counting = dataSource.getConnection()) {
+                for (int i = 0; i <= budget; i++) {
+                    counting.createStatement().execute("SELECT " + i);
+                }
+            }
+            return new FightStateDto(fightId, null, null, List.of(), List.of(), FightStatus.ONGOING);
+        });
+
+        // When
+        MvcResult started = mockMvc.perform(post("/api/fight/{fightId}", fightId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+
+        // Then
+        DistributionSummary summary = meterRegistry.get("http.server.requests.sql")
+                .tag("uri", "/api/fight/{fightId}")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(budget + 1, summary.totalAmount());
+        assertTrue(output.getOut().contains("executed " + (budget + 1) + " SQL statements, over its budget of " + budget));
+    }
+}
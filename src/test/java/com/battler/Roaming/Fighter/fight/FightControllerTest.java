@@ -4,20 +4,27 @@ import com.battler.Roaming.Fighter.entity.Fight;
 import com.battler.Roaming.Fighter.entity.Monster;
 import com.battler.Roaming.Fighter.fight.dto.CreateFightRequest;
 import com.battler.Roaming.Fighter.fight.dto.FightStateDto;
+import com.battler.Roaming.Fighter.monster.dto.MonsterDto;
 import com.battler.Roaming.Fighter.testutils.TestFixtures;
 import com.navercorp.fixturemonkey.FixtureMonkey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +33,9 @@ class FightControllerTest {
     @Mock
     private FightService fightService;
 
+    @Spy
+    private FightShardExecutor fightShardExecutor = new FightShardExecutor(false, 1, 1, new SimpleMeterRegistry());
+
     @InjectMocks
     private FightController fightController;
 
@@ -44,23 +54,24 @@ class FightControllerTest {
                 .set("teamB", List.of(monsterB1.getId(), monsterB2.getId()))
                 .sample();
 
-        Fight createdFight = FIXTURE_MONKEY.giveMeBuilder(Fight.class)
-                .set("teamA", List.of(monsterA1, monsterA2))
-                .set("teamB", List.of(monsterB1, monsterB2))
-                .set("activeMonsterA", monsterA1.getId())
-                .set("activeMonsterB", monsterB1.getId())
-                .set("status", FightStatus.ONGOING)
-                .sample();
+        FightStateDto createdFight = new FightStateDto(
+                UUID.randomUUID(),
+                monsterA1.getId(),
+                monsterB1.getId(),
+                List.of(MonsterDto.from(monsterA1), MonsterDto.from(monsterA2)),
+                List.of(MonsterDto.from(monsterB1), MonsterDto.from(monsterB2)),
+                FightStatus.ONGOING
+        );
 
         when(fightService.createFight(request)).thenReturn(createdFight);
 
         // When
-        ResponseEntity<Fight> response = fightController.createFight(request);
+        ResponseEntity<FightStateDto> response = fightController.createFight(request);
 
         // Then
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
         assertNotNull(response.getBody());
-        Fight responseBody = response.getBody();
+        FightStateDto responseBody = response.getBody();
         assertNotNull(responseBody);
         assertEquals(createdFight, responseBody);
         assertEquals(FightStatus.ONGOING, responseBody.getStatus());
@@ -79,7 +90,7 @@ class FightControllerTest {
                 .thenThrow(new IllegalArgumentException("Team A cannot be null or empty"));
 
         // When
-        ResponseEntity<Fight> response = fightController.createFight(request);
+        ResponseEntity<FightStateDto> response = fightController.createFight(request);
 
         // Then
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
@@ -99,7 +110,7 @@ class FightControllerTest {
                 .thenThrow(new IllegalArgumentException("Monster not found with id: " + request.getTeamA().getFirst()));
 
         // When
-        ResponseEntity<Fight> response = fightController.createFight(request);
+        ResponseEntity<FightStateDto> response = fightController.createFight(request);
 
         // Then
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
@@ -114,6 +125,8 @@ class FightControllerTest {
         UUID fightId = fight.getId();
 
         FightStateDto fightState = FIXTURE_MONKEY.giveMeBuilder(FightStateDto.class)
+                .set("teamA", List.of())
+                .set("teamB", List.of())
                 .set("fightId", fightId)
                 .set("status", FightStatus.ONGOING)
                 .sample();
@@ -121,7 +134,7 @@ class FightControllerTest {
         when(fightService.executeExchange(fightId)).thenReturn(fightState);
 
         // When
-        ResponseEntity<FightStateDto> response = fightController.executeExchange(fightId);
+        ResponseEntity<FightStateDto> response = fightController.executeExchange(fightId).join();
 
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -142,7 +155,7 @@ class FightControllerTest {
                 .thenThrow(new IllegalArgumentException("Fight not found with id: " + nonExistentFightId));
 
         // When
-        ResponseEntity<FightStateDto> response = fightController.executeExchange(nonExistentFightId);
+        ResponseEntity<FightStateDto> response = fightController.executeExchange(nonExistentFightId).join();
 
         // Then
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
@@ -157,6 +170,8 @@ class FightControllerTest {
         UUID fightId = fight.getId();
 
         FightStateDto fightState = FIXTURE_MONKEY.giveMeBuilder(FightStateDto.class)
+                .set("teamA", List.of())
+                .set("teamB", List.of())
                 .set("fightId", fightId)
                 .set("status", FightStatus.TEAM_A_WON)
                 .sample();
@@ -164,7 +179,7 @@ class FightControllerTest {
         when(fightService.executeExchange(fightId)).thenReturn(fightState);
 
         // When
-        ResponseEntity<FightStateDto> response = fightController.executeExchange(fightId);
+        ResponseEntity<FightStateDto> response = fightController.executeExchange(fightId).join();
 
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -175,6 +190,21 @@ class FightControllerTest {
         verify(fightService).executeExchange(fightId);
     }
 
+    @Test
+    void executeExchange_WhenShardIsFull_ShouldReturnServiceUnavailable() {
+        // Given
+        UUID fightId = UUID.randomUUID();
+        doReturn(CompletableFuture.failedFuture(new RejectedExecutionException("full")))
+                .when(fightShardExecutor).submit(eq(fightId), any());
+
+        // When
+        ResponseEntity<FightStateDto> response = fightController.executeExchange(fightId).join();
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        verifyNoInteractions(fightService);
+    }
+
     @Test
     void getFightState_WithValidFightId_ShouldReturnFightState() {
         // Given
@@ -182,6 +212,8 @@ class FightControllerTest {
         UUID fightId = fight.getId();
 
         FightStateDto fightState = FIXTURE_MONKEY.giveMeBuilder(FightStateDto.class)
+                .set("teamA", List.of())
+                .set("teamB", List.of())
                 .set("fightId", fightId)
                 .set("status", FightStatus.ONGOING)
                 .sample();
@@ -225,6 +257,8 @@ class FightControllerTest {
         UUID fightId = fight.getId();
 
         FightStateDto fightState = FIXTURE_MONKEY.giveMeBuilder(FightStateDto.class)
+                .set("teamA", List.of())
+                .set("teamB", List.of())
                 .set("fightId", fightId)
                 .set("status", FightStatus.TEAM_B_WON)
                 .sample();
@@ -0,0 +1,101 @@
+package com.battler.Roaming.Fighter.fight;
+
+import com.battler.Roaming.Fighter.TestcontainersConfiguration;
+import com.battler.Roaming.Fighter.entity.Fight;
+import com.battler.Roaming.Fighter.entity.Monster;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestcontainersConfiguration.class)
+class FightLoadingIntegrationTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private FightRepository fightRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void findWithTeamsById_ShouldLoadFightAndBothTeamsInOneStatement() {
+        // Given
+        List<Monster> teamA = persistMonsters("Goblin", "Orc", "Troll");
+        List<Monster> teamB = persistMonsters("Slime", "Wolf");
+        UUID fightId = persistFight(teamA, teamB);
+        statistics.clear();
+
+        // When
+        Fight fight = fightRepository.findWithTeamsById(fightId).orElseThrow();
+        List<UUID> loadedA = fight.getTeamA().stream().map(Monster::getId).toList();
+        List<UUID> loadedB = fight.getTeamB().stream().map(Monster::getId).toList();
+
+        // Then
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(teamA.stream().map(Monster::getId).toList(), loadedA);
+        assertEquals(teamB.stream().map(Monster::getId).toList(), loadedB);
+    }
+
+    @Test
+    void findWithTeamsById_ShouldKeepTeamOrderRegardlessOfIdOrder() {
+        // Given
+        List<Monster> created = persistMonsters("First", "Second", "Third");
+        List<Monster> teamA = List.of(created.get(2), created.get(0), created.get(1));
+        UUID fightId = persistFight(teamA, persistMonsters("Opponent"));
+
+        // When
+        Fight fight = fightRepository.findWithTeamsById(fightId).orElseThrow();
+
+        // Then
+        assertEquals(List.of("Third", "First", "Second"), fight.getTeamA().stream().map(Monster::getName).toList());
+    }
+
+    private List<Monster> persistMonsters(String... names) {
+        List<Monster> monsters = new ArrayList<>();
+        for (String name : names) {
+            Monster monster = new Monster();
+            monster.setName(name);
+            monster.setAttack(10);
+            monster.setDefence(5);
+            monster.setMaxHealth(100);
+            monster.setHealth(100);
+            monsters.add(entityManager.persist(monster));
+        }
+        return monsters;
+    }
+
+    private UUID persistFight(List<Monster> teamA, List<Monster> teamB) {
+        Fight fight = new Fight();
+        fight.setTeamA(new ArrayList<>(teamA));
+        fight.setTeamB(new ArrayList<>(teamB));
+        fight.setActiveMonsterA(teamA.getFirst().getId());
+        fight.setActiveMonsterB(teamB.getFirst().getId());
+        UUID fightId = entityManager.persistAndFlush(fight).getId();
+        entityManager.clear();
+        return fightId;
+    }
+}
@@ -291,6 +291,7 @@ class FightRepositoryTest {
     private Monster createMonsterWithHealth(int health, int attack, int defence) {
         return FIXTURE_MONKEY.giveMeBuilder(Monster.class)
                 .set("id", null)
+                .set("playerId", null)
                 .set("health", health)
                 .set("maxHealth", Math.max(health, 100))
                 .set("attack", attack)
@@ -4,14 +4,21 @@ import com.battler.Roaming.Fighter.entity.Fight;
 import com.battler.Roaming.Fighter.entity.Monster;
 import com.battler.Roaming.Fighter.fight.dto.CreateFightRequest;
 import com.battler.Roaming.Fighter.fight.dto.FightStateDto;
-import com.battler.Roaming.Fighter.monster.MonsterRepository;
+import com.battler.Roaming.Fighter.monster.dto.MonsterDto;
+import com.battler.Roaming.Fighter.storage.FightStore;
 import com.battler.Roaming.Fighter.testutils.TestFixtures;
 import com.navercorp.fixturemonkey.FixtureMonkey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
 
@@ -23,16 +30,29 @@ import static org.mockito.Mockito.*;
 class FightServiceTest {
 
     @Mock
-    private FightRepository fightRepository;
+    private FightStore fightStore;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private FightMetrics fightMetrics = new FightMetrics(meterRegistry);
 
     @Mock
-    private MonsterRepository monsterRepository;
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate();
 
     @InjectMocks
     private FightService fightService;
 
     private static final FixtureMonkey FIXTURE_MONKEY = TestFixtures.FIXTURE_MONKEY;
 
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.setTransactionManager(transactionManager);
+        lenient().when(fightStore.savesExchangesInTransaction()).thenReturn(true);
+    }
 
     @Test
     void createFight_WithValidRequest_ShouldCreateFight() {
@@ -47,10 +67,8 @@ class FightServiceTest {
                 .set("teamB", List.of(monsterB1.getId(), monsterB2.getId()))
                 .sample();
 
-        when(monsterRepository.findById(monsterA1.getId())).thenReturn(Optional.of(monsterA1));
-        when(monsterRepository.findById(monsterA2.getId())).thenReturn(Optional.of(monsterA2));
-        when(monsterRepository.findById(monsterB1.getId())).thenReturn(Optional.of(monsterB1));
-        when(monsterRepository.findById(monsterB2.getId())).thenReturn(Optional.of(monsterB2));
+        when(fightStore.findMonsters(List.of(monsterA1.getId(), monsterA2.getId()))).thenReturn(List.of(monsterA2, monsterA1));
+        when(fightStore.findMonsters(List.of(monsterB1.getId(), monsterB2.getId()))).thenReturn(List.of(monsterB1, monsterB2));
 
         Fight savedFight = FIXTURE_MONKEY.giveMeBuilder(Fight.class)
                 .set("teamA", List.of(monsterA1, monsterA2))
@@ -59,16 +77,20 @@ class FightServiceTest {
                 .set("activeMonsterB", monsterB1.getId())
                 .set("status", FightStatus.ONGOING)
                 .sample();
-        when(fightRepository.save(any(Fight.class))).thenReturn(savedFight);
+        when(fightStore.saveFight(any(Fight.class))).thenReturn(savedFight);
 
         // When
-        Fight result = fightService.createFight(request);
+        FightStateDto result = fightService.createFight(request);
 
         // Then
         assertNotNull(result);
         assertEquals(FightStatus.ONGOING, result.getStatus());
-        verify(fightRepository).save(any(Fight.class));
-        verify(monsterRepository, times(4)).findById(any(UUID.class));
+        assertEquals(List.of(monsterA1.getId(), monsterA2.getId()),
+                result.getTeamA().stream().map(MonsterDto::id).toList());
+        verify(fightStore).saveFight(any(Fight.class));
+        // One lookup per team rather than one per monster
+        verify(fightStore, times(2)).findMonsters(anyList());
+        verify(fightStore, never()).findMonster(any(UUID.class));
     }
 
     @Test
@@ -84,7 +106,7 @@ class FightServiceTest {
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> fightService.createFight(request));
         assertTrue(exception.getMessage().contains("Team A") && exception.getMessage().contains("cannot be null or empty"));
-        verify(fightRepository, never()).save(any(Fight.class));
+        verify(fightStore, never()).saveFight(any(Fight.class));
     }
 
     @Test
@@ -100,7 +122,7 @@ class FightServiceTest {
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> fightService.createFight(request));
         assertTrue(exception.getMessage().contains("Team A") && exception.getMessage().contains("cannot be null or empty"));
-        verify(fightRepository, never()).save(any(Fight.class));
+        verify(fightStore, never()).saveFight(any(Fight.class));
     }
 
     @Test
@@ -116,7 +138,7 @@ class FightServiceTest {
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> fightService.createFight(request));
         assertTrue(exception.getMessage().contains("Team B") && exception.getMessage().contains("cannot be null or empty"));
-        verify(fightRepository, never()).save(any(Fight.class));
+        verify(fightStore, never()).saveFight(any(Fight.class));
     }
 
     @Test
@@ -132,7 +154,7 @@ class FightServiceTest {
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> fightService.createFight(request));
         assertTrue(exception.getMessage().contains("Team B") && exception.getMessage().contains("cannot be null or empty"));
-        verify(fightRepository, never()).save(any(Fight.class));
+        verify(fightStore, never()).saveFight(any(Fight.class));
     }
 
     @Test
@@ -145,13 +167,13 @@ class FightServiceTest {
                 .set("teamB", List.of(testMonster.getId()))
                 .sample();
 
-        when(monsterRepository.findById(nonExistentMonster.getId())).thenReturn(Optional.empty());
+        when(fightStore.findMonsters(List.of(nonExistentMonster.getId()))).thenReturn(List.of());
 
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> fightService.createFight(request));
         assertTrue(exception.getMessage().contains("Monster not found with id:"));
-        verify(fightRepository, never()).save(any(Fight.class));
+        verify(fightStore, never()).saveFight(any(Fight.class));
     }
 
     @Test
@@ -165,14 +187,14 @@ class FightServiceTest {
                 .set("teamB", List.of(monsterB.getId()))
                 .sample();
 
-        when(monsterRepository.findById(monsterA.getId())).thenReturn(Optional.of(monsterA));
-        when(monsterRepository.findById(monsterB.getId())).thenReturn(Optional.of(monsterB));
+        when(fightStore.findMonsters(List.of(monsterA.getId()))).thenReturn(List.of(monsterA));
+        when(fightStore.findMonsters(List.of(monsterB.getId()))).thenReturn(List.of(monsterB));
 
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> fightService.createFight(request));
         assertEquals("Team A has no healthy monsters", exception.getMessage());
-        verify(fightRepository, never()).save(any(Fight.class));
+        verify(fightStore, never()).saveFight(any(Fight.class));
     }
 
     @Test
@@ -186,14 +208,14 @@ class FightServiceTest {
                 .set("teamB", List.of(monsterB.getId()))
                 .sample();
 
-        when(monsterRepository.findById(monsterA.getId())).thenReturn(Optional.of(monsterA));
-        when(monsterRepository.findById(monsterB.getId())).thenReturn(Optional.of(monsterB));
+        when(fightStore.findMonsters(List.of(monsterA.getId()))).thenReturn(List.of(monsterA));
+        when(fightStore.findMonsters(List.of(monsterB.getId()))).thenReturn(List.of(monsterB));
 
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> fightService.createFight(request));
         assertTrue(exception.getMessage().contains("Team B") && exception.getMessage().contains("has no healthy monsters"));
-        verify(fightRepository, never()).save(any(Fight.class));
+        verify(fightStore, never()).saveFight(any(Fight.class));
     }
 
     @Test
@@ -204,9 +226,8 @@ class FightServiceTest {
 
         Fight fight = createFight(monsterA, monsterB, FightStatus.ONGOING);
 
-        when(fightRepository.findById(fight.getId())).thenReturn(Optional.of(fight));
-        when(monsterRepository.save(any(Monster.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(fightRepository.save(any(Fight.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(fightStore.findFightWithTeams(fight.getId())).thenReturn(Optional.of(fight));
+        when(fightStore.saveExchange(any(Fight.class), anyList(), anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         FightStateDto result = fightService.executeExchange(fight.getId());
@@ -215,9 +236,10 @@ class FightServiceTest {
         assertNotNull(result);
         assertEquals(fight.getId(), result.getFightId());
         assertEquals(FightStatus.ONGOING, result.getStatus());
-        // Verify both monsters were saved (health updated)
-        verify(monsterRepository, times(2)).save(any(Monster.class));
-        verify(fightRepository).save(any(Fight.class));
+        // Verify both monsters were saved (health updated); the fixture fight holds its own copies of them
+        verify(fightStore).saveExchange(any(Fight.class), eq(List.of(fight.getTeamB().getFirst(), fight.getTeamA().getFirst())),
+                eq(List.of()));
+        verify(fightStore, never()).recordFinished(any());
     }
 
     @Test
@@ -225,13 +247,13 @@ class FightServiceTest {
         // Given
         Fight testFight = FIXTURE_MONKEY.giveMeOne(Fight.class);
         UUID nonExistentFightId = testFight.getId();
-        when(fightRepository.findById(nonExistentFightId)).thenReturn(Optional.empty());
+        when(fightStore.findFightWithTeams(nonExistentFightId)).thenReturn(Optional.empty());
 
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> fightService.executeExchange(nonExistentFightId));
         assertTrue(exception.getMessage().contains("Fight not found with id:"));
-        verify(monsterRepository, never()).save(any(Monster.class));
+        verify(fightStore, never()).saveExchange(any(), any(), any());
     }
 
     @Test
@@ -241,7 +263,7 @@ class FightServiceTest {
         Monster monsterB = createMonsterWithHealth(90, 8, 4);
         Fight fight = createFight(monsterA, monsterB, FightStatus.TEAM_A_WON);
 
-        when(fightRepository.findById(fight.getId())).thenReturn(Optional.of(fight));
+        when(fightStore.findFightWithTeams(fight.getId())).thenReturn(Optional.of(fight));
 
         // When
         FightStateDto result = fightService.executeExchange(fight.getId());
@@ -250,8 +272,7 @@ class FightServiceTest {
         assertNotNull(result);
         assertEquals(FightStatus.TEAM_A_WON, result.getStatus());
         // Should not execute combat or save monsters
-        verify(monsterRepository, never()).save(any(Monster.class));
-        verify(fightRepository, never()).save(any(Fight.class));
+        verify(fightStore, never()).saveExchange(any(), any(), any());
     }
 
     @Test
@@ -264,9 +285,8 @@ class FightServiceTest {
         Fight fight = createFight(monsterA1, monsterB, FightStatus.ONGOING);
         fight.setTeamA(List.of(monsterA1, monsterA2));
 
-        when(fightRepository.findById(fight.getId())).thenReturn(Optional.of(fight));
-        when(monsterRepository.save(any(Monster.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(fightRepository.save(any(Fight.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(fightStore.findFightWithTeams(fight.getId())).thenReturn(Optional.of(fight));
+        when(fightStore.saveExchange(any(Fight.class), anyList(), anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         FightStateDto result = fightService.executeExchange(fight.getId());
@@ -274,7 +294,12 @@ class FightServiceTest {
         // Then
         assertNotNull(result);
         // Verify fight was updated with new active monster
-        verify(fightRepository).save(any(Fight.class));
+        verify(fightStore).saveExchange(any(Fight.class), anyList(), anyList());
+        assertEquals(monsterA2.getId(), result.getActiveMonsterA());
+        assertEquals(1, meterRegistry.get("fight.exchanges").counter().count());
+        assertEquals(1, meterRegistry.get("fight.knockouts").counter().count());
+        assertEquals(1, meterRegistry.get("fight.switches").counter().count());
+        assertEquals(1, meterRegistry.get("fight.service").tag("method", "executeExchange").timer().count());
     }
 
     @Test
@@ -286,9 +311,8 @@ class FightServiceTest {
         Fight fight = createFight(monsterA, monsterB, FightStatus.ONGOING);
         fight.setTeamA(List.of(monsterA)); // Only one monster, no replacement
 
-        when(fightRepository.findById(fight.getId())).thenReturn(Optional.of(fight));
-        when(monsterRepository.save(any(Monster.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(fightRepository.save(any(Fight.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(fightStore.findFightWithTeams(fight.getId())).thenReturn(Optional.of(fight));
+        when(fightStore.saveExchange(any(Fight.class), anyList(), anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         FightStateDto result = fightService.executeExchange(fight.getId());
@@ -296,7 +320,12 @@ class FightServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(FightStatus.TEAM_B_WON, result.getStatus());
-        verify(fightRepository).save(any(Fight.class));
+        verify(fightStore).saveExchange(any(Fight.class), anyList(), eq(List.of(monsterA.getId(), monsterB.getId())));
+        ArgumentCaptor<FightFinishedEvent> event = ArgumentCaptor.forClass(FightFinishedEvent.class);
+        verify(fightStore).recordFinished(event.capture());
+        assertEquals(FightStatus.TEAM_B_WON, event.getValue().status());
+        assertEquals(List.of(monsterB.getId()), event.getValue().winningTeam());
+        assertEquals(List.of(monsterA.getId()), event.getValue().losingTeam());
     }
 
     @Test
@@ -308,9 +337,8 @@ class FightServiceTest {
         Fight fight = createFight(monsterA, monsterB, FightStatus.ONGOING);
         fight.setTeamB(List.of(monsterB)); // Only one monster, no replacement
 
-        when(fightRepository.findById(fight.getId())).thenReturn(Optional.of(fight));
-        when(monsterRepository.save(any(Monster.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(fightRepository.save(any(Fight.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(fightStore.findFightWithTeams(fight.getId())).thenReturn(Optional.of(fight));
+        when(fightStore.saveExchange(any(Fight.class), anyList(), anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         FightStateDto result = fightService.executeExchange(fight.getId());
@@ -318,7 +346,51 @@ class FightServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(FightStatus.TEAM_A_WON, result.getStatus());
-        verify(fightRepository).save(any(Fight.class));
+        verify(fightStore).saveExchange(any(Fight.class), anyList(), anyList());
+        ArgumentCaptor<FightFinishedEvent> event = ArgumentCaptor.forClass(FightFinishedEvent.class);
+        verify(fightStore).recordFinished(event.capture());
+        assertEquals(FightStatus.TEAM_A_WON, event.getValue().status());
+        assertEquals(List.of(monsterA.getId()), event.getValue().winningTeam());
+        assertEquals(List.of(monsterB.getId()), event.getValue().losingTeam());
+    }
+
+    @Test
+    void executeExchange_WhenStoreSavesOutsideTransactions_ShouldNotOpenOne() {
+        // Given
+        Monster monsterA = createMonsterWithHealth(100, 10, 5);
+        Monster monsterB = createMonsterWithHealth(90, 8, 4);
+        Fight fight = createFight(monsterA, monsterB, FightStatus.ONGOING);
+
+        when(fightStore.savesExchangesInTransaction()).thenReturn(false);
+        when(fightStore.findFightWithTeams(fight.getId())).thenReturn(Optional.of(fight));
+        when(fightStore.saveExchange(any(Fight.class), anyList(), anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        FightStateDto result = fightService.executeExchange(fight.getId());
+
+        // Then
+        assertEquals(FightStatus.ONGOING, result.getStatus());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void executeExchange_WhenStoreSavesOutsideTransactions_ShouldOnlyRecordTheResultInOne() {
+        // Given
+        Monster monsterA = createMonsterWithHealth(100, 15, 0);
+        Monster monsterB = createMonsterWithHealth(1, 10, 5);
+        Fight fight = createFight(monsterA, monsterB, FightStatus.ONGOING);
+
+        when(fightStore.savesExchangesInTransaction()).thenReturn(false);
+        when(fightStore.findFightWithTeams(fight.getId())).thenReturn(Optional.of(fight));
+        when(fightStore.saveExchange(any(Fight.class), anyList(), anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        FightStateDto result = fightService.executeExchange(fight.getId());
+
+        // Then
+        assertEquals(FightStatus.TEAM_A_WON, result.getStatus());
+        verify(transactionManager).getTransaction(any());
+        verify(fightStore).recordFinished(any(FightFinishedEvent.class));
     }
 
     @Test
@@ -329,15 +401,14 @@ class FightServiceTest {
 
         Fight fight = createFight(monsterA, monsterB, FightStatus.ONGOING);
 
-        when(fightRepository.findById(fight.getId())).thenReturn(Optional.of(fight));
-        when(monsterRepository.save(any(Monster.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(fightRepository.save(any(Fight.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(fightStore.findFightWithTeams(fight.getId())).thenReturn(Optional.of(fight));
+        when(fightStore.saveExchange(any(Fight.class), anyList(), anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         fightService.executeExchange(fight.getId());
 
         // Then
-        verify(monsterRepository, times(2)).save(any(Monster.class));
+        verify(fightStore).saveExchange(any(Fight.class), argThat(fighters -> fighters.size() == 2), anyList());
     }
 
     @Test
@@ -348,16 +419,15 @@ class FightServiceTest {
 
         Fight fight = createFight(monsterA, monsterB, FightStatus.ONGOING);
 
-        when(fightRepository.findById(fight.getId())).thenReturn(Optional.of(fight));
-        when(monsterRepository.save(any(Monster.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(fightRepository.save(any(Fight.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(fightStore.findFightWithTeams(fight.getId())).thenReturn(Optional.of(fight));
+        when(fightStore.saveExchange(any(Fight.class), anyList(), anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         fightService.executeExchange(fight.getId());
 
         // Then
         // Both monsters should take at least 1 damage
-        verify(monsterRepository, times(2)).save(any(Monster.class));
+        verify(fightStore).saveExchange(any(Fight.class), argThat(fighters -> fighters.size() == 2), anyList());
     }
 
     @Test
@@ -367,7 +437,7 @@ class FightServiceTest {
         Monster monsterB = createMonsterWithHealth(90, 8, 4);
         Fight fight = createFight(monsterA, monsterB, FightStatus.ONGOING);
 
-        when(fightRepository.findById(fight.getId())).thenReturn(Optional.of(fight));
+        when(fightStore.findFightWithTeams(fight.getId())).thenReturn(Optional.of(fight));
 
         // When
         FightStateDto result = fightService.getFightState(fight.getId());
@@ -378,7 +448,7 @@ class FightServiceTest {
         assertEquals(fight.getActiveMonsterA(), result.getActiveMonsterA());
         assertEquals(fight.getActiveMonsterB(), result.getActiveMonsterB());
         assertEquals(fight.getStatus(), result.getStatus());
-        verify(fightRepository).findById(fight.getId());
+        verify(fightStore).findFightWithTeams(fight.getId());
     }
 
     @Test
@@ -386,7 +456,7 @@ class FightServiceTest {
         // Given
         Fight testFight = FIXTURE_MONKEY.giveMeOne(Fight.class);
         UUID nonExistentFightId = testFight.getId();
-        when(fightRepository.findById(nonExistentFightId)).thenReturn(Optional.empty());
+        when(fightStore.findFightWithTeams(nonExistentFightId)).thenReturn(Optional.empty());
 
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
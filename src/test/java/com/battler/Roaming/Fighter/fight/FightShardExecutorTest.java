@@ -0,0 +1,133 @@
+package com.battler.Roaming.Fighter.fight;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FightShardExecutorTest {
+
+    private FightShardExecutor fightShardExecutor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        fightShardExecutor.close();
+    }
+
+    @Test
+    void submit_ForOneFight_ShouldRunCommandsOneAtATimeInOrder() {
+        // Given
+        fightShardExecutor = new FightShardExecutor(true, 4, 1000, new SimpleMeterRegistry());
+        UUID fightId = UUID.randomUUID();
+        AtomicInteger running = new AtomicInteger();
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+
+        // When
+        List<CompletableFuture<Integer>> futures = IntStream.range(0, 500)
+                .mapToObj(i -> fightShardExecutor.submit(fightId, () -> {
+                    assertEquals(1, running.incrementAndGet());
+                    order.add(i);
+                    running.decrementAndGet();
+                    return i;
+                }))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // Then
+        assertEquals(IntStream.range(0, 500).boxed().toList(), order);
+    }
+
+    @Test
+    void submit_ForDifferentFights_ShouldRunOnOtherShards() throws InterruptedException {
+        // Given
+        fightShardExecutor = new FightShardExecutor(true, 2, 10, new SimpleMeterRegistry());
+        UUID blockedFight = fightOnShard(0, 2);
+        UUID otherFight = fightOnShard(1, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> blocked = fightShardExecutor.submit(blockedFight, () -> {
+            await(release);
+            return "blocked";
+        });
+
+        // When
+        String other = fightShardExecutor.submit(otherFight, () -> "other").join();
+
+        // Then
+        assertEquals("other", other);
+        assertFalse(blocked.isDone());
+        release.countDown();
+        assertEquals("blocked", blocked.join());
+    }
+
+    @Test
+    void submit_WhenShardQueueIsFull_ShouldFailWithRejection() {
+        // Given
+        fightShardExecutor = new FightShardExecutor(true, 1, 1, new SimpleMeterRegistry());
+        UUID fightId = UUID.randomUUID();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        fightShardExecutor.submit(fightId, () -> {
+            started.countDown();
+            await(release);
+            return 0;
+        });
+        await(started);
+        fightShardExecutor.submit(fightId, () -> 1);
+
+        // When
+        CompletableFuture<Integer> rejected = fightShardExecutor.submit(fightId, () -> 2);
+
+        // Then
+        CompletionException e = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        release.countDown();
+    }
+
+    @Test
+    void submit_WhenDisabled_ShouldRunOnTheCallingThread() {
+        // Given
+        fightShardExecutor = new FightShardExecutor(false, 8, 1000, new SimpleMeterRegistry());
+        Thread caller = Thread.currentThread();
+
+        // When
+        CompletableFuture<Thread> result = fightShardExecutor.submit(UUID.randomUUID(), Thread::currentThread);
+        CompletableFuture<Object> failed = fightShardExecutor.submit(UUID.randomUUID(), () -> {
+            throw new IllegalArgumentException("Fight not found");
+        });
+
+        // Then
+        assertTrue(result.isDone());
+        assertSame(caller, result.join());
+        CompletionException e = assertThrows(CompletionException.class, failed::join);
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    }
+
+    private static UUID fightOnShard(int shard, int shards) {
+        UUID fightId;
+        do {
+            fightId = UUID.randomUUID();
+        } while (Math.floorMod(fightId.hashCode(), shards) != shard);
+        return fightId;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
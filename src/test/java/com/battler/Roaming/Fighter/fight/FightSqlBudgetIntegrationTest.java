@@ -0,0 +1,182 @@
+package com.battler.Roaming.Fighter.fight;
+
+import com.battler.Roaming.Fighter.TestcontainersConfiguration;
+import com.battler.Roaming.Fighter.cache.EntityCacheService;
+import com.battler.Roaming.Fighter.datasource.StatementCountingConfiguration;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.fight.dto.CreateFightRequest;
+import com.battler.Roaming.Fighter.fight.dto.FightStateDto;
+import com.battler.Roaming.Fighter.monster.MonsterRepository;
+import com.battler.Roaming.Fighter.outbox.OutboxRepository;
+import com.battler.Roaming.Fighter.outbox.OutboxService;
+import com.battler.Roaming.Fighter.player.PlayerRepository;
+import com.battler.Roaming.Fighter.storage.JpaFightStore;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.battler.Roaming.Fighter.testutils.SqlStatementAssertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Holds the fight endpoints to their @SqlStatementBudget against Postgres, where an N+1 would show.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestcontainersConfiguration.class, StatementCountingConfiguration.class})
+class FightSqlBudgetIntegrationTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private FightRepository fightRepository;
+
+    @Autowired
+    private MonsterRepository monsterRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private FightService fightService;
+    private FightController fightController;
+
+    @BeforeEach
+    void setUp() {
+        fightService = new FightService(
+                new JpaFightStore(fightRepository, monsterRepository, playerRepository,
+                        new EntityCacheService(entityManagerFactory),
+                        new OutboxService(outboxRepository, JsonMapper.builder().findAndAddModules().build())),
+                new FightMetrics(new SimpleMeterRegistry()),
+                transactionTemplate);
+        fightController = new FightController(fightService,
+                new FightShardExecutor(false, 1, 1, new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void createFight_WithLargeTeams_ShouldStayWithinBudget() {
+        // Given
+        CreateFightRequest request = new CreateFightRequest(
+                ids(persistMonsters(6, 10, 5)), ids(persistMonsters(6, 10, 5)));
+
+        // When
+        FightStateDto result = assertWithinBudget(FightService.class, "createFight", () -> {
+            FightStateDto created = fightService.createFight(request);
+            entityManager.flush();
+            return created;
+        });
+
+        // Then
+        assertEquals(request.getTeamA(), result.getTeamA().stream().map(m -> m.id()).toList());
+    }
+
+    @Test
+    void executeExchange_UntilTheFightIsWon_ShouldStayWithinBudget() {
+        // Given
+        UUID fightId = createFight(persistMonsters(3, 10, 5), persistMonsters(3, 60, 0));
+
+        // When
+        FightStatus status = FightStatus.ONGOING;
+        for (int exchange = 0; exchange < 20 && status == FightStatus.ONGOING; exchange++) {
+            status = assertWithinBudget(FightService.class, "executeExchange", () -> {
+                FightStateDto state = fightService.executeExchange(fightId);
+                entityManager.flush();
+                return state;
+            }).getStatus();
+            entityManager.clear();
+        }
+
+        // Then
+        assertEquals(FightStatus.TEAM_B_WON, status);
+    }
+
+    @Test
+    void getFightState_ShouldStayWithinBudget() {
+        // Given
+        UUID fightId = createFight(persistMonsters(4, 10, 5), persistMonsters(4, 10, 5));
+
+        // When
+        FightStateDto result = assertWithinBudget(FightService.class, "getFightState",
+                () -> fightService.getFightState(fightId));
+
+        // Then
+        assertEquals(4, result.getTeamB().size());
+    }
+
+    @Test
+    void fightEndpoints_ShouldStayWithinBudget() {
+        // Given
+        CreateFightRequest request = new CreateFightRequest(
+                ids(persistMonsters(5, 10, 5)), ids(persistMonsters(5, 10, 5)));
+
+        // When
+        ResponseEntity<FightStateDto> created = assertWithinBudget(FightController.class, "createFight", () -> {
+            ResponseEntity<FightStateDto> response = fightController.createFight(request);
+            entityManager.flush();
+            return response;
+        });
+        entityManager.clear();
+        UUID fightId = created.getBody().getFightId();
+        ResponseEntity<FightStateDto> exchanged = assertWithinBudget(FightController.class, "executeExchange", () -> {
+            ResponseEntity<FightStateDto> response = fightController.executeExchange(fightId).join();
+            entityManager.flush();
+            return response;
+        });
+        entityManager.clear();
+        ResponseEntity<FightStateDto> state = assertWithinBudget(FightController.class, "getFightState",
+                () -> fightController.getFightState(fightId));
+
+        // Then
+        assertEquals(HttpStatus.CREATED, created.getStatusCode());
+        assertEquals(HttpStatus.OK, exchanged.getStatusCode());
+        assertEquals(HttpStatus.OK, state.getStatusCode());
+    }
+
+    private UUID createFight(List<Monster> teamA, List<Monster> teamB) {
+        UUID fightId = fightService.createFight(new CreateFightRequest(ids(teamA), ids(teamB))).getFightId();
+        entityManager.flush();
+        entityManager.clear();
+        return fightId;
+    }
+
+    private List<Monster> persistMonsters(int count, int attack, int defence) {
+        List<Monster> monsters = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Monster monster = new Monster();
+            monster.setName("Monster " + i);
+            monster.setAttack(attack);
+            monster.setDefence(defence);
+            monster.setMaxHealth(100);
+            monster.setHealth(100);
+            monsters.add(entityManager.persist(monster));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return monsters;
+    }
+
+    private List<UUID> ids(List<Monster> monsters) {
+        return monsters.stream().map(Monster::getId).toList();
+    }
+}
@@ -0,0 +1,42 @@
+package com.battler.Roaming.Fighter.fight;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FightTeamOrderBackfillTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FightTeamOrderBackfill fightTeamOrderBackfill;
+
+    @BeforeEach
+    void setUp() {
+        fightTeamOrderBackfill = new FightTeamOrderBackfill(jdbcTemplate, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    void afterPropertiesSet_ShouldNumberUnorderedRowsOfBothTeamsInSeparateTransactions() {
+        // When
+        fightTeamOrderBackfill.afterPropertiesSet();
+
+        // Then
+        verify(jdbcTemplate).update(contains("UPDATE fight_team_a t SET team_order"));
+        verify(jdbcTemplate).update(contains("UPDATE fight_team_b t SET team_order"));
+        verify(transactionManager, times(2)).commit(any());
+    }
+}
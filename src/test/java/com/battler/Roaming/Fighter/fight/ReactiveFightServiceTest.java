@@ -0,0 +1,183 @@
+package com.battler.Roaming.Fighter.fight;
+
+import com.battler.Roaming.Fighter.cache.EntityCacheService;
+import com.battler.Roaming.Fighter.entity.Fight;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.entity.Player;
+import com.battler.Roaming.Fighter.fight.dto.CreateFightRequest;
+import com.battler.Roaming.Fighter.monster.dto.MonsterDto;
+import com.battler.Roaming.Fighter.outbox.ReactiveOutboxService;
+import com.battler.Roaming.Fighter.storage.ReactiveFightStore;
+import com.battler.Roaming.Fighter.testutils.TestFixtures;
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveFightServiceTest {
+
+    @Mock
+    private ReactiveFightStore fightStore;
+
+    @Mock
+    private ReactiveOutboxService outboxService;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private EntityCacheService entityCacheService;
+
+    @Spy
+    private FightMetrics fightMetrics = new FightMetrics(new SimpleMeterRegistry());
+
+    @InjectMocks
+    private ReactiveFightService fightService;
+
+    private static final FixtureMonkey FIXTURE_MONKEY = TestFixtures.FIXTURE_MONKEY;
+
+    @Test
+    void createFight_WithValidRequest_ShouldSaveInOneTransactionAndEvictOwners() {
+        // Given
+        Monster monsterA = createMonsterWithHealth(100, 10, 5);
+        Monster monsterB = createMonsterWithHealth(90, 12, 6);
+        UUID owner = UUID.randomUUID();
+        CreateFightRequest request = new CreateFightRequest(List.of(monsterA.getId()), List.of(monsterB.getId()));
+        runInTransaction();
+        when(fightStore.findMonsters(List.of(monsterA.getId(), monsterB.getId()))).thenReturn(Flux.just(monsterB, monsterA));
+        when(fightStore.saveFight(any(Fight.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(fightStore.touchOwners(List.of(monsterA.getId(), monsterB.getId()))).thenReturn(Mono.just(List.of(owner)));
+
+        // When & Then
+        StepVerifier.create(fightService.createFight(request))
+                .assertNext(fightState -> {
+                    assertEquals(FightStatus.ONGOING, fightState.getStatus());
+                    assertEquals(monsterA.getId(), fightState.getActiveMonsterA());
+                    assertEquals(List.of(monsterB.getId()), fightState.getTeamB().stream().map(MonsterDto::id).toList());
+                })
+                .verifyComplete();
+        verify(transactionalOperator).transactional(any(Mono.class));
+        verify(entityCacheService).evictEntities(Player.class, List.of(owner));
+    }
+
+    @Test
+    void createFight_WithEmptyTeamA_ShouldFailWithoutWriting() {
+        // Given
+        CreateFightRequest request = new CreateFightRequest(List.of(), List.of(UUID.randomUUID()));
+        runInTransaction();
+
+        // When & Then
+        StepVerifier.create(fightService.createFight(request))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verify(fightStore, never()).saveFight(any(Fight.class));
+        verifyNoInteractions(entityCacheService);
+    }
+
+    @Test
+    void executeExchange_WhenFightEnds_ShouldRecordResultAndEvictFighters() {
+        // Given
+        Monster monsterA = createMonsterWithHealth(5, 10, 1);
+        Monster monsterB = createMonsterWithHealth(100, 50, 5);
+        Fight fight = createFight(monsterA, monsterB, FightStatus.ONGOING);
+        UUID owner = UUID.randomUUID();
+        runInTransaction();
+        when(fightStore.findFightWithTeams(fight.getId())).thenReturn(Mono.just(fight));
+        when(fightStore.saveExchange(eq(fight), eq(List.of(monsterB, monsterA)), any())).thenReturn(Mono.just(List.of(owner)));
+        when(outboxService.record(any(FightFinishedEvent.class))).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(fightService.executeExchange(fight.getId()))
+                .assertNext(fightState -> assertEquals(FightStatus.TEAM_B_WON, fightState.getStatus()))
+                .verifyComplete();
+        assertEquals(0, monsterA.getHealth());
+        verify(outboxService).record(any(FightFinishedEvent.class));
+        verify(entityCacheService).evictEntities(Monster.class, List.of(monsterB.getId(), monsterA.getId()));
+        verify(entityCacheService).evictEntities(Player.class, List.of(owner));
+    }
+
+    @Test
+    void executeExchange_WhenFightIsOver_ShouldReturnItWithoutWriting() {
+        // Given
+        Fight fight = createFight(createMonsterWithHealth(0, 10, 5), createMonsterWithHealth(50, 10, 5), FightStatus.TEAM_B_WON);
+        runInTransaction();
+        when(fightStore.findFightWithTeams(fight.getId())).thenReturn(Mono.just(fight));
+
+        // When & Then
+        StepVerifier.create(fightService.executeExchange(fight.getId()))
+                .assertNext(fightState -> assertEquals(FightStatus.TEAM_B_WON, fightState.getStatus()))
+                .verifyComplete();
+        verify(fightStore, never()).saveExchange(any(), any(), any());
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    void executeExchange_WhenFightDoesNotExist_ShouldFail() {
+        // Given
+        UUID fightId = UUID.randomUUID();
+        runInTransaction();
+        when(fightStore.findFightWithTeams(fightId)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(fightService.executeExchange(fightId))
+                .expectErrorMatches(e -> e instanceof IllegalArgumentException && e.getMessage().contains(fightId.toString()))
+                .verify();
+    }
+
+    @Test
+    void getFightState_ShouldReadWithoutTransaction() {
+        // Given
+        Fight fight = createFight(createMonsterWithHealth(50, 10, 5), createMonsterWithHealth(50, 10, 5), FightStatus.ONGOING);
+        when(fightStore.findFightWithTeams(fight.getId())).thenReturn(Mono.just(fight));
+
+        // When & Then
+        StepVerifier.create(fightService.getFightState(fight.getId()))
+                .assertNext(fightState -> assertEquals(fight.getId(), fightState.getFightId()))
+                .verifyComplete();
+        verifyNoInteractions(transactionalOperator);
+        assertEquals(1, fightMetrics.getFightStateTimer().count());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runInTransaction() {
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private Monster createMonsterWithHealth(int health, int attack, int defence) {
+        return FIXTURE_MONKEY.giveMeBuilder(Monster.class)
+                .set("health", health)
+                .set("maxHealth", Math.max(health, 100))
+                .set("attack", attack)
+                .set("defence", defence)
+                .sample();
+    }
+
+    // The teams are set after sampling, which would otherwise copy the monsters the tests check.
+    private Fight createFight(Monster monsterA, Monster monsterB, FightStatus status) {
+        Fight fight = FIXTURE_MONKEY.giveMeBuilder(Fight.class)
+                .set("activeMonsterA", monsterA.getId())
+                .set("activeMonsterB", monsterB.getId())
+                .set("status", status)
+                .sample();
+        fight.setTeamA(List.of(monsterA));
+        fight.setTeamB(List.of(monsterB));
+        return fight;
+    }
+}
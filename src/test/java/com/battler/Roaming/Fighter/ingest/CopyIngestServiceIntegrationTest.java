@@ -0,0 +1,97 @@
+package com.battler.Roaming.Fighter.ingest;
+
+import com.battler.Roaming.Fighter.TestcontainersConfiguration;
+import com.battler.Roaming.Fighter.ingest.dto.IngestResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+class CopyIngestServiceIntegrationTest {
+
+    @Autowired
+    private CopyIngestService copyIngestService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE fight_team_a, fight_team_b, fights, monsters, players");
+    }
+
+    @Test
+    void ingestPlayers_ShouldInsertNewRenameExistingAndKeepLastRowPerName() throws Exception {
+        // Given
+        UUID ash = UUID.randomUUID();
+        copyIngestService.ingestPlayers(ndjson("{\"id\":\"" + ash + "\",\"name\":\"Ash\"}"));
+
+        // When
+        IngestResult result = copyIngestService.ingestPlayers(ndjson(
+                "{\"name\":\"Ash Ketchum\"}",
+                "{\"id\":\"" + ash + "\",\"name\":\"Ash Ketchum\"}",
+                "{\"name\":\"Misty\"}",
+                "{\"name\":\"not valid!\"}",
+                "null"));
+
+        // Then
+        assertEquals(3, result.staged());
+        assertEquals(1, result.inserted());
+        assertEquals(1, result.updated());
+        assertEquals(1, result.skipped());
+        assertEquals(2, result.rejected());
+        assertEquals("Ash Ketchum", jdbcTemplate.queryForObject(
+                "SELECT name FROM players WHERE id = ?", String.class, ash));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT count(*) FROM players", Integer.class));
+    }
+
+    @Test
+    void ingestMonsters_ShouldMergeOnIdAndRecomputeOwnerTeamRatings() throws Exception {
+        // Given
+        UUID owner = UUID.randomUUID();
+        UUID goblin = UUID.randomUUID();
+        copyIngestService.ingestPlayers(ndjson("{\"id\":\"" + owner + "\",\"name\":\"Brock\"}"));
+        copyIngestService.ingestMonsters(ndjson(monster(goblin, "Goblin", 5, owner)));
+
+        // When
+        IngestResult result = copyIngestService.ingestMonsters(ndjson(
+                monster(goblin, "Goblin", 10, owner),
+                monster(UUID.randomUUID(), "Onix", 20, owner),
+                monster(UUID.randomUUID(), "Stray", 1, UUID.randomUUID()),
+                "{\"name\":\"Broken\"",
+                "null"));
+
+        // Then
+        assertEquals(3, result.staged());
+        assertEquals(1, result.inserted());
+        assertEquals(1, result.updated());
+        assertEquals(1, result.skipped());
+        assertEquals(2, result.rejected());
+        assertEquals(10, jdbcTemplate.queryForObject(
+                "SELECT attack FROM monsters WHERE id = ?", Integer.class, goblin));
+        Integer expectedRating = jdbcTemplate.queryForObject(
+                "SELECT sum(power_rating)::int FROM monsters WHERE player_id = ?", Integer.class, owner);
+        assertEquals(expectedRating, jdbcTemplate.queryForObject(
+                "SELECT team_rating FROM players WHERE id = ?", Integer.class, owner));
+    }
+
+    private String monster(UUID id, String name, int attack, UUID playerId) {
+        return "{\"id\":\"" + id + "\",\"name\":\"" + name + "\",\"attack\":" + attack
+                + ",\"defence\":3,\"maxHealth\":50,\"health\":50,\"playerId\":\"" + playerId + "\"}";
+    }
+
+    private InputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,58 @@
+package com.battler.Roaming.Fighter.ingest;
+
+import com.battler.Roaming.Fighter.ingest.dto.IngestResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IngestControllerTest {
+
+    @Mock
+    private CopyIngestService copyIngestService;
+
+    @InjectMocks
+    private IngestController ingestController;
+
+    @Test
+    void ingestMonsters_ShouldReturnIngestResult() throws Exception {
+        // Given
+        InputStream body = new ByteArrayInputStream(new byte[0]);
+        IngestResult result = IngestResult.of(10, 6, 3, 1, 2_000_000);
+        when(copyIngestService.ingestMonsters(body)).thenReturn(result);
+
+        // When
+        ResponseEntity<IngestResult> response = ingestController.ingestMonsters(body);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(result, response.getBody());
+        assertEquals(1, result.skipped());
+        assertEquals(5000, result.rowsPerSecond());
+    }
+
+    @Test
+    void ingestPlayers_ShouldReturnIngestResult() throws Exception {
+        // Given
+        InputStream body = new ByteArrayInputStream(new byte[0]);
+        IngestResult result = IngestResult.of(2, 2, 0, 0, 1_000_000);
+        when(copyIngestService.ingestPlayers(body)).thenReturn(result);
+
+        // When
+        ResponseEntity<IngestResult> response = ingestController.ingestPlayers(body);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(result, response.getBody());
+    }
+}
@@ -0,0 +1,70 @@
+package com.battler.Roaming.Fighter.ingest;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PgBinaryCopyWriterTest {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+
+    @Test
+    void finish_ShouldWriteHeaderRowsAndTrailerInBinaryCopyFormat() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        UUID id = UUID.randomUUID();
+        PgBinaryCopyWriter writer = new PgBinaryCopyWriter(out, 4);
+
+        // When
+        writer.startRow();
+        writer.writeLong(7L);
+        writer.writeUuid(id);
+        writer.writeText("Orc");
+        writer.writeInt(null);
+        writer.finish();
+
+        // Then
+        ByteBuffer bytes = ByteBuffer.wrap(out.toByteArray());
+        byte[] signature = new byte[SIGNATURE.length];
+        bytes.get(signature);
+        assertArrayEquals(SIGNATURE, signature);
+        assertEquals(0, bytes.getInt());
+        assertEquals(0, bytes.getInt());
+
+        assertEquals(4, bytes.getShort());
+        assertEquals(8, bytes.getInt());
+        assertEquals(7L, bytes.getLong());
+        assertEquals(16, bytes.getInt());
+        assertEquals(id, new UUID(bytes.getLong(), bytes.getLong()));
+        assertEquals(3, bytes.getInt());
+        byte[] name = new byte[3];
+        bytes.get(name);
+        assertEquals("Orc", new String(name, StandardCharsets.UTF_8));
+        assertEquals(-1, bytes.getInt());
+
+        assertEquals(-1, bytes.getShort());
+        assertFalse(bytes.hasRemaining());
+    }
+
+    @Test
+    void writeText_ShouldPrefixUtf8ByteLengthNotCharacterCount() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PgBinaryCopyWriter writer = new PgBinaryCopyWriter(out, 1);
+        int headerLength = out.size();
+
+        // When
+        writer.writeText("Pokémon");
+
+        // Then
+        byte[] field = Arrays.copyOfRange(out.toByteArray(), headerLength, out.size());
+        assertEquals(8, ByteBuffer.wrap(field).getInt());
+        assertEquals(12, field.length);
+    }
+}
@@ -0,0 +1,95 @@
+package com.battler.Roaming.Fighter.jfr;
+
+import com.battler.Roaming.Fighter.jfr.dto.FlightRecordingStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FlightRecordingControllerTest {
+
+    @Mock
+    private FlightRecordingService flightRecordingService;
+
+    @InjectMocks
+    private FlightRecordingController flightRecordingController;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void startRecording_ShouldReturnStatus() {
+        // Given
+        FlightRecordingStatus status = new FlightRecordingStatus(true, "roaming-fighter", "profile", Instant.now(), Duration.ofMinutes(30));
+        when(flightRecordingService.start()).thenReturn(status);
+
+        // When
+        ResponseEntity<FlightRecordingStatus> response = flightRecordingController.startRecording();
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(status, response.getBody());
+    }
+
+    @Test
+    void startRecording_WhenAlreadyRunning_ShouldReturnConflict() {
+        // Given
+        when(flightRecordingService.start()).thenThrow(new IllegalStateException("running"));
+
+        // When
+        ResponseEntity<FlightRecordingStatus> response = flightRecordingController.startRecording();
+
+        // Then
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
+    @Test
+    void stopRecording_ShouldReturnTheRecordingAsDownloadAndDeleteItOnceRead() throws Exception {
+        // Given
+        Path file = Files.writeString(directory.resolve("roaming-fighter-1.jfr"), "jfr");
+        when(flightRecordingService.stop()).thenReturn(file);
+
+        // When
+        ResponseEntity<Resource> response = flightRecordingController.stopRecording();
+        String body;
+        try (InputStream input = response.getBody().getInputStream()) {
+            body = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION).contains("roaming-fighter-1.jfr"));
+        assertEquals(3, response.getHeaders().getContentLength());
+        assertEquals("jfr", body);
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void dumpRecording_WhenNothingIsRunning_ShouldReturnConflict() {
+        // Given
+        when(flightRecordingService.dump()).thenThrow(new IllegalStateException("not running"));
+
+        // When
+        ResponseEntity<Resource> response = flightRecordingController.dumpRecording();
+
+        // Then
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+}
@@ -0,0 +1,152 @@
+package com.battler.Roaming.Fighter.jfr;
+
+import com.battler.Roaming.Fighter.entity.Fight;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.jfr.dto.FlightRecordingStatus;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecordingServiceTest {
+
+    @TempDir
+    private Path directory;
+
+    private FlightRecordingService flightRecordingService;
+
+    @BeforeEach
+    void setUp() {
+        flightRecordingService = new FlightRecordingService(directory, "default", Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (flightRecordingService.status().running()) {
+            flightRecordingService.stop();
+        }
+    }
+
+    @Test
+    void stop_ShouldWriteTheFightStageEventsWithFightAndTeamSizes() throws Exception {
+        // Given
+        Fight fight = new Fight();
+        fight.setId(UUID.randomUUID());
+        fight.setTeamA(List.of(new Monster(), new Monster()));
+        fight.setTeamB(List.of(new Monster()));
+        flightRecordingService.start();
+
+        // When
+        DamageEvent event = new DamageEvent();
+        event.begin();
+        event.commitFor(fight);
+        Path file = flightRecordingService.stop();
+
+        // Then
+        List<RecordedEvent> damage = RecordingFile.readAllEvents(file).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals("roamingfighter.Damage"))
+                .toList();
+        assertEquals(1, damage.size());
+        assertEquals(fight.getId().toString(), damage.getFirst().getString("fightId"));
+        assertEquals(2, damage.getFirst().getInt("teamASize"));
+        assertEquals(1, damage.getFirst().getInt("teamBSize"));
+        assertFalse(flightRecordingService.status().running());
+    }
+
+    @Test
+    void stop_ShouldLeaveOutEnvironmentVariablesAndSystemProperties() throws Exception {
+        // Given
+        flightRecordingService.start();
+
+        // When
+        Path file = flightRecordingService.stop();
+
+        // Then
+        assertTrue(RecordingFile.readAllEvents(file).stream()
+                .noneMatch(recorded -> FlightRecordingService.SECRET_EVENTS.contains(recorded.getEventType().getName())));
+    }
+
+    @Test
+    void commitAfterTransactionFor_InATransaction_ShouldEndTheEventOnlyAfterCommit() throws Exception {
+        // Given
+        Fight fight = new Fight();
+        fight.setId(UUID.randomUUID());
+        flightRecordingService.start();
+        TransactionSynchronizationManager.initSynchronization();
+        FightPersistEvent event = new FightPersistEvent();
+
+        // When
+        try {
+            event.begin();
+            event.commitAfterTransactionFor(fight);
+            assertEquals(0, persistEvents(flightRecordingService.dump()));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        Path file = flightRecordingService.stop();
+
+        // Then
+        assertEquals(1, persistEvents(file));
+    }
+
+    @Test
+    void dump_ShouldWriteAFileAndKeepRecording() {
+        // Given
+        flightRecordingService.start();
+
+        // When
+        Path file = flightRecordingService.dump();
+
+        // Then
+        assertTrue(Files.exists(file));
+        assertEquals(directory, file.getParent());
+        FlightRecordingStatus status = flightRecordingService.status();
+        assertTrue(status.running());
+        assertEquals("default", status.settings());
+    }
+
+    @Test
+    void start_WhenAlreadyRunning_ShouldThrowException() {
+        // Given
+        flightRecordingService.start();
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> flightRecordingService.start());
+    }
+
+    @Test
+    void stop_WhenNothingIsRunning_ShouldThrowException() {
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> flightRecordingService.stop());
+        assertThrows(IllegalStateException.class, () -> flightRecordingService.dump());
+    }
+
+    @Test
+    void commitFor_WithoutARecording_ShouldNotTouchTheFight() {
+        // Given
+        DamageEvent event = new DamageEvent();
+
+        // When & Then: the fight is never read, so even a null one is fine
+        event.begin();
+        assertDoesNotThrow(() -> event.commitFor(null));
+    }
+
+    private static long persistEvents(Path file) throws Exception {
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals("roamingfighter.FightPersist"))
+                .count();
+    }
+}
@@ -0,0 +1,82 @@
+package com.battler.Roaming.Fighter.loadtest;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Watches the application's connection pools and platform threads while a
+ * step runs, from the same meters the actuator exposes: Hikari's active and
+ * pending JDBC connections and the R2DBC pool's acquired and pending ones,
+ * summed over pools. Gauges are polled, so a peak shorter than the interval
+ * can be missed; the thread peak comes from the JVM and is exact. Virtual
+ * threads are not platform threads and are not counted.
+ */
+class ConnectionSampler {
+
+    private static final long INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final MeterRegistry registry;
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    ConnectionSampler(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    // Runs the work on the calling thread and returns the peaks seen while it ran.
+    ConnectionUsage during(Runnable work) {
+        Peaks peaks = new Peaks();
+        threads.resetPeakThreadCount();
+        Thread sampler = Thread.ofVirtual().name("connection-sampler").start(() -> {
+            while (!peaks.done) {
+                peaks.sample();
+                LockSupport.parkNanos(INTERVAL_NANOS);
+            }
+        });
+        try {
+            work.run();
+        } finally {
+            peaks.done = true;
+        }
+        try {
+            sampler.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        peaks.sample();
+        return new ConnectionUsage(peaks.jdbcActive, peaks.jdbcPending, peaks.r2dbcAcquired, peaks.r2dbcPending,
+                threads.getPeakThreadCount());
+    }
+
+    private int total(String gauge) {
+        return (int) registry.find(gauge).gauges().stream()
+                .mapToDouble(Gauge::value)
+                .filter(value -> !Double.isNaN(value))
+                .sum();
+    }
+
+    // Peak use during one step; a pool the stack never touched stays at zero.
+    record ConnectionUsage(int jdbcActive, int jdbcPending, int r2dbcAcquired, int r2dbcPending, int platformThreads) {
+    }
+
+    private final class Peaks {
+
+        private volatile boolean done;
+        private int jdbcActive;
+        private int jdbcPending;
+        private int r2dbcAcquired;
+        private int r2dbcPending;
+
+        // Only the sampler thread calls this until join, and the caller afterwards.
+        void sample() {
+            jdbcActive = Math.max(jdbcActive, total("hikaricp.connections.active"));
+            jdbcPending = Math.max(jdbcPending, total("hikaricp.connections.pending"));
+            r2dbcAcquired = Math.max(r2dbcAcquired, total("r2dbc.pool.acquired"));
+            r2dbcPending = Math.max(r2dbcPending, total("r2dbc.pool.pending"));
+        }
+    }
+}
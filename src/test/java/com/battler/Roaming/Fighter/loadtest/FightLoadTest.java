@@ -0,0 +1,122 @@
+package com.battler.Roaming.Fighter.loadtest;
+
+import com.battler.Roaming.Fighter.TestcontainersConfiguration;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.entity.Player;
+import com.battler.Roaming.Fighter.loadtest.LoadGenerator.StepResult;
+import com.battler.Roaming.Fighter.monster.MonsterRepository;
+import com.battler.Roaming.Fighter.player.PlayerRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots the application on a random port against a Postgres container, seeds
+ * players, monsters and fights, then steps through the configured request
+ * rates and reports latency, throughput and peak connection use per step. Run
+ * with {@code ./gradlew loadTest}, for example
+ * {@code -Ploadtest.rates=500,1000,2000 -Ploadtest.clients=4000}; see
+ * {@link LoadTestSettings} for every knob. This class runs the servlet stack
+ * and {@link ReactiveFightLoadTest} the reactive one; to compare them at
+ * 10,000 concurrent clients on the endpoints both serve natively, run both with
+ * {@code -Ploadtest.clients=10000 -Ploadtest.mix=createFight=1,exchange=6,fightState=4,nearestPlayers=2},
+ * with the open file limit raised above twice the client count.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.root=WARN",
+        // Tomcat's default of 8192 would turn away clients past it rather than let them queue for a thread.
+        "server.tomcat.max-connections=20000"
+})
+@Import(TestcontainersConfiguration.class)
+class FightLoadTest {
+
+    // Fights end rarely and createFight keeps finding healthy monsters, however long the run.
+    private static final int SEEDED_HEALTH = 1_000_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private MonsterRepository monsterRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void fightMix_ShouldReportLatencyAndThroughputPerRate() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        List<UUID> players = new ArrayList<>();
+        List<List<UUID>> teams = new ArrayList<>();
+        seed(settings, players, teams);
+        LoadTarget target = new LoadTarget(objectMapper, "http://localhost:" + port, players, teams, settings.fights());
+        for (int i = 0; i < settings.fights(); i++) {
+            assertTrue(target.call(LoadOperation.CREATE_FIGHT), "Could not seed fight " + i);
+        }
+
+        LoadGenerator generator = new LoadGenerator(target, settings.mix(), settings.clients(),
+                new ConnectionSampler(meterRegistry));
+        generator.run(settings.rates().getFirst(), settings.warmup());
+        LoadReport report = new LoadReport(settings, stack());
+        for (int rate : settings.rates()) {
+            StepResult step = generator.run(rate, settings.step());
+            report.add(step);
+            System.out.printf("%d requests/s: achieved %.1f/s, corrected p99 %.1f ms, %d errors%n",
+                    rate, step.achievedRate(), step.p99Millis(), step.errors());
+        }
+
+        System.out.println();
+        report.print(System.out);
+        Path directory = report.write();
+        System.out.println("Report and histograms written to " + directory.toAbsolutePath());
+
+        assertEquals(settings.rates().size(), report.steps().size());
+        assertTrue(report.steps().getFirst().requests() > 0);
+    }
+
+    // Labels the report; subclasses running another web stack override it.
+    String stack() {
+        return "servlet";
+    }
+
+    private void seed(LoadTestSettings settings, List<UUID> players, List<List<UUID>> teams) {
+        for (int p = 0; p < settings.players(); p++) {
+            Player player = new Player();
+            player.setName("Load Player " + p + " " + System.nanoTime());
+            player.setTeamRating(p * LoadTarget.SEEDED_RATING_SPACING);
+            UUID playerId = playerRepository.save(player).getId();
+            List<Monster> box = new ArrayList<>(settings.teamSize());
+            for (int m = 0; m < settings.teamSize(); m++) {
+                Monster monster = new Monster();
+                monster.setName("Load Monster " + m);
+                monster.setAttack(10 + m);
+                monster.setDefence(5);
+                monster.setMaxHealth(SEEDED_HEALTH);
+                monster.setHealth(SEEDED_HEALTH);
+                monster.setPlayerId(playerId);
+                box.add(monster);
+            }
+            players.add(playerId);
+            teams.add(monsterRepository.saveAll(box).stream().map(Monster::getId).toList());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.battler.Roaming.Fighter.loadtest;
+
+import com.battler.Roaming.Fighter.loadtest.ConnectionSampler.ConnectionUsage;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a constant request rate from virtual-thread clients. Each client
+ * owns an equal share of the rate as a fixed schedule of intended send times,
+ * and latency is measured from the intended time, not from when the request
+ * actually went out. A client held up by a slow response therefore charges
+ * the wait to every request it should have sent meanwhile, which is the
+ * coordinated-omission correction; the uncorrected latency, from the actual
+ * send, is kept alongside for comparison. The {@link ConnectionSampler}
+ * watches the application's connection pools and threads for the step.
+ */
+class LoadGenerator {
+
+    private static final long START_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final LoadTarget target;
+    private final LoadMix mix;
+    private final int clients;
+    private final ConnectionSampler sampler;
+
+    LoadGenerator(LoadTarget target, LoadMix mix, int clients, ConnectionSampler sampler) {
+        this.target = target;
+        this.mix = mix;
+        this.clients = clients;
+        this.sampler = sampler;
+    }
+
+    StepResult run(int rate, Duration duration) {
+        Step step = new Step();
+        long interval = TimeUnit.SECONDS.toNanos(clients) / rate;
+        long start = System.nanoTime() + START_DELAY_NANOS;
+        long end = start + duration.toNanos();
+        ConnectionUsage connections = sampler.during(() -> {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int client = 0; client < clients; client++) {
+                    // Staggered, so the clients' schedules interleave into one even rate.
+                    long first = start + interval * client / clients;
+                    executor.submit(() -> runClient(step, first, interval, end));
+                }
+            }
+        });
+        return step.result(rate, start, connections);
+    }
+
+    private void runClient(Step step, long first, long interval, long end) {
+        for (long intended = first; intended < end; intended += interval) {
+            long now;
+            while ((now = System.nanoTime()) < intended) {
+                LockSupport.parkNanos(intended - now);
+            }
+            LoadOperation operation = mix.next();
+            boolean ok = target.call(operation);
+            long done = System.nanoTime();
+            step.record(operation, done - intended, done - now, ok, done);
+        }
+    }
+
+    // Latencies of one rate, overall and per operation, in microseconds, and the peak connection use.
+    record StepResult(int targetRate,
+                      double achievedRate,
+                      long requests,
+                      long errors,
+                      Histogram corrected,
+                      Histogram uncorrected,
+                      Map<LoadOperation, Histogram> correctedByOperation,
+                      ConnectionUsage connections) {
+
+        double p99Millis() {
+            return corrected.getValueAtPercentile(99) / 1000.0;
+        }
+    }
+
+    private static final class Step {
+
+        private final Histogram corrected = new ConcurrentHistogram(3);
+        private final Histogram uncorrected = new ConcurrentHistogram(3);
+        private final Map<LoadOperation, Histogram> byOperation = new EnumMap<>(LoadOperation.class);
+        private final LongAdder errors = new LongAdder();
+        private final LongAccumulator lastDone = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+        Step() {
+            for (LoadOperation operation : LoadOperation.values()) {
+                byOperation.put(operation, new ConcurrentHistogram(3));
+            }
+        }
+
+        void record(LoadOperation operation, long correctedNanos, long uncorrectedNanos, boolean ok, long done) {
+            long correctedMicros = TimeUnit.NANOSECONDS.toMicros(correctedNanos);
+            corrected.recordValue(correctedMicros);
+            uncorrected.recordValue(TimeUnit.NANOSECONDS.toMicros(uncorrectedNanos));
+            byOperation.get(operation).recordValue(correctedMicros);
+            if (!ok) {
+                errors.increment();
+            }
+            lastDone.accumulate(done);
+        }
+
+        // Throughput runs to the last response, so a step the server could not keep up with shows a shortfall.
+        StepResult result(int rate, long start, ConnectionUsage connections) {
+            long requests = corrected.getTotalCount();
+            double seconds = requests == 0 ? 1 : (lastDone.get() - start) / 1e9;
+            return new StepResult(rate, requests / seconds, requests, errors.sum(), corrected, uncorrected, byOperation,
+                    connections);
+        }
+    }
+}
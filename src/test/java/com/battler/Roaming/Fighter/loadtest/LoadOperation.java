@@ -0,0 +1,39 @@
+package com.battler.Roaming.Fighter.loadtest;
+
+import java.util.Arrays;
+
+// The calls a load test client can make, keyed by the names used in -Dloadtest.mix.
+enum LoadOperation {
+
+    CREATE_FIGHT("createFight", "POST /api/fight"),
+    EXCHANGE("exchange", "POST /api/fight/{id}"),
+    FIGHT_STATE("fightState", "GET /api/fight/{id}"),
+    LIST_MONSTERS("listMonsters", "GET /api/monster"),
+    PLAYER_PROFILE("playerProfile", "GET /api/player/{id}/profile"),
+    PLAYER_MONSTERS("playerMonsters", "GET /api/player/{id}/monsters"),
+    NEAREST_PLAYERS("nearestPlayers", "GET /api/player/nearest");
+
+    private final String key;
+    private final String route;
+
+    LoadOperation(String key, String route) {
+        this.key = key;
+        this.route = route;
+    }
+
+    String key() {
+        return key;
+    }
+
+    String route() {
+        return route;
+    }
+
+    static LoadOperation of(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown load operation '" + key + "', expected one of "
+                        + Arrays.stream(values()).map(LoadOperation::key).toList()));
+    }
+}
@@ -0,0 +1,138 @@
+package com.battler.Roaming.Fighter.loadtest;
+
+import com.battler.Roaming.Fighter.loadtest.ConnectionSampler.ConnectionUsage;
+import com.battler.Roaming.Fighter.loadtest.LoadGenerator.StepResult;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Tabulates the steps of a run and marks where saturation starts: the first
+ * step that falls short of its target rate, or whose corrected p99 has grown
+ * past the configured multiple of the first step's. Every step's histograms
+ * are also written as percentile distributions, which the HdrHistogram
+ * plotter can overlay. Reports are labelled with the web stack under test,
+ * so servlet and reactive runs of the same settings can be set side by side.
+ */
+class LoadReport {
+
+    private final LoadTestSettings settings;
+    private final String stack;
+    private final List<StepResult> steps = new ArrayList<>();
+
+    LoadReport(LoadTestSettings settings, String stack) {
+        this.settings = settings;
+        this.stack = stack;
+    }
+
+    void add(StepResult step) {
+        steps.add(step);
+    }
+
+    List<StepResult> steps() {
+        return steps;
+    }
+
+    Optional<StepResult> saturatedAt() {
+        return steps.stream().filter(step -> saturationReason(step) != null).findFirst();
+    }
+
+    void print(PrintStream out) {
+        out.printf("Load test on the %s stack: %d clients, mix %s, %s per step%n",
+                stack, settings.clients(), settings.mix(), settings.step());
+        out.printf("Latencies in ms, corrected for coordinated omission unless marked uncorrected.%n%n");
+        out.printf("%9s %10s %8s %8s %8s %8s %9s %9s %10s%n",
+                "target/s", "achieved/s", "errors", "p50", "p90", "p99", "p99.9", "max", "p99 uncorr");
+        StepResult saturated = saturatedAt().orElse(null);
+        for (StepResult step : steps) {
+            out.printf("%9d %10.1f %8d %8.1f %8.1f %8.1f %9.1f %9.1f %10.1f%s%n",
+                    step.targetRate(), step.achievedRate(), step.errors(),
+                    millis(step.corrected(), 50), millis(step.corrected(), 90), millis(step.corrected(), 99),
+                    millis(step.corrected(), 99.9), step.corrected().getMaxValue() / 1000.0,
+                    millis(step.uncorrected(), 99),
+                    step == saturated ? "   <- saturated: " + saturationReason(step) : "");
+        }
+
+        out.printf("%nCorrected p99 by operation, in ms:%n%9s", "target/s");
+        for (LoadOperation operation : settings.mix().weights().keySet()) {
+            out.printf(" %16s", operation.key());
+        }
+        out.println();
+        for (StepResult step : steps) {
+            out.printf("%9d", step.targetRate());
+            for (LoadOperation operation : settings.mix().weights().keySet()) {
+                out.printf(" %16.1f", millis(step.correctedByOperation().get(operation), 99));
+            }
+            out.println();
+        }
+
+        out.printf("%nPeak connections and platform threads in use:%n%9s %12s %12s %14s %14s %10s%n",
+                "target/s", "jdbc active", "jdbc pending", "r2dbc acquired", "r2dbc pending", "threads");
+        for (StepResult step : steps) {
+            ConnectionUsage connections = step.connections();
+            out.printf("%9d %12d %12d %14d %14d %10d%n", step.targetRate(),
+                    connections.jdbcActive(), connections.jdbcPending(),
+                    connections.r2dbcAcquired(), connections.r2dbcPending(), connections.platformThreads());
+        }
+
+        out.println();
+        if (saturated == null) {
+            out.println("No step saturated; raise -Ploadtest.rates to find the limit.");
+        } else {
+            int index = steps.indexOf(saturated);
+            out.println(index == 0
+                    ? "Saturated from the first step at " + saturated.targetRate() + " requests/s; lower -Ploadtest.rates."
+                    : "Saturation starts between " + steps.get(index - 1).targetRate() + " and "
+                      + saturated.targetRate() + " requests/s.");
+        }
+    }
+
+    // Writes the report and histograms to a new directory named for the stack and time, and returns it.
+    Path write() throws IOException {
+        Path directory = settings.reportDirectory()
+                .resolve(stack + "-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        Files.createDirectories(directory);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve("report.txt")))) {
+            print(out);
+        }
+        for (StepResult step : steps) {
+            writeHistogram(directory.resolve("step-" + step.targetRate() + ".hgrm"), step.corrected());
+            writeHistogram(directory.resolve("step-" + step.targetRate() + "-uncorrected.hgrm"), step.uncorrected());
+            for (LoadOperation operation : settings.mix().weights().keySet()) {
+                writeHistogram(directory.resolve("step-" + step.targetRate() + "-" + operation.key() + ".hgrm"),
+                        step.correctedByOperation().get(operation));
+            }
+        }
+        return directory;
+    }
+
+    private String saturationReason(StepResult step) {
+        if (step.achievedRate() < step.targetRate() * settings.saturation()) {
+            return String.format("%.0f%% of target rate", 100 * step.achievedRate() / step.targetRate());
+        }
+        double baseline = steps.getFirst().p99Millis();
+        if (step != steps.getFirst() && step.p99Millis() > baseline * settings.latencyFactor()) {
+            return String.format("p99 %.1fx the first step's", step.p99Millis() / baseline);
+        }
+        return null;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    // Values are recorded in microseconds; the files are scaled to milliseconds.
+    private static void writeHistogram(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+}
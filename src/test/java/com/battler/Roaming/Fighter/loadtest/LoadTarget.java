@@ -0,0 +1,125 @@
+package com.battler.Roaming.Fighter.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Turns operations into HTTP calls against the running application, picking
+ * players, teams and fights at random from the seeded data. Fights created
+ * during the run join the pool exchanges are played in, replacing the oldest.
+ */
+class LoadTarget {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    // Seeded players' team ratings are this far apart, so matchmaking targets land among them.
+    static final int SEEDED_RATING_SPACING = 10;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(REQUEST_TIMEOUT)
+            .build();
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final List<UUID> players;
+    private final List<List<UUID>> teams;
+    private final AtomicReferenceArray<UUID> fights;
+    private final AtomicLong fightsCreated = new AtomicLong();
+
+    LoadTarget(ObjectMapper objectMapper, String baseUrl, List<UUID> players, List<List<UUID>> teams, int fightPoolSize) {
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.players = players;
+        this.teams = teams;
+        this.fights = new AtomicReferenceArray<>(fightPoolSize);
+    }
+
+    // Makes the call and reports whether it succeeded; failures are not retried.
+    boolean call(LoadOperation operation) {
+        try {
+            HttpResponse<String> response = httpClient.send(request(operation), HttpResponse.BodyHandlers.ofString());
+            boolean ok = response.statusCode() / 100 == 2;
+            if (ok && operation == LoadOperation.CREATE_FIGHT) {
+                remember(UUID.fromString(objectMapper.readTree(response.body()).get("fightId").asText()));
+            }
+            return ok;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    long fightsCreated() {
+        return fightsCreated.get();
+    }
+
+    private HttpRequest request(LoadOperation operation) throws JsonProcessingException {
+        return switch (operation) {
+            case CREATE_FIGHT -> post("/api/fight", createFightBody());
+            case EXCHANGE -> post("/api/fight/" + randomFight(), "");
+            case FIGHT_STATE -> get("/api/fight/" + randomFight());
+            case LIST_MONSTERS -> get("/api/monster");
+            case PLAYER_PROFILE -> get("/api/player/" + randomPlayer() + "/profile");
+            case PLAYER_MONSTERS -> get("/api/player/" + randomPlayer() + "/monsters");
+            case NEAREST_PLAYERS -> get("/api/player/nearest?teamRating="
+                    + ThreadLocalRandom.current().nextInt(players.size() * SEEDED_RATING_SPACING));
+        };
+    }
+
+    private String createFightBody() throws JsonProcessingException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int teamA = random.nextInt(teams.size());
+        int teamB = (teamA + 1 + random.nextInt(teams.size() - 1)) % teams.size();
+        return objectMapper.writeValueAsString(Map.of("teamA", teams.get(teamA), "teamB", teams.get(teamB)));
+    }
+
+    private UUID randomPlayer() {
+        return players.get(ThreadLocalRandom.current().nextInt(players.size()));
+    }
+
+    private UUID randomFight() {
+        int known = (int) Math.min(fightsCreated.get(), fights.length());
+        if (known == 0) {
+            throw new IllegalStateException("No fights to exchange in; seed some first");
+        }
+        // A slot counted but not yet filled by a concurrent create reads as null; pick again.
+        UUID fightId;
+        do {
+            fightId = fights.get(ThreadLocalRandom.current().nextInt(known));
+        } while (fightId == null);
+        return fightId;
+    }
+
+    private void remember(UUID fightId) {
+        fights.set((int) (fightsCreated.getAndIncrement() % fights.length()), fightId);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT).GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.battler.Roaming.Fighter.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Load test knobs, read from {@code loadtest.*} system properties; the
+ * {@code loadTest} Gradle task forwards {@code -Ploadtest.*} properties.
+ *
+ * @param clients       virtual-thread clients sharing each step's request rate
+ * @param rates         request rates to step through, in requests per second
+ * @param step          how long each rate is held
+ * @param warmup        how long the lowest rate runs before anything is recorded
+ * @param mix           relative weights of the operations
+ * @param players       players seeded before the run, each with a team of monsters
+ * @param teamSize      monsters per seeded player, and so per fight team
+ * @param fights        fights created before the run for exchanges to target
+ * @param saturation    a step is saturated below this share of its target rate...
+ * @param latencyFactor ...or with a corrected p99 this many times the first step's
+ * @param reportDirectory where the report and histograms are written; by default next to the JMH results, to be committed
+ */
+record LoadTestSettings(int clients,
+                        List<Integer> rates,
+                        Duration step,
+                        Duration warmup,
+                        LoadMix mix,
+                        int players,
+                        int teamSize,
+                        int fights,
+                        double saturation,
+                        double latencyFactor,
+                        Path reportDirectory) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.clients", 1000),
+                Arrays.stream(property("rates", "100,200,400,800,1600,3200,6400").split(","))
+                        .map(String::trim)
+                        .map(Integer::valueOf)
+                        .toList(),
+                Duration.parse(property("step", "PT15S")),
+                Duration.parse(property("warmup", "PT10S")),
+                LoadMix.parse(property("mix", "createFight=1,exchange=6,listMonsters=1,playerProfile=2,playerMonsters=2")),
+                Integer.getInteger("loadtest.players", 200),
+                Integer.getInteger("loadtest.team-size", 6),
+                Integer.getInteger("loadtest.fights", 500),
+                Double.parseDouble(property("saturation", "0.95")),
+                Double.parseDouble(property("latency-factor", "5")),
+                Path.of(property("report-directory", "benchmarks/loadtest")));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
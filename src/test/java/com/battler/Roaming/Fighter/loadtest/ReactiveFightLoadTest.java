@@ -0,0 +1,26 @@
+package com.battler.Roaming.Fighter.loadtest;
+
+import com.battler.Roaming.Fighter.TestcontainersConfiguration;
+import com.battler.Roaming.Fighter.reactive.ReactiveConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * {@link FightLoadTest} against the reactive stack: the same seeding, steps
+ * and report on Netty with the fight, monster and player endpoints on R2DBC.
+ * Run it alone with {@code ./gradlew loadTest --tests '*ReactiveFightLoadTest'}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.root=WARN"
+})
+@ActiveProfiles(ReactiveConfiguration.PROFILE)
+@Import(TestcontainersConfiguration.class)
+class ReactiveFightLoadTest extends FightLoadTest {
+
+    @Override
+    String stack() {
+        return ReactiveConfiguration.PROFILE;
+    }
+}
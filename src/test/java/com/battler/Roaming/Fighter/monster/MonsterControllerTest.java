@@ -1,6 +1,9 @@
 package com.battler.Roaming.Fighter.monster;
 
 import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.monster.dto.MonsterDto;
+import com.battler.Roaming.Fighter.monster.dto.MonsterHealResult;
+import com.battler.Roaming.Fighter.monster.dto.MonsterImportResult;
 import com.battler.Roaming.Fighter.testutils.TestFixtures;
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import org.junit.jupiter.api.Test;
@@ -9,8 +12,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,6 +30,12 @@ class MonsterControllerTest {
     @Mock
     private MonsterService monsterService;
 
+    @Mock
+    private MonsterImportService monsterImportService;
+
+    @Mock
+    private MonsterHealService monsterHealService;
+
     @InjectMocks
     private MonsterController monsterController;
 
@@ -32,11 +44,11 @@ class MonsterControllerTest {
     @Test
     void getAllMonsters_ShouldReturnListOfMonsters() {
         // Given
-        List<Monster> monsters = FIXTURE_MONKEY.giveMe(Monster.class, 1);
+        List<MonsterDto> monsters = List.of(MonsterDto.from(FIXTURE_MONKEY.giveMeOne(Monster.class)));
         when(monsterService.getAllMonsters()).thenReturn(monsters);
 
         // When
-        ResponseEntity<List<Monster>> response = monsterController.getAllMonsters();
+        ResponseEntity<List<MonsterDto>> response = monsterController.getAllMonsters();
 
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -47,12 +59,12 @@ class MonsterControllerTest {
     @Test
     void getMonsterById_WhenMonsterExists_ShouldReturnMonster() {
         // Given
-        Monster testMonster = FIXTURE_MONKEY.giveMeOne(Monster.class);
-        UUID monsterId = testMonster.getId();
+        MonsterDto testMonster = MonsterDto.from(FIXTURE_MONKEY.giveMeOne(Monster.class));
+        UUID monsterId = testMonster.id();
         when(monsterService.getMonsterById(monsterId)).thenReturn(Optional.of(testMonster));
 
         // When
-        ResponseEntity<Monster> response = monsterController.getMonsterById(monsterId);
+        ResponseEntity<MonsterDto> response = monsterController.getMonsterById(monsterId);
 
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -68,7 +80,7 @@ class MonsterControllerTest {
         when(monsterService.getMonsterById(monsterId)).thenReturn(Optional.empty());
 
         // When
-        ResponseEntity<Monster> response = monsterController.getMonsterById(monsterId);
+        ResponseEntity<MonsterDto> response = monsterController.getMonsterById(monsterId);
 
         // Then
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
@@ -81,11 +93,11 @@ class MonsterControllerTest {
         // Given
         Monster testMonster = FIXTURE_MONKEY.giveMeOne(Monster.class);
         String monsterName = testMonster.getName();
-        List<Monster> monsters = FIXTURE_MONKEY.giveMe(Monster.class, 1);
+        List<MonsterDto> monsters = List.of(MonsterDto.from(testMonster));
         when(monsterService.getMonstersByName(monsterName)).thenReturn(monsters);
 
         // When
-        ResponseEntity<List<Monster>> response = monsterController.getMonstersByName(monsterName);
+        ResponseEntity<List<MonsterDto>> response = monsterController.getMonstersByName(monsterName);
 
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -93,6 +105,32 @@ class MonsterControllerTest {
         verify(monsterService).getMonstersByName(monsterName);
     }
 
+    @Test
+    void getNearestMonsters_ShouldReturnMonstersFromService() {
+        // Given
+        List<MonsterDto> monsters = List.of(MonsterDto.from(FIXTURE_MONKEY.giveMeOne(Monster.class)));
+        when(monsterService.getNearestMonsters(150, 10)).thenReturn(monsters);
+
+        // When
+        ResponseEntity<List<MonsterDto>> response = monsterController.getNearestMonsters(150, 10);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(monsters, response.getBody());
+    }
+
+    @Test
+    void getNearestMonsters_WithInvalidQuery_ShouldReturnBadRequest() {
+        // Given
+        when(monsterService.getNearestMonsters(-5, 10)).thenThrow(new IllegalArgumentException("Rating must be non-negative"));
+
+        // When
+        ResponseEntity<List<MonsterDto>> response = monsterController.getNearestMonsters(-5, 10);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
     @Test
     void createMonster_WithValidData_ShouldReturnCreatedMonster() {
         // Given
@@ -100,11 +138,11 @@ class MonsterControllerTest {
         when(monsterService.createMonster(any(Monster.class))).thenReturn(testMonster);
 
         // When
-        ResponseEntity<Monster> response = monsterController.createMonster(testMonster);
+        ResponseEntity<MonsterDto> response = monsterController.createMonster(testMonster);
 
         // Then
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
-        assertEquals(testMonster, response.getBody());
+        assertEquals(MonsterDto.from(testMonster), response.getBody());
         verify(monsterService).createMonster(testMonster);
     }
 
@@ -116,7 +154,7 @@ class MonsterControllerTest {
                 .thenThrow(new IllegalArgumentException("Monster name cannot be null or empty"));
 
         // When
-        ResponseEntity<Monster> response = monsterController.createMonster(testMonster);
+        ResponseEntity<MonsterDto> response = monsterController.createMonster(testMonster);
 
         // Then
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
@@ -132,11 +170,11 @@ class MonsterControllerTest {
         when(monsterService.updateMonster(eq(monsterId), any(Monster.class))).thenReturn(testMonster);
 
         // When
-        ResponseEntity<Monster> response = monsterController.updateMonster(monsterId, testMonster);
+        ResponseEntity<MonsterDto> response = monsterController.updateMonster(monsterId, testMonster);
 
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(testMonster, response.getBody());
+        assertEquals(MonsterDto.from(testMonster), response.getBody());
         verify(monsterService).updateMonster(eq(monsterId), any(Monster.class));
     }
 
@@ -149,7 +187,7 @@ class MonsterControllerTest {
                 .thenThrow(new IllegalArgumentException("Monster not found with id: " + monsterId));
 
         // When
-        ResponseEntity<Monster> response = monsterController.updateMonster(monsterId, testMonster);
+        ResponseEntity<MonsterDto> response = monsterController.updateMonster(monsterId, testMonster);
 
         // Then
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
@@ -188,5 +226,97 @@ class MonsterControllerTest {
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         verify(monsterService).deleteMonster(monsterId);
     }
-}
 
+    @Test
+    void importMonsters_WithCsvContentType_ShouldUseCsvImport() throws Exception {
+        // Given
+        InputStream body = new ByteArrayInputStream("name,attack,defence,health\n".getBytes());
+        MonsterImportResult result = new MonsterImportResult(3, 1, new ArrayList<>());
+        when(monsterImportService.importCsv(body)).thenReturn(result);
+
+        // When
+        ResponseEntity<MonsterImportResult> response =
+                monsterController.importMonsters(MediaType.parseMediaType("text/csv;charset=UTF-8"), body);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(result, response.getBody());
+        verify(monsterImportService).importCsv(body);
+        verify(monsterImportService, never()).importNdjson(any());
+    }
+
+    @Test
+    void importMonsters_WithNdjsonContentType_ShouldUseNdjsonImport() throws Exception {
+        // Given
+        InputStream body = new ByteArrayInputStream(new byte[0]);
+        MonsterImportResult result = new MonsterImportResult();
+        when(monsterImportService.importNdjson(body)).thenReturn(result);
+
+        // When
+        ResponseEntity<MonsterImportResult> response =
+                monsterController.importMonsters(MediaType.APPLICATION_NDJSON, body);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(result, response.getBody());
+        verify(monsterImportService).importNdjson(body);
+    }
+
+    @Test
+    void importMonsters_WithMalformedHeader_ShouldReturnBadRequest() throws Exception {
+        // Given
+        InputStream body = new ByteArrayInputStream("foo,bar\n".getBytes());
+        when(monsterImportService.importCsv(body))
+                .thenThrow(new IllegalArgumentException("CSV header is missing column: name"));
+
+        // When
+        ResponseEntity<MonsterImportResult> response =
+                monsterController.importMonsters(MediaType.parseMediaType("text/csv"), body);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void healMonsters_ShouldReturnHealedCount() {
+        // Given
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(monsterHealService.healMonsters(ids)).thenReturn(2L);
+
+        // When
+        ResponseEntity<MonsterHealResult> response = monsterController.healMonsters(ids);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(new MonsterHealResult(2), response.getBody());
+        verify(monsterHealService).healMonsters(ids);
+    }
+
+    @Test
+    void healMonsters_WithEmptyIds_ShouldReturnBadRequest() {
+        // Given
+        when(monsterHealService.healMonsters(List.of()))
+                .thenThrow(new IllegalArgumentException("Monster ids cannot be null or empty"));
+
+        // When
+        ResponseEntity<MonsterHealResult> response = monsterController.healMonsters(List.of());
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void healIdleMonsters_ShouldReturnHealedCount() {
+        // Given
+        when(monsterHealService.healIdleMonsters()).thenReturn(42L);
+
+        // When
+        ResponseEntity<MonsterHealResult> response = monsterController.healIdleMonsters();
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(new MonsterHealResult(42), response.getBody());
+    }
+}
@@ -0,0 +1,165 @@
+package com.battler.Roaming.Fighter.monster;
+
+import com.battler.Roaming.Fighter.cache.EntityCacheService;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.entity.Player;
+import com.battler.Roaming.Fighter.player.PlayerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MonsterHealServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private MonsterRepository monsterRepository;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityCacheService entityCacheService;
+
+    private MonsterHealService monsterHealService;
+
+    @BeforeEach
+    void setUp() {
+        monsterHealService = new MonsterHealService(
+                monsterRepository, playerRepository, new TransactionTemplate(transactionManager), entityCacheService, CHUNK_SIZE);
+    }
+
+    @Test
+    void healMonsters_ShouldUpdateDistinctIdsInChunks() {
+        // Given
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        UUID id3 = UUID.randomUUID();
+        UUID owner = UUID.randomUUID();
+        when(monsterRepository.healByIds(any())).thenReturn(2, 1);
+        when(playerRepository.bumpProfileVersionOfOwners(List.of(id1, id2))).thenReturn(List.of(owner));
+
+        // When
+        long healed = monsterHealService.healMonsters(List.of(id1, id2, id1, id3));
+
+        // Then
+        assertEquals(3, healed);
+        verify(monsterRepository).healByIds(List.of(id1, id2));
+        verify(monsterRepository).healByIds(List.of(id3));
+        verify(playerRepository).bumpProfileVersionOfOwners(List.of(id3));
+        verify(entityCacheService).evictEntities(Monster.class, List.of(id1, id2));
+        verify(entityCacheService).evictEntities(Player.class, List.of(owner));
+        verify(transactionManager, times(2)).commit(any());
+        verify(monsterRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void healMonsters_WithEmptyIds_ShouldThrowException() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> monsterHealService.healMonsters(List.of()));
+        assertEquals("Monster ids cannot be null or empty", exception.getMessage());
+        verify(monsterRepository, never()).healByIds(any(Collection.class));
+    }
+
+    @Test
+    void healPlayerMonsters_ShouldResumeEachChunkAfterTheLastHealedIdUntilShortChunk() {
+        // Given
+        UUID playerId = UUID.randomUUID();
+        List<UUID> firstChunk = ids(2);
+        List<UUID> secondChunk = ids(2);
+        List<UUID> lastChunk = ids(1);
+        when(playerRepository.existsById(playerId)).thenReturn(true);
+        when(monsterRepository.healPlayerMonstersChunk(playerId, MonsterHealService.FIRST_ID, CHUNK_SIZE))
+                .thenReturn(firstChunk);
+        when(monsterRepository.healPlayerMonstersChunk(playerId, firstChunk.getLast(), CHUNK_SIZE))
+                .thenReturn(secondChunk);
+        when(monsterRepository.healPlayerMonstersChunk(playerId, secondChunk.getLast(), CHUNK_SIZE))
+                .thenReturn(lastChunk);
+
+        // When
+        long healed = monsterHealService.healPlayerMonsters(playerId);
+
+        // Then
+        assertEquals(5, healed);
+        verify(monsterRepository, times(3)).healPlayerMonstersChunk(eq(playerId), any(), eq(CHUNK_SIZE));
+        verify(entityCacheService).evictEntities(Monster.class, lastChunk);
+        verify(playerRepository).bumpProfileVersion(playerId);
+        verify(entityCacheService).evictEntities(Player.class, List.of(playerId));
+        verify(transactionManager, times(4)).commit(any());
+    }
+
+    @Test
+    void healPlayerMonsters_WhenPlayerDoesNotExist_ShouldThrowException() {
+        // Given
+        UUID playerId = UUID.randomUUID();
+        when(playerRepository.existsById(playerId)).thenReturn(false);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> monsterHealService.healPlayerMonsters(playerId));
+        assertEquals("Player not found with id: " + playerId, exception.getMessage());
+        verify(monsterRepository, never()).healPlayerMonstersChunk(any(), any(), anyInt());
+    }
+
+    @Test
+    void healIdleMonsters_WhenNothingToHeal_ShouldRunSingleChunk() {
+        // Given
+        when(monsterRepository.healIdleMonstersChunk(MonsterHealService.FIRST_ID, CHUNK_SIZE)).thenReturn(List.of());
+
+        // When
+        long healed = monsterHealService.healIdleMonsters();
+
+        // Then
+        assertEquals(0, healed);
+        verify(monsterRepository).healIdleMonstersChunk(MonsterHealService.FIRST_ID, CHUNK_SIZE);
+        verifyNoInteractions(playerRepository, entityCacheService);
+    }
+
+    @Test
+    void healIdleMonsters_ShouldEvictOnlyTheHealedMonstersAndTheirOwners() {
+        // Given
+        List<UUID> firstChunk = ids(2);
+        List<UUID> secondChunk = ids(1);
+        List<UUID> owners = ids(1);
+        when(monsterRepository.healIdleMonstersChunk(MonsterHealService.FIRST_ID, CHUNK_SIZE)).thenReturn(firstChunk);
+        when(monsterRepository.healIdleMonstersChunk(firstChunk.getLast(), CHUNK_SIZE)).thenReturn(secondChunk);
+        when(playerRepository.bumpProfileVersionOfOwners(firstChunk)).thenReturn(owners);
+
+        // When
+        long healed = monsterHealService.healIdleMonsters();
+
+        // Then
+        assertEquals(3, healed);
+        InOrder inOrder = inOrder(entityCacheService, transactionManager);
+        inOrder.verify(entityCacheService).evictEntities(Monster.class, firstChunk);
+        inOrder.verify(entityCacheService).evictEntities(Player.class, owners);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(entityCacheService).evictEntities(Monster.class, secondChunk);
+        inOrder.verify(transactionManager).commit(any());
+        verify(entityCacheService, never()).evictAll();
+    }
+
+    private static List<UUID> ids(int count) {
+        return Stream.generate(UUID::randomUUID).limit(count).toList();
+    }
+}
@@ -0,0 +1,214 @@
+package com.battler.Roaming.Fighter.monster;
+
+import com.battler.Roaming.Fighter.cache.EntityCacheService;
+import com.battler.Roaming.Fighter.monster.dto.MonsterImportResult;
+import com.battler.Roaming.Fighter.player.PlayerRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MonsterImportServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private MonsterRepository monsterRepository;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private EntityCacheService entityCacheService;
+
+    // The batch list is reused, so names are copied out at insert time.
+    private final List<String> inserted = new ArrayList<>();
+
+    private MonsterImportService monsterImportService;
+
+    @BeforeEach
+    void setUp() {
+        monsterImportService = new MonsterImportService(
+                jdbcTemplate,
+                new TransactionTemplate(transactionManager),
+                new MonsterService(monsterRepository, playerRepository, entityCacheService),
+                new ObjectMapper(),
+                2
+        );
+    }
+
+    @Test
+    void importNdjson_WithValidRows_ShouldInsertInBatches() throws Exception {
+        // Given
+        InputStream input = stream("""
+                {"name":"Goblin","attack":5,"defence":2,"maxHealth":30,"health":30}
+                {"name":"Orc","attack":8,"defence":4,"maxHealth":50,"health":50}
+                {"name":"Troll","attack":12,"defence":6,"health":90}
+                """);
+
+        // When
+        MonsterImportResult result = monsterImportService.importNdjson(input);
+
+        // Then
+        assertEquals(3, result.getImported());
+        assertEquals(0, result.getFailed());
+        assertTrue(result.getErrors().isEmpty());
+        verify(jdbcTemplate, times(2))
+                .batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void importNdjson_WithInvalidRow_ShouldReportRowAndImportRest() throws Exception {
+        // Given
+        InputStream input = stream("""
+                {"name":"Goblin","attack":5,"defence":2,"maxHealth":30,"health":30}
+                {"name":"","attack":8,"defence":4,"maxHealth":50,"health":50}
+                not json
+                {"name":"Troll","attack":12,"defence":6,"maxHealth":90,"health":90}
+                null
+                """);
+
+        // When
+        MonsterImportResult result = monsterImportService.importNdjson(input);
+
+        // Then
+        assertEquals(2, result.getImported());
+        assertEquals(3, result.getFailed());
+        assertEquals(2, result.getErrors().get(0).getLine());
+        assertEquals("Monster name cannot be null or empty", result.getErrors().get(0).getMessage());
+        assertEquals(3, result.getErrors().get(1).getLine());
+        assertTrue(result.getErrors().get(1).getMessage().startsWith("Malformed JSON row"));
+        assertEquals(5, result.getErrors().get(2).getLine());
+        assertEquals("JSON row is null", result.getErrors().get(2).getMessage());
+    }
+
+    @Test
+    void importCsv_WithValidRows_ShouldMapColumnsByHeader() throws Exception {
+        // Given
+        recordInsertedNames();
+        InputStream input = stream("""
+                health,name,defence,attack
+                30,Goblin,2,5
+                -1,Orc,4,8
+                """);
+
+        // When
+        MonsterImportResult result = monsterImportService.importCsv(input);
+
+        // Then
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(3, result.getErrors().getFirst().getLine());
+        assertEquals("Monster health must be positive", result.getErrors().getFirst().getMessage());
+        verify(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(List.of("Goblin"), inserted);
+    }
+
+    @Test
+    void importCsv_WithQuotedValues_ShouldKeepCommasQuotesAndLineBreaksInsideThem() throws Exception {
+        // Given
+        recordInsertedNames();
+        InputStream input = stream("""
+                name,attack,defence,health,notes
+                "Goblin",5,2,30,"fast, sneaky"
+                "Cave Troll",12,6,90,"slow, ""huge"",
+                and strong"
+
+                Ogre,x,4,50,
+                """);
+
+        // When
+        MonsterImportResult result = monsterImportService.importCsv(input);
+
+        // Then
+        assertEquals(2, result.getImported());
+        assertEquals(List.of("Goblin", "Cave Troll"), inserted);
+        assertEquals(1, result.getFailed());
+        assertEquals(6, result.getErrors().getFirst().getLine());
+        assertEquals("Monster attack is not a number: x", result.getErrors().getFirst().getMessage());
+    }
+
+    @Test
+    void importCsv_WithMissingColumn_ShouldThrowException() {
+        // Given
+        InputStream input = stream("name,attack\nGoblin,5\n");
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> monsterImportService.importCsv(input));
+        assertEquals("CSV header is missing column: defence", exception.getMessage());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void importNdjson_WhenBatchIsRejected_ShouldRetryRowsIndividually() throws Exception {
+        // Given
+        InputStream input = stream("""
+                {"name":"Goblin","attack":5,"defence":2,"maxHealth":30,"health":30}
+                {"name":"Orc","attack":8,"defence":4,"maxHealth":50,"health":50}
+                """);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenReturn(1)
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // When
+        MonsterImportResult result = monsterImportService.importNdjson(input);
+
+        // Then
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(List.of(2L), result.getErrors().stream().map(e -> e.getLine()).toList());
+        verify(jdbcTemplate, times(2)).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void recordInsertedNames() throws SQLException {
+        PreparedStatement ps = mock(PreparedStatement.class);
+        doAnswer(invocation -> inserted.add(invocation.getArgument(1))).when(ps).setString(eq(2), anyString());
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<Object> batch = invocation.getArgument(1);
+                    ParameterizedPreparedStatementSetter<Object> setter = invocation.getArgument(3);
+                    for (Object row : batch) {
+                        setter.setValues(ps, row);
+                    }
+                    return new int[][]{};
+                });
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
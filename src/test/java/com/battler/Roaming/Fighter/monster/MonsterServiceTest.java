@@ -1,6 +1,10 @@
 package com.battler.Roaming.Fighter.monster;
 
+import com.battler.Roaming.Fighter.cache.EntityCacheService;
 import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.entity.Player;
+import com.battler.Roaming.Fighter.monster.dto.MonsterDto;
+import com.battler.Roaming.Fighter.player.PlayerRepository;
 import com.battler.Roaming.Fighter.testutils.TestFixtures;
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import org.junit.jupiter.api.Test;
@@ -13,6 +17,7 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,6 +26,12 @@ class MonsterServiceTest {
     @Mock
     private MonsterRepository monsterRepository;
 
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private EntityCacheService entityCacheService;
+
     @InjectMocks
     private MonsterService monsterService;
 
@@ -29,32 +40,33 @@ class MonsterServiceTest {
     @Test
     void getAllMonsters_ShouldReturnListOfMonsters() {
         // Given
-        List<Monster> monsters = FIXTURE_MONKEY.giveMe(Monster.class, 1);
-        when(monsterRepository.findAll()).thenReturn(monsters);
+        List<MonsterDto> monsters = List.of(MonsterDto.from(FIXTURE_MONKEY.giveMeOne(Monster.class)));
+        when(monsterRepository.findAllDtos()).thenReturn(monsters);
 
         // When
-        List<Monster> result = monsterService.getAllMonsters();
+        List<MonsterDto> result = monsterService.getAllMonsters();
 
         // Then
         assertEquals(1, result.size());
         assertEquals(monsters.getFirst(), result.getFirst());
-        verify(monsterRepository).findAll();
+        verify(monsterRepository).findAllDtos();
+        verify(monsterRepository, never()).findAll();
     }
 
     @Test
     void getMonsterById_WhenMonsterExists_ShouldReturnMonster() {
         // Given
-        Monster testMonster = FIXTURE_MONKEY.giveMeOne(Monster.class);
-        UUID monsterId = testMonster.getId();
-        when(monsterRepository.findById(monsterId)).thenReturn(Optional.of(testMonster));
+        MonsterDto testMonster = MonsterDto.from(FIXTURE_MONKEY.giveMeOne(Monster.class));
+        UUID monsterId = testMonster.id();
+        when(monsterRepository.findDtoById(monsterId)).thenReturn(Optional.of(testMonster));
 
         // When
-        Optional<Monster> result = monsterService.getMonsterById(monsterId);
+        Optional<MonsterDto> result = monsterService.getMonsterById(monsterId);
 
         // Then
         assertTrue(result.isPresent());
         assertEquals(testMonster, result.get());
-        verify(monsterRepository).findById(monsterId);
+        verify(monsterRepository).findDtoById(monsterId);
     }
 
     @Test
@@ -62,14 +74,14 @@ class MonsterServiceTest {
         // Given
         Monster testMonster = FIXTURE_MONKEY.giveMeOne(Monster.class);
         UUID monsterId = testMonster.getId();
-        when(monsterRepository.findById(monsterId)).thenReturn(Optional.empty());
+        when(monsterRepository.findDtoById(monsterId)).thenReturn(Optional.empty());
 
         // When
-        Optional<Monster> result = monsterService.getMonsterById(monsterId);
+        Optional<MonsterDto> result = monsterService.getMonsterById(monsterId);
 
         // Then
         assertTrue(result.isEmpty());
-        verify(monsterRepository).findById(monsterId);
+        verify(monsterRepository).findDtoById(monsterId);
     }
 
     @Test
@@ -77,16 +89,42 @@ class MonsterServiceTest {
         // Given
         Monster testMonster = FIXTURE_MONKEY.giveMeOne(Monster.class);
         String monsterName = testMonster.getName();
-        List<Monster> monsters = FIXTURE_MONKEY.giveMe(Monster.class, 1);
-        when(monsterRepository.findByName(monsterName)).thenReturn(monsters);
+        List<MonsterDto> monsters = List.of(MonsterDto.from(testMonster));
+        when(monsterRepository.findDtosByName(monsterName)).thenReturn(monsters);
 
         // When
-        List<Monster> result = monsterService.getMonstersByName(monsterName);
+        List<MonsterDto> result = monsterService.getMonstersByName(monsterName);
 
         // Then
         assertEquals(1, result.size());
         assertEquals(monsters.getFirst(), result.getFirst());
-        verify(monsterRepository).findByName(monsterName);
+        verify(monsterRepository).findDtosByName(monsterName);
+    }
+
+    @Test
+    void getNearestMonsters_ShouldMergeBothSidesByDistance() {
+        // Given
+        MonsterDto at105 = ratedMonster(105);
+        MonsterDto at120 = ratedMonster(120);
+        MonsterDto at98 = ratedMonster(98);
+        MonsterDto at90 = ratedMonster(90);
+        when(monsterRepository.findRatedAtOrAbove(eq(100), any())).thenReturn(List.of(at105, at120));
+        when(monsterRepository.findRatedBelow(eq(100), any())).thenReturn(List.of(at98, at90));
+
+        // When
+        List<MonsterDto> result = monsterService.getNearestMonsters(100, 3);
+
+        // Then
+        assertEquals(List.of(at98, at105, at90), result);
+    }
+
+    @Test
+    void getNearestMonsters_WithTooLargeK_ShouldThrowException() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> monsterService.getNearestMonsters(100, PowerRating.MAX_NEAREST + 1));
+        assertEquals("k must be between 1 and " + PowerRating.MAX_NEAREST, exception.getMessage());
+        verifyNoInteractions(monsterRepository);
     }
 
     @Test
@@ -205,6 +243,56 @@ class MonsterServiceTest {
         verify(monsterRepository).save(any(Monster.class));
     }
 
+    @Test
+    void updateMonster_WhenRatingChanges_ShouldAdjustOwnerTeamRating() {
+        // Given
+        Monster testMonster = FIXTURE_MONKEY.giveMeOne(Monster.class);
+        UUID monsterId = testMonster.getId();
+        testMonster.setAttack(10);
+        testMonster.setDefence(5);
+        testMonster.setMaxHealth(100);
+        testMonster.setPowerRating(PowerRating.of(10, 5, 100));
+        testMonster.setPlayerId(UUID.randomUUID());
+        Monster updatedMonster = FIXTURE_MONKEY.giveMeOne(Monster.class);
+        updatedMonster.setName("Updated Monster");
+        updatedMonster.setAttack(12);
+        updatedMonster.setDefence(5);
+        updatedMonster.setHealth(100);
+
+        when(monsterRepository.findById(monsterId)).thenReturn(Optional.of(testMonster));
+        when(monsterRepository.save(any(Monster.class))).thenReturn(testMonster);
+
+        // When
+        Monster result = monsterService.updateMonster(monsterId, updatedMonster);
+
+        // Then
+        assertEquals(PowerRating.of(12, 5, 100), result.getPowerRating());
+        verify(playerRepository).adjustTeamRatingOfOwner(monsterId, 6);
+        verify(entityCacheService).evictEntities(Player.class, List.of(testMonster.getPlayerId()));
+    }
+
+    @Test
+    void updateMonster_WhenRatingIsUnchanged_ShouldNotTouchTeamRating() {
+        // Given
+        Monster testMonster = FIXTURE_MONKEY.giveMeOne(Monster.class);
+        UUID monsterId = testMonster.getId();
+        testMonster.setPowerRating(PowerRating.of(testMonster));
+        Monster updatedMonster = FIXTURE_MONKEY.giveMeOne(Monster.class);
+        updatedMonster.setName("Renamed");
+        updatedMonster.setAttack(testMonster.getAttack());
+        updatedMonster.setDefence(testMonster.getDefence());
+        updatedMonster.setHealth(1);
+
+        when(monsterRepository.findById(monsterId)).thenReturn(Optional.of(testMonster));
+        when(monsterRepository.save(any(Monster.class))).thenReturn(testMonster);
+
+        // When
+        monsterService.updateMonster(monsterId, updatedMonster);
+
+        // Then
+        verify(playerRepository, never()).adjustTeamRatingOfOwner(any(), anyInt());
+    }
+
     @Test
     void updateMonster_WhenMonsterDoesNotExist_ShouldThrowException() {
         // Given
@@ -231,15 +319,15 @@ class MonsterServiceTest {
         // Given
         Monster testMonster = FIXTURE_MONKEY.giveMeOne(Monster.class);
         UUID monsterId = testMonster.getId();
-        when(monsterRepository.existsById(monsterId)).thenReturn(true);
-        doNothing().when(monsterRepository).deleteById(monsterId);
+        when(monsterRepository.findById(monsterId)).thenReturn(Optional.of(testMonster));
 
         // When
         monsterService.deleteMonster(monsterId);
 
         // Then
-        verify(monsterRepository).existsById(monsterId);
-        verify(monsterRepository).deleteById(monsterId);
+        verify(playerRepository).removeFromTeamRatingOfOwner(monsterId);
+        verify(monsterRepository).delete(testMonster);
+        verify(entityCacheService).evictMonsterBox(testMonster.getPlayerId());
     }
 
     @Test
@@ -247,14 +335,19 @@ class MonsterServiceTest {
         // Given
         Monster testMonster = FIXTURE_MONKEY.giveMeOne(Monster.class);
         UUID monsterId = testMonster.getId();
-        when(monsterRepository.existsById(monsterId)).thenReturn(false);
+        when(monsterRepository.findById(monsterId)).thenReturn(Optional.empty());
 
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> monsterService.deleteMonster(monsterId));
         assertEquals("Monster not found with id: " + monsterId, exception.getMessage());
-        verify(monsterRepository).existsById(monsterId);
-        verify(monsterRepository, never()).deleteById(any());
+        verify(monsterRepository, never()).delete(any());
+        verifyNoInteractions(entityCacheService);
     }
-}
 
+    private MonsterDto ratedMonster(int powerRating) {
+        Monster monster = FIXTURE_MONKEY.giveMeOne(Monster.class);
+        monster.setPowerRating(powerRating);
+        return MonsterDto.from(monster);
+    }
+}
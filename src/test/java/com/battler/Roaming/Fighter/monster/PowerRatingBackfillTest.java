@@ -0,0 +1,44 @@
+package com.battler.Roaming.Fighter.monster;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PowerRatingBackfillTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PowerRatingBackfill powerRatingBackfill;
+
+    @BeforeEach
+    void setUp() {
+        powerRatingBackfill = new PowerRatingBackfill(jdbcTemplate);
+    }
+
+    @Test
+    void afterPropertiesSet_ShouldRateOnlyUnratedMonstersAndAddThemToTheirTeams() {
+        // Given
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(jdbcTemplate.queryForMap(sql.capture())).thenReturn(Map.of("monsters", 3L, "players", 2L));
+
+        // When
+        powerRatingBackfill.afterPropertiesSet();
+
+        // Then
+        assertTrue(sql.getValue().contains("UPDATE monsters SET power_rating = attack * 3 + defence * 2 + max_health"));
+        assertTrue(sql.getValue().contains("WHERE power_rating = 0"));
+        assertTrue(sql.getValue().contains("team_rating = p.team_rating + gained.rating"));
+        verify(jdbcTemplate, only()).queryForMap(anyString());
+    }
+}
@@ -0,0 +1,86 @@
+package com.battler.Roaming.Fighter.monster.species;
+
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.monster.PowerRating;
+import com.battler.Roaming.Fighter.monster.dto.MonsterDto;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the retained heap of one million monsters, and of their DTOs,
+ * built per row against the same built from a {@link MonsterSpeciesPool}.
+ * Run with {@code ./gradlew benchmarkTest}.
+ */
+@Tag("benchmark")
+class MonsterFootprintBenchmark {
+
+    private static final int INSTANCES = 1_000_000;
+    private static final int SPECIES = 300;
+
+    @Test
+    void pooledMonsters_ShouldRetainLessHeapThanEntities() {
+        MonsterSpeciesPool pool = new MonsterSpeciesPool(SPECIES);
+        long entityBytes = retainedBytes(this::sampleMonster);
+        long pooledBytes = retainedBytes(i -> PooledMonster.of(sampleMonster(i), pool));
+        long dtoBytes = retainedBytes(i -> MonsterDto.from(sampleMonster(i)));
+        long pooledDtoBytes = retainedBytes(i -> {
+            Monster monster = sampleMonster(i);
+            return MonsterDto.of(monster.getId(), pool.intern(monster), monster.getHealth());
+        });
+
+        System.out.printf("Monster footprint for %,d instances of %d species:%n", INSTANCES, SPECIES);
+        print("entities", entityBytes);
+        print("pooled", pooledBytes);
+        print("dtos", dtoBytes);
+        print("pooled dtos", pooledDtoBytes);
+
+        assertTrue(pooledBytes < entityBytes);
+        assertTrue(pooledDtoBytes < dtoBytes);
+    }
+
+    // Every row gets its own name string and boxed stats, as when read from the database.
+    private Monster sampleMonster(int i) {
+        int species = i % SPECIES;
+        return new Monster(
+                UUID.randomUUID(),
+                new String("Species " + species),
+                1000 + species,
+                500 + species,
+                2000 + species,
+                1000 + (i % 1000),
+                PowerRating.of(1000 + species, 500 + species, 2000 + species),
+                null
+        );
+    }
+
+    private static void print(String label, long bytes) {
+        System.out.printf("  %-12s %,d bytes (%d bytes/monster)%n", label + ":", bytes, bytes / INSTANCES);
+    }
+
+    private static long retainedBytes(IntFunction<?> factory) {
+        long before = usedHeapAfterGc();
+        List<Object> retained = new ArrayList<>(INSTANCES);
+        for (int i = 0; i < INSTANCES; i++) {
+            retained.add(factory.apply(i));
+        }
+        long after = usedHeapAfterGc();
+        Reference.reachabilityFence(retained);
+        return after - before;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
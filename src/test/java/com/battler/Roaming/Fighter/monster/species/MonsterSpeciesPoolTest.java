@@ -0,0 +1,70 @@
+package com.battler.Roaming.Fighter.monster.species;
+
+import com.battler.Roaming.Fighter.entity.Monster;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonsterSpeciesPoolTest {
+
+    private final MonsterSpeciesPool pool = new MonsterSpeciesPool(100);
+
+    @Test
+    void intern_WithEqualStats_ShouldReturnSameInstance() {
+        // When
+        MonsterSpecies first = pool.intern(new String("Goblin"), 500, 200, 3000);
+        MonsterSpecies second = pool.intern(new String("Goblin"), 500, 200, 3000);
+
+        // Then
+        assertSame(first, second);
+        assertSame(first.name(), second.name());
+        assertEquals(4900, first.powerRating());
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    void intern_WithDifferentStats_ShouldReturnDistinctSpecies() {
+        // When
+        MonsterSpecies goblin = pool.intern("Goblin", 5, 2, 30);
+        MonsterSpecies strongGoblin = pool.intern("Goblin", 6, 2, 30);
+
+        // Then
+        assertNotSame(goblin, strongGoblin);
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    void intern_WhenPoolIsFull_ShouldStayBounded() {
+        // Given
+        MonsterSpeciesPool smallPool = new MonsterSpeciesPool(10);
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            smallPool.intern("Species " + i, i, i, i);
+        }
+
+        // Then
+        assertTrue(smallPool.size() <= 10);
+    }
+
+    @Test
+    void pooledMonster_ShouldRoundTripToMonster() {
+        // Given
+        Monster monster = new Monster(UUID.randomUUID(), "Troll", 15, 8, 150, 90, null, UUID.randomUUID());
+
+        // When
+        Monster restored = PooledMonster.of(monster, pool).toMonster();
+
+        // Then
+        assertEquals(monster.getId(), restored.getId());
+        assertEquals(monster.getName(), restored.getName());
+        assertEquals(monster.getAttack(), restored.getAttack());
+        assertEquals(monster.getDefence(), restored.getDefence());
+        assertEquals(monster.getMaxHealth(), restored.getMaxHealth());
+        assertEquals(monster.getHealth(), restored.getHealth());
+        assertEquals(monster.getPlayerId(), restored.getPlayerId());
+        assertEquals(211, restored.getPowerRating());
+    }
+}
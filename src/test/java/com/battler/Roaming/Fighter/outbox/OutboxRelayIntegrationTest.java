@@ -0,0 +1,84 @@
+package com.battler.Roaming.Fighter.outbox;
+
+import com.battler.Roaming.Fighter.TestcontainersConfiguration;
+import com.battler.Roaming.Fighter.fight.FightFinishedEvent;
+import com.battler.Roaming.Fighter.fight.FightResultStats;
+import com.battler.Roaming.Fighter.fight.FightStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Relays through the application's real transaction manager, which a mocked one would not hold to its rules.
+@SpringBootTest(properties = "roaming-fighter.outbox.relay-interval-ms=3600000")
+@Import(TestcontainersConfiguration.class)
+class OutboxRelayIntegrationTest {
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private FightResultStats fightResultStats;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE outbox_events");
+    }
+
+    @Test
+    void relay_ShouldDeliverRecordedEventAndDeleteIt() {
+        // Given
+        long before = fightResultStats.getFinishedFights(FightStatus.TEAM_A_WON);
+        transactionTemplate.executeWithoutResult(status -> outboxService.record(new FightFinishedEvent(
+                UUID.randomUUID(), FightStatus.TEAM_A_WON, List.of(UUID.randomUUID()), List.of(UUID.randomUUID()),
+                Instant.now())));
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        assertEquals(before + 1, fightResultStats.getFinishedFights(FightStatus.TEAM_A_WON));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_events", Integer.class));
+    }
+
+    @Test
+    void relay_WhenEventCannotBeRead_ShouldCountAttemptAndStillDeliverTheRest() {
+        // Given
+        long before = fightResultStats.getFinishedFights(FightStatus.TEAM_B_WON);
+        UUID unreadable = new UUID(0, 1);
+        jdbcTemplate.update("""
+                INSERT INTO outbox_events (id, event_type, payload, created_at, attempts)
+                VALUES (?, ?, '{not json', now(), 0)
+                """, unreadable, OutboxEventType.FIGHT_FINISHED.name());
+        transactionTemplate.executeWithoutResult(status -> outboxService.record(new FightFinishedEvent(
+                UUID.randomUUID(), FightStatus.TEAM_B_WON, List.of(UUID.randomUUID()), List.of(UUID.randomUUID()),
+                Instant.now())));
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        assertEquals(before + 1, fightResultStats.getFinishedFights(FightStatus.TEAM_B_WON));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT attempts FROM outbox_events WHERE id = ?", Integer.class, unreadable));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_events", Integer.class));
+    }
+}
@@ -0,0 +1,154 @@
+package com.battler.Roaming.Fighter.outbox;
+
+import com.battler.Roaming.Fighter.fight.FightFinishedEvent;
+import com.battler.Roaming.Fighter.fight.FightStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(jdbcTemplate, new TransactionTemplate(transactionManager),
+                eventPublisher, objectMapper, 2, 10);
+    }
+
+    @Test
+    void relay_ShouldPublishClaimedEventsAndDeleteThem() throws Exception {
+        // Given
+        FightFinishedEvent first = event();
+        FightFinishedEvent second = event();
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        stubPending(List.of(firstId, secondId), List.of());
+        stubClaim(firstId, first);
+        stubClaim(secondId, second);
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        verify(eventPublisher).publishEvent(first);
+        verify(eventPublisher).publishEvent(second);
+        verify(jdbcTemplate).update(OutboxRelay.DELETE_SQL, firstId);
+        verify(jdbcTemplate).update(OutboxRelay.DELETE_SQL, secondId);
+    }
+
+    @Test
+    void relay_ShouldClaimWithSkipLockedAndDeliverEachEventInANewTransaction() throws Exception {
+        // Given
+        UUID id = UUID.randomUUID();
+        stubPending(List.of(id));
+        stubClaim(id, event());
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        assertTrue(OutboxRelay.CLAIM_SQL.contains("FOR UPDATE SKIP LOCKED"));
+        verify(transactionManager).getTransaction(definitions.capture());
+        assertEquals(TransactionDefinition.PROPAGATION_REQUIRES_NEW, definitions.getValue().getPropagationBehavior());
+    }
+
+    @Test
+    void relay_WhenAnotherInstanceHoldsTheEvent_ShouldSkipIt() {
+        // Given
+        UUID id = UUID.randomUUID();
+        stubPending(List.of(id));
+        when(jdbcTemplate.query(eq(OutboxRelay.CLAIM_SQL), any(RowMapper.class), eq(id), eq(10))).thenReturn(List.of());
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        verifyNoInteractions(eventPublisher);
+        verify(jdbcTemplate, never()).update(OutboxRelay.DELETE_SQL, id);
+    }
+
+    @Test
+    void relay_WhenListenerFails_ShouldCountAttemptAndKeepEvent() throws Exception {
+        // Given
+        UUID failing = UUID.randomUUID();
+        UUID delivered = UUID.randomUUID();
+        FightFinishedEvent failingEvent = event();
+        stubPending(List.of(failing, delivered), List.of());
+        stubClaim(failing, failingEvent);
+        stubClaim(delivered, event());
+        doThrow(new IllegalStateException("listener down")).when(eventPublisher).publishEvent(failingEvent);
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        verify(jdbcTemplate).update(eq(OutboxRelay.FAILED_SQL), contains("listener down"), eq(failing));
+        verify(jdbcTemplate, never()).update(OutboxRelay.DELETE_SQL, failing);
+        verify(jdbcTemplate).update(OutboxRelay.DELETE_SQL, delivered);
+        verify(transactionManager).rollback(any());
+    }
+
+    @SafeVarargs
+    private void stubPending(List<UUID>... batches) {
+        var stubbing = when(jdbcTemplate.queryForList(OutboxRelay.PENDING_SQL, UUID.class, 10, 2));
+        for (List<UUID> batch : batches) {
+            stubbing = stubbing.thenReturn(batch);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubClaim(UUID id, FightFinishedEvent event) throws Exception {
+        ResultSet rs = row(id, event);
+        when(jdbcTemplate.query(eq(OutboxRelay.CLAIM_SQL), any(RowMapper.class), eq(id), eq(10))).thenAnswer(invocation -> {
+            RowMapper<Object> mapper = invocation.getArgument(1);
+            return List.of(mapper.mapRow(rs, 0));
+        });
+    }
+
+    private ResultSet row(UUID id, FightFinishedEvent event) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getObject("id", UUID.class)).thenReturn(id);
+        when(rs.getString("event_type")).thenReturn(OutboxEventType.FIGHT_FINISHED.name());
+        when(rs.getString("payload")).thenReturn(objectMapper.writeValueAsString(event));
+        return rs;
+    }
+
+    private static FightFinishedEvent event() {
+        return new FightFinishedEvent(UUID.randomUUID(), FightStatus.TEAM_B_WON,
+                List.of(UUID.randomUUID()), List.of(UUID.randomUUID()), Instant.now());
+    }
+}
@@ -0,0 +1,61 @@
+package com.battler.Roaming.Fighter.outbox;
+
+import com.battler.Roaming.Fighter.entity.OutboxEvent;
+import com.battler.Roaming.Fighter.fight.FightFinishedEvent;
+import com.battler.Roaming.Fighter.fight.FightStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private OutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new OutboxService(outboxRepository, objectMapper);
+    }
+
+    @Test
+    void record_ShouldSaveEventWithTypeAndReadablePayload() throws Exception {
+        // Given
+        FightFinishedEvent event = new FightFinishedEvent(UUID.randomUUID(), FightStatus.TEAM_A_WON,
+                List.of(UUID.randomUUID()), List.of(UUID.randomUUID()), Instant.parse("2025-01-01T00:00:00Z"));
+        ArgumentCaptor<OutboxEvent> saved = ArgumentCaptor.forClass(OutboxEvent.class);
+
+        // When
+        outboxService.record(event);
+
+        // Then
+        verify(outboxRepository).save(saved.capture());
+        assertEquals("FIGHT_FINISHED", saved.getValue().getEventType());
+        assertEquals(0, saved.getValue().getAttempts());
+        assertNotNull(saved.getValue().getCreatedAt());
+        assertEquals(event, objectMapper.readValue(saved.getValue().getPayload(), FightFinishedEvent.class));
+    }
+
+    @Test
+    void record_WithUnknownEvent_ShouldThrowException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> outboxService.record("not an event"));
+        verifyNoInteractions(outboxRepository);
+    }
+}
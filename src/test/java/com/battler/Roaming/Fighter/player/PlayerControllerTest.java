@@ -2,16 +2,32 @@ package com.battler.Roaming.Fighter.player;
 
 import com.battler.Roaming.Fighter.entity.Monster;
 import com.battler.Roaming.Fighter.entity.Player;
+import com.battler.Roaming.Fighter.monster.MonsterHealService;
+import com.battler.Roaming.Fighter.monster.dto.MonsterDto;
+import com.battler.Roaming.Fighter.monster.dto.MonsterHealResult;
+import com.battler.Roaming.Fighter.player.dto.MonsterBoxCount;
+import com.battler.Roaming.Fighter.player.dto.MonsterBoxPage;
+import com.battler.Roaming.Fighter.player.dto.MonsterBoxSummary;
+import com.battler.Roaming.Fighter.player.dto.PlayerDto;
+import com.battler.Roaming.Fighter.player.dto.PlayerProfileDto;
 import com.battler.Roaming.Fighter.testutils.TestFixtures;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,6 +41,15 @@ class PlayerControllerTest {
     @Mock
     private PlayerService playerService;
 
+    @Mock
+    private PlayerExportService playerExportService;
+
+    @Mock
+    private PlayerProfileService playerProfileService;
+
+    @Mock
+    private MonsterHealService monsterHealService;
+
     @InjectMocks
     private PlayerController playerController;
 
@@ -33,11 +58,11 @@ class PlayerControllerTest {
     @Test
     void getAllPlayers_ShouldReturnListOfPlayers() {
         // Given
-        List<Player> players = FIXTURE_MONKEY.giveMe(Player.class, 1);
+        List<PlayerDto> players = List.of(PlayerDto.from(FIXTURE_MONKEY.giveMeOne(Player.class)));
         when(playerService.getAllPlayers()).thenReturn(players);
 
         // When
-        ResponseEntity<List<Player>> response = playerController.getAllPlayers();
+        ResponseEntity<List<PlayerDto>> response = playerController.getAllPlayers();
 
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -48,12 +73,12 @@ class PlayerControllerTest {
     @Test
     void getPlayerById_WhenPlayerExists_ShouldReturnPlayer() {
         // Given
-        Player testPlayer = FIXTURE_MONKEY.giveMeOne(Player.class);
-        UUID playerId = testPlayer.getId();
+        PlayerDto testPlayer = PlayerDto.from(FIXTURE_MONKEY.giveMeOne(Player.class));
+        UUID playerId = testPlayer.id();
         when(playerService.getPlayerById(playerId)).thenReturn(Optional.of(testPlayer));
 
         // When
-        ResponseEntity<Player> response = playerController.getPlayerById(playerId);
+        ResponseEntity<PlayerDto> response = playerController.getPlayerById(playerId);
 
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -69,7 +94,7 @@ class PlayerControllerTest {
         when(playerService.getPlayerById(playerId)).thenReturn(Optional.empty());
 
         // When
-        ResponseEntity<Player> response = playerController.getPlayerById(playerId);
+        ResponseEntity<PlayerDto> response = playerController.getPlayerById(playerId);
 
         // Then
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
@@ -77,15 +102,44 @@ class PlayerControllerTest {
         verify(playerService).getPlayerById(playerId);
     }
 
+    @Test
+    void getPlayerProfile_WhenPlayerExists_ShouldReturnProfile() {
+        // Given
+        PlayerDto player = PlayerDto.from(FIXTURE_MONKEY.giveMeOne(Player.class));
+        PlayerProfileDto profile = new PlayerProfileDto(
+                player, 3, new MonsterBoxSummary(0, 0, 0, List.of()), List.of(), 2, 1);
+        when(playerProfileService.getPlayerProfile(player.id())).thenReturn(Optional.of(profile));
+
+        // When
+        ResponseEntity<PlayerProfileDto> response = playerController.getPlayerProfile(player.id());
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(profile, response.getBody());
+    }
+
+    @Test
+    void getPlayerProfile_WhenPlayerDoesNotExist_ShouldReturnNotFound() {
+        // Given
+        UUID playerId = UUID.randomUUID();
+        when(playerProfileService.getPlayerProfile(playerId)).thenReturn(Optional.empty());
+
+        // When
+        ResponseEntity<PlayerProfileDto> response = playerController.getPlayerProfile(playerId);
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
     @Test
     void getPlayerByName_WhenPlayerExists_ShouldReturnPlayer() {
         // Given
-        Player testPlayer = FIXTURE_MONKEY.giveMeOne(Player.class);
-        String playerName = testPlayer.getName();
+        PlayerDto testPlayer = PlayerDto.from(FIXTURE_MONKEY.giveMeOne(Player.class));
+        String playerName = testPlayer.name();
         when(playerService.getPlayerByName(playerName)).thenReturn(Optional.of(testPlayer));
 
         // When
-        ResponseEntity<Player> response = playerController.getPlayerByName(playerName);
+        ResponseEntity<PlayerDto> response = playerController.getPlayerByName(playerName);
 
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -93,6 +147,32 @@ class PlayerControllerTest {
         verify(playerService).getPlayerByName(playerName);
     }
 
+    @Test
+    void getNearestPlayers_ShouldReturnPlayersFromService() {
+        // Given
+        List<PlayerDto> players = List.of(PlayerDto.from(FIXTURE_MONKEY.giveMeOne(Player.class)));
+        when(playerService.getNearestPlayers(300, 10)).thenReturn(players);
+
+        // When
+        ResponseEntity<List<PlayerDto>> response = playerController.getNearestPlayers(300, 10);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(players, response.getBody());
+    }
+
+    @Test
+    void getNearestPlayers_WithInvalidQuery_ShouldReturnBadRequest() {
+        // Given
+        when(playerService.getNearestPlayers(300, 0)).thenThrow(new IllegalArgumentException("k must be between 1 and 100"));
+
+        // When
+        ResponseEntity<List<PlayerDto>> response = playerController.getNearestPlayers(300, 0);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
     @Test
     void createPlayer_WithValidData_ShouldReturnCreatedPlayer() {
         // Given
@@ -100,14 +180,33 @@ class PlayerControllerTest {
         when(playerService.createPlayer(any(Player.class))).thenReturn(testPlayer);
 
         // When
-        ResponseEntity<Player> response = playerController.createPlayer(testPlayer);
+        ResponseEntity<PlayerDto> response = playerController.createPlayer(testPlayer);
 
         // Then
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
-        assertEquals(testPlayer, response.getBody());
+        assertEquals(PlayerDto.from(testPlayer), response.getBody());
         verify(playerService).createPlayer(testPlayer);
     }
 
+    @Test
+    void createPlayer_WithPostedRatingAndVersion_ShouldIgnoreThem() throws Exception {
+        // Given
+        Player posted = new ObjectMapper().readValue(
+                "{\"name\":\"Ash\",\"teamRating\":9999,\"profileVersion\":42}", Player.class);
+        when(playerService.createPlayer(any(Player.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        ArgumentCaptor<Player> created = ArgumentCaptor.forClass(Player.class);
+
+        // When
+        ResponseEntity<PlayerDto> response = playerController.createPlayer(posted);
+
+        // Then
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        verify(playerService).createPlayer(created.capture());
+        assertEquals("Ash", created.getValue().getName());
+        assertEquals(0, created.getValue().getTeamRating());
+        assertEquals(0L, created.getValue().getProfileVersion());
+    }
+
     @Test
     void createPlayer_WithDuplicateName_ShouldReturnBadRequest() {
         // Given
@@ -116,7 +215,7 @@ class PlayerControllerTest {
                 .thenThrow(new IllegalArgumentException("Player with name already exists"));
 
         // When
-        ResponseEntity<Player> response = playerController.createPlayer(testPlayer);
+        ResponseEntity<PlayerDto> response = playerController.createPlayer(testPlayer);
 
         // Then
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
@@ -132,11 +231,11 @@ class PlayerControllerTest {
         when(playerService.updatePlayer(eq(playerId), any(Player.class))).thenReturn(testPlayer);
 
         // When
-        ResponseEntity<Player> response = playerController.updatePlayer(playerId, testPlayer);
+        ResponseEntity<PlayerDto> response = playerController.updatePlayer(playerId, testPlayer);
 
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(testPlayer, response.getBody());
+        assertEquals(PlayerDto.from(testPlayer), response.getBody());
         verify(playerService).updatePlayer(eq(playerId), any(Player.class));
     }
 
@@ -149,7 +248,7 @@ class PlayerControllerTest {
                 .thenThrow(new IllegalArgumentException("Player not found with id: " + playerId));
 
         // When
-        ResponseEntity<Player> response = playerController.updatePlayer(playerId, testPlayer);
+        ResponseEntity<PlayerDto> response = playerController.updatePlayer(playerId, testPlayer);
 
         // Then
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
@@ -190,32 +289,77 @@ class PlayerControllerTest {
     }
 
     @Test
-    void getPlayerMonsters_WhenPlayerExists_ShouldReturnMonsters() {
+    void getPlayerMonsters_WhenPlayerExists_ShouldReturnPage() {
         // Given
         Player testPlayer = FIXTURE_MONKEY.giveMeOne(Player.class);
         UUID playerId = testPlayer.getId();
-        List<Monster> monsters = FIXTURE_MONKEY.giveMe(Monster.class, 1);
-        when(playerService.getPlayerMonsters(playerId)).thenReturn(monsters);
+        Pageable pageable = PageRequest.of(0, 50, Sort.by("name"));
+        MonsterBoxPage page = new MonsterBoxPage(
+                List.of(MonsterDto.from(FIXTURE_MONKEY.giveMeOne(Monster.class))), 0, 50, false);
+        when(playerService.getPlayerMonsters(playerId, "Gob", 0, pageable)).thenReturn(Optional.of(page));
 
         // When
-        ResponseEntity<List<Monster>> response = playerController.getPlayerMonsters(playerId);
+        ResponseEntity<MonsterBoxPage> response = playerController.getPlayerMonsters(playerId, "Gob", 0, pageable);
 
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(monsters, response.getBody());
-        verify(playerService).getPlayerMonsters(playerId);
+        assertEquals(page, response.getBody());
+        verify(playerService).getPlayerMonsters(playerId, "Gob", 0, pageable);
+    }
+
+    @Test
+    void getPlayerMonsters_WhenPlayerDoesNotExist_ShouldReturnNotFound() {
+        // Given
+        UUID playerId = UUID.randomUUID();
+        Pageable pageable = PageRequest.of(0, 50);
+        when(playerService.getPlayerMonsters(playerId, null, 0, pageable)).thenReturn(Optional.empty());
+
+        // When
+        ResponseEntity<MonsterBoxPage> response = playerController.getPlayerMonsters(playerId, null, 0, pageable);
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    void getPlayerMonsters_WithInvalidSort_ShouldReturnBadRequest() {
+        // Given
+        UUID playerId = UUID.randomUUID();
+        Pageable pageable = PageRequest.of(0, 50, Sort.by("health"));
+        when(playerService.getPlayerMonsters(playerId, null, 0, pageable))
+                .thenThrow(new IllegalArgumentException("Cannot sort monster box by: health"));
+
+        // When
+        ResponseEntity<MonsterBoxPage> response = playerController.getPlayerMonsters(playerId, null, 0, pageable);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void countPlayerMonsters_WhenPlayerExists_ShouldReturnCount() {
+        // Given
+        UUID playerId = UUID.randomUUID();
+        when(playerService.countPlayerMonsters(playerId)).thenReturn(42L);
+
+        // When
+        ResponseEntity<MonsterBoxCount> response = playerController.countPlayerMonsters(playerId);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(new MonsterBoxCount(42L), response.getBody());
     }
 
     @Test
     void addMonsterToPlayer_WhenPlayerExists_ShouldReturnUpdatedPlayer() {
         // Given
-        Player testPlayer = FIXTURE_MONKEY.giveMeOne(Player.class);
-        UUID playerId = testPlayer.getId();
+        PlayerDto testPlayer = PlayerDto.from(FIXTURE_MONKEY.giveMeOne(Player.class));
+        UUID playerId = testPlayer.id();
         Monster testMonster = FIXTURE_MONKEY.giveMeOne(Monster.class);
         when(playerService.addMonsterToPlayer(eq(playerId), any(Monster.class))).thenReturn(testPlayer);
 
         // When
-        ResponseEntity<Player> response = playerController.addMonsterToPlayer(playerId, testMonster);
+        ResponseEntity<PlayerDto> response = playerController.addMonsterToPlayer(playerId, testMonster);
 
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -226,19 +370,94 @@ class PlayerControllerTest {
     @Test
     void removeMonsterFromPlayer_WhenPlayerAndMonsterExist_ShouldReturnUpdatedPlayer() {
         // Given
-        Player testPlayer = FIXTURE_MONKEY.giveMeOne(Player.class);
-        UUID playerId = testPlayer.getId();
-        Monster testMonster = FIXTURE_MONKEY.giveMeOne(Monster.class);
-        UUID monsterId = testMonster.getId();
+        PlayerDto testPlayer = PlayerDto.from(FIXTURE_MONKEY.giveMeOne(Player.class));
+        UUID playerId = testPlayer.id();
+        UUID monsterId = UUID.randomUUID();
         when(playerService.removeMonsterFromPlayer(playerId, monsterId)).thenReturn(testPlayer);
 
         // When
-        ResponseEntity<Player> response = playerController.removeMonsterFromPlayer(playerId, monsterId);
+        ResponseEntity<PlayerDto> response = playerController.removeMonsterFromPlayer(playerId, monsterId);
 
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(testPlayer, response.getBody());
         verify(playerService).removeMonsterFromPlayer(playerId, monsterId);
     }
-}
 
+    @Test
+    void transferMonster_WhenMonsterIsInSourceBox_ShouldReturnNoContent() {
+        // Given
+        UUID fromPlayerId = UUID.randomUUID();
+        UUID toPlayerId = UUID.randomUUID();
+        UUID monsterId = UUID.randomUUID();
+
+        // When
+        ResponseEntity<Void> response = playerController.transferMonster(fromPlayerId, monsterId, toPlayerId);
+
+        // Then
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        verify(playerService).transferMonster(fromPlayerId, monsterId, toPlayerId);
+    }
+
+    @Test
+    void transferMonster_WhenMonsterIsNotInSourceBox_ShouldReturnNotFound() {
+        // Given
+        UUID fromPlayerId = UUID.randomUUID();
+        UUID toPlayerId = UUID.randomUUID();
+        UUID monsterId = UUID.randomUUID();
+        doThrow(new IllegalArgumentException("Monster not found in player's monster box"))
+                .when(playerService).transferMonster(fromPlayerId, monsterId, toPlayerId);
+
+        // When
+        ResponseEntity<Void> response = playerController.transferMonster(fromPlayerId, monsterId, toPlayerId);
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    void exportPlayers_ShouldStreamFromExportServiceAfterCursor() throws Exception {
+        // Given
+        UUID cursor = UUID.randomUUID();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = playerController.exportPlayers(cursor);
+        assertNotNull(response.getBody());
+        response.getBody().writeTo(output);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        verify(playerExportService).exportPlayers(cursor, output);
+    }
+
+    @Test
+    void healPlayerMonsters_WhenPlayerExists_ShouldReturnHealedCount() {
+        // Given
+        UUID playerId = UUID.randomUUID();
+        when(monsterHealService.healPlayerMonsters(playerId)).thenReturn(7L);
+
+        // When
+        ResponseEntity<MonsterHealResult> response = playerController.healPlayerMonsters(playerId);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(new MonsterHealResult(7), response.getBody());
+    }
+
+    @Test
+    void healPlayerMonsters_WhenPlayerDoesNotExist_ShouldReturnNotFound() {
+        // Given
+        UUID playerId = UUID.randomUUID();
+        when(monsterHealService.healPlayerMonsters(playerId))
+                .thenThrow(new IllegalArgumentException("Player not found with id: " + playerId));
+
+        // When
+        ResponseEntity<MonsterHealResult> response = playerController.healPlayerMonsters(playerId);
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+}
@@ -0,0 +1,127 @@
+package com.battler.Roaming.Fighter.player;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerExportServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PlayerExportService playerExportService;
+
+    @BeforeEach
+    void setUp() {
+        playerExportService = new PlayerExportService(
+                jdbcTemplate, new TransactionTemplate(transactionManager), objectMapper, 500);
+    }
+
+    @Test
+    void exportPlayers_ShouldWriteOneLinePerPlayerWithMonsterBox() throws Exception {
+        // Given
+        UUID playerA = UUID.randomUUID();
+        UUID playerB = UUID.randomUUID();
+        UUID monster1 = UUID.randomUUID();
+        UUID monster2 = UUID.randomUUID();
+        List<ResultSet> rows = List.of(
+                row(playerA, "Ash", monster1, "Goblin"),
+                row(playerA, "Ash", monster2, "Orc"),
+                row(playerB, "Misty", null, null)
+        );
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (ResultSet rs : rows) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        playerExportService.exportPlayers(null, output);
+
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(playerA.toString(), first.get("cursor").asText());
+        assertEquals("Ash", first.get("name").asText());
+        assertEquals(2, first.get("monsterBox").size());
+        assertEquals(monster1.toString(), first.get("monsterBox").get(0).get("id").asText());
+        assertEquals("Orc", first.get("monsterBox").get(1).get("name").asText());
+
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals(playerB.toString(), second.get("cursor").asText());
+        assertEquals(0, second.get("monsterBox").size());
+    }
+
+    @Test
+    void exportPlayers_WithCursor_ShouldResumeAfterCursorInReadOnlyTransaction() throws Exception {
+        // Given
+        UUID cursor = UUID.randomUUID();
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString(), eq(ResultSet.TYPE_FORWARD_ONLY), eq(ResultSet.CONCUR_READ_ONLY)))
+                .thenReturn(statement);
+
+        // When
+        playerExportService.exportPlayers(cursor, new ByteArrayOutputStream());
+
+        // Then
+        verify(jdbcTemplate).query(creator.capture(), any(RowCallbackHandler.class));
+        creator.getValue().createPreparedStatement(connection);
+        verify(connection).prepareStatement(contains("WHERE p.id > ?"), anyInt(), anyInt());
+        verify(statement).setFetchSize(500);
+        verify(statement).setObject(1, cursor);
+
+        verify(transactionManager).getTransaction(definition.capture());
+        assertTrue(definition.getValue().isReadOnly());
+    }
+
+    private ResultSet row(UUID playerId, String playerName, UUID monsterId, String monsterName) throws Exception {
+        ResultSet rs = mock(ResultSet.class, withSettings().strictness(Strictness.LENIENT));
+        when(rs.getObject("player_id", UUID.class)).thenReturn(playerId);
+        when(rs.getString("player_name")).thenReturn(playerName);
+        when(rs.getObject("monster_id", UUID.class)).thenReturn(monsterId);
+        when(rs.getString("monster_name")).thenReturn(monsterName);
+        when(rs.getInt("attack")).thenReturn(10);
+        when(rs.getInt("defence")).thenReturn(5);
+        when(rs.getInt("max_health")).thenReturn(100);
+        when(rs.getInt("health")).thenReturn(80);
+        return rs;
+    }
+}
@@ -0,0 +1,79 @@
+package com.battler.Roaming.Fighter.player;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerNameFilterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PlayerNameFilter playerNameFilter;
+
+    @BeforeEach
+    void setUp() {
+        playerNameFilter = new PlayerNameFilter(jdbcTemplate, new TransactionTemplate(transactionManager), 10_000, 0.01);
+    }
+
+    @Test
+    void mightContain_BeforeLoad_ShouldReportEveryNameAsPossiblyTaken() {
+        // When & Then
+        assertTrue(playerNameFilter.mightContain("Ash"));
+    }
+
+    @Test
+    void load_ShouldAddEveryExistingName() throws Exception {
+        // Given
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("name")).thenReturn("Ash", "Misty");
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(rs);
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        // When
+        playerNameFilter.load();
+
+        // Then
+        assertTrue(playerNameFilter.mightContain("Ash"));
+        assertTrue(playerNameFilter.mightContain("Misty"));
+        assertFalse(playerNameFilter.mightContain("Brock"));
+    }
+
+    @Test
+    void mightContain_AfterManyAdds_ShouldStayNearConfiguredFalsePositiveRate() {
+        // Given
+        playerNameFilter.load();
+        IntStream.range(0, 10_000).forEach(i -> playerNameFilter.add("Taken " + i));
+
+        // When
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> playerNameFilter.mightContain("Free " + i))
+                .count();
+
+        // Then
+        IntStream.range(0, 10_000).forEach(i -> assertTrue(playerNameFilter.mightContain("Taken " + i)));
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+}
@@ -0,0 +1,45 @@
+package com.battler.Roaming.Fighter.player;
+
+import com.battler.Roaming.Fighter.TestcontainersConfiguration;
+import com.battler.Roaming.Fighter.entity.Player;
+import com.battler.Roaming.Fighter.player.dto.PlayerProfileDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+class PlayerProfileIntegrationTest {
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerProfileService playerProfileService;
+
+    @Test
+    void getPlayerProfile_AfterRename_ShouldShowTheNewName() {
+        // Given
+        String suffix = String.valueOf(System.nanoTime());
+        Player player = new Player();
+        player.setName("Before " + suffix);
+        UUID playerId = playerService.createPlayer(player).getId();
+        PlayerProfileDto cached = playerProfileService.getPlayerProfile(playerId).orElseThrow();
+        Player renamed = new Player();
+        renamed.setName("After " + suffix);
+
+        // When
+        playerService.updatePlayer(playerId, renamed);
+        PlayerProfileDto profile = playerProfileService.getPlayerProfile(playerId).orElseThrow();
+
+        // Then
+        assertEquals("Before " + suffix, cached.player().name());
+        assertEquals("After " + suffix, profile.player().name());
+        assertTrue(profile.version() > cached.version());
+    }
+}
@@ -0,0 +1,136 @@
+package com.battler.Roaming.Fighter.player;
+
+import com.battler.Roaming.Fighter.monster.species.MonsterSpeciesPool;
+import com.battler.Roaming.Fighter.player.dto.PlayerProfileDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerProfileServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    private PlayerProfileService playerProfileService;
+
+    private final UUID playerId = UUID.randomUUID();
+    private final UUID ongoingFight = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        playerProfileService = new PlayerProfileService(jdbcTemplate, playerRepository, 2, 100, new SimpleMeterRegistry(),
+                new MonsterSpeciesPool(100));
+    }
+
+    @Test
+    void getPlayerProfile_ShouldBuildProfileFromTwoQueries() throws Exception {
+        // Given
+        UUID strongest = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(playerRepository.findProfileVersion(playerId)).thenReturn(Optional.of(7L));
+        stubPlayerQuery(strongest, second);
+        stubFightsQuery();
+
+        // When
+        Optional<PlayerProfileDto> result = playerProfileService.getPlayerProfile(playerId);
+
+        // Then
+        assertTrue(result.isPresent());
+        PlayerProfileDto profile = result.get();
+        assertEquals("Ash", profile.player().name());
+        assertEquals(7L, profile.version());
+        assertEquals(40, profile.box().count());
+        assertEquals(1200, profile.box().totalHealth());
+        assertEquals(List.of(strongest, second), profile.box().strongest().stream().map(m -> m.id()).toList());
+        assertEquals(List.of(290, 250), profile.box().strongest().stream().map(m -> m.powerRating()).toList());
+        assertEquals(List.of(ongoingFight), profile.ongoingFights());
+        assertEquals(5, profile.wins());
+        assertEquals(3, profile.losses());
+    }
+
+    @Test
+    void getPlayerProfile_WhenVersionIsUnchanged_ShouldServeFromCache() throws Exception {
+        // Given
+        when(playerRepository.findProfileVersion(playerId)).thenReturn(Optional.of(7L), Optional.of(7L), Optional.of(8L));
+        stubPlayerQuery(UUID.randomUUID(), UUID.randomUUID());
+        stubFightsQuery();
+
+        // When
+        playerProfileService.getPlayerProfile(playerId);
+        playerProfileService.getPlayerProfile(playerId);
+        playerProfileService.getPlayerProfile(playerId);
+
+        // Then
+        verify(jdbcTemplate, times(2)).query(anyString(), any(ResultSetExtractor.class), any(), any());
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), any(RowMapper.class), any(), any());
+    }
+
+    @Test
+    void getPlayerProfile_WhenPlayerDoesNotExist_ShouldReturnEmpty() {
+        // Given
+        when(playerRepository.findProfileVersion(playerId)).thenReturn(Optional.empty());
+
+        // When
+        Optional<PlayerProfileDto> result = playerProfileService.getPlayerProfile(playerId);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubPlayerQuery(UUID strongest, UUID second) throws Exception {
+        ResultSet rs = mock(ResultSet.class, withSettings().lenient());
+        when(rs.next()).thenReturn(true, true, false, true, true, false);
+        when(rs.getObject("player_id", UUID.class)).thenReturn(playerId);
+        when(rs.getString("player_name")).thenReturn("Ash");
+        when(rs.getInt("team_rating")).thenReturn(900);
+        when(rs.getLong("profile_version")).thenReturn(7L);
+        when(rs.getLong("monster_count")).thenReturn(40L);
+        when(rs.getLong("total_health")).thenReturn(1200L);
+        when(rs.getLong("total_max_health")).thenReturn(1500L);
+        when(rs.getObject("monster_id", UUID.class)).thenReturn(strongest, second);
+        when(rs.getString("monster_name")).thenReturn("Dragon", "Troll");
+        when(rs.getInt("attack")).thenReturn(50, 40);
+        when(rs.getInt("defence")).thenReturn(20, 20);
+        when(rs.getInt("max_health")).thenReturn(100, 90);
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), any(), any())).thenAnswer(invocation -> {
+            ResultSetExtractor<PlayerProfileDto> extractor = invocation.getArgument(1);
+            return extractor.extractData(rs);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubFightsQuery() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        Array ongoing = mock(Array.class);
+        when(ongoing.getArray()).thenReturn(new UUID[]{ongoingFight});
+        when(rs.getArray("ongoing")).thenReturn(ongoing);
+        when(rs.getLong("wins")).thenReturn(5L);
+        when(rs.getLong("losses")).thenReturn(3L);
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), any(), any())).thenAnswer(invocation -> {
+            RowMapper<PlayerProfileDto> mapper = invocation.getArgument(1);
+            return mapper.mapRow(rs, 0);
+        });
+    }
+}
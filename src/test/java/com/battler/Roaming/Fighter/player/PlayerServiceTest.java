@@ -1,15 +1,31 @@
 package com.battler.Roaming.Fighter.player;
 
+import com.battler.Roaming.Fighter.cache.EntityCacheService;
 import com.battler.Roaming.Fighter.entity.Monster;
 import com.battler.Roaming.Fighter.entity.Player;
+import com.battler.Roaming.Fighter.monster.MonsterRepository;
+import com.battler.Roaming.Fighter.monster.dto.MonsterDto;
+import com.battler.Roaming.Fighter.player.dto.MonsterBoxPage;
+import com.battler.Roaming.Fighter.player.dto.PlayerDto;
 import com.battler.Roaming.Fighter.testutils.TestFixtures;
 import com.navercorp.fixturemonkey.FixtureMonkey;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.sql.SQLException;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -22,6 +38,18 @@ class PlayerServiceTest {
     @Mock
     private PlayerRepository playerRepository;
 
+    @Mock
+    private MonsterRepository monsterRepository;
+
+    @Mock
+    private PlayerNameFilter playerNameFilter;
+
+    @Mock
+    private EntityCacheService entityCacheService;
+
+    @Captor
+    private ArgumentCaptor<Pageable> pageable;
+
     @InjectMocks
     private PlayerService playerService;
 
@@ -30,32 +58,33 @@ class PlayerServiceTest {
     @Test
     void getAllPlayers_ShouldReturnListOfPlayers() {
         // Given
-        List<Player> players = FIXTURE_MONKEY.giveMe(Player.class, 1);
-        when(playerRepository.findAll()).thenReturn(players);
+        List<PlayerDto> players = List.of(PlayerDto.from(FIXTURE_MONKEY.giveMeOne(Player.class)));
+        when(playerRepository.findAllDtos()).thenReturn(players);
 
         // When
-        List<Player> result = playerService.getAllPlayers();
+        List<PlayerDto> result = playerService.getAllPlayers();
 
         // Then
         assertEquals(1, result.size());
         assertEquals(players.getFirst(), result.getFirst());
-        verify(playerRepository).findAll();
+        verify(playerRepository).findAllDtos();
+        verify(playerRepository, never()).findAll();
     }
 
     @Test
     void getPlayerById_WhenPlayerExists_ShouldReturnPlayer() {
         // Given
-        Player testPlayer = FIXTURE_MONKEY.giveMeOne(Player.class);
-        UUID playerId = testPlayer.getId();
-        when(playerRepository.findById(playerId)).thenReturn(Optional.of(testPlayer));
+        PlayerDto testPlayer = PlayerDto.from(FIXTURE_MONKEY.giveMeOne(Player.class));
+        UUID playerId = testPlayer.id();
+        when(playerRepository.findDtoById(playerId)).thenReturn(Optional.of(testPlayer));
 
         // When
-        Optional<Player> result = playerService.getPlayerById(playerId);
+        Optional<PlayerDto> result = playerService.getPlayerById(playerId);
 
         // Then
         assertTrue(result.isPresent());
         assertEquals(testPlayer, result.get());
-        verify(playerRepository).findById(playerId);
+        verify(playerRepository).findDtoById(playerId);
     }
 
     @Test
@@ -63,38 +92,62 @@ class PlayerServiceTest {
         // Given
         Player testPlayer = FIXTURE_MONKEY.giveMeOne(Player.class);
         UUID playerId = testPlayer.getId();
-        when(playerRepository.findById(playerId)).thenReturn(Optional.empty());
+        when(playerRepository.findDtoById(playerId)).thenReturn(Optional.empty());
 
         // When
-        Optional<Player> result = playerService.getPlayerById(playerId);
+        Optional<PlayerDto> result = playerService.getPlayerById(playerId);
 
         // Then
         assertTrue(result.isEmpty());
-        verify(playerRepository).findById(playerId);
+        verify(playerRepository).findDtoById(playerId);
     }
 
     @Test
     void getPlayerByName_WhenPlayerExists_ShouldReturnPlayer() {
         // Given
-        Player testPlayer = FIXTURE_MONKEY.giveMeOne(Player.class);
-        String playerName = testPlayer.getName();
-        when(playerRepository.findByName(playerName)).thenReturn(Optional.of(testPlayer));
+        PlayerDto testPlayer = PlayerDto.from(FIXTURE_MONKEY.giveMeOne(Player.class));
+        String playerName = testPlayer.name();
+        when(playerRepository.findDtoByName(playerName)).thenReturn(Optional.of(testPlayer));
 
         // When
-        Optional<Player> result = playerService.getPlayerByName(playerName);
+        Optional<PlayerDto> result = playerService.getPlayerByName(playerName);
 
         // Then
         assertTrue(result.isPresent());
         assertEquals(testPlayer, result.get());
-        verify(playerRepository).findByName(playerName);
+        verify(playerRepository).findDtoByName(playerName);
+    }
+
+    @Test
+    void getNearestPlayers_ShouldMergeBothSidesByDistance() {
+        // Given
+        PlayerDto at400 = new PlayerDto(UUID.randomUUID(), "Ash", 400);
+        PlayerDto at330 = new PlayerDto(UUID.randomUUID(), "Misty", 330);
+        when(playerRepository.findRatedAtOrAbove(eq(350), any())).thenReturn(List.of(at400));
+        when(playerRepository.findRatedBelow(eq(350), any())).thenReturn(List.of(at330));
+
+        // When
+        List<PlayerDto> result = playerService.getNearestPlayers(350, 5);
+
+        // Then
+        assertEquals(List.of(at330, at400), result);
+    }
+
+    @Test
+    void getNearestPlayers_WithNegativeRating_ShouldThrowException() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> playerService.getNearestPlayers(-1, 5));
+        assertEquals("Rating must be non-negative", exception.getMessage());
+        verifyNoInteractions(playerRepository);
     }
 
     @Test
     void createPlayer_WhenNameIsUnique_ShouldSaveAndReturnPlayer() {
         // Given
         Player testPlayer = FIXTURE_MONKEY.giveMeOne(Player.class);
-        when(playerRepository.existsByName(testPlayer.getName())).thenReturn(false);
-        when(playerRepository.save(any(Player.class))).thenReturn(testPlayer);
+        when(playerNameFilter.mightContain(testPlayer.getName())).thenReturn(false);
+        when(playerRepository.saveAndFlush(any(Player.class))).thenReturn(testPlayer);
 
         // When
         Player result = playerService.createPlayer(testPlayer);
@@ -102,14 +155,90 @@ class PlayerServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(testPlayer, result);
+        verify(playerRepository, never()).existsByName(any());
+        verify(playerRepository).saveAndFlush(testPlayer);
+        verify(playerNameFilter).add(testPlayer.getName());
+    }
+
+    @Test
+    void createPlayer_WhenFilterHitIsFalsePositive_ShouldCheckDatabaseAndSave() {
+        // Given
+        Player testPlayer = FIXTURE_MONKEY.giveMeOne(Player.class);
+        when(playerNameFilter.mightContain(testPlayer.getName())).thenReturn(true);
+        when(playerRepository.existsByName(testPlayer.getName())).thenReturn(false);
+        when(playerRepository.saveAndFlush(any(Player.class))).thenReturn(testPlayer);
+
+        // When
+        Player result = playerService.createPlayer(testPlayer);
+
+        // Then
+        assertEquals(testPlayer, result);
         verify(playerRepository).existsByName(testPlayer.getName());
-        verify(playerRepository).save(testPlayer);
+    }
+
+    @Test
+    void createPlayer_WhenUniqueConstraintRejectsName_ShouldThrowException() {
+        // Given
+        Player testPlayer = FIXTURE_MONKEY.giveMeOne(Player.class);
+        when(playerNameFilter.mightContain(testPlayer.getName())).thenReturn(false);
+        when(playerRepository.saveAndFlush(any(Player.class))).thenThrow(new DataIntegrityViolationException(
+                "duplicate key",
+                new ConstraintViolationException("duplicate key", new SQLException(), Player.NAME_CONSTRAINT)));
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> playerService.createPlayer(testPlayer));
+        assertEquals("Player with name '" + testPlayer.getName() + "' already exists", exception.getMessage());
+        verify(playerNameFilter, never()).add(any());
+    }
+
+    @Test
+    void createPlayer_WhenNameConstraintHasAGeneratedName_ShouldStillThrowNameTaken() {
+        // Given
+        Player testPlayer = FIXTURE_MONKEY.giveMeOne(Player.class);
+        when(playerNameFilter.mightContain(testPlayer.getName())).thenReturn(false);
+        when(playerRepository.saveAndFlush(any(Player.class))).thenThrow(new DataIntegrityViolationException(
+                "duplicate key", new ConstraintViolationException("duplicate key",
+                        uniqueViolation("ukpblmuavgrnr991e41662asko"), null)));
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> playerService.createPlayer(testPlayer));
+        assertEquals("Player with name '" + testPlayer.getName() + "' already exists", exception.getMessage());
+    }
+
+    @Test
+    void createPlayer_WhenAnotherUniqueKeyIsViolated_ShouldRethrow() {
+        // Given
+        Player testPlayer = FIXTURE_MONKEY.giveMeOne(Player.class);
+        DataIntegrityViolationException failure = new DataIntegrityViolationException(
+                "duplicate key", new ConstraintViolationException("duplicate key", uniqueViolation("players_pkey"), null));
+        when(playerNameFilter.mightContain(testPlayer.getName())).thenReturn(false);
+        when(playerRepository.saveAndFlush(any(Player.class))).thenThrow(failure);
+
+        // When & Then
+        assertSame(failure, assertThrows(DataIntegrityViolationException.class,
+                () -> playerService.createPlayer(testPlayer)));
+    }
+
+    @Test
+    void createPlayer_WhenOtherConstraintFails_ShouldRethrow() {
+        // Given
+        Player testPlayer = FIXTURE_MONKEY.giveMeOne(Player.class);
+        DataIntegrityViolationException failure = new DataIntegrityViolationException("not null");
+        when(playerNameFilter.mightContain(testPlayer.getName())).thenReturn(false);
+        when(playerRepository.saveAndFlush(any(Player.class))).thenThrow(failure);
+
+        // When & Then
+        assertSame(failure, assertThrows(DataIntegrityViolationException.class,
+                () -> playerService.createPlayer(testPlayer)));
     }
 
     @Test
     void createPlayer_WhenNameAlreadyExists_ShouldThrowException() {
         // Given
         Player testPlayer = FIXTURE_MONKEY.giveMeOne(Player.class);
+        when(playerNameFilter.mightContain(testPlayer.getName())).thenReturn(true);
         when(playerRepository.existsByName(testPlayer.getName())).thenReturn(true);
 
         // When & Then
@@ -117,7 +246,7 @@ class PlayerServiceTest {
                 () -> playerService.createPlayer(testPlayer));
         assertEquals("Player with name '" + testPlayer.getName() + "' already exists", exception.getMessage());
         verify(playerRepository).existsByName(testPlayer.getName());
-        verify(playerRepository, never()).save(any(Player.class));
+        verify(playerRepository, never()).saveAndFlush(any(Player.class));
     }
 
     @Test
@@ -129,8 +258,9 @@ class PlayerServiceTest {
         updatedPlayer.setName("UpdatedName");
 
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(testPlayer));
+        when(playerNameFilter.mightContain("UpdatedName")).thenReturn(true);
         when(playerRepository.existsByName("UpdatedName")).thenReturn(false);
-        when(playerRepository.save(any(Player.class))).thenReturn(testPlayer);
+        when(playerRepository.saveAndFlush(any(Player.class))).thenReturn(testPlayer);
 
         // When
         Player result = playerService.updatePlayer(playerId, updatedPlayer);
@@ -138,7 +268,28 @@ class PlayerServiceTest {
         // Then
         assertNotNull(result);
         verify(playerRepository).findById(playerId);
-        verify(playerRepository).save(any(Player.class));
+        verify(playerRepository).saveAndFlush(any(Player.class));
+        verify(playerRepository).bumpProfileVersion(playerId);
+    }
+
+    @Test
+    void updatePlayer_WithUnchangedName_ShouldNotBumpProfileVersion() {
+        // Given
+        Player testPlayer = FIXTURE_MONKEY.giveMeBuilder(Player.class)
+                                          .set("name", "SameName")
+                                          .sample();
+        UUID playerId = testPlayer.getId();
+        Player updatedPlayer = FIXTURE_MONKEY.giveMeBuilder(Player.class)
+                                             .set("name", "SameName")
+                                             .sample();
+        when(playerRepository.findById(playerId)).thenReturn(Optional.of(testPlayer));
+        when(playerRepository.saveAndFlush(any(Player.class))).thenReturn(testPlayer);
+
+        // When
+        playerService.updatePlayer(playerId, updatedPlayer);
+
+        // Then
+        verify(playerRepository, never()).bumpProfileVersion(any());
     }
 
     @Test
@@ -156,7 +307,7 @@ class PlayerServiceTest {
                 () -> playerService.updatePlayer(playerId, updatedPlayer));
         assertEquals("Player not found with id: " + playerId, exception.getMessage());
         verify(playerRepository).findById(playerId);
-        verify(playerRepository, never()).save(any(Player.class));
+        verify(playerRepository, never()).saveAndFlush(any(Player.class));
     }
 
     @Test
@@ -172,6 +323,7 @@ class PlayerServiceTest {
 
         // Then
         verify(playerRepository).existsById(playerId);
+        verify(monsterRepository).deleteMonsterBox(playerId);
         verify(playerRepository).deleteById(playerId);
     }
 
@@ -191,83 +343,254 @@ class PlayerServiceTest {
     }
 
     @Test
-    void getPlayerMonsters_WhenPlayerExists_ShouldReturnMonsters() {
+    void getPlayerMonsters_WhenPlayerExists_ShouldReturnPageWithoutLoadingPlayer() {
         // Given
-        Monster testMonster = FIXTURE_MONKEY.giveMeOne(Monster.class);
-        Player testPlayer = FIXTURE_MONKEY.giveMeBuilder(Player.class)
-                                          .set("monsterBox", List.of(testMonster))
-                                          .sample();
-        UUID playerId = testPlayer.getId();
-        when(playerRepository.findById(playerId)).thenReturn(Optional.of(testPlayer));
+        MonsterDto testMonster = MonsterDto.from(FIXTURE_MONKEY.giveMeOne(Monster.class));
+        UUID playerId = UUID.randomUUID();
+        when(playerRepository.existsById(playerId)).thenReturn(true);
+        when(monsterRepository.findBoxDtos(eq(playerId), eq("Gob%"), eq(150), pageable.capture()))
+                .thenReturn(new SliceImpl<>(List.of(testMonster), PageRequest.of(2, 20), true));
 
         // When
-        List<Monster> result = playerService.getPlayerMonsters(playerId);
+        Optional<MonsterBoxPage> result = playerService.getPlayerMonsters(
+                playerId, "Gob", 150, PageRequest.of(2, 20, Sort.by(Sort.Direction.DESC, "powerRating")));
 
         // Then
-        assertEquals(1, result.size());
-        assertEquals(testMonster, result.getFirst());
-        verify(playerRepository).findById(playerId);
+        assertTrue(result.isPresent());
+        assertEquals(List.of(testMonster), result.get().monsters());
+        assertEquals(2, result.get().page());
+        assertTrue(result.get().hasNext());
+        assertEquals(Sort.by(Sort.Direction.DESC, "powerRating", "id"), pageable.getValue().getSort());
+        verify(playerRepository, never()).findById(any());
     }
 
     @Test
-    void addMonsterToPlayer_WhenPlayerExists_ShouldAddMonster() {
+    void getPlayerMonsters_WithWildcardsInName_ShouldMatchThemLiterally() {
         // Given
-        Player testPlayer = FIXTURE_MONKEY.giveMeBuilder(Player.class)
-                                          .set("monsterBox", List.of())
-                                          .sample();
-        UUID playerId = testPlayer.getId();
+        UUID playerId = UUID.randomUUID();
+        when(playerRepository.existsById(playerId)).thenReturn(true);
+        when(monsterRepository.findBoxDtos(eq(playerId), anyString(), anyInt(), any()))
+                .thenReturn(new SliceImpl<>(List.of()));
+
+        // When
+        playerService.getPlayerMonsters(playerId, "5%_!", 0, PageRequest.of(0, 10));
+
+        // Then
+        verify(monsterRepository).findBoxDtos(eq(playerId), eq("5!%!_!!%"), eq(0), pageable.capture());
+        assertEquals(Sort.by("name", "id"), pageable.getValue().getSort());
+    }
+
+    @Test
+    void getPlayerMonsters_WithSeveralSortKeys_ShouldBreakTiesByIdLast() {
+        // Given
+        UUID playerId = UUID.randomUUID();
+        when(playerRepository.existsById(playerId)).thenReturn(true);
+        when(monsterRepository.findBoxDtos(eq(playerId), anyString(), anyInt(), any()))
+                .thenReturn(new SliceImpl<>(List.of()));
+        Sort requested = Sort.by(Sort.Order.desc("powerRating"), Sort.Order.asc("name"));
+
+        // When
+        playerService.getPlayerMonsters(playerId, null, 0, PageRequest.of(1, 10, requested));
+
+        // Then
+        verify(monsterRepository).findBoxDtos(eq(playerId), anyString(), eq(0), pageable.capture());
+        assertEquals(requested.and(Sort.by(Sort.Direction.DESC, "id")), pageable.getValue().getSort());
+        assertEquals("id", pageable.getValue().getSort().toList().getLast().getProperty());
+    }
+
+    @Test
+    void getPlayerMonsters_WithUnindexedSort_ShouldThrowException() {
+        // Given
+        UUID playerId = UUID.randomUUID();
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> playerService.getPlayerMonsters(playerId, null, 0, PageRequest.of(0, 10, Sort.by("health"))));
+        assertEquals("Cannot sort monster box by: health", exception.getMessage());
+        verifyNoInteractions(monsterRepository);
+    }
+
+    @Test
+    void getPlayerMonsters_WhenPlayerDoesNotExist_ShouldReturnEmpty() {
+        // Given
+        UUID playerId = UUID.randomUUID();
+        when(playerRepository.existsById(playerId)).thenReturn(false);
+
+        // When
+        Optional<MonsterBoxPage> result = playerService.getPlayerMonsters(playerId, null, 0, PageRequest.of(0, 10));
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(monsterRepository);
+    }
+
+    @Test
+    void countPlayerMonsters_WhenPlayerExists_ShouldCountByPlayerId() {
+        // Given
+        UUID playerId = UUID.randomUUID();
+        when(playerRepository.existsById(playerId)).thenReturn(true);
+        when(monsterRepository.countByPlayerId(playerId)).thenReturn(50_000L);
+
+        // When
+        long result = playerService.countPlayerMonsters(playerId);
+
+        // Then
+        assertEquals(50_000L, result);
+    }
+
+    @Test
+    void countPlayerMonsters_WhenPlayerDoesNotExist_ShouldThrowException() {
+        // Given
+        UUID playerId = UUID.randomUUID();
+        when(playerRepository.existsById(playerId)).thenReturn(false);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> playerService.countPlayerMonsters(playerId));
+        assertEquals("Player not found with id: " + playerId, exception.getMessage());
+        verifyNoInteractions(monsterRepository);
+    }
+
+    @Test
+    void addMonsterToPlayer_WhenPlayerExists_ShouldInsertMonsterWithoutLoadingBox() {
+        // Given
+        UUID playerId = UUID.randomUUID();
+        PlayerDto updatedPlayer = new PlayerDto(playerId, "Ash", 240);
         Monster testMonster = FIXTURE_MONKEY.giveMeOne(Monster.class);
-        when(playerRepository.findById(playerId)).thenReturn(Optional.of(testPlayer));
-        when(playerRepository.save(any(Player.class))).thenReturn(testPlayer);
+        testMonster.setAttack(10);
+        testMonster.setDefence(5);
+        testMonster.setMaxHealth(100);
+        when(playerRepository.adjustTeamRating(playerId, 140)).thenReturn(1);
+        when(playerRepository.findDtoById(playerId)).thenReturn(Optional.of(updatedPlayer));
 
         // When
-        Player result = playerService.addMonsterToPlayer(playerId, testMonster);
+        PlayerDto result = playerService.addMonsterToPlayer(playerId, testMonster);
 
         // Then
-        assertNotNull(result);
-        assertEquals(1, testPlayer.getMonsterBox().size());
-        assertTrue(testPlayer.getMonsterBox().contains(testMonster));
-        verify(playerRepository).findById(playerId);
-        verify(playerRepository).save(testPlayer);
+        assertEquals(updatedPlayer, result);
+        assertNull(testMonster.getId());
+        assertEquals(playerId, testMonster.getPlayerId());
+        assertEquals(140, testMonster.getPowerRating());
+        verify(monsterRepository).save(testMonster);
+        verify(entityCacheService).evictMonsterBox(playerId);
+        verify(playerRepository, never()).findById(any());
     }
 
     @Test
-    void removeMonsterFromPlayer_WhenPlayerAndMonsterExist_ShouldRemoveMonster() {
+    void addMonsterToPlayer_WhenPlayerDoesNotExist_ShouldThrowException() {
         // Given
+        UUID playerId = UUID.randomUUID();
         Monster testMonster = FIXTURE_MONKEY.giveMeOne(Monster.class);
-        Player testPlayer = FIXTURE_MONKEY.giveMeBuilder(Player.class)
-                                          .set("monsterBox", List.of(testMonster))
-                                          .sample();
-        UUID playerId = testPlayer.getId();
-        UUID monsterId = testMonster.getId();
-        when(playerRepository.findById(playerId)).thenReturn(Optional.of(testPlayer));
-        when(playerRepository.save(any(Player.class))).thenReturn(testPlayer);
+        when(playerRepository.adjustTeamRating(eq(playerId), anyInt())).thenReturn(0);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> playerService.addMonsterToPlayer(playerId, testMonster));
+        assertEquals("Player not found with id: " + playerId, exception.getMessage());
+        verify(monsterRepository, never()).save(any());
+    }
+
+    @Test
+    void removeMonsterFromPlayer_WhenPlayerAndMonsterExist_ShouldDeleteFromBoxAndEvictOnlyThoseRows() {
+        // Given
+        UUID playerId = UUID.randomUUID();
+        UUID monsterId = UUID.randomUUID();
+        PlayerDto updatedPlayer = new PlayerDto(playerId, "Ash", 50);
+        when(playerRepository.deleteFromMonsterBox(playerId, monsterId)).thenReturn(1);
+        when(playerRepository.findDtoById(playerId)).thenReturn(Optional.of(updatedPlayer));
 
         // When
-        Player result = playerService.removeMonsterFromPlayer(playerId, monsterId);
+        PlayerDto result = playerService.removeMonsterFromPlayer(playerId, monsterId);
 
         // Then
-        assertNotNull(result);
-        assertEquals(0, testPlayer.getMonsterBox().size());
-        verify(playerRepository).findById(playerId);
-        verify(playerRepository).save(testPlayer);
+        assertEquals(updatedPlayer, result);
+        verify(playerRepository, never()).findById(any());
+        verify(entityCacheService).evictEntities(Monster.class, List.of(monsterId));
+        verify(entityCacheService).evictEntities(Player.class, List.of(playerId));
+        verify(entityCacheService).evictMonsterBox(playerId);
     }
 
     @Test
     void removeMonsterFromPlayer_WhenMonsterDoesNotExist_ShouldThrowException() {
         // Given
-        Player testPlayer = FIXTURE_MONKEY.giveMeOne(Player.class);
-        UUID playerId = testPlayer.getId();
-        Monster testMonster = FIXTURE_MONKEY.giveMeOne(Monster.class);
-        UUID monsterId = testMonster.getId();
-        when(playerRepository.findById(playerId)).thenReturn(Optional.of(testPlayer));
+        UUID playerId = UUID.randomUUID();
+        UUID monsterId = UUID.randomUUID();
+        when(playerRepository.deleteFromMonsterBox(playerId, monsterId)).thenReturn(0);
+        when(playerRepository.existsById(playerId)).thenReturn(true);
 
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> playerService.removeMonsterFromPlayer(playerId, monsterId));
         assertEquals("Monster not found in player's monster box", exception.getMessage());
-        verify(playerRepository).findById(playerId);
-        verify(playerRepository, never()).save(any(Player.class));
     }
-}
 
+    @Test
+    void removeMonsterFromPlayer_WhenPlayerDoesNotExist_ShouldThrowException() {
+        // Given
+        UUID playerId = UUID.randomUUID();
+        UUID monsterId = UUID.randomUUID();
+        when(playerRepository.deleteFromMonsterBox(playerId, monsterId)).thenReturn(0);
+        when(playerRepository.existsById(playerId)).thenReturn(false);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> playerService.removeMonsterFromPlayer(playerId, monsterId));
+        assertEquals("Player not found with id: " + playerId, exception.getMessage());
+    }
+
+    @Test
+    void transferMonster_WhenMonsterIsInSourceBox_ShouldMoveItInOneStatement() {
+        // Given
+        UUID fromPlayerId = UUID.randomUUID();
+        UUID toPlayerId = UUID.randomUUID();
+        UUID monsterId = UUID.randomUUID();
+        when(playerRepository.existsById(toPlayerId)).thenReturn(true);
+        when(playerRepository.transferMonster(fromPlayerId, monsterId, toPlayerId)).thenReturn(2);
+
+        // When
+        playerService.transferMonster(fromPlayerId, monsterId, toPlayerId);
+
+        // Then
+        verify(playerRepository).transferMonster(fromPlayerId, monsterId, toPlayerId);
+        verifyNoInteractions(monsterRepository);
+        verify(entityCacheService).evictEntities(Monster.class, List.of(monsterId));
+        verify(entityCacheService).evictEntities(Player.class, List.of(fromPlayerId, toPlayerId));
+        verify(entityCacheService).evictMonsterBox(fromPlayerId);
+        verify(entityCacheService).evictMonsterBox(toPlayerId);
+    }
+
+    @Test
+    void transferMonster_WhenTargetDoesNotExist_ShouldThrowException() {
+        // Given
+        UUID fromPlayerId = UUID.randomUUID();
+        UUID toPlayerId = UUID.randomUUID();
+        UUID monsterId = UUID.randomUUID();
+        when(playerRepository.existsById(toPlayerId)).thenReturn(false);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> playerService.transferMonster(fromPlayerId, monsterId, toPlayerId));
+        assertEquals("Player not found with id: " + toPlayerId, exception.getMessage());
+        verify(playerRepository, never()).transferMonster(any(), any(), any());
+    }
+
+    @Test
+    void transferMonster_ToSamePlayer_ShouldThrowException() {
+        // Given
+        UUID playerId = UUID.randomUUID();
+        UUID monsterId = UUID.randomUUID();
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> playerService.transferMonster(playerId, monsterId, playerId));
+        assertEquals("Monster is already in that player's monster box", exception.getMessage());
+        verifyNoInteractions(playerRepository);
+    }
+
+    // A unique violation as a German-speaking server reports it, so only the constraint field can identify it.
+    private static PSQLException uniqueViolation(String constraint) {
+        return new PSQLException(new ServerErrorMessage("SFEHLER\0VERROR\0C23505\0"
+                + "Mdoppelter Schlüsselwert verletzt Unique-Constraint »" + constraint + "«\0"
+                + "tplayers\0n" + constraint + "\0"));
+    }
+}
@@ -0,0 +1,200 @@
+package com.battler.Roaming.Fighter.reactive;
+
+import com.battler.Roaming.Fighter.fight.FightHandler;
+import com.battler.Roaming.Fighter.fight.FightStatus;
+import com.battler.Roaming.Fighter.fight.ReactiveFightService;
+import com.battler.Roaming.Fighter.fight.dto.CreateFightRequest;
+import com.battler.Roaming.Fighter.fight.dto.FightStateDto;
+import com.battler.Roaming.Fighter.ingest.CopyIngestService;
+import com.battler.Roaming.Fighter.ingest.IngestHandler;
+import com.battler.Roaming.Fighter.monster.MonsterHandler;
+import com.battler.Roaming.Fighter.monster.MonsterImportService;
+import com.battler.Roaming.Fighter.monster.ReactiveMonsterService;
+import com.battler.Roaming.Fighter.monster.dto.MonsterDto;
+import com.battler.Roaming.Fighter.monster.dto.MonsterImportResult;
+import com.battler.Roaming.Fighter.player.PlayerExportService;
+import com.battler.Roaming.Fighter.player.PlayerHandler;
+import com.battler.Roaming.Fighter.player.ReactivePlayerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveRoutesTest {
+
+    @Mock
+    private ReactiveFightService fightService;
+
+    @Mock
+    private ReactiveMonsterService monsterService;
+
+    @Mock
+    private MonsterImportService monsterImportService;
+
+    @Mock
+    private ReactivePlayerService playerService;
+
+    @Mock
+    private PlayerExportService playerExportService;
+
+    @Mock
+    private CopyIngestService copyIngestService;
+
+    private final BlockingBridge blockingBridge = new BlockingBridge();
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToRouterFunction(new ReactiveRoutes().reactiveEndpoints(
+                new FightHandler(fightService),
+                new MonsterHandler(monsterService, monsterImportService, blockingBridge),
+                new PlayerHandler(playerService, playerExportService, blockingBridge),
+                new IngestHandler(copyIngestService, blockingBridge))).build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        blockingBridge.close();
+    }
+
+    @Test
+    void createFight_WithValidRequest_ShouldReturnCreated() {
+        // Given
+        FightStateDto created = new FightStateDto(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                List.of(), List.of(), FightStatus.ONGOING);
+        when(fightService.createFight(any(CreateFightRequest.class))).thenReturn(Mono.just(created));
+
+        // When & Then
+        client.post().uri("/api/fight")
+                .bodyValue(new CreateFightRequest(List.of(UUID.randomUUID()), List.of(UUID.randomUUID())))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(FightStateDto.class).isEqualTo(created);
+    }
+
+    @Test
+    void createFight_WithInvalidTeams_ShouldReturnBadRequest() {
+        // Given
+        when(fightService.createFight(any(CreateFightRequest.class)))
+                .thenReturn(Mono.error(new IllegalArgumentException("Team Acannot be null or empty")));
+
+        // When & Then
+        client.post().uri("/api/fight")
+                .bodyValue(new CreateFightRequest(List.of(), List.of(UUID.randomUUID())))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void executeExchange_WhenFightDoesNotExist_ShouldReturnNotFound() {
+        // Given
+        UUID fightId = UUID.randomUUID();
+        when(fightService.executeExchange(fightId))
+                .thenReturn(Mono.error(new IllegalArgumentException("Fight not found with id: " + fightId)));
+
+        // When & Then
+        client.post().uri("/api/fight/{fightId}", fightId)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void getFightState_WithMalformedId_ShouldReturnBadRequest() {
+        // When & Then
+        client.get().uri("/api/fight/not-a-uuid")
+                .exchange()
+                .expectStatus().isBadRequest();
+        verifyNoInteractions(fightService);
+    }
+
+    @Test
+    void getNearestMonsters_ShouldNotBeTakenForAnId() {
+        // Given
+        List<MonsterDto> nearest = List.of(new MonsterDto(UUID.randomUUID(), "Dragon", 10, 5, 100, 100, 140));
+        when(monsterService.getNearestMonsters(140, 10)).thenReturn(Mono.just(nearest));
+
+        // When & Then
+        client.get().uri("/api/monster/nearest?rating=140")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(MonsterDto.class).isEqualTo(nearest);
+        verify(monsterService, never()).getMonsterById(any());
+    }
+
+    @Test
+    void getNearestMonsters_WithoutRating_ShouldReturnBadRequest() {
+        // When & Then
+        client.get().uri("/api/monster/nearest")
+                .exchange()
+                .expectStatus().isBadRequest();
+        verifyNoInteractions(monsterService);
+    }
+
+    @Test
+    void importMonsters_WithCsv_ShouldHandTheBodyToTheCsvImport() throws Exception {
+        // Given
+        String csv = "name,attack,defence,maxHealth\nDragon,10,5,100\n";
+        when(monsterImportService.importCsv(any(InputStream.class))).thenAnswer(invocation -> {
+            InputStream body = invocation.getArgument(0);
+            assertEquals(csv, new String(body.readAllBytes(), StandardCharsets.UTF_8));
+            return new MonsterImportResult(1, 0, List.of());
+        });
+
+        // When & Then
+        client.post().uri("/api/monster/import")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue(csv)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(MonsterImportResult.class).isEqualTo(new MonsterImportResult(1, 0, List.of()));
+        verify(monsterImportService, never()).importNdjson(any());
+    }
+
+    @Test
+    void exportPlayers_ShouldStreamWhatTheExportWrites() throws Exception {
+        // Given
+        UUID cursor = UUID.randomUUID();
+        doAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(1);
+            output.write("{\"name\":\"Ash\"}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(playerExportService).exportPlayers(eq(cursor), any(OutputStream.class));
+
+        // When & Then
+        client.get().uri("/api/player/export?after={after}", cursor)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class).isEqualTo("{\"name\":\"Ash\"}\n");
+    }
+
+    @Test
+    void getPlayerById_WhenPlayerDoesNotExist_ShouldReturnNotFound() {
+        // Given
+        UUID playerId = UUID.randomUUID();
+        when(playerService.getPlayerById(playerId)).thenReturn(Mono.empty());
+
+        // When & Then
+        client.get().uri("/api/player/{id}", playerId)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
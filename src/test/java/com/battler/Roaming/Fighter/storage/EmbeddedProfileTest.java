@@ -0,0 +1,78 @@
+package com.battler.Roaming.Fighter.storage;
+
+import com.battler.Roaming.Fighter.fight.FightResultStats;
+import com.battler.Roaming.Fighter.fight.FightService;
+import com.battler.Roaming.Fighter.fight.FightStatus;
+import com.battler.Roaming.Fighter.fight.dto.CreateFightRequest;
+import com.battler.Roaming.Fighter.monster.dto.MonsterDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The embedded profile starts and plays a fight to the end without any database.
+@SpringBootTest(properties = "roaming-fighter.storage.backend=memory")
+@ActiveProfiles(EmbeddedConfiguration.PROFILE)
+@AutoConfigureMockMvc
+class EmbeddedProfileTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private FightService fightService;
+
+    @Autowired
+    private FightResultStats fightResultStats;
+
+    @Test
+    void fight_WithoutADatabase_ShouldBePlayedToTheEnd() throws Exception {
+        // Given
+        UUID strong = createMonster("Dragon", 50, 0, 100);
+        UUID weak = createMonster("Goblin", 1, 0, 10);
+        UUID fightId = fightService.createFight(new CreateFightRequest(List.of(strong), List.of(weak))).getFightId();
+
+        // When
+        FightStatus status = FightStatus.ONGOING;
+        for (int exchange = 0; exchange < 10 && status == FightStatus.ONGOING; exchange++) {
+            status = fightService.executeExchange(fightId).getStatus();
+        }
+
+        // Then
+        assertEquals(FightStatus.TEAM_A_WON, status);
+        assertEquals(1, fightResultStats.getFinishedFights(FightStatus.TEAM_A_WON));
+        assertEquals(0, context.getBeanNamesForType(DataSource.class).length);
+        mockMvc.perform(get("/api/monster/{id}", weak)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/player/{id}", UUID.randomUUID())).andExpect(status().isNotFound());
+    }
+
+    private UUID createMonster(String name, int attack, int defence, int health) throws Exception {
+        String body = """
+                {"name": "%s", "attack": %d, "defence": %d, "health": %d}
+                """.formatted(name, attack, defence, health);
+        String created = mockMvc.perform(post("/api/monster").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(created, MonsterDto.class).id();
+    }
+}
@@ -0,0 +1,111 @@
+package com.battler.Roaming.Fighter.storage;
+
+import com.battler.Roaming.Fighter.fight.FightStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExchangeJournalTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+    private static final Duration FSYNC_INTERVAL = Duration.ofMillis(1);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void append_ShouldNumberEntriesInOrderAndQueueThem() throws Exception {
+        try (ExchangeJournal journal = open(0, ExchangeJournal.Fsync.GROUP)) {
+            // When
+            ExchangeEntry first = journal.append(entry(80));
+            ExchangeEntry second = journal.append(entry(70));
+
+            // Then
+            assertEquals(1, first.sequence());
+            assertEquals(2, second.sequence());
+            assertEquals(List.of(first, second), journal.unapplied(10));
+            assertEquals(List.of(first), journal.unapplied(1));
+        }
+    }
+
+    @Test
+    void reopen_ShouldReplayOnlyEntriesPastTheAppliedSequence() throws Exception {
+        // Given
+        ExchangeEntry third;
+        try (ExchangeJournal journal = open(0, ExchangeJournal.Fsync.GROUP)) {
+            journal.append(entry(90));
+            journal.append(entry(80));
+            third = journal.append(entry(70));
+        }
+
+        // When
+        try (ExchangeJournal reopened = open(2, ExchangeJournal.Fsync.GROUP)) {
+
+            // Then
+            assertEquals(List.of(third), reopened.unapplied(10));
+            assertEquals(4, reopened.append(entry(60)).sequence());
+        }
+    }
+
+    @Test
+    void reopen_WhenEverythingWasAppliedAndSegmentsDeleted_ShouldContinueFromTheAppliedSequence() throws Exception {
+        // Given
+        try (ExchangeJournal journal = open(0, ExchangeJournal.Fsync.NONE)) {
+            journal.append(entry(90));
+            journal.markApplied(1);
+        }
+
+        // When
+        try (ExchangeJournal reopened = open(1, ExchangeJournal.Fsync.NONE)) {
+
+            // Then
+            assertTrue(reopened.unapplied(10).isEmpty());
+            assertEquals(2, reopened.append(entry(80)).sequence());
+        }
+    }
+
+    @Test
+    void markApplied_ShouldDropAppliedEntriesAndDeleteTheirSegments() throws Exception {
+        try (ExchangeJournal journal = open(0, ExchangeJournal.Fsync.NONE)) {
+            // Given
+            long last = 0;
+            for (int i = 0; i < 200; i++) {
+                last = journal.append(entry(i)).sequence();
+            }
+            assertTrue(segmentCount() > 2);
+
+            // When
+            journal.markApplied(last - 1);
+
+            // Then
+            assertEquals(1, segmentCount());
+            assertEquals(List.of(last), journal.unapplied(10).stream().map(ExchangeEntry::sequence).toList());
+        }
+    }
+
+    private ExchangeJournal open(long appliedSequence, ExchangeJournal.Fsync fsync) throws Exception {
+        return new ExchangeJournal(directory, SEGMENT_SIZE, appliedSequence, fsync, FSYNC_INTERVAL);
+    }
+
+    private long segmentCount() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static ExchangeEntry entry(int health) {
+        UUID monsterA = UUID.randomUUID();
+        UUID monsterB = UUID.randomUUID();
+        return new ExchangeEntry(0, UUID.randomUUID(), monsterA, monsterB, FightStatus.ONGOING,
+                List.of(new ExchangeEntry.FighterHealth(monsterB, health), new ExchangeEntry.FighterHealth(monsterA, health)),
+                List.of(monsterA, monsterB));
+    }
+}
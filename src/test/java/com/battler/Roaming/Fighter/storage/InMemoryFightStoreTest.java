@@ -0,0 +1,110 @@
+package com.battler.Roaming.Fighter.storage;
+
+import com.battler.Roaming.Fighter.entity.Fight;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.fight.FightFinishedEvent;
+import com.battler.Roaming.Fighter.fight.FightStatus;
+import com.battler.Roaming.Fighter.monster.species.MonsterSpeciesPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryFightStoreTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void saveMonster_WithoutId_ShouldAssignIdAndPowerRating() {
+        // Given
+        InMemoryFightStore store = new InMemoryFightStore(eventPublisher, new MonsterSpeciesPool(100));
+        Monster monster = new Monster(null, "Goblin", 10, 5, 100, 100, null, null);
+
+        // When
+        Monster saved = store.saveMonster(monster);
+
+        // Then
+        assertNotNull(saved.getId());
+        assertEquals(140, saved.getPowerRating());
+        assertEquals("Goblin", store.findMonster(saved.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void findMonster_ShouldReturnCopyThatOnlyChangesWhenSaved() {
+        // Given
+        InMemoryFightStore store = new InMemoryFightStore(eventPublisher, new MonsterSpeciesPool(100));
+        Monster saved = store.saveMonster(new Monster(null, "Goblin", 10, 5, 100, 100, null, null));
+        Monster loaded = store.findMonster(saved.getId()).orElseThrow();
+
+        // When
+        loaded.setHealth(1);
+
+        // Then
+        assertEquals(100, store.findMonster(saved.getId()).orElseThrow().getHealth());
+        store.saveMonster(loaded);
+        assertEquals(1, store.findMonster(saved.getId()).orElseThrow().getHealth());
+    }
+
+    @Test
+    void findMonster_WithSameSpecies_ShouldShareItsNameAndStats() {
+        // Given
+        InMemoryFightStore store = new InMemoryFightStore(eventPublisher, new MonsterSpeciesPool(100));
+        Monster first = store.saveMonster(new Monster(null, new String("Goblin"), 1000, 500, 2000, 2000, null, null));
+        Monster second = store.saveMonster(new Monster(null, new String("Goblin"), 1000, 500, 2000, 1500, null, null));
+
+        // When
+        Monster loadedFirst = store.findMonster(first.getId()).orElseThrow();
+        Monster loadedSecond = store.findMonster(second.getId()).orElseThrow();
+
+        // Then
+        assertSame(loadedFirst.getName(), loadedSecond.getName());
+        assertSame(loadedFirst.getAttack(), loadedSecond.getAttack());
+        assertEquals(1500, loadedSecond.getHealth());
+    }
+
+    @Test
+    void findFightWithTeams_ShouldRebuildTeamsInOrderFromCurrentMonsters() {
+        // Given
+        InMemoryFightStore store = new InMemoryFightStore(eventPublisher, new MonsterSpeciesPool(100));
+        Monster a1 = store.saveMonster(new Monster(null, "Goblin", 10, 5, 100, 100, null, null));
+        Monster a2 = store.saveMonster(new Monster(null, "Orc", 12, 6, 120, 120, null, null));
+        Monster b1 = store.saveMonster(new Monster(null, "Troll", 15, 8, 150, 150, null, null));
+        Fight fight = store.saveFight(new Fight(null, List.of(a2, a1), List.of(b1),
+                a2.getId(), b1.getId(), FightStatus.ONGOING));
+        b1.setHealth(40);
+        store.saveMonster(b1);
+
+        // When
+        Fight loaded = store.findFightWithTeams(fight.getId()).orElseThrow();
+
+        // Then
+        assertEquals(List.of(a2.getId(), a1.getId()), loaded.getTeamA().stream().map(Monster::getId).toList());
+        assertEquals(40, loaded.getTeamB().get(0).getHealth());
+        assertEquals(a2.getId(), loaded.getActiveMonsterA());
+        assertEquals(FightStatus.ONGOING, loaded.getStatus());
+    }
+
+    @Test
+    void recordFinished_ShouldPublishTheEvent() {
+        // Given
+        InMemoryFightStore store = new InMemoryFightStore(eventPublisher, new MonsterSpeciesPool(100));
+        FightFinishedEvent event = new FightFinishedEvent(UUID.randomUUID(), FightStatus.TEAM_B_WON,
+                List.of(UUID.randomUUID()), List.of(UUID.randomUUID()), Instant.now());
+
+        // When
+        store.recordFinished(event);
+
+        // Then
+        verify(eventPublisher).publishEvent(event);
+    }
+}
@@ -0,0 +1,79 @@
+package com.battler.Roaming.Fighter.storage;
+
+import com.battler.Roaming.Fighter.TestcontainersConfiguration;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.fight.FightService;
+import com.battler.Roaming.Fighter.fight.dto.CreateFightRequest;
+import com.battler.Roaming.Fighter.fight.dto.FightStateDto;
+import com.battler.Roaming.Fighter.monster.MonsterRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// An UPDATE writes a new row version with a new xmin, so unchanged xmins mean the exchange never reached Postgres.
+@SpringBootTest(properties = {
+        "roaming-fighter.storage.backend=journaled",
+        "roaming-fighter.journal.name=journaled-it",
+        "roaming-fighter.journal.directory=${java.io.tmpdir}/journaled-it-${random.uuid}",
+        "roaming-fighter.journal.drain-interval-ms=3600000"
+})
+@Import(TestcontainersConfiguration.class)
+class JournaledFightStoreIntegrationTest {
+
+    private static final String MONSTER_XMIN_SQL = "SELECT xmin::text FROM monsters WHERE id = ?";
+    private static final String FIGHT_XMIN_SQL = "SELECT xmin::text FROM fights WHERE id = ?";
+
+    @Autowired
+    private FightService fightService;
+
+    @Autowired
+    private FightStore fightStore;
+
+    @Autowired
+    private MonsterRepository monsterRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void executeExchange_ShouldNotUpdateMonstersOrFightUntilDrained() {
+        // Given
+        Monster goblin = monsterRepository.save(new Monster(null, "Goblin", 10, 5, 100, 100, 0, null));
+        Monster troll = monsterRepository.save(new Monster(null, "Troll", 15, 8, 150, 150, 0, null));
+        UUID fightId = fightService.createFight(
+                new CreateFightRequest(List.of(goblin.getId()), List.of(troll.getId()))).getFightId();
+        String goblinVersion = xmin(MONSTER_XMIN_SQL, goblin.getId());
+        String trollVersion = xmin(MONSTER_XMIN_SQL, troll.getId());
+        String fightVersion = xmin(FIGHT_XMIN_SQL, fightId);
+
+        // When
+        FightStateDto state = fightService.executeExchange(fightId);
+
+        // Then
+        assertEquals(90, state.getTeamA().get(0).health());
+        assertEquals(goblinVersion, xmin(MONSTER_XMIN_SQL, goblin.getId()));
+        assertEquals(trollVersion, xmin(MONSTER_XMIN_SQL, troll.getId()));
+        assertEquals(fightVersion, xmin(FIGHT_XMIN_SQL, fightId));
+        assertEquals(100, health(goblin.getId()));
+
+        ((JournaledFightStore) fightStore).drain();
+
+        assertEquals(90, health(goblin.getId()));
+        assertNotEquals(fightVersion, xmin(FIGHT_XMIN_SQL, fightId));
+    }
+
+    private String xmin(String sql, UUID id) {
+        return jdbcTemplate.queryForObject(sql, String.class, id);
+    }
+
+    private int health(UUID monsterId) {
+        return jdbcTemplate.queryForObject("SELECT health FROM monsters WHERE id = ?", Integer.class, monsterId);
+    }
+}
@@ -0,0 +1,258 @@
+package com.battler.Roaming.Fighter.storage;
+
+import com.battler.Roaming.Fighter.cache.EntityCacheService;
+import com.battler.Roaming.Fighter.entity.Fight;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.entity.Player;
+import com.battler.Roaming.Fighter.fight.FightStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JournaledFightStoreTest {
+
+    private static final String JOURNAL = "exchanges";
+
+    @Mock
+    private FightStore delegate;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityCacheService entityCacheService;
+
+    @TempDir
+    Path directory;
+
+    private ExchangeJournal journal;
+    private JournaledFightStore store;
+
+    private final Monster monsterA = new Monster(UUID.randomUUID(), "Goblin", 10, 5, 100, 100, 140, null);
+    private final Monster monsterB = new Monster(UUID.randomUUID(), "Troll", 15, 8, 150, 150, 211, null);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        journal = new ExchangeJournal(directory, 4096, 0, ExchangeJournal.Fsync.GROUP, Duration.ofMillis(1));
+        store = newStore(journal);
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+    }
+
+    @Test
+    void saveExchange_ShouldAcknowledgeFromJournalWithoutTouchingTheDatabase() {
+        // Given
+        Fight fight = fight();
+        monsterA.setHealth(90);
+        monsterB.setHealth(80);
+
+        // When
+        Fight result = store.saveExchange(fight, List.of(monsterB, monsterA), List.of(monsterA.getId(), monsterB.getId()));
+
+        // Then
+        assertSame(fight, result);
+        assertEquals(1, journal.unappliedCount());
+        verifyNoInteractions(delegate, jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    void findFightWithTeams_BeforeDrain_ShouldSeeUnappliedExchange() {
+        // Given
+        Fight fight = fight();
+        monsterB.setHealth(0);
+        fight.setStatus(FightStatus.TEAM_A_WON);
+        store.saveExchange(fight, List.of(monsterB, monsterA), List.of(monsterA.getId(), monsterB.getId()));
+        when(delegate.findFightWithTeams(fight.getId())).thenReturn(Optional.of(freshFightFromDatabase(fight.getId())));
+
+        // When
+        Fight loaded = store.findFightWithTeams(fight.getId()).orElseThrow();
+
+        // Then
+        assertEquals(FightStatus.TEAM_A_WON, loaded.getStatus());
+        assertEquals(0, loaded.getTeamB().get(0).getHealth());
+    }
+
+    @Test
+    void findFightWithTeams_ShouldHandOutDetachedCopies() {
+        // Given
+        Fight fromDatabase = freshFightFromDatabase(UUID.randomUUID());
+        when(delegate.findFightWithTeams(fromDatabase.getId())).thenReturn(Optional.of(fromDatabase));
+
+        // When
+        Fight loaded = store.findFightWithTeams(fromDatabase.getId()).orElseThrow();
+        loaded.getTeamA().get(0).setHealth(1);
+        loaded.setStatus(FightStatus.TEAM_B_WON);
+
+        // Then
+        assertNotSame(fromDatabase, loaded);
+        assertEquals(100, fromDatabase.getTeamA().get(0).getHealth());
+        assertEquals(FightStatus.ONGOING, fromDatabase.getStatus());
+        assertFalse(store.savesExchangesInTransaction());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void drain_ShouldApplyLatestStateInOneTransactionAndAdvanceCheckpoint() {
+        // Given
+        Fight fight = fight();
+        monsterB.setHealth(140);
+        store.saveExchange(fight, List.of(monsterB, monsterA), List.of(monsterA.getId(), monsterB.getId()));
+        monsterB.setHealth(130);
+        fight.setStatus(FightStatus.TEAM_A_WON);
+        store.saveExchange(fight, List.of(monsterB, monsterA), List.of(monsterA.getId(), monsterB.getId()));
+        UUID owner = UUID.randomUUID();
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class))).thenReturn(List.of(owner));
+        ArgumentCaptor<List<Object[]>> healthArgs = ArgumentCaptor.forClass(List.class);
+
+        // When
+        store.drain();
+
+        // Then
+        verify(transactionManager).getTransaction(any());
+        verify(jdbcTemplate).batchUpdate(eq(JournaledFightStore.UPDATE_HEALTH_SQL), healthArgs.capture());
+        assertEquals(2, healthArgs.getValue().size());
+        assertArrayEquals(new Object[]{130, monsterB.getId()}, healthArgs.getValue().get(0));
+        verify(jdbcTemplate).batchUpdate(eq(JournaledFightStore.UPDATE_FIGHT_SQL), argThat((List<Object[]> args) ->
+                args.size() == 1 && "TEAM_A_WON".equals(args.get(0)[2])));
+        verify(jdbcTemplate).update(JournaledFightStore.UPDATE_CHECKPOINT_SQL, 2L, JOURNAL);
+        verify(entityCacheService).evictEntities(eq(Monster.class), argThat((Collection<?> ids) ->
+                ids.size() == 2 && ids.contains(monsterA.getId()) && ids.contains(monsterB.getId())));
+        verify(entityCacheService).evictEntities(Player.class, List.of(owner));
+        assertEquals(0, journal.unappliedCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void drain_WithOnlyOngoingExchanges_ShouldNotBumpAnyOwner() {
+        // Given
+        store.saveExchange(fight(), List.of(monsterB, monsterA), List.of());
+
+        // When
+        store.drain();
+
+        // Then
+        verify(jdbcTemplate).batchUpdate(eq(JournaledFightStore.UPDATE_HEALTH_SQL), anyList());
+        verify(jdbcTemplate, never()).query(any(PreparedStatementCreator.class), any(RowMapper.class));
+        verify(entityCacheService, never()).evictEntities(eq(Player.class), anyCollection());
+        assertEquals(0, journal.unappliedCount());
+    }
+
+    @Test
+    void drain_WhenDatabaseFails_ShouldKeepEntriesForNextRun() {
+        // Given
+        store.saveExchange(fight(), List.of(monsterB, monsterA), List.of(monsterA.getId(), monsterB.getId()));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new QueryTimeoutException("timeout"));
+
+        // When
+        store.drain();
+
+        // Then
+        assertEquals(1, journal.unappliedCount());
+        verify(jdbcTemplate, never()).update(eq(JournaledFightStore.UPDATE_CHECKPOINT_SQL), any(), any());
+        verifyNoInteractions(entityCacheService);
+    }
+
+    @Test
+    void constructor_AfterRestart_ShouldOverlayReplayedEntries() throws Exception {
+        // Given
+        Fight fight = fight();
+        monsterA.setHealth(1);
+        store.saveExchange(fight, List.of(monsterB, monsterA), List.of(monsterA.getId(), monsterB.getId()));
+        journal.close();
+        journal = new ExchangeJournal(directory, 4096, 0, ExchangeJournal.Fsync.GROUP, Duration.ofMillis(1));
+        when(delegate.findMonster(monsterA.getId()))
+                .thenReturn(Optional.of(new Monster(monsterA.getId(), "Goblin", 10, 5, 100, 100, 140, null)));
+
+        // When
+        JournaledFightStore restarted = newStore(journal);
+
+        // Then
+        assertEquals(1, restarted.findMonster(monsterA.getId()).orElseThrow().getHealth());
+        assertEquals(1, journal.unappliedCount());
+    }
+
+    @Test
+    void findFightWithTeams_WithReplicas_ShouldReadFromThePrimary() throws Exception {
+        // Given
+        DataSource primary = mock(DataSource.class);
+        DataSource replica = mock(DataSource.class);
+        Connection primaryConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(primaryConnection.createStatement()).thenReturn(mock(Statement.class));
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(replica);
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        DataSourceTransactionManager replicaAwareManager = new DataSourceTransactionManager(dataSource);
+        JournaledFightStore routedStore = new JournaledFightStore(delegate, journal, JOURNAL, jdbcTemplate,
+                new TransactionTemplate(replicaAwareManager), entityCacheService, 100);
+        Fight fromDatabase = freshFightFromDatabase(UUID.randomUUID());
+        TransactionTemplate repositoryTransaction = new TransactionTemplate(replicaAwareManager);
+        repositoryTransaction.setReadOnly(true);
+        // Like a Spring Data repository, the delegate reads in a read-only transaction of its own.
+        when(delegate.findFightWithTeams(fromDatabase.getId())).thenAnswer(invocation -> repositoryTransaction.execute(status -> {
+            new JdbcTemplate(dataSource).execute("SELECT 1");
+            return Optional.of(fromDatabase);
+        }));
+
+        // When
+        Optional<Fight> loaded = routedStore.findFightWithTeams(fromDatabase.getId());
+
+        // Then
+        assertTrue(loaded.isPresent());
+        verify(primary).getConnection();
+        verifyNoInteractions(replica);
+    }
+
+    private JournaledFightStore newStore(ExchangeJournal journal) {
+        return new JournaledFightStore(delegate, journal, JOURNAL, jdbcTemplate,
+                new TransactionTemplate(transactionManager), entityCacheService, 100);
+    }
+
+    private Fight fight() {
+        return new Fight(UUID.randomUUID(), new ArrayList<>(List.of(monsterA)), new ArrayList<>(List.of(monsterB)),
+                monsterA.getId(), monsterB.getId(), FightStatus.ONGOING);
+    }
+
+    private Fight freshFightFromDatabase(UUID fightId) {
+        return new Fight(fightId,
+                List.of(new Monster(monsterA.getId(), "Goblin", 10, 5, 100, 100, 140, null)),
+                List.of(new Monster(monsterB.getId(), "Troll", 15, 8, 150, 150, 211, null)),
+                monsterA.getId(), monsterB.getId(), FightStatus.ONGOING);
+    }
+}
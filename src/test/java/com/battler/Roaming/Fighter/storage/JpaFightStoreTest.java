@@ -0,0 +1,118 @@
+package com.battler.Roaming.Fighter.storage;
+
+import com.battler.Roaming.Fighter.cache.EntityCacheService;
+import com.battler.Roaming.Fighter.entity.Fight;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.entity.Player;
+import com.battler.Roaming.Fighter.fight.FightFinishedEvent;
+import com.battler.Roaming.Fighter.fight.FightRepository;
+import com.battler.Roaming.Fighter.fight.FightStatus;
+import com.battler.Roaming.Fighter.monster.MonsterRepository;
+import com.battler.Roaming.Fighter.outbox.OutboxService;
+import com.battler.Roaming.Fighter.player.PlayerRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JpaFightStoreTest {
+
+    @Mock
+    private FightRepository fightRepository;
+
+    @Mock
+    private MonsterRepository monsterRepository;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private EntityCacheService entityCacheService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @InjectMocks
+    private JpaFightStore jpaFightStore;
+
+    @Test
+    void findFightWithTeams_ShouldLoadTeamsInOneQuery() {
+        // Given
+        Fight fight = new Fight();
+        fight.setId(UUID.randomUUID());
+        when(fightRepository.findWithTeamsById(fight.getId())).thenReturn(Optional.of(fight));
+
+        // When
+        Optional<Fight> result = jpaFightStore.findFightWithTeams(fight.getId());
+
+        // Then
+        assertSame(fight, result.orElseThrow());
+        verify(fightRepository, never()).findById(any());
+    }
+
+    @Test
+    void findMonsters_ShouldLoadAllMonstersInOneQuery() {
+        // Given
+        Monster first = new Monster();
+        Monster second = new Monster();
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(monsterRepository.findAllById(ids)).thenReturn(List.of(first, second));
+
+        // When
+        List<Monster> result = jpaFightStore.findMonsters(ids);
+
+        // Then
+        assertEquals(List.of(first, second), result);
+        verify(monsterRepository, never()).findById(any());
+    }
+
+    @Test
+    void saveMonster_ShouldDelegateToRepository() {
+        // Given
+        Monster monster = new Monster();
+        when(monsterRepository.save(monster)).thenReturn(monster);
+
+        // When
+        Monster result = jpaFightStore.saveMonster(monster);
+
+        // Then
+        assertSame(monster, result);
+    }
+
+    @Test
+    void touchOwners_ShouldBumpOwnerProfileVersionsAndEvictOnlyThoseOwners() {
+        // Given
+        List<UUID> monsterIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> owners = List.of(UUID.randomUUID());
+        when(playerRepository.bumpProfileVersionOfOwners(monsterIds)).thenReturn(owners);
+
+        // When
+        jpaFightStore.touchOwners(monsterIds);
+
+        // Then
+        verify(entityCacheService).evictEntities(Player.class, owners);
+    }
+
+    @Test
+    void recordFinished_ShouldWriteItToTheOutbox() {
+        // Given
+        FightFinishedEvent event = new FightFinishedEvent(UUID.randomUUID(), FightStatus.TEAM_A_WON,
+                List.of(UUID.randomUUID()), List.of(UUID.randomUUID()), Instant.now());
+
+        // When
+        jpaFightStore.recordFinished(event);
+
+        // Then
+        verify(outboxService).record(event);
+    }
+}
@@ -0,0 +1,89 @@
+package com.battler.Roaming.Fighter.storage;
+
+import com.battler.Roaming.Fighter.entity.Fight;
+import com.battler.Roaming.Fighter.entity.Monster;
+import com.battler.Roaming.Fighter.fight.FightStatus;
+import com.battler.Roaming.Fighter.monster.species.MonsterSpeciesPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class MappedFightStoreTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void reopen_ShouldReplayLatestMonstersAndFights() throws Exception {
+        // Given
+        Monster monsterA;
+        Monster monsterB;
+        Fight fight;
+        try (MappedFightStore store = open(true)) {
+            monsterA = store.saveMonster(new Monster(null, "Goblin", 10, 5, 100, 100, null, null));
+            monsterB = store.saveMonster(new Monster(null, "Troll", 15, 8, 150, 150, null, null));
+            fight = store.saveFight(new Fight(null, List.of(monsterA), List.of(monsterB),
+                    monsterA.getId(), monsterB.getId(), FightStatus.ONGOING));
+            monsterB.setHealth(0);
+            store.saveMonster(monsterB);
+            fight.setStatus(FightStatus.TEAM_A_WON);
+            store.saveFight(fight);
+        }
+
+        // When
+        try (MappedFightStore reopened = open(false)) {
+            Fight loaded = reopened.findFightWithTeams(fight.getId()).orElseThrow();
+
+            // Then
+            assertEquals(FightStatus.TEAM_A_WON, loaded.getStatus());
+            assertEquals("Goblin", loaded.getTeamA().get(0).getName());
+            assertEquals(0, loaded.getTeamB().get(0).getHealth());
+            assertNull(loaded.getTeamB().get(0).getPlayerId());
+        }
+    }
+
+    @Test
+    void saveMonster_WhenTheLogKeepsRolling_ShouldCompactOldSegmentsAndKeepEveryMonster() throws Exception {
+        // Given
+        List<Monster> monsters = new ArrayList<>();
+        try (MappedFightStore store = open(false)) {
+            for (int i = 0; i < 20; i++) {
+                monsters.add(store.saveMonster(new Monster(null, "Monster " + i, 10, 5, 100, 100, null, null)));
+            }
+
+            // When
+            Monster busy = monsters.get(0);
+            for (int health = 1; health <= 2000; health++) {
+                busy.setHealth(health % 100 + 1);
+                store.saveMonster(busy);
+            }
+        }
+
+        // Then
+        try (MappedFightStore reopened = open(false); Stream<Path> files = Files.list(directory)) {
+            // Twenty monsters fit in one segment, so only it, the previous one and the head can remain.
+            assertTrue(files.count() <= 3);
+            assertEquals(2000 % 100 + 1, reopened.findMonster(monsters.get(0).getId()).orElseThrow().getHealth());
+            for (Monster monster : monsters.subList(1, monsters.size())) {
+                assertEquals(monster.getName(), reopened.findMonster(monster.getId()).orElseThrow().getName());
+            }
+        }
+    }
+
+    private MappedFightStore open(boolean forceWrites) throws Exception {
+        return new MappedFightStore(eventPublisher, new MonsterSpeciesPool(100), directory, SEGMENT_SIZE, forceWrites);
+    }
+}
@@ -0,0 +1,102 @@
+package com.battler.Roaming.Fighter.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedLogTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void append_WhenSegmentIsFull_ShouldRollToNextSegment() throws Exception {
+        // Given
+        try (MappedLog mappedLog = new MappedLog(directory, SEGMENT_SIZE, (payload, segment) -> {
+        })) {
+            for (int i = 0; i < 300; i++) {
+                mappedLog.append(record("Monster " + i));
+            }
+        }
+
+        // When
+        List<String> replayed = new ArrayList<>();
+        try (MappedLog reopened = new MappedLog(directory, SEGMENT_SIZE, (payload, segment) -> replayed.add(text(payload)));
+             Stream<Path> files = Files.list(directory)) {
+
+            // Then
+            assertTrue(files.count() > 1);
+            assertTrue(reopened.currentSegment() > 0);
+            assertEquals(300, replayed.size());
+            assertEquals("Monster 299", replayed.getLast());
+        }
+    }
+
+    @Test
+    void reopen_WithTornRecord_ShouldKeepEarlierRecordsAndDiscardTheRest() throws Exception {
+        // Given
+        try (MappedLog mappedLog = new MappedLog(directory, SEGMENT_SIZE, (payload, segment) -> {
+        })) {
+            mappedLog.append(record("Goblin"));
+            mappedLog.append(record("Troll"));
+            mappedLog.append(record("Ogre"));
+        }
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            // Flip the last byte of the second record's payload.
+            long offset = recordEnd(file, 2) - 1;
+            file.seek(offset);
+            int value = file.read();
+            file.seek(offset);
+            file.write(value ^ 0xFF);
+        }
+
+        // When
+        List<String> afterTear = new ArrayList<>();
+        try (MappedLog reopened = new MappedLog(directory, SEGMENT_SIZE, (payload, number) -> afterTear.add(text(payload)))) {
+            // Same record size as the torn one, so stale records would line up behind it if left in place.
+            reopened.append(record("Golem"));
+        }
+
+        // Then
+        List<String> replayed = new ArrayList<>();
+        try (MappedLog ignored = new MappedLog(directory, SEGMENT_SIZE, (payload, number) -> replayed.add(text(payload)))) {
+            assertEquals(List.of("Goblin"), afterTear);
+            assertEquals(List.of("Goblin", "Golem"), replayed);
+        }
+    }
+
+    private static ByteBuffer record(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String text(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long recordEnd(RandomAccessFile file, int records) throws Exception {
+        long position = 0;
+        for (int i = 0; i < records; i++) {
+            file.seek(position);
+            position += MappedLog.HEADER_BYTES + file.readInt();
+        }
+        return position;
+    }
+}
@@ -0,0 +1,41 @@
+package com.battler.Roaming.Fighter.testutils;
+
+import com.battler.Roaming.Fighter.datasource.SqlStatementBudget;
+import com.battler.Roaming.Fighter.datasource.SqlStatementCounter;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Assertions on the SQL statements a piece of work runs on the calling thread.
+ * They only see statements when the context wraps its DataSource, so import
+ * {@code StatementCountingConfiguration} into JPA slice tests.
+ */
+public class SqlStatementAssertions {
+
+    // Runs the work and fails if it executed more statements than the method's @SqlStatementBudget allows.
+    public static <T> T assertWithinBudget(Class<?> type, String methodName, ThrowingSupplier<T> work) {
+        return assertStatementsAtMost(budgetOf(type, methodName), type.getSimpleName() + "." + methodName, work);
+    }
+
+    public static <T> T assertStatementsAtMost(int budget, String description, ThrowingSupplier<T> work) {
+        long before = SqlStatementCounter.current();
+        T result = assertDoesNotThrow(work);
+        long executed = SqlStatementCounter.current() - before;
+        assertTrue(executed <= budget,
+                () -> description + " executed " + executed + " SQL statements, over its budget of " + budget);
+        return result;
+    }
+
+    public static int budgetOf(Class<?> type, String methodName) {
+        Method method = Arrays.stream(type.getDeclaredMethods())
+                .filter(candidate -> candidate.getName().equals(methodName))
+                .filter(candidate -> candidate.isAnnotationPresent(SqlStatementBudget.class))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(type.getSimpleName() + "." + methodName + " has no @SqlStatementBudget"));
+        return method.getAnnotation(SqlStatementBudget.class).value();
+    }
+}